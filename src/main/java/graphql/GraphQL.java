@@ -22,12 +22,16 @@ import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrume
 import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.execution.plan.ExecutionPlanCache;
+import graphql.execution.plan.NoOpExecutionPlanCache;
 import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import graphql.util.LogKit;
+import graphql.validation.NoOpValidationCache;
+import graphql.validation.ValidationCache;
 import graphql.validation.ValidationError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -101,6 +105,9 @@ public class GraphQL {
     private final Instrumentation instrumentation;
     private final PreparsedDocumentProvider preparsedDocumentProvider;
     private final ValueUnboxer valueUnboxer;
+    private final ExecutionPlanCache executionPlanCache;
+    private final ValidationCache validationCache;
+    private final boolean memoizeDataFetchers;
 
 
     private GraphQL(Builder builder) {
@@ -112,6 +119,9 @@ public class GraphQL {
         this.instrumentation = assertNotNull(builder.instrumentation, () -> "instrumentation must not be null");
         this.preparsedDocumentProvider = assertNotNull(builder.preparsedDocumentProvider, () -> "preparsedDocumentProvider must be non null");
         this.valueUnboxer = assertNotNull(builder.valueUnboxer, () -> "valueUnboxer must not be null");
+        this.executionPlanCache = assertNotNull(builder.executionPlanCache, () -> "executionPlanCache must be non null");
+        this.validationCache = assertNotNull(builder.validationCache, () -> "validationCache must be non null");
+        this.memoizeDataFetchers = builder.memoizeDataFetchers;
     }
 
     /**
@@ -170,6 +180,20 @@ public class GraphQL {
         return valueUnboxer;
     }
 
+    /**
+     * @return the ExecutionPlanCache for this {@link GraphQL} instance
+     */
+    public ExecutionPlanCache getExecutionPlanCache() {
+        return executionPlanCache;
+    }
+
+    /**
+     * @return the ValidationCache for this {@link GraphQL} instance
+     */
+    public ValidationCache getValidationCache() {
+        return validationCache;
+    }
+
     /**
      * Helps you build a GraphQL object ready to execute queries
      *
@@ -197,7 +221,10 @@ public class GraphQL {
                 .subscriptionExecutionStrategy(this.subscriptionStrategy)
                 .executionIdProvider(Optional.ofNullable(this.idProvider).orElse(builder.idProvider))
                 .instrumentation(Optional.ofNullable(this.instrumentation).orElse(builder.instrumentation))
-                .preparsedDocumentProvider(Optional.ofNullable(this.preparsedDocumentProvider).orElse(builder.preparsedDocumentProvider));
+                .preparsedDocumentProvider(Optional.ofNullable(this.preparsedDocumentProvider).orElse(builder.preparsedDocumentProvider))
+                .executionPlanCache(Optional.ofNullable(this.executionPlanCache).orElse(builder.executionPlanCache))
+                .validationCache(Optional.ofNullable(this.validationCache).orElse(builder.validationCache))
+                .memoizeDataFetchers(this.memoizeDataFetchers);
 
         builderConsumer.accept(builder);
 
@@ -216,6 +243,9 @@ public class GraphQL {
         private PreparsedDocumentProvider preparsedDocumentProvider = NoOpPreparsedDocumentProvider.INSTANCE;
         private boolean doNotAddDefaultInstrumentations = false;
         private ValueUnboxer valueUnboxer = ValueUnboxer.DEFAULT;
+        private ExecutionPlanCache executionPlanCache = NoOpExecutionPlanCache.INSTANCE;
+        private ValidationCache validationCache = NoOpValidationCache.INSTANCE;
+        private boolean memoizeDataFetchers = false;
 
 
         public Builder(GraphQLSchema graphQLSchema) {
@@ -265,6 +295,48 @@ public class GraphQL {
             return this;
         }
 
+        /**
+         * This allows you to cache the {@link graphql.execution.plan.ExecutionPlan}s of documents that are executed many times, such
+         * as persisted queries, so that their fields are not re-collected on every execution.  This works best in combination
+         * with a caching {@link PreparsedDocumentProvider}.
+         *
+         * @param executionPlanCache the execution plan cache to use
+         *
+         * @return this builder
+         */
+        public Builder executionPlanCache(ExecutionPlanCache executionPlanCache) {
+            this.executionPlanCache = assertNotNull(executionPlanCache, () -> "ExecutionPlanCache must be non null");
+            return this;
+        }
+
+        /**
+         * This allows you to cache the outcome of validating documents, so that a document that has already been found valid
+         * against the schema is not validated again, even when it was parsed again because a {@link PreparsedDocumentProvider} missed.
+         *
+         * @param validationCache the validation cache to use
+         *
+         * @return this builder
+         */
+        public Builder validationCache(ValidationCache validationCache) {
+            this.validationCache = assertNotNull(validationCache, () -> "ValidationCache must be non null");
+            return this;
+        }
+
+        /**
+         * By default the {@link graphql.schema.GraphQLCodeRegistry} is asked for a field's data fetcher every time the field is
+         * fetched, so a {@link graphql.schema.DataFetcherFactory} can hand out a new data fetcher each time.  Setting this to true
+         * makes each {@link graphql.execution.plan.ExecutionPlan} remember the data fetchers it has looked up, so that the
+         * factories are called once per field of an execution, or once per field of a cached plan.
+         *
+         * @param memoizeDataFetchers true to remember the data fetchers in execution plans
+         *
+         * @return this builder
+         */
+        public Builder memoizeDataFetchers(boolean memoizeDataFetchers) {
+            this.memoizeDataFetchers = memoizeDataFetchers;
+            return this;
+        }
+
         public Builder executionIdProvider(ExecutionIdProvider executionIdProvider) {
             this.idProvider = assertNotNull(executionIdProvider, () -> "ExecutionIdProvider must be non null");
             return this;
@@ -537,9 +609,15 @@ public class GraphQL {
         CompletableFuture<List<ValidationError>> cf = new CompletableFuture<>();
         validationCtx.onDispatched(cf);
 
-        Predicate<Class<?>> validationRulePredicate = executionInput.getGraphQLContext().getOrDefault(ParseAndValidate.INTERNAL_VALIDATION_PREDICATE_HINT, r -> true);
+        Predicate<Class<?>> validationRulePredicate = executionInput.getGraphQLContext().get(ParseAndValidate.INTERNAL_VALIDATION_PREDICATE_HINT);
         Locale locale = executionInput.getLocale() != null ? executionInput.getLocale() : Locale.getDefault();
-        List<ValidationError> validationErrors = ParseAndValidate.validate(graphQLSchema, document, validationRulePredicate, locale);
+        List<ValidationError> validationErrors;
+        if (validationRulePredicate == null) {
+            validationErrors = validationCache.getValidationErrors(document, graphQLSchema, locale, () -> ParseAndValidate.validate(graphQLSchema, document, locale));
+        } else {
+            // only some rules are applied so the outcome can't be shared with other executions
+            validationErrors = ParseAndValidate.validate(graphQLSchema, document, validationRulePredicate, locale);
+        }
 
         validationCtx.onCompleted(validationErrors, null);
         cf.complete(validationErrors);
@@ -548,7 +626,7 @@ public class GraphQL {
 
     private CompletableFuture<ExecutionResult> execute(ExecutionInput executionInput, Document document, GraphQLSchema graphQLSchema, InstrumentationState instrumentationState) {
 
-        Execution execution = new Execution(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation, valueUnboxer);
+        Execution execution = new Execution(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation, valueUnboxer, executionPlanCache, memoizeDataFetchers);
         ExecutionId executionId = executionInput.getExecutionId();
 
         if (logNotSafe.isDebugEnabled()) {
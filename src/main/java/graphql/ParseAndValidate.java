@@ -12,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import static java.util.Optional.ofNullable;
@@ -118,6 +119,23 @@ public class ParseAndValidate {
         return validator.validateDocument(graphQLSchema, parsedDocument, rulePredicate, locale);
     }
 
+    /**
+     * This can be called to validate a parsed graphql document with many operations, such as a batch of persisted queries, by validating
+     * its operations in parallel on the given executor.  See {@link Validator#validateDocument(GraphQLSchema, Document, Predicate, Locale, Executor)}
+     * for how the errors are ordered.
+     *
+     * @param graphQLSchema  the graphql schema to validate against
+     * @param parsedDocument the previously parsed document
+     * @param locale         the current locale
+     * @param executor       the executor to validate the operations on
+     *
+     * @return a result object that indicates how this operation went
+     */
+    public static List<ValidationError> validate(@NotNull GraphQLSchema graphQLSchema, @NotNull Document parsedDocument, @NotNull Locale locale, @NotNull Executor executor) {
+        Validator validator = new Validator();
+        return validator.validateDocument(graphQLSchema, parsedDocument, ruleClass -> true, locale, executor);
+    }
+
     /**
      * This can be called to validate a parsed graphql query, with the JVM default locale.
      *
@@ -76,6 +76,9 @@ public class Async {
         public CompletableFuture<List<T>> await() {
             Assert.assertTrue(ix == 1, () -> "expected size was " + 1 + " got " + ix);
 
+            if (isCompletedNormally(completableFuture)) {
+                return CompletableFuture.completedFuture(Collections.singletonList(completableFuture.join()));
+            }
             CompletableFuture<List<T>> overallResult = new CompletableFuture<>();
             completableFuture
                     .whenComplete((ignored, exception) -> {
@@ -110,6 +113,10 @@ public class Async {
         public CompletableFuture<List<T>> await() {
             Assert.assertTrue(ix == array.length, () -> "expected size was " + array.length + " got " + ix);
 
+            // when every value is already present (eg trivial data fetchers) there is no need to build an allOf tree of futures
+            if (allCompletedNormally(array)) {
+                return CompletableFuture.completedFuture(joinAll(array));
+            }
             CompletableFuture<List<T>> overallResult = new CompletableFuture<>();
             CompletableFuture.allOf(array)
                     .whenComplete((ignored, exception) -> {
@@ -117,15 +124,27 @@ public class Async {
                             overallResult.completeExceptionally(exception);
                             return;
                         }
-                        List<T> results = new ArrayList<>(array.length);
-                        for (CompletableFuture<T> future : array) {
-                            results.add(future.join());
-                        }
-                        overallResult.complete(results);
+                        overallResult.complete(joinAll(array));
                     });
             return overallResult;
         }
 
+        private static boolean allCompletedNormally(CompletableFuture<?>[] array) {
+            for (CompletableFuture<?> future : array) {
+                if (!isCompletedNormally(future)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static <T> List<T> joinAll(CompletableFuture<T>[] array) {
+            List<T> results = new ArrayList<>(array.length);
+            for (CompletableFuture<T> future : array) {
+                results.add(future.join());
+            }
+            return results;
+        }
     }
 
     @FunctionalInterface
@@ -208,6 +227,15 @@ public class Async {
         }
     }
 
+    /**
+     * @param completableFuture the future to check
+     *
+     * @return true if the future has completed with a value rather than an exception
+     */
+    public static boolean isCompletedNormally(CompletableFuture<?> completableFuture) {
+        return completableFuture.isDone() && !completableFuture.isCompletedExceptionally();
+    }
+
     public static <T> CompletableFuture<T> exceptionallyCompletedFuture(Throwable exception) {
         CompletableFuture<T> result = new CompletableFuture<>();
         result.completeExceptionally(exception);
@@ -0,0 +1,465 @@
+package graphql.execution;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.ExperimentalApi;
+import graphql.SerializationError;
+import graphql.UnresolvedTypeError;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.normalized.ExecutableNormalizedField;
+import graphql.normalized.ExecutableNormalizedOperation;
+import graphql.schema.BatchedDataFetcher;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLType;
+import graphql.util.FpKit;
+import graphql.util.LogKit;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static graphql.Assert.assertTrue;
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.nonNullCtx;
+import static graphql.schema.GraphQLTypeUtil.isEnum;
+import static graphql.schema.GraphQLTypeUtil.isList;
+import static graphql.schema.GraphQLTypeUtil.isScalar;
+
+/**
+ * An execution strategy that executes a query level by level.  Every field on a level of the query is fetched before
+ * any field on the next level, and the source objects of each {@link ExecutableNormalizedField} on a level are fetched
+ * together.  If the field has a {@link BatchedDataFetcher} then it is called once with all of those source objects, which
+ * turns N+1 fetches into one fetch per field per level without any {@link org.dataloader.DataLoader} dispatching.  Fields
+ * with other data fetchers are fetched one source object at a time as usual.
+ * <p>
+ * The shape of each level comes from the {@link ExecutableNormalizedOperation} of the request.
+ * <p>
+ * Field fetch instrumentation is called for every field, however field and field completion instrumentation is not, since
+ * the fields of a level are completed together.  {@link graphql.execution.instrumentation.Instrumentation#instrumentDataFetcher}
+ * is not applied to batched data fetchers.
+ */
+@ExperimentalApi
+public class BreadthFirstExecutionStrategy extends ExecutionStrategy {
+
+    private static final Logger logNotSafe = LogKit.getNotPrivacySafeLogger(BreadthFirstExecutionStrategy.class);
+
+    public BreadthFirstExecutionStrategy() {
+        super(new SimpleDataFetcherExceptionHandler());
+    }
+
+    public BreadthFirstExecutionStrategy(DataFetcherExceptionHandler exceptionHandler) {
+        super(exceptionHandler);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> execute(ExecutionContext executionContext, ExecutionStrategyParameters parameters) throws NonNullableFieldWasNullException {
+        Instrumentation instrumentation = executionContext.getInstrumentation();
+        InstrumentationExecutionStrategyParameters instrumentationParameters = new InstrumentationExecutionStrategyParameters(executionContext, parameters);
+        InstrumentationContext<ExecutionResult> executionStrategyCtx = nonNullCtx(instrumentation.beginExecutionStrategy(instrumentationParameters,
+                executionContext.getInstrumentationState())
+        );
+
+        ExecutableNormalizedOperation normalizedOperation = executionContext.getNormalizedQueryTree().get();
+        GraphQLObjectType objectType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
+        MergedSelectionSet fields = parameters.getFields();
+        List<ExecutableNormalizedField> normalizedFields = new ArrayList<>(fields.size());
+        for (String fieldName : fields.getKeys()) {
+            ResultPath fieldPath = parameters.getPath().segment(fieldName);
+            normalizedFields.add(normalizedOperation.getNormalizedField(fields.getSubField(fieldName), objectType, fieldPath));
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        ResultPosition dataPosition = new ResultPosition(null, null, false, null, null);
+        ObjectNode root = new ObjectNode(parameters, objectType, normalizedFields, data, dataPosition);
+
+        CompletableFuture<ExecutionResult> overallResult = new CompletableFuture<>();
+        executionStrategyCtx.onDispatched(overallResult);
+
+        List<ObjectNode> firstLevel = new ArrayList<>(1);
+        firstLevel.add(root);
+        executeLevel(executionContext, normalizedOperation, firstLevel).whenComplete((ignored, exception) -> {
+            if (exception != null) {
+                handleNonNullException(executionContext, overallResult, exception);
+            } else if (dataPosition.nulled) {
+                ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+                if (executionStepInfo.isNonNullType()) {
+                    overallResult.completeExceptionally(new NonNullableFieldWasNullException(executionStepInfo, parameters.getPath()));
+                } else {
+                    overallResult.complete(new ExecutionResultImpl(null, executionContext.getErrors()));
+                }
+            } else {
+                overallResult.complete(new ExecutionResultImpl(data, executionContext.getErrors()));
+            }
+        });
+        overallResult.whenComplete(executionStrategyCtx::onCompleted);
+        return overallResult;
+    }
+
+    private CompletableFuture<Void> executeLevel(ExecutionContext executionContext, ExecutableNormalizedOperation normalizedOperation, List<ObjectNode> objects) {
+        // group the fields of every object on this level by normalized field and object type so that each group can be fetched together
+        Map<FieldGroupKey, List<PendingField>> fieldGroups = new LinkedHashMap<>();
+        for (ObjectNode object : objects) {
+            if (object.position.isNulled()) {
+                continue;
+            }
+            for (ExecutableNormalizedField normalizedField : object.normalizedFields) {
+                String resultKey = normalizedField.getResultKey();
+                MergedField mergedField = normalizedOperation.getMergedField(normalizedField);
+                ResultPath fieldPath = object.parameters.getPath().segment(resultKey);
+                ExecutionStrategyParameters fieldParameters = object.parameters
+                        .transform(builder -> builder.field(mergedField).path(fieldPath).parent(object.parameters));
+                // reserve the key so the fields of the object stay in document order
+                object.result.put(resultKey, null);
+                fieldGroups.computeIfAbsent(new FieldGroupKey(normalizedField, object.objectType), key -> new ArrayList<>())
+                        .add(new PendingField(object, normalizedField, fieldParameters));
+            }
+        }
+        if (fieldGroups.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<List<PendingField>> groups = new ArrayList<>(fieldGroups.values());
+        CompletableFuture<List<List<FetchedValue>>> fetchedGroups = Async.each(groups, (group, index) -> fetchGroup(executionContext, group));
+
+        return fetchedGroups.thenCompose(fetchedValues -> {
+            List<ObjectNode> nextLevel = new ArrayList<>();
+            for (int i = 0; i < groups.size(); i++) {
+                List<PendingField> group = groups.get(i);
+                List<FetchedValue> groupValues = fetchedValues.get(i);
+                for (int j = 0; j < group.size(); j++) {
+                    completeFetchedValue(executionContext, normalizedOperation, group.get(j), groupValues.get(j), nextLevel);
+                }
+            }
+            return executeLevel(executionContext, normalizedOperation, nextLevel);
+        });
+    }
+
+    private CompletableFuture<List<FetchedValue>> fetchGroup(ExecutionContext executionContext, List<PendingField> group) {
+        PendingField first = group.get(0);
+        GraphQLObjectType parentType = first.object.objectType;
+        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, first.parameters.getField().getSingleField());
+        DataFetcher<?> dataFetcher = executionContext.getExecutionPlan().getDataFetcher(executionContext.getGraphQLSchema().getCodeRegistry(), parentType, fieldDef);
+        if (dataFetcher instanceof BatchedDataFetcher) {
+            return fetchBatch(executionContext, group, (BatchedDataFetcher<?>) dataFetcher, fieldDef, parentType);
+        }
+        return Async.each(group, (pendingField, index) -> fetchField(executionContext, pendingField.parameters));
+    }
+
+    private CompletableFuture<List<FetchedValue>> fetchBatch(ExecutionContext executionContext,
+                                                             List<PendingField> group,
+                                                             BatchedDataFetcher<?> batchedDataFetcher,
+                                                             GraphQLFieldDefinition fieldDef,
+                                                             GraphQLObjectType parentType) {
+        Instrumentation instrumentation = executionContext.getInstrumentation();
+        int size = group.size();
+        List<DataFetchingEnvironment> environments = new ArrayList<>(size);
+        List<InstrumentationContext<Object>> fetchCtxs = new ArrayList<>(size);
+        for (PendingField pendingField : group) {
+            Supplier<DataFetchingEnvironment> dataFetchingEnvironment = createDataFetchingEnvironment(executionContext, pendingField.parameters, fieldDef, parentType);
+            environments.add(dataFetchingEnvironment.get());
+            InstrumentationFieldFetchParameters instrumentationFieldFetchParams = new InstrumentationFieldFetchParameters(executionContext, dataFetchingEnvironment, pendingField.parameters, false);
+            fetchCtxs.add(nonNullCtx(instrumentation.beginFieldFetch(instrumentationFieldFetchParams, executionContext.getInstrumentationState())));
+        }
+
+        CompletableFuture<List<Object>> batch;
+        try {
+            @SuppressWarnings("unchecked")
+            CompletableFuture<List<Object>> values = (CompletableFuture<List<Object>>) (CompletableFuture<?>) batchedDataFetcher.getBatch(environments).toCompletableFuture();
+            batch = values;
+        } catch (Exception e) {
+            if (logNotSafe.isDebugEnabled()) {
+                logNotSafe.debug(String.format("'%s', field '%s' batch fetch threw exception", executionContext.getExecutionId(), group.get(0).parameters.getPath()), e);
+            }
+            batch = Async.exceptionallyCompletedFuture(e);
+        }
+        CompletableFuture<List<Object>> checkedBatch = batch.thenApply(values -> {
+            assertTrue(values != null && values.size() == size, () -> String.format("The BatchedDataFetcher for field '%s' must return one value per source object", fieldDef.getName()));
+            return values;
+        });
+
+        return Async.each(group, (pendingField, index) -> {
+            InstrumentationContext<Object> fetchCtx = fetchCtxs.get(index);
+            CompletableFuture<Object> fetchedValue = checkedBatch.thenApply(values -> values.get(index));
+            fetchCtx.onDispatched(fetchedValue);
+            return fetchedValue
+                    .handle((result, exception) -> {
+                        fetchCtx.onCompleted(result, exception);
+                        if (exception != null) {
+                            Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+                            return handleFetchingException(executionContext, environments.get(index), cause);
+                        } else {
+                            return CompletableFuture.completedFuture(result);
+                        }
+                    })
+                    .thenCompose(Function.identity())
+                    .thenApply(result -> unboxPossibleDataFetcherResult(executionContext, pendingField.parameters, result));
+        });
+    }
+
+    private void completeFetchedValue(ExecutionContext executionContext, ExecutableNormalizedOperation normalizedOperation, PendingField pendingField, FetchedValue fetchedValue, List<ObjectNode> nextLevel) {
+        ObjectNode object = pendingField.object;
+        ExecutionStrategyParameters parameters = pendingField.parameters;
+        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), object.objectType, parameters.getField().getSingleField());
+        ExecutionStepInfo executionStepInfo = createExecutionStepInfo(executionContext, parameters, fieldDef, object.objectType);
+        NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, executionStepInfo);
+
+        ExecutionStrategyParameters newParameters = parameters.transform(builder ->
+                builder.executionStepInfo(executionStepInfo)
+                        .source(fetchedValue.getFetchedValue())
+                        .localContext(fetchedValue.getLocalContext())
+                        .nonNullFieldValidator(nonNullableFieldValidator)
+        );
+
+        String resultKey = pendingField.normalizedField.getResultKey();
+        try {
+            Object value = completeLevelValue(executionContext, normalizedOperation, newParameters, pendingField.normalizedField, object, null, object.result, resultKey, nextLevel);
+            object.result.put(resultKey, value);
+        } catch (NonNullableFieldWasNullException e) {
+            // a non null field is null and so the object it is on becomes null
+            object.position.nullOut();
+        }
+    }
+
+    /*
+     * Completes the value of a field, or an item of a list, on this level.  Any objects in it are completed with
+     * empty maps that are filled in on the next level.
+     */
+    private Object completeLevelValue(ExecutionContext executionContext,
+                                      ExecutableNormalizedOperation normalizedOperation,
+                                      ExecutionStrategyParameters parameters,
+                                      ExecutableNormalizedField normalizedField,
+                                      ObjectNode object,
+                                      ResultPosition listPosition,
+                                      Object container,
+                                      Object key,
+                                      List<ObjectNode> nextLevel) throws NonNullableFieldWasNullException {
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        Object result = executionContext.getValueUnboxer().unbox(parameters.getSource());
+        GraphQLType fieldType = executionStepInfo.getUnwrappedNonNullType();
+
+        if (result == null) {
+            return parameters.getNonNullFieldValidator().validate(parameters.getPath(), null);
+        } else if (isList(fieldType)) {
+            Iterable<Object> iterableValues = parameters.getNonNullFieldValidator().validate(parameters.getPath(), toIterable(executionContext, parameters, result));
+            if (iterableValues == null) {
+                return null;
+            }
+            return completeLevelList(executionContext, normalizedOperation, parameters, normalizedField, object, listPosition, container, key, iterableValues, nextLevel);
+        } else if (isScalar(fieldType) || isEnum(fieldType)) {
+            Object serialized;
+            try {
+                if (isScalar(fieldType)) {
+                    serialized = ((GraphQLScalarType) fieldType).getCoercing().serialize(result, executionContext.getGraphQLContext(), executionContext.getLocale());
+                } else {
+                    serialized = ((GraphQLEnumType) fieldType).serialize(result, executionContext.getGraphQLContext(), executionContext.getLocale());
+                }
+            } catch (CoercingSerializeException e) {
+                SerializationError error = new SerializationError(parameters.getPath(), e);
+                logNotSafe.warn(error.getMessage(), e);
+                executionContext.addError(error);
+                serialized = null;
+            }
+            return parameters.getNonNullFieldValidator().validate(parameters.getPath(), serialized);
+        }
+
+        GraphQLObjectType resolvedObjectType;
+        try {
+            resolvedObjectType = resolveType(executionContext, parameters, fieldType);
+        } catch (UnresolvedTypeException e) {
+            UnresolvedTypeError error = new UnresolvedTypeError(parameters.getPath(), executionStepInfo, e);
+            logNotSafe.warn(error.getMessage(), e);
+            executionContext.addError(error);
+            return parameters.getNonNullFieldValidator().validate(parameters.getPath(), null);
+        }
+
+        List<ExecutableNormalizedField> childFields = normalizedField.getChildren(resolvedObjectType.getName());
+        Map<String, MergedField> subFields = new LinkedHashMap<>(childFields.size());
+        for (ExecutableNormalizedField childField : childFields) {
+            subFields.put(childField.getResultKey(), normalizedOperation.getMergedField(childField));
+        }
+
+        ExecutionStepInfo newExecutionStepInfo = executionStepInfo.changeTypeWithPreservedNonNull(resolvedObjectType);
+        NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, newExecutionStepInfo);
+        ExecutionStrategyParameters objectParameters = parameters.transform(builder ->
+                builder.executionStepInfo(newExecutionStepInfo)
+                        .fields(MergedSelectionSet.newMergedSelectionSet().subFields(subFields).build())
+                        .nonNullFieldValidator(nonNullableFieldValidator)
+                        .source(result)
+        );
+
+        Map<String, Object> objectResult = new LinkedHashMap<>(childFields.size());
+        ResultPosition position = new ResultPosition(listPosition, object, executionStepInfo.isNonNullType(), container, key);
+        nextLevel.add(new ObjectNode(objectParameters, resolvedObjectType, childFields, objectResult, position));
+        return objectResult;
+    }
+
+    private List<Object> completeLevelList(ExecutionContext executionContext,
+                                           ExecutableNormalizedOperation normalizedOperation,
+                                           ExecutionStrategyParameters parameters,
+                                           ExecutableNormalizedField normalizedField,
+                                           ObjectNode object,
+                                           ResultPosition listPosition,
+                                           Object container,
+                                           Object key,
+                                           Iterable<Object> iterableValues,
+                                           List<ObjectNode> nextLevel) throws NonNullableFieldWasNullException {
+        OptionalInt size = FpKit.toSize(iterableValues);
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        ResultPosition position = new ResultPosition(listPosition, object, executionStepInfo.isNonNullType(), container, key);
+
+        List<Object> results = new ArrayList<>(size.orElse(1));
+        int index = 0;
+        for (Object item : iterableValues) {
+            ResultPath indexedPath = parameters.getPath().segment(index);
+            ExecutionStepInfo stepInfoForListElement = executionStepInfoFactory.newExecutionStepInfoForListElement(executionStepInfo, index);
+            NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, stepInfoForListElement);
+            FetchedValue value = unboxPossibleDataFetcherResult(executionContext, parameters, item);
+
+            int finalIndex = index;
+            ExecutionStrategyParameters newParameters = parameters.transform(builder ->
+                    builder.executionStepInfo(stepInfoForListElement)
+                            .nonNullFieldValidator(nonNullableFieldValidator)
+                            .listSize(size.orElse(-1)) // -1 signals that we don't know the size
+                            .localContext(value.getLocalContext())
+                            .currentListIndex(finalIndex)
+                            .path(indexedPath)
+                            .source(value.getFetchedValue())
+            );
+            try {
+                results.add(completeLevelValue(executionContext, normalizedOperation, newParameters, normalizedField, object, position, results, index, nextLevel));
+            } catch (NonNullableFieldWasNullException e) {
+                // a non null item is null and so the list becomes null, including any objects already in it
+                position.nulled = true;
+                assertNonNullFieldPrecondition(e);
+                return null;
+            }
+            index++;
+        }
+        return results;
+    }
+
+    /*
+     * An object on a level whose fields are still to be fetched
+     */
+    private static class ObjectNode {
+        private final ExecutionStrategyParameters parameters;
+        private final GraphQLObjectType objectType;
+        private final List<ExecutableNormalizedField> normalizedFields;
+        private final Map<String, Object> result;
+        private final ResultPosition position;
+
+        private ObjectNode(ExecutionStrategyParameters parameters, GraphQLObjectType objectType, List<ExecutableNormalizedField> normalizedFields, Map<String, Object> result, ResultPosition position) {
+            this.parameters = parameters;
+            this.objectType = objectType;
+            this.normalizedFields = normalizedFields;
+            this.result = result;
+            this.position = position;
+        }
+    }
+
+    /*
+     * Where an object or list sits in the result, so that it can be nulled out when a non null field below it turns
+     * out to be null on a later level.  A position is either a field of an object or an item of an enclosing list.
+     */
+    private static class ResultPosition {
+        private final ResultPosition listPosition;
+        private final ObjectNode object;
+        private final boolean nonNull;
+        private final Object container;
+        private final Object key;
+        private boolean nulled;
+
+        private ResultPosition(ResultPosition listPosition, ObjectNode object, boolean nonNull, Object container, Object key) {
+            this.listPosition = listPosition;
+            this.object = object;
+            this.nonNull = nonNull;
+            this.container = container;
+            this.key = key;
+        }
+
+        private ResultPosition enclosing() {
+            if (listPosition != null) {
+                return listPosition;
+            }
+            return object != null ? object.position : null;
+        }
+
+        boolean isNulled() {
+            for (ResultPosition position = this; position != null; position = position.enclosing()) {
+                if (position.nulled) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        void nullOut() {
+            ResultPosition position = this;
+            // a non null position can't be null and so its enclosing position becomes null instead
+            while (position.nonNull && position.enclosing() != null) {
+                position = position.enclosing();
+            }
+            position.nulled = true;
+            if (position.container instanceof Map) {
+                ((Map<String, Object>) position.container).put((String) position.key, null);
+            } else if (position.container instanceof List) {
+                ((List<Object>) position.container).set((Integer) position.key, null);
+            }
+        }
+    }
+
+    private static class PendingField {
+        private final ObjectNode object;
+        private final ExecutableNormalizedField normalizedField;
+        private final ExecutionStrategyParameters parameters;
+
+        private PendingField(ObjectNode object, ExecutableNormalizedField normalizedField, ExecutionStrategyParameters parameters) {
+            this.object = object;
+            this.normalizedField = normalizedField;
+            this.parameters = parameters;
+        }
+    }
+
+    private static class FieldGroupKey {
+        private final ExecutableNormalizedField normalizedField;
+        private final GraphQLObjectType objectType;
+
+        private FieldGroupKey(ExecutableNormalizedField normalizedField, GraphQLObjectType objectType) {
+            this.normalizedField = normalizedField;
+            this.objectType = objectType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FieldGroupKey that = (FieldGroupKey) o;
+            return normalizedField == that.normalizedField && objectType == that.objectType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(normalizedField) + System.identityHashCode(objectType);
+        }
+    }
+}
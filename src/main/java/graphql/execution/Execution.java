@@ -11,6 +11,9 @@ import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.InstrumentationState;
 import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.plan.ExecutionPlan;
+import graphql.execution.plan.ExecutionPlanCache;
+import graphql.execution.plan.NoOpExecutionPlanCache;
 import graphql.language.Document;
 import graphql.language.FragmentDefinition;
 import graphql.language.NodeUtil;
@@ -43,13 +46,25 @@ public class Execution {
     private final ExecutionStrategy subscriptionStrategy;
     private final Instrumentation instrumentation;
     private ValueUnboxer valueUnboxer;
+    private final ExecutionPlanCache executionPlanCache;
+    private final boolean memoizeDataFetchers;
 
     public Execution(ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, Instrumentation instrumentation, ValueUnboxer valueUnboxer) {
+        this(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation, valueUnboxer, NoOpExecutionPlanCache.INSTANCE);
+    }
+
+    public Execution(ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, Instrumentation instrumentation, ValueUnboxer valueUnboxer, ExecutionPlanCache executionPlanCache) {
+        this(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation, valueUnboxer, executionPlanCache, false);
+    }
+
+    public Execution(ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, Instrumentation instrumentation, ValueUnboxer valueUnboxer, ExecutionPlanCache executionPlanCache, boolean memoizeDataFetchers) {
         this.queryStrategy = queryStrategy != null ? queryStrategy : new AsyncExecutionStrategy();
         this.mutationStrategy = mutationStrategy != null ? mutationStrategy : new AsyncSerialExecutionStrategy();
         this.subscriptionStrategy = subscriptionStrategy != null ? subscriptionStrategy : new AsyncExecutionStrategy();
         this.instrumentation = instrumentation;
         this.valueUnboxer = valueUnboxer;
+        this.executionPlanCache = executionPlanCache != null ? executionPlanCache : NoOpExecutionPlanCache.INSTANCE;
+        this.memoizeDataFetchers = memoizeDataFetchers;
     }
 
     public CompletableFuture<ExecutionResult> execute(Document document, GraphQLSchema graphQLSchema, ExecutionId executionId, ExecutionInput executionInput, InstrumentationState instrumentationState) {
@@ -71,6 +86,9 @@ public class Execution {
             throw rte;
         }
 
+        ExecutionPlan executionPlan = executionPlanCache.getExecutionPlan(document, operationDefinition, graphQLSchema,
+                () -> ExecutionPlan.newExecutionPlan(graphQLSchema, document, memoizeDataFetchers));
+
         ExecutionContext executionContext = newExecutionContextBuilder()
                 .instrumentation(instrumentation)
                 .instrumentationState(instrumentationState)
@@ -92,6 +110,7 @@ public class Execution {
                 .locale(executionInput.getLocale())
                 .valueUnboxer(valueUnboxer)
                 .executionInput(executionInput)
+                .executionPlan(executionPlan)
                 .build();
 
 
@@ -125,14 +144,7 @@ public class Execution {
             throw rte;
         }
 
-        FieldCollectorParameters collectorParameters = FieldCollectorParameters.newParameters()
-                .schema(executionContext.getGraphQLSchema())
-                .objectType(operationRootType)
-                .fragments(executionContext.getFragmentsByName())
-                .variables(executionContext.getVariables())
-                .build();
-
-        MergedSelectionSet fields = fieldCollector.collectFields(collectorParameters, operationDefinition.getSelectionSet());
+        MergedSelectionSet fields = executionContext.getExecutionPlan().collectFields(executionContext, fieldCollector, operationRootType, operationDefinition.getSelectionSet());
 
         ResultPath path = ResultPath.rootPath();
         ExecutionStepInfo executionStepInfo = newExecutionStepInfo().type(operationRootType).path(path).build();
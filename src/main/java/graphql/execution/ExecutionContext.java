@@ -5,6 +5,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import graphql.DeprecatedAt;
 import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQLContext;
 import graphql.GraphQLError;
 import graphql.PublicApi;
@@ -12,6 +14,7 @@ import graphql.cachecontrol.CacheControl;
 import graphql.collect.ImmutableKit;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.plan.ExecutionPlan;
 import graphql.language.Document;
 import graphql.language.FragmentDefinition;
 import graphql.language.OperationDefinition;
@@ -21,11 +24,11 @@ import graphql.schema.GraphQLSchema;
 import graphql.util.FpKit;
 import org.dataloader.DataLoaderRegistry;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -49,14 +52,18 @@ public class ExecutionContext {
     private final GraphQLContext graphQLContext;
     private final Object localContext;
     private final Instrumentation instrumentation;
-    private final AtomicReference<ImmutableList<GraphQLError>> errors = new AtomicReference<>(ImmutableKit.emptyList());
-    private final Set<ResultPath> errorPaths = new HashSet<>();
+    // errors are appended lock free, a batch at a time, and only copied into an immutable list when they are asked for
+    private final ErrorBatch firstErrorBatch = new ErrorBatch(ImmutableKit.emptyList(), 0);
+    private final AtomicReference<ErrorBatch> lastErrorBatch = new AtomicReference<>(firstErrorBatch);
+    private volatile ErrorsSnapshot errorsSnapshot = new ErrorsSnapshot(firstErrorBatch, ImmutableKit.emptyList());
+    private final Set<ResultPath> errorPaths = ConcurrentHashMap.newKeySet();
     private final DataLoaderRegistry dataLoaderRegistry;
     private final CacheControl cacheControl;
     private final Locale locale;
     private final ValueUnboxer valueUnboxer;
     private final ExecutionInput executionInput;
     private final Supplier<ExecutableNormalizedOperation> queryTree;
+    private final ExecutionPlan executionPlan;
 
     ExecutionContext(ExecutionContextBuilder builder) {
         this.graphQLSchema = builder.graphQLSchema;
@@ -77,9 +84,12 @@ public class ExecutionContext {
         this.cacheControl = builder.cacheControl;
         this.locale = builder.locale;
         this.valueUnboxer = builder.valueUnboxer;
-        this.errors.set(builder.errors);
+        if (!builder.errors.isEmpty()) {
+            appendErrors(builder.errors);
+        }
         this.localContext = builder.localContext;
         this.executionInput = builder.executionInput;
+        this.executionPlan = builder.executionPlan != null ? builder.executionPlan : ExecutionPlan.newRequestScopedExecutionPlan(builder.graphQLSchema);
         queryTree = FpKit.interThreadMemoize(() -> ExecutableNormalizedOperationFactory.createExecutableNormalizedOperation(graphQLSchema, operationDefinition, fragmentsByName, coercedVariables));
     }
 
@@ -187,17 +197,15 @@ public class ExecutionContext {
      * @param fieldPath the field path to put it under
      */
     public void addError(GraphQLError error, ResultPath fieldPath) {
-        synchronized (this) {
-            //
-            // see https://spec.graphql.org/October2021/#sec-Handling-Field-Errors about how per
-            // field errors should be handled - ie only once per field if it's already there for nullability
-            // but unclear if it's not that error path
-            //
-            if (!errorPaths.add(fieldPath)) {
-                return;
-            }
-            this.errors.set(ImmutableKit.addToList(this.errors.get(), error));
+        //
+        // see https://spec.graphql.org/October2021/#sec-Handling-Field-Errors about how per
+        // field errors should be handled - ie only once per field if it's already there for nullability
+        // but unclear if it's not that error path
+        //
+        if (!errorPaths.add(fieldPath)) {
+            return;
         }
+        appendErrors(ImmutableList.of(error));
     }
 
     /**
@@ -207,16 +215,14 @@ public class ExecutionContext {
      * @param error the error to add
      */
     public void addError(GraphQLError error) {
-        synchronized (this) {
-            // see https://github.com/graphql-java/graphql-java/issues/888 on how the spec is unclear
-            // on how exactly multiple errors should be handled - ie only once per field or not outside the nullability
-            // aspect.
-            if (error.getPath() != null) {
-                ResultPath path = ResultPath.fromList(error.getPath());
-                this.errorPaths.add(path);
-            }
-            this.errors.set(ImmutableKit.addToList(this.errors.get(), error));
+        // see https://github.com/graphql-java/graphql-java/issues/888 on how the spec is unclear
+        // on how exactly multiple errors should be handled - ie only once per field or not outside the nullability
+        // aspect.
+        if (error.getPath() != null) {
+            ResultPath path = ResultPath.fromList(error.getPath());
+            this.errorPaths.add(path);
         }
+        appendErrors(ImmutableList.of(error));
     }
 
     /**
@@ -229,29 +235,141 @@ public class ExecutionContext {
         if (errors.isEmpty()) {
             return;
         }
-        // we are synchronised because we set two fields at once - but we only ever read one of them later
-        // in getErrors so no need for synchronised there.
-        synchronized (this) {
-            Set<ResultPath> newErrorPaths = new HashSet<>();
-            for (GraphQLError error : errors) {
-                // see https://github.com/graphql-java/graphql-java/issues/888 on how the spec is unclear
-                // on how exactly multiple errors should be handled - ie only once per field or not outside the nullability
-                // aspect.
-                if (error.getPath() != null) {
-                    ResultPath path = ResultPath.fromList(error.getPath());
-                    newErrorPaths.add(path);
-                }
+        for (GraphQLError error : errors) {
+            // see https://github.com/graphql-java/graphql-java/issues/888 on how the spec is unclear
+            // on how exactly multiple errors should be handled - ie only once per field or not outside the nullability
+            // aspect.
+            if (error.getPath() != null) {
+                ResultPath path = ResultPath.fromList(error.getPath());
+                this.errorPaths.add(path);
             }
-            this.errorPaths.addAll(newErrorPaths);
-            this.errors.set(ImmutableKit.concatLists(this.errors.get(), errors));
         }
+        // the errors are appended as one batch so they are either all seen or none of them are
+        appendErrors(ImmutableList.copyOf(errors));
     }
 
     /**
      * @return the total list of errors for this execution context
      */
     public List<GraphQLError> getErrors() {
-        return errors.get();
+        return getErrorsUpTo(lastErrorBatch());
+    }
+
+    /**
+     * Makes the result of a completed field value.  Its errors are the errors of the execution so far, but as they are
+     * rarely looked at they are only copied into a list when they are asked for.
+     *
+     * @param data the completed value
+     *
+     * @return the result of the completed value
+     */
+    ExecutionResult newCompletedValueResult(Object data) {
+        return new CompletedValueResult(data, lastErrorBatch());
+    }
+
+    private void appendErrors(ImmutableList<GraphQLError> newErrors) {
+        while (true) {
+            ErrorBatch last = lastErrorBatch.get();
+            ErrorBatch next = last.next.get();
+            if (next != null) {
+                // another add has linked its batch but not yet moved the last batch along, so we help it
+                lastErrorBatch.compareAndSet(last, next);
+                continue;
+            }
+            ErrorBatch batch = new ErrorBatch(newErrors, last.errorCountUpToHere + newErrors.size());
+            if (last.next.compareAndSet(null, batch)) {
+                lastErrorBatch.compareAndSet(last, batch);
+                return;
+            }
+        }
+    }
+
+    private ErrorBatch lastErrorBatch() {
+        ErrorBatch last = lastErrorBatch.get();
+        for (ErrorBatch next = last.next.get(); next != null; next = next.next.get()) {
+            last = next;
+        }
+        return last;
+    }
+
+    private ImmutableList<GraphQLError> getErrorsUpTo(ErrorBatch batch) {
+        ErrorsSnapshot snapshot = errorsSnapshot;
+        if (snapshot.batch.errorCountUpToHere >= batch.errorCountUpToHere) {
+            // the errors are only ever appended so the errors up to an earlier batch are a prefix of the snapshot
+            return snapshot.errors.subList(0, batch.errorCountUpToHere);
+        }
+        ImmutableList.Builder<GraphQLError> builder = ImmutableList.<GraphQLError>builderWithExpectedSize(batch.errorCountUpToHere)
+                .addAll(snapshot.errors);
+        for (ErrorBatch next = snapshot.batch; next != batch; ) {
+            next = next.next.get();
+            builder.addAll(next.errors);
+        }
+        ImmutableList<GraphQLError> errors = builder.build();
+        errorsSnapshot = new ErrorsSnapshot(batch, errors);
+        return errors;
+    }
+
+    private static class ErrorBatch {
+        private final ImmutableList<GraphQLError> errors;
+        private final int errorCountUpToHere;
+        private final AtomicReference<ErrorBatch> next = new AtomicReference<>();
+
+        private ErrorBatch(ImmutableList<GraphQLError> errors, int errorCountUpToHere) {
+            this.errors = errors;
+            this.errorCountUpToHere = errorCountUpToHere;
+        }
+    }
+
+    private static class ErrorsSnapshot {
+        private final ErrorBatch batch;
+        private final ImmutableList<GraphQLError> errors;
+
+        private ErrorsSnapshot(ErrorBatch batch, ImmutableList<GraphQLError> errors) {
+            this.batch = batch;
+            this.errors = errors;
+        }
+    }
+
+    private class CompletedValueResult implements ExecutionResult {
+        private final Object data;
+        private final ErrorBatch errorBatch;
+
+        private CompletedValueResult(Object data, ErrorBatch errorBatch) {
+            this.data = data;
+            this.errorBatch = errorBatch;
+        }
+
+        @Override
+        public List<GraphQLError> getErrors() {
+            return getErrorsUpTo(errorBatch);
+        }
+
+        @Override
+        @SuppressWarnings("TypeParameterUnusedInFormals")
+        public <T> T getData() {
+            //noinspection unchecked
+            return (T) data;
+        }
+
+        @Override
+        public boolean isDataPresent() {
+            return true;
+        }
+
+        @Override
+        public Map<Object, Object> getExtensions() {
+            return null;
+        }
+
+        @Override
+        public Map<String, Object> toSpecification() {
+            return new ExecutionResultImpl(data, getErrors()).toSpecification();
+        }
+
+        @Override
+        public String toString() {
+            return new ExecutionResultImpl(data, getErrors()).toString();
+        }
     }
 
     public ExecutionStrategy getQueryStrategy() { return queryStrategy; }
@@ -278,6 +396,13 @@ public class ExecutionContext {
         return queryTree;
     }
 
+    /**
+     * @return the execution plan that remembers the collected fields and data fetchers of this execution
+     */
+    public ExecutionPlan getExecutionPlan() {
+        return executionPlan;
+    }
+
     /**
      * This helps you transform the current ExecutionContext object into another one by starting a builder with all
      * the current values and allows you to transform it how you want.
@@ -12,6 +12,7 @@ import graphql.cachecontrol.CacheControl;
 import graphql.collect.ImmutableKit;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.plan.ExecutionPlan;
 import graphql.language.Document;
 import graphql.language.FragmentDefinition;
 import graphql.language.OperationDefinition;
@@ -48,6 +49,7 @@ public class ExecutionContextBuilder {
     ValueUnboxer valueUnboxer;
     Object localContext;
     ExecutionInput executionInput;
+    ExecutionPlan executionPlan;
 
     /**
      * @return a new builder of {@link graphql.execution.ExecutionContext}s
@@ -94,6 +96,7 @@ public class ExecutionContextBuilder {
         errors = ImmutableList.copyOf(other.getErrors());
         valueUnboxer = other.getValueUnboxer();
         executionInput = other.getExecutionInput();
+        executionPlan = other.getExecutionPlan();
     }
 
     public ExecutionContextBuilder instrumentation(Instrumentation instrumentation) {
@@ -216,6 +219,11 @@ public class ExecutionContextBuilder {
         return this;
     }
 
+    public ExecutionContextBuilder executionPlan(ExecutionPlan executionPlan) {
+        this.executionPlan = executionPlan;
+        return this;
+    }
+
     public ExecutionContextBuilder resetErrors() {
         this.errors = emptyList();
         return this;
@@ -1,9 +1,7 @@
 package graphql.execution;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import graphql.ExecutionResult;
-import graphql.ExecutionResultImpl;
-import graphql.GraphQLError;
 import graphql.Internal;
 import graphql.PublicSpi;
 import graphql.SerializationError;
@@ -32,6 +30,7 @@ import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLEnumType;
 import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLScalarType;
@@ -43,19 +42,21 @@ import graphql.util.LogKit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static graphql.execution.Async.exceptionallyCompletedFuture;
 import static graphql.execution.ExecutionStepInfo.newExecutionStepInfo;
-import static graphql.execution.FieldCollectorParameters.newParameters;
 import static graphql.execution.FieldValueInfo.CompleteValueType.ENUM;
 import static graphql.execution.FieldValueInfo.CompleteValueType.LIST;
 import static graphql.execution.FieldValueInfo.CompleteValueType.NULL;
@@ -64,8 +65,11 @@ import static graphql.execution.FieldValueInfo.CompleteValueType.SCALAR;
 import static graphql.execution.instrumentation.SimpleInstrumentationContext.nonNullCtx;
 import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironment;
 import static graphql.schema.GraphQLTypeUtil.isEnum;
+import static graphql.schema.GraphQLTypeUtil.isLeaf;
 import static graphql.schema.GraphQLTypeUtil.isList;
+import static graphql.schema.GraphQLTypeUtil.isNonNull;
 import static graphql.schema.GraphQLTypeUtil.isScalar;
+import static graphql.schema.GraphQLTypeUtil.unwrapNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
@@ -134,6 +138,17 @@ public abstract class ExecutionStrategy {
 
     protected final DataFetcherExceptionHandler dataFetcherExceptionHandler;
 
+    // the methods that complete a list element, which the leaf list completion stands in for
+    private static final Set<String> ELEMENT_COMPLETION_METHODS = ImmutableSet.of(
+            "completeValue", "completeValueForNull", "completeValueForScalar", "completeValueForEnum", "unboxPossibleDataFetcherResult");
+    private static final ClassValue<Boolean> OVERRIDES_ELEMENT_COMPLETION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> strategyClass) {
+            return overridesElementCompletion(strategyClass);
+        }
+    };
+    private final boolean completesLeafListsInline = !OVERRIDES_ELEMENT_COMPLETION.get(getClass());
+
     /**
      * The default execution strategy constructor uses the {@link SimpleDataFetcherExceptionHandler}
      * for data fetching errors.
@@ -210,10 +225,21 @@ public abstract class ExecutionStrategy {
         ));
 
         CompletableFuture<FetchedValue> fetchFieldFuture = fetchField(executionContext, parameters);
-        CompletableFuture<FieldValueInfo> result = fetchFieldFuture.thenApply((fetchedValue) ->
-                completeField(executionContext, parameters, fetchedValue));
+        CompletableFuture<FieldValueInfo> result;
+        if (Async.isCompletedNormally(fetchFieldFuture)) {
+            // the value was fetched synchronously so we can complete it inline rather than chaining more futures
+            result = Async.tryCatch(() -> completedFuture(completeField(executionContext, parameters, fetchFieldFuture.join())));
+        } else {
+            result = fetchFieldFuture.thenApply((fetchedValue) ->
+                    completeField(executionContext, parameters, fetchedValue));
+        }
 
-        CompletableFuture<ExecutionResult> executionResultFuture = result.thenCompose(FieldValueInfo::getFieldValue);
+        CompletableFuture<ExecutionResult> executionResultFuture;
+        if (Async.isCompletedNormally(result)) {
+            executionResultFuture = result.join().getFieldValue();
+        } else {
+            executionResultFuture = result.thenCompose(FieldValueInfo::getFieldValue);
+        }
 
         fieldCtx.onDispatched(executionResultFuture);
         executionResultFuture.whenComplete(fieldCtx::onCompleted);
@@ -239,10 +265,80 @@ public abstract class ExecutionStrategy {
         GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
         GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, field.getSingleField());
         GraphQLCodeRegistry codeRegistry = executionContext.getGraphQLSchema().getCodeRegistry();
+        DataFetcher<?> dataFetcher = executionContext.getExecutionPlan().getDataFetcher(codeRegistry, parentType, fieldDef);
+        return fetchField(executionContext, parameters, parentType, fieldDef, dataFetcher);
+    }
+
+    /**
+     * Called to fetch a value for a field from a {@link DataFetcher} that has already been looked up, so that strategies
+     * that need to look at the data fetcher before fetching do not ask the {@link graphql.schema.DataFetcherFactory} for
+     * it twice.
+     *
+     * @param executionContext contains the top level execution parameters
+     * @param parameters       contains the parameters holding the fields to be executed and source object
+     * @param parentType       the object type the field is on
+     * @param fieldDef         the field definition of the field
+     * @param dataFetcher      the data fetcher of the field
+     *
+     * @return a promise to a fetched object
+     */
+    protected CompletableFuture<FetchedValue> fetchField(ExecutionContext executionContext,
+                                                         ExecutionStrategyParameters parameters,
+                                                         GraphQLObjectType parentType,
+                                                         GraphQLFieldDefinition fieldDef,
+                                                         DataFetcher<?> dataFetcher) {
+        Supplier<DataFetchingEnvironment> dataFetchingEnvironment = createDataFetchingEnvironment(executionContext, parameters, fieldDef, parentType);
 
-        // if the DF (like PropertyDataFetcher) does not use the arguments or execution step info then dont build any
+        Instrumentation instrumentation = executionContext.getInstrumentation();
+
+        InstrumentationFieldFetchParameters instrumentationFieldFetchParams = new InstrumentationFieldFetchParameters(executionContext, dataFetchingEnvironment, parameters, dataFetcher instanceof TrivialDataFetcher);
+        InstrumentationContext<Object> fetchCtx = nonNullCtx(instrumentation.beginFieldFetch(instrumentationFieldFetchParams,
+                executionContext.getInstrumentationState())
+        );
 
-        Supplier<DataFetchingEnvironment> dataFetchingEnvironment = FpKit.intraThreadMemoize(() -> {
+        dataFetcher = instrumentation.instrumentDataFetcher(dataFetcher, instrumentationFieldFetchParams, executionContext.getInstrumentationState());
+        Object fetchedValueRaw = invokeDataFetcher(executionContext, parameters, fieldDef, dataFetchingEnvironment, dataFetcher);
+
+        if (!(fetchedValueRaw instanceof CompletionStage)) {
+            // most data fetchers (eg PropertyDataFetcher) return plain values and these can be unboxed
+            // straight away rather than via a chain of futures
+            fetchCtx.onDispatched(completedFuture(fetchedValueRaw));
+            fetchCtx.onCompleted(fetchedValueRaw, null);
+            return Async.tryCatch(() -> completedFuture(unboxPossibleDataFetcherResult(executionContext, parameters, fetchedValueRaw)));
+        }
+
+        CompletableFuture<Object> fetchedValue = Async.toCompletableFuture(fetchedValueRaw);
+        fetchCtx.onDispatched(fetchedValue);
+        return fetchedValue
+                .handle((result, exception) -> {
+                    fetchCtx.onCompleted(result, exception);
+                    if (exception != null) {
+                        return handleFetchingException(executionContext, dataFetchingEnvironment.get(), exception);
+                    } else {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                })
+                .thenCompose(Function.identity())
+                .thenApply(result -> unboxPossibleDataFetcherResult(executionContext, parameters, result));
+    }
+
+    /**
+     * Called to create the {@link DataFetchingEnvironment} for a field.  It is built lazily since many data fetchers,
+     * like {@link graphql.schema.PropertyDataFetcher}, do not use the arguments or execution step info.
+     *
+     * @param executionContext contains the top level execution parameters
+     * @param parameters       contains the parameters holding the field to be fetched and source object
+     * @param fieldDef         the field definition of the field
+     * @param parentType       the object type the field is on
+     *
+     * @return a supplier of the data fetching environment
+     */
+    protected Supplier<DataFetchingEnvironment> createDataFetchingEnvironment(ExecutionContext executionContext,
+                                                                              ExecutionStrategyParameters parameters,
+                                                                              GraphQLFieldDefinition fieldDef,
+                                                                              GraphQLObjectType parentType) {
+        MergedField field = parameters.getField();
+        return FpKit.intraThreadMemoize(() -> {
 
             Supplier<ExecutionStepInfo> executionStepInfo = FpKit.intraThreadMemoize(
                     () -> createExecutionStepInfo(executionContext, parameters, fieldDef, parentType));
@@ -273,49 +369,25 @@ public abstract class ExecutionStrategy {
                     .queryDirectives(queryDirectives)
                     .build();
         });
-        DataFetcher<?> dataFetcher = codeRegistry.getDataFetcher(parentType, fieldDef);
-
-        Instrumentation instrumentation = executionContext.getInstrumentation();
-
-        InstrumentationFieldFetchParameters instrumentationFieldFetchParams = new InstrumentationFieldFetchParameters(executionContext, dataFetchingEnvironment, parameters, dataFetcher instanceof TrivialDataFetcher);
-        InstrumentationContext<Object> fetchCtx = nonNullCtx(instrumentation.beginFieldFetch(instrumentationFieldFetchParams,
-                executionContext.getInstrumentationState())
-        );
-
-        dataFetcher = instrumentation.instrumentDataFetcher(dataFetcher, instrumentationFieldFetchParams, executionContext.getInstrumentationState());
-        CompletableFuture<Object> fetchedValue = invokeDataFetcher(executionContext, parameters, fieldDef, dataFetchingEnvironment, dataFetcher);
-
-        fetchCtx.onDispatched(fetchedValue);
-        return fetchedValue
-                .handle((result, exception) -> {
-                    fetchCtx.onCompleted(result, exception);
-                    if (exception != null) {
-                        return handleFetchingException(executionContext, dataFetchingEnvironment.get(), exception);
-                    } else {
-                        return CompletableFuture.completedFuture(result);
-                    }
-                })
-                .thenCompose(Function.identity())
-                .thenApply(result -> unboxPossibleDataFetcherResult(executionContext, parameters, result));
     }
 
-    private CompletableFuture<Object> invokeDataFetcher(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLFieldDefinition fieldDef, Supplier<DataFetchingEnvironment> dataFetchingEnvironment, DataFetcher<?> dataFetcher) {
-        CompletableFuture<Object> fetchedValue;
+    /*
+     * This returns the raw fetched value which may or may not be a CompletionStage.  If the data fetcher throws an
+     * exception then an exceptionally completed future is returned
+     */
+    private Object invokeDataFetcher(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLFieldDefinition fieldDef, Supplier<DataFetchingEnvironment> dataFetchingEnvironment, DataFetcher<?> dataFetcher) {
         try {
-            Object fetchedValueRaw;
             if (dataFetcher instanceof LightDataFetcher) {
-                fetchedValueRaw = ((LightDataFetcher<?>) dataFetcher).get(fieldDef, parameters.getSource(), dataFetchingEnvironment);
+                return ((LightDataFetcher<?>) dataFetcher).get(fieldDef, parameters.getSource(), dataFetchingEnvironment);
             } else {
-                fetchedValueRaw = dataFetcher.get(dataFetchingEnvironment.get());
+                return dataFetcher.get(dataFetchingEnvironment.get());
             }
-            fetchedValue = Async.toCompletableFuture(fetchedValueRaw);
         } catch (Exception e) {
             if (logNotSafe.isDebugEnabled()) {
                 logNotSafe.debug(String.format("'%s', field '%s' fetch threw exception", executionContext.getExecutionId(), parameters.getPath()), e);
             }
-            fetchedValue = Async.exceptionallyCompletedFuture(e);
+            return Async.exceptionallyCompletedFuture(e);
         }
-        return fetchedValue;
     }
 
     protected Supplier<ExecutableNormalizedField> getNormalizedField(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Supplier<ExecutionStepInfo> executionStepInfo) {
@@ -476,7 +548,7 @@ public abstract class ExecutionStrategy {
             // and validate the field is nullable, if non-nullable throw exception
             parameters.getNonNullFieldValidator().validate(parameters.getPath(), null);
             // complete the field as null
-            fieldValue = completedFuture(new ExecutionResultImpl(null, executionContext.getErrors()));
+            fieldValue = completedFuture(executionContext.newCompletedValueResult(null));
         }
         return FieldValueInfo.newFieldValueInfo(OBJECT).fieldValue(fieldValue).build();
     }
@@ -491,13 +563,14 @@ public abstract class ExecutionStrategy {
     protected CompletableFuture<ExecutionResult> completeValueForNull(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
         return Async.tryCatch(() -> {
             Object nullValue = parameters.getNonNullFieldValidator().validate(parameters.getPath(), null);
-            return completedFuture(new ExecutionResultImpl(nullValue, executionContext.getErrors()));
+            return completedFuture(executionContext.newCompletedValueResult(nullValue));
         });
     }
 
     /**
      * Called to complete a list of value for a field based on a list type.  This iterates the values and calls
-     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value.
+     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value, unless the values are scalars
+     * or enums, see {@link #completeValueForLeafList(ExecutionContext, ExecutionStrategyParameters, Iterable)}.
      *
      * @param executionContext contains the top level execution parameters
      * @param parameters       contains the parameters holding the fields to be executed and source object
@@ -513,14 +586,15 @@ public abstract class ExecutionStrategy {
             return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(exceptionallyCompletedFuture(e)).build();
         }
         if (resultIterable == null) {
-            return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(completedFuture(new ExecutionResultImpl(null, executionContext.getErrors()))).build();
+            return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(completedFuture(executionContext.newCompletedValueResult(null))).build();
         }
         return completeValueForList(executionContext, parameters, resultIterable);
     }
 
     /**
      * Called to complete a list of value for a field based on a list type.  This iterates the values and calls
-     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value.
+     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value, unless the values are scalars
+     * or enums, see {@link #completeValueForLeafList(ExecutionContext, ExecutionStrategyParameters, Iterable)}.
      *
      * @param executionContext contains the top level execution parameters
      * @param parameters       contains the parameters holding the fields to be executed and source object
@@ -529,6 +603,9 @@ public abstract class ExecutionStrategy {
      * @return a {@link FieldValueInfo}
      */
     protected FieldValueInfo completeValueForList(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Iterable<Object> iterableValues) {
+        if (completesLeafListsInline && isLeafList(parameters.getExecutionStepInfo())) {
+            return completeValueForLeafList(executionContext, parameters, iterableValues);
+        }
 
         OptionalInt size = FpKit.toSize(iterableValues);
         ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
@@ -580,7 +657,7 @@ public abstract class ExecutionStrategy {
             for (ExecutionResult completedValue : results) {
                 completedResults.add(completedValue.getData());
             }
-            ExecutionResultImpl executionResult = new ExecutionResultImpl(completedResults, executionContext.getErrors());
+            ExecutionResult executionResult = executionContext.newCompletedValueResult(completedResults);
             overallResult.complete(executionResult);
         });
         overallResult.whenComplete(completeListCtx::onCompleted);
@@ -591,6 +668,105 @@ public abstract class ExecutionStrategy {
                 .build();
     }
 
+    private static boolean overridesElementCompletion(Class<?> strategyClass) {
+        for (Class<?> currentClass = strategyClass; currentClass != ExecutionStrategy.class; currentClass = currentClass.getSuperclass()) {
+            for (Method method : currentClass.getDeclaredMethods()) {
+                if (ELEMENT_COMPLETION_METHODS.contains(method.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isLeafList(ExecutionStepInfo executionStepInfo) {
+        GraphQLType fieldType = executionStepInfo.getUnwrappedNonNullType();
+        return isList(fieldType) && isLeaf(unwrapNonNull(((GraphQLList) fieldType).getWrappedType()));
+    }
+
+    /**
+     * Called to complete a list of scalar or enum values.  The values are serialized in a tight loop and, unlike
+     * {@link #completeValueForList(ExecutionContext, ExecutionStrategyParameters, Iterable)}, no {@link ExecutionStepInfo},
+     * {@link ResultPath} or {@link ExecutionStrategyParameters} is created for a list element unless that element
+     * has an error.
+     * <p>
+     * As the elements are not completed with {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)},
+     * {@link #completeValueForScalar(ExecutionContext, ExecutionStrategyParameters, GraphQLScalarType, Object)} and the like,
+     * this is only called when a strategy does not override any of those methods.
+     * <p>
+     * Since leaf values don't fetch anything further, the returned {@link FieldValueInfo} has no per element field value infos.
+     *
+     * @param executionContext contains the top level execution parameters
+     * @param parameters       contains the parameters holding the fields to be executed and source object
+     * @param iterableValues   the values to complete, can't be null
+     *
+     * @return a {@link FieldValueInfo}
+     */
+    protected FieldValueInfo completeValueForLeafList(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Iterable<Object> iterableValues) {
+        OptionalInt size = FpKit.toSize(iterableValues);
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        GraphQLType elementType = ((GraphQLList) executionStepInfo.getUnwrappedNonNullType()).getWrappedType();
+        boolean elementNonNull = isNonNull(elementType);
+        GraphQLType leafType = unwrapNonNull(elementType);
+
+        InstrumentationFieldCompleteParameters instrumentationParams = new InstrumentationFieldCompleteParameters(executionContext, parameters, () -> executionStepInfo, iterableValues);
+        Instrumentation instrumentation = executionContext.getInstrumentation();
+
+        InstrumentationContext<ExecutionResult> completeListCtx = nonNullCtx(instrumentation.beginFieldListComplete(
+                instrumentationParams, executionContext.getInstrumentationState()
+        ));
+
+        CompletableFuture<ExecutionResult> overallResult = new CompletableFuture<>();
+        completeListCtx.onDispatched(overallResult);
+        overallResult.whenComplete(completeListCtx::onCompleted);
+
+        List<Object> completedResults = new ArrayList<>(size.orElse(1));
+        // like the other lists, every element is completed even after one of them was null in a non-null position,
+        // so that the errors of the later elements are reported too
+        NonNullableFieldWasNullException nonNullException = null;
+        int index = 0;
+        for (Object item : iterableValues) {
+            Object value = item;
+            if (value instanceof DataFetcherResult) {
+                value = unboxPossibleDataFetcherResult(executionContext, parameters, value).getFetchedValue();
+            }
+            value = executionContext.getValueUnboxer().unbox(value);
+
+            Object serialized = null;
+            if (value != null) {
+                try {
+                    if (leafType instanceof GraphQLEnumType) {
+                        serialized = ((GraphQLEnumType) leafType).serialize(value, executionContext.getGraphQLContext(), executionContext.getLocale());
+                    } else {
+                        serialized = ((GraphQLScalarType) leafType).getCoercing().serialize(value, executionContext.getGraphQLContext(), executionContext.getLocale());
+                    }
+                } catch (CoercingSerializeException e) {
+                    serialized = handleCoercionProblem(executionContext, parameters.getPath().segment(index), e);
+                }
+            }
+            if (serialized == null && elementNonNull) {
+                // only now do we need the step info of the element, so the error and null bubbling are the same as for any other list
+                ExecutionStepInfo stepInfoForListElement = executionStepInfoFactory.newExecutionStepInfoForListElement(executionStepInfo, index);
+                try {
+                    new NonNullableFieldValidator(executionContext, stepInfoForListElement).validate(parameters.getPath().segment(index), null);
+                } catch (NonNullableFieldWasNullException e) {
+                    if (nonNullException == null) {
+                        nonNullException = e;
+                    }
+                }
+            }
+            completedResults.add(serialized);
+            index++;
+        }
+
+        if (nonNullException != null) {
+            handleNonNullException(executionContext, overallResult, nonNullException);
+            return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(overallResult).build();
+        }
+        overallResult.complete(executionContext.newCompletedValueResult(completedResults));
+        return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(overallResult).build();
+    }
+
     /**
      * Called to turn an object into a scalar value according to the {@link GraphQLScalarType} by asking that scalar type to coerce the object
      * into a valid value
@@ -615,7 +791,7 @@ public abstract class ExecutionStrategy {
         } catch (NonNullableFieldWasNullException e) {
             return exceptionallyCompletedFuture(e);
         }
-        return completedFuture(new ExecutionResultImpl(serialized, executionContext.getErrors()));
+        return completedFuture(executionContext.newCompletedValueResult(serialized));
     }
 
     /**
@@ -640,7 +816,7 @@ public abstract class ExecutionStrategy {
         } catch (NonNullableFieldWasNullException e) {
             return exceptionallyCompletedFuture(e);
         }
-        return completedFuture(new ExecutionResultImpl(serialized, executionContext.getErrors()));
+        return completedFuture(executionContext.newCompletedValueResult(serialized));
     }
 
     /**
@@ -656,14 +832,7 @@ public abstract class ExecutionStrategy {
     protected CompletableFuture<ExecutionResult> completeValueForObject(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLObjectType resolvedObjectType, Object result) {
         ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
 
-        FieldCollectorParameters collectorParameters = newParameters()
-                .schema(executionContext.getGraphQLSchema())
-                .objectType(resolvedObjectType)
-                .fragments(executionContext.getFragmentsByName())
-                .variables(executionContext.getCoercedVariables().toMap())
-                .build();
-
-        MergedSelectionSet subFields = fieldCollector.collectFields(collectorParameters, parameters.getField());
+        MergedSelectionSet subFields = executionContext.getExecutionPlan().collectFields(executionContext, fieldCollector, resolvedObjectType, parameters.getField());
 
         ExecutionStepInfo newExecutionStepInfo = executionStepInfo.changeTypeWithPreservedNonNull(resolvedObjectType);
         NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, newExecutionStepInfo);
@@ -682,7 +851,11 @@ public abstract class ExecutionStrategy {
 
     @SuppressWarnings("SameReturnValue")
     private Object handleCoercionProblem(ExecutionContext context, ExecutionStrategyParameters parameters, CoercingSerializeException e) {
-        SerializationError error = new SerializationError(parameters.getPath(), e);
+        return handleCoercionProblem(context, parameters.getPath(), e);
+    }
+
+    private Object handleCoercionProblem(ExecutionContext context, ResultPath path, CoercingSerializeException e) {
+        SerializationError error = new SerializationError(path, e);
         logNotSafe.warn(error.getMessage(), e);
         context.addError(error);
 
@@ -786,7 +959,6 @@ public abstract class ExecutionStrategy {
 
     protected ExecutionResult handleNonNullException(ExecutionContext executionContext, CompletableFuture<ExecutionResult> result, Throwable e) {
         ExecutionResult executionResult = null;
-        List<GraphQLError> errors = ImmutableList.copyOf(executionContext.getErrors());
         Throwable underlyingException = e;
         if (e instanceof CompletionException) {
             underlyingException = e.getCause();
@@ -794,7 +966,7 @@ public abstract class ExecutionStrategy {
         if (underlyingException instanceof NonNullableFieldWasNullException) {
             assertNonNullFieldPrecondition((NonNullableFieldWasNullException) underlyingException, result);
             if (!result.isDone()) {
-                executionResult = new ExecutionResultImpl(null, errors);
+                executionResult = executionContext.newCompletedValueResult(null);
                 result.complete(executionResult);
             }
         } else if (underlyingException instanceof AbortExecutionException) {
@@ -20,6 +20,10 @@ import static java.lang.String.format;
 /**
  * As a graphql query is executed, each field forms a hierarchical path from parent field to child field and this
  * class represents that path as a series of segments.
+ * <p>
+ * Paths are created for every field and list element of a result and are used as keys when errors and cache hints
+ * are recorded, so list indices are kept as primitive ints and the hash code and level of a path are computed once
+ * from its parent when the path is created.
  */
 @PublicApi
 public class ResultPath {
@@ -35,43 +39,49 @@ public class ResultPath {
     }
 
     private final ResultPath parent;
-    private final Object segment;
-
-    // hash is effective immutable but lazily initialized similar to the hash code of java.lang.String
-    private int hash;
+    // a path segment is either a name or, when the name is null, a list index
+    private final String name;
+    private final int index;
+    private final int length;
+    private final int level;
+    private final int hash;
 
     private ResultPath() {
         parent = null;
-        segment = null;
+        name = null;
+        index = 0;
+        length = 0;
+        level = 0;
+        hash = 1;
     }
 
     private ResultPath(ResultPath parent, String segment) {
         this.parent = assertNotNull(parent, () -> "Must provide a parent path");
-        this.segment = assertNotNull(segment, () -> "Must provide a sub path");
+        this.name = assertNotNull(segment, () -> "Must provide a sub path");
+        this.index = 0;
+        this.length = parent.length + 1;
+        this.level = parent.level + 1;
+        this.hash = 31 * parent.hash + segment.hashCode();
     }
 
     private ResultPath(ResultPath parent, int segment) {
         this.parent = assertNotNull(parent, () -> "Must provide a parent path");
-        this.segment = segment;
+        this.name = null;
+        this.index = segment;
+        this.length = parent.length + 1;
+        this.level = parent.level;
+        this.hash = 31 * parent.hash + segment;
     }
 
     public int getLevel() {
-        int counter = 0;
-        ResultPath currentPath = this;
-        while (currentPath != null) {
-            if (currentPath.segment instanceof String) {
-                counter++;
-            }
-            currentPath = currentPath.parent;
-        }
-        return counter;
+        return level;
     }
 
     public ResultPath getPathWithoutListEnd() {
-        if (ROOT_PATH.equals(this)) {
+        if (isRootPath()) {
             return ROOT_PATH;
         }
-        if (segment instanceof String) {
+        if (name != null) {
             return this;
         }
         return parent;
@@ -81,27 +91,29 @@ public class ResultPath {
      * @return true if the end of the path has a list style segment eg 'a/b[2]'
      */
     public boolean isListSegment() {
-        return segment instanceof Integer;
+        return name == null && parent != null;
     }
 
     /**
      * @return true if the end of the path has a named style segment eg 'a/b[2]/c'
      */
     public boolean isNamedSegment() {
-        return segment instanceof String;
+        return name != null;
     }
 
 
     public String getSegmentName() {
-        return (String) segment;
+        assertTrue(!isListSegment(), () -> "The path segment is a list index not a name");
+        return name;
     }
 
     public int getSegmentIndex() {
-        return (int) segment;
+        assertTrue(isListSegment(), () -> "The path segment is not a list index");
+        return index;
     }
 
     public Object getSegmentValue() {
-        return segment;
+        return isListSegment() ? (Object) index : name;
     }
 
     public ResultPath getParent() {
@@ -253,13 +265,13 @@ public class ResultPath {
         if (parent == null) {
             return ImmutableKit.emptyList();
         }
-        LinkedList<Object> list = new LinkedList<>();
+        Object[] segments = new Object[length];
         ResultPath p = this;
-        while (p.segment != null) {
-            list.addFirst(p.segment);
+        for (int i = length - 1; i >= 0; i--) {
+            segments[i] = p.getSegmentValue();
             p = p.parent;
         }
-        return ImmutableList.copyOf(list);
+        return ImmutableList.copyOf(segments);
     }
 
     /**
@@ -271,9 +283,9 @@ public class ResultPath {
         }
         LinkedList<String> list = new LinkedList<>();
         ResultPath p = this;
-        while (p.segment != null) {
-            if (p.segment instanceof String) {
-                list.addFirst((String) p.segment);
+        while (p.parent != null) {
+            if (p.name != null) {
+                list.addFirst(p.name);
             }
             p = p.parent;
         }
@@ -298,10 +310,10 @@ public class ResultPath {
     }
 
     public String segmentToString() {
-        if (segment instanceof String) {
-            return "/" + segment;
+        if (name != null) {
+            return "/" + name;
         } else {
-            return "[" + segment + "]";
+            return "[" + index + "]";
         }
     }
 
@@ -316,31 +328,23 @@ public class ResultPath {
 
         ResultPath self = this;
         ResultPath that = (ResultPath) o;
-        while (self.segment != null && that.segment != null) {
-            if (!Objects.equals(self.segment, that.segment)) {
+        if (self.hash != that.hash || self.length != that.length) {
+            return false;
+        }
+        // paths that share a parent are very common so we can stop as soon as the walk reaches the same object
+        while (self != that) {
+            if (self.index != that.index || !Objects.equals(self.name, that.name)) {
                 return false;
             }
             self = self.parent;
             that = that.parent;
         }
-
-        return self.isRootPath() && that.isRootPath();
+        return true;
     }
 
     @Override
     public int hashCode() {
-        int h = hash;
-        if (h == 0) {
-            h = 1;
-            ResultPath self = this;
-            while (self != null) {
-                Object value = self.segment;
-                h = 31 * h + (value == null ? 0 : value.hashCode());
-                self = self.parent;
-            }
-            hash = h;
-        }
-        return h;
+        return hash;
     }
 
 
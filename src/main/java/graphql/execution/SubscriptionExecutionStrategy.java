@@ -9,6 +9,7 @@ import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationFieldParameters;
+import graphql.execution.reactive.SubscriptionDeliveryPolicy;
 import graphql.execution.reactive.SubscriptionPublisher;
 import graphql.language.Field;
 import graphql.schema.GraphQLFieldDefinition;
@@ -19,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import static graphql.Assert.assertNotNull;
 import static graphql.Assert.assertTrue;
 import static graphql.execution.instrumentation.SimpleInstrumentationContext.nonNullCtx;
 import static java.util.Collections.singletonMap;
@@ -37,12 +39,64 @@ import static java.util.Collections.singletonMap;
 @PublicApi
 public class SubscriptionExecutionStrategy extends ExecutionStrategy {
 
+    private final int prefetch;
+    private final SubscriptionFanOut fanOut;
+    private final SubscriptionDeliveryPolicy deliveryPolicy;
+
     public SubscriptionExecutionStrategy() {
         super();
+        this.prefetch = 0;
+        this.fanOut = null;
+        this.deliveryPolicy = SubscriptionDeliveryPolicy.everyEvent();
     }
 
     public SubscriptionExecutionStrategy(DataFetcherExceptionHandler dataFetcherExceptionHandler) {
+        this(dataFetcherExceptionHandler, 0);
+    }
+
+    /**
+     * By default each event is only taken from the source event stream once the subscriber asks for a result, and results
+     * are published as soon as they are ready.  Given a prefetch greater than 0, up to that many events are executed at
+     * once, ahead of the subscriber asking for them, and their results are published in the order the events arrived in.
+     * This suits high rate subscriptions whose events are executed asynchronously, where waiting for each result before
+     * taking the next event caps the event rate.
+     *
+     * @param dataFetcherExceptionHandler the data fetcher exception handler to use
+     * @param prefetch                    the most events that can be executed, or waiting to be published, at once
+     */
+    public SubscriptionExecutionStrategy(DataFetcherExceptionHandler dataFetcherExceptionHandler, int prefetch) {
+        this(dataFetcherExceptionHandler, prefetch, null);
+    }
+
+    /**
+     * Given a {@link SubscriptionFanOut}, identical subscriptions share one source event stream, and each of its events is
+     * executed once and published to all of them.  The events are executed with the {@link ExecutionContext} of the
+     * subscription that started the stream, see {@link SubscriptionFanOut} for when that is safe.
+     *
+     * @param dataFetcherExceptionHandler the data fetcher exception handler to use
+     * @param prefetch                    the most events that can be executed, or waiting to be published, at once
+     * @param fanOut                      the fan out that shares identical subscriptions or null to not share them
+     */
+    public SubscriptionExecutionStrategy(DataFetcherExceptionHandler dataFetcherExceptionHandler, int prefetch, SubscriptionFanOut fanOut) {
+        this(dataFetcherExceptionHandler, prefetch, fanOut, SubscriptionDeliveryPolicy.everyEvent());
+    }
+
+    /**
+     * A {@link SubscriptionDeliveryPolicy} decides which events of each subscription's source event stream are executed
+     * and published, so that slow subscribers can be given only the latest events rather than all of them.  Events are
+     * dropped before they are executed, except when a {@link SubscriptionFanOut} shares the stream, where each event is
+     * executed once and the policy drops execution results for each subscriber instead.
+     *
+     * @param dataFetcherExceptionHandler the data fetcher exception handler to use
+     * @param prefetch                    the most events that can be executed, or waiting to be published, at once
+     * @param fanOut                      the fan out that shares identical subscriptions or null to not share them
+     * @param deliveryPolicy              the policy that decides which source events are executed and published
+     */
+    public SubscriptionExecutionStrategy(DataFetcherExceptionHandler dataFetcherExceptionHandler, int prefetch, SubscriptionFanOut fanOut, SubscriptionDeliveryPolicy deliveryPolicy) {
         super(dataFetcherExceptionHandler);
+        this.prefetch = prefetch;
+        this.fanOut = fanOut;
+        this.deliveryPolicy = assertNotNull(deliveryPolicy, () -> "deliveryPolicy can't be null");
     }
 
     @Override
@@ -55,24 +109,34 @@ public class SubscriptionExecutionStrategy extends ExecutionStrategy {
                 executionContext.getInstrumentationState()
         ));
 
+        CompletableFuture<ExecutionResult> overallResult;
+        if (fanOut != null) {
+            // the shared stream takes every event, and the delivery policy is applied to each of its subscribers
+            overallResult = fanOut.execute(executionContext, deliveryPolicy, () -> executeSubscription(executionContext, parameters, SubscriptionDeliveryPolicy.everyEvent()));
+        } else {
+            overallResult = executeSubscription(executionContext, parameters, deliveryPolicy);
+        }
+
+        // dispatched the subscription query
+        executionStrategyCtx.onDispatched(overallResult);
+        overallResult.whenComplete(executionStrategyCtx::onCompleted);
+
+        return overallResult;
+    }
+
+    private CompletableFuture<ExecutionResult> executeSubscription(ExecutionContext executionContext, ExecutionStrategyParameters parameters, SubscriptionDeliveryPolicy deliveryPolicy) {
         CompletableFuture<Publisher<Object>> sourceEventStream = createSourceEventStream(executionContext, parameters);
 
         //
         // when the upstream source event stream completes, subscribe to it and wire in our adapter
-        CompletableFuture<ExecutionResult> overallResult = sourceEventStream.thenApply((publisher) -> {
+        return sourceEventStream.thenApply((publisher) -> {
             if (publisher == null) {
                 return new ExecutionResultImpl(null, executionContext.getErrors());
             }
             Function<Object, CompletionStage<ExecutionResult>> mapperFunction = eventPayload -> executeSubscriptionEvent(executionContext, parameters, eventPayload);
-            SubscriptionPublisher mapSourceToResponse = new SubscriptionPublisher(publisher, mapperFunction);
+            SubscriptionPublisher mapSourceToResponse = new SubscriptionPublisher(publisher, mapperFunction, prefetch, deliveryPolicy);
             return new ExecutionResultImpl(mapSourceToResponse, executionContext.getErrors());
         });
-
-        // dispatched the subscription query
-        executionStrategyCtx.onDispatched(overallResult);
-        overallResult.whenComplete(executionStrategyCtx::onCompleted);
-
-        return overallResult;
     }
 
 
@@ -0,0 +1,193 @@
+package graphql.execution;
+
+import graphql.ExecutionResult;
+import graphql.PublicApi;
+import graphql.execution.reactive.MulticastPublisher;
+import graphql.execution.reactive.SubscriptionDeliveryPolicy;
+import graphql.execution.reactive.SubscriptionPublisher;
+import graphql.schema.GraphQLSchema;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A {@link SubscriptionExecutionStrategy} normally fetches a source event stream for each subscription and runs the
+ * selection set over each event once per subscriber.  When many clients subscribe with the same operation this repeats
+ * the same work for each of them.
+ * <p>
+ * Given a SubscriptionFanOut, the strategy shares one source event stream between identical subscriptions.  Each event
+ * is executed once, and the same {@link ExecutionResult} is published to every subscriber.  Subscriptions are identical
+ * when they have the same schema, query text, operation name, coerced variables and context key.
+ * <p>
+ * The shared stream is fetched and every one of its events is executed with the {@link ExecutionContext} of the
+ * subscription that started it, for as long as the stream runs.  That includes its {@link org.dataloader.DataLoaderRegistry},
+ * its {@link graphql.GraphQLContext}, its context and its local context, none of which the other subscriptions get to see.
+ * So a fan out must only be used when that is fine for every subscription that it shares, which means that:
+ * <ul>
+ *     <li>the context key captures anything about the context that the results depend on, such as the user's permissions.
+ *     Use a constant key if the results never depend on the context</li>
+ *     <li>the data loaders and context of a subscription must stay usable after that subscription has cancelled, as the
+ *     others keep using them</li>
+ * </ul>
+ * <p>
+ * The shared stream runs at the pace of its slowest subscriber, unless the strategy's
+ * {@link SubscriptionDeliveryPolicy} lets slow subscribers drop results, and ends when the source event stream ends or when every
+ * subscriber has cancelled.  A subscription that joined a stream but only subscribes to it once it has ended starts, or
+ * joins, a fresh stream instead.
+ */
+@PublicApi
+public class SubscriptionFanOut {
+
+    private final Function<ExecutionContext, Object> contextKeyFunction;
+    private final ConcurrentMap<SharedSubscriptionKey, CompletableFuture<SharedSubscription>> sharedSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * @param contextKeyFunction gives the part of a subscription's context that its results depend on, see the class
+     *                           documentation for what must hold for subscriptions with the same key
+     */
+    public SubscriptionFanOut(Function<ExecutionContext, Object> contextKeyFunction) {
+        this.contextKeyFunction = assertNotNull(contextKeyFunction, () -> "contextKeyFunction can't be null");
+    }
+
+    /**
+     * @return the number of shared subscription streams currently running
+     */
+    public int getSharedSubscriptionCount() {
+        return sharedSubscriptions.size();
+    }
+
+    CompletableFuture<ExecutionResult> execute(ExecutionContext executionContext, SubscriptionDeliveryPolicy deliveryPolicy, Supplier<CompletableFuture<ExecutionResult>> executeSubscription) {
+        return sharedSubscription(executionContext, executeSubscription).thenApply(shared -> shared.executionResultFor(executionContext, deliveryPolicy, executeSubscription));
+    }
+
+    private CompletableFuture<SharedSubscription> sharedSubscription(ExecutionContext executionContext, Supplier<CompletableFuture<ExecutionResult>> executeSubscription) {
+        SharedSubscriptionKey key = new SharedSubscriptionKey(executionContext, contextKeyFunction.apply(executionContext));
+        CompletableFuture<SharedSubscription> sharedSubscription = new CompletableFuture<>();
+        CompletableFuture<SharedSubscription> existingSubscription = sharedSubscriptions.putIfAbsent(key, sharedSubscription);
+        if (existingSubscription != null) {
+            sharedSubscription = existingSubscription;
+        } else {
+            start(key, sharedSubscription, executeSubscription);
+        }
+        return sharedSubscription;
+    }
+
+    private void start(SharedSubscriptionKey key, CompletableFuture<SharedSubscription> sharedSubscription, Supplier<CompletableFuture<ExecutionResult>> executeSubscription) {
+        executeSubscription.get().whenComplete((executionResult, throwable) -> {
+            if (throwable != null) {
+                sharedSubscriptions.remove(key, sharedSubscription);
+                sharedSubscription.completeExceptionally(throwable);
+                return;
+            }
+            Object data = executionResult.getData();
+            if (!(data instanceof SubscriptionPublisher)) {
+                // there is no stream to share, so the next identical subscription tries again
+                sharedSubscriptions.remove(key, sharedSubscription);
+                sharedSubscription.complete(new SharedSubscription(key, sharedSubscription, executionResult, null));
+                return;
+            }
+            MulticastPublisher<ExecutionResult> multicastPublisher = new MulticastPublisher<>((SubscriptionPublisher) data, () -> sharedSubscriptions.remove(key, sharedSubscription));
+            sharedSubscription.complete(new SharedSubscription(key, sharedSubscription, executionResult, multicastPublisher));
+        });
+    }
+
+    private class SharedSubscription {
+        private final SharedSubscriptionKey key;
+        private final CompletableFuture<SharedSubscription> future;
+        private final ExecutionResult executionResult;
+        private final MulticastPublisher<ExecutionResult> multicastPublisher;
+
+        SharedSubscription(SharedSubscriptionKey key, CompletableFuture<SharedSubscription> future, ExecutionResult executionResult, MulticastPublisher<ExecutionResult> multicastPublisher) {
+            this.key = key;
+            this.future = future;
+            this.executionResult = executionResult;
+            this.multicastPublisher = multicastPublisher;
+        }
+
+        ExecutionResult executionResultFor(ExecutionContext executionContext, SubscriptionDeliveryPolicy deliveryPolicy, Supplier<CompletableFuture<ExecutionResult>> executeSubscription) {
+            if (multicastPublisher == null) {
+                return executionResult;
+            }
+            Publisher<ExecutionResult> sharedResultPublisher = subscriber -> subscribe(executionContext, subscriber, executeSubscription);
+            // each subscriber gets its own buffer, so a slow one drops results rather than holding up the shared stream
+            Publisher<ExecutionResult> resultPublisher = deliveryPolicy.apply(sharedResultPublisher);
+            SubscriptionPublisher subscriptionPublisher = (SubscriptionPublisher) executionResult.getData();
+            return executionResult.transform(builder -> builder.data(subscriptionPublisher.withResultPublisher(resultPublisher)));
+        }
+
+        private void subscribe(ExecutionContext executionContext, Subscriber<? super ExecutionResult> subscriber, Supplier<CompletableFuture<ExecutionResult>> executeSubscription) {
+            if (!multicastPublisher.trySubscribe(subscriber)) {
+                // the stream ended between this subscription joining it and subscribing to it, so rather than
+                // seeing it complete straight away this subscription starts, or joins, a fresh one
+                sharedSubscriptions.remove(key, future);
+                sharedSubscription(executionContext, executeSubscription).whenComplete((fresh, throwable) -> subscribeToFreshStream(executionContext, subscriber, executeSubscription, fresh, throwable));
+            }
+        }
+
+        private void subscribeToFreshStream(ExecutionContext executionContext, Subscriber<? super ExecutionResult> subscriber, Supplier<CompletableFuture<ExecutionResult>> executeSubscription, SharedSubscription fresh, Throwable throwable) {
+            if (throwable == null && fresh.multicastPublisher != null) {
+                fresh.subscribe(executionContext, subscriber, executeSubscription);
+                return;
+            }
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(throwable != null ? throwable : new AbortExecutionException(fresh.executionResult.getErrors()));
+        }
+    }
+
+    private static class SharedSubscriptionKey {
+        private final GraphQLSchema schema;
+        private final String query;
+        private final String operationName;
+        private final Map<String, Object> variables;
+        private final Object contextKey;
+        private final int hashCode;
+
+        SharedSubscriptionKey(ExecutionContext executionContext, Object contextKey) {
+            this.schema = executionContext.getGraphQLSchema();
+            this.query = executionContext.getExecutionInput().getQuery();
+            this.operationName = executionContext.getOperationDefinition().getName();
+            this.variables = executionContext.getCoercedVariables().toMap();
+            this.contextKey = contextKey;
+            this.hashCode = Objects.hash(System.identityHashCode(schema), query, operationName, variables, contextKey);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SharedSubscriptionKey that = (SharedSubscriptionKey) o;
+            return schema == that.schema
+                    && query.equals(that.query)
+                    && Objects.equals(operationName, that.operationName)
+                    && variables.equals(that.variables)
+                    && Objects.equals(contextKey, that.contextKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package graphql.execution;
+
+import graphql.ExperimentalApi;
+import graphql.TrivialDataFetcher;
+import graphql.introspection.Introspection;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.util.LogKit;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * An execution strategy that runs each non-trivial {@link DataFetcher} on its own virtual thread, so that data fetchers
+ * that make blocking calls (JDBC, HTTP and so on) can be written in a blocking style without sizing a thread pool for them.
+ * <p>
+ * Virtual threads are used when the JVM supports them, otherwise the fetches run on the fallback {@link Executor}
+ * given to this strategy, which defaults to {@link ForkJoinPool#commonPool()}.
+ * <p>
+ * {@link TrivialDataFetcher}s and introspection fields are still fetched on the calling thread since it costs more to
+ * hand them to another thread than to run them.
+ * <p>
+ * The whole field fetch, including its {@link graphql.execution.instrumentation.Instrumentation#beginFieldFetch} callbacks,
+ * happens on the fetching thread.  This means a fetch is only considered dispatched once the data fetcher has returned, and
+ * so the {@link graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation} still dispatches a level
+ * of data loader calls only after every data fetcher on that level has made its calls.
+ */
+@ExperimentalApi
+public class VirtualThreadExecutionStrategy extends AsyncExecutionStrategy {
+
+    private static final Logger logNotSafe = LogKit.getNotPrivacySafeLogger(VirtualThreadExecutionStrategy.class);
+
+    private final Executor fetchExecutor;
+    private final boolean usingVirtualThreads;
+
+    /**
+     * Creates a strategy that uses virtual threads if the JVM supports them and {@link ForkJoinPool#commonPool()} otherwise
+     */
+    public VirtualThreadExecutionStrategy() {
+        this(ForkJoinPool.commonPool(), new SimpleDataFetcherExceptionHandler());
+    }
+
+    /**
+     * Creates a strategy that uses virtual threads if the JVM supports them and the fallback executor otherwise
+     *
+     * @param fallbackExecutor the executor to use if virtual threads are not supported
+     */
+    public VirtualThreadExecutionStrategy(Executor fallbackExecutor) {
+        this(fallbackExecutor, new SimpleDataFetcherExceptionHandler());
+    }
+
+    /**
+     * Creates a strategy that uses virtual threads if the JVM supports them and the fallback executor otherwise
+     *
+     * @param fallbackExecutor the executor to use if virtual threads are not supported
+     * @param exceptionHandler the exception handler to use
+     */
+    public VirtualThreadExecutionStrategy(Executor fallbackExecutor, DataFetcherExceptionHandler exceptionHandler) {
+        super(exceptionHandler);
+        assertNotNull(fallbackExecutor, () -> "fallbackExecutor can't be null");
+        Executor virtualThreadExecutor = newVirtualThreadExecutor();
+        this.usingVirtualThreads = virtualThreadExecutor != null;
+        this.fetchExecutor = usingVirtualThreads ? virtualThreadExecutor : fallbackExecutor;
+    }
+
+    /**
+     * @return true if the JVM supports virtual threads and data fetchers are run on them
+     */
+    public boolean isUsingVirtualThreads() {
+        return usingVirtualThreads;
+    }
+
+    /**
+     * @return the executor that non-trivial data fetchers are run on
+     */
+    public Executor getFetchExecutor() {
+        return fetchExecutor;
+    }
+
+    @Override
+    protected CompletableFuture<FetchedValue> fetchField(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
+        GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
+        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, parameters.getField().getSingleField());
+        // looked up once, so that data fetcher factories are not asked twice for the same field
+        DataFetcher<?> dataFetcher = executionContext.getExecutionPlan().getDataFetcher(executionContext.getGraphQLSchema().getCodeRegistry(), parentType, fieldDef);
+        if (isTrivialFetch(parentType, fieldDef, dataFetcher)) {
+            return fetchField(executionContext, parameters, parentType, fieldDef, dataFetcher);
+        }
+        return CompletableFuture.supplyAsync(() -> fetchField(executionContext, parameters, parentType, fieldDef, dataFetcher), fetchExecutor)
+                .thenCompose(Function.identity());
+    }
+
+    private static boolean isTrivialFetch(GraphQLObjectType parentType, GraphQLFieldDefinition fieldDef, DataFetcher<?> dataFetcher) {
+        return Introspection.isIntrospectionTypes(parentType)
+                || fieldDef.getName().startsWith("__")
+                || dataFetcher instanceof TrivialDataFetcher;
+    }
+
+    private static Executor newVirtualThreadExecutor() {
+        // looked up reflectively since this code is compiled for older JVMs
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (Exception | LinkageError e) {
+            if (logNotSafe.isDebugEnabled()) {
+                logNotSafe.debug("Virtual threads are not available on this JVM - falling back to the provided executor", e);
+            }
+            return null;
+        }
+    }
+}
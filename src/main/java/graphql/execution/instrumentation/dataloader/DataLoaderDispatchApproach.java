@@ -0,0 +1,24 @@
+package graphql.execution.instrumentation.dataloader;
+
+import graphql.Internal;
+import graphql.execution.instrumentation.ExecutionStrategyInstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+
+/**
+ * The way {@link DataLoaderDispatcherInstrumentation} decides when a level of the query has made all of its
+ * data loader calls and the data loaders can be dispatched
+ */
+@Internal
+public interface DataLoaderDispatchApproach {
+
+    InstrumentationState createState();
+
+    ExecutionStrategyInstrumentationContext beginExecutionStrategy(InstrumentationExecutionStrategyParameters parameters, InstrumentationState rawState);
+
+    InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters, InstrumentationState rawState);
+
+    void dispatch();
+}
@@ -73,7 +73,7 @@ public class DataLoaderDispatcherInstrumentation extends SimplePerformantInstrum
 
     @Override
     public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
-        return new DataLoaderDispatcherInstrumentationState(log, parameters.getExecutionInput().getDataLoaderRegistry());
+        return new DataLoaderDispatcherInstrumentationState(log, parameters.getExecutionInput().getDataLoaderRegistry(), options);
     }
 
     @Override
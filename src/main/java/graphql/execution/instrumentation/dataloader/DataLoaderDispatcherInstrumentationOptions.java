@@ -9,13 +9,15 @@ import graphql.PublicApi;
 public class DataLoaderDispatcherInstrumentationOptions {
 
     private final boolean includeStatistics;
+    private final boolean lockFreeDispatch;
 
-    private DataLoaderDispatcherInstrumentationOptions(boolean includeStatistics) {
+    private DataLoaderDispatcherInstrumentationOptions(boolean includeStatistics, boolean lockFreeDispatch) {
         this.includeStatistics = includeStatistics;
+        this.lockFreeDispatch = lockFreeDispatch;
     }
 
     public static DataLoaderDispatcherInstrumentationOptions newOptions() {
-        return new DataLoaderDispatcherInstrumentationOptions(false);
+        return new DataLoaderDispatcherInstrumentationOptions(false, false);
     }
 
     /**
@@ -27,7 +29,20 @@ public class DataLoaderDispatcherInstrumentationOptions {
      * @return a new options object
      */
     public DataLoaderDispatcherInstrumentationOptions includeStatistics(boolean flag) {
-        return new DataLoaderDispatcherInstrumentationOptions(flag);
+        return new DataLoaderDispatcherInstrumentationOptions(flag, lockFreeDispatch);
+    }
+
+    /**
+     * This will toggle the use of per level atomic counters, rather than a single lock, to decide when each
+     * level of the query can be dispatched.  This reduces contention when many fields are fetched on many threads
+     * at once and makes the same dispatch decisions.
+     *
+     * @param flag the switch to follow
+     *
+     * @return a new options object
+     */
+    public DataLoaderDispatcherInstrumentationOptions lockFreeDispatch(boolean flag) {
+        return new DataLoaderDispatcherInstrumentationOptions(includeStatistics, flag);
     }
 
 
@@ -35,4 +50,8 @@ public class DataLoaderDispatcherInstrumentationOptions {
         return includeStatistics;
     }
 
+    public boolean isLockFreeDispatch() {
+        return lockFreeDispatch;
+    }
+
 }
@@ -39,15 +39,21 @@ public class DataLoaderDispatcherInstrumentationState implements Instrumentation
         }
     };
 
-    private final FieldLevelTrackingApproach approach;
+    private final DataLoaderDispatchApproach approach;
     private final AtomicReference<DataLoaderRegistry> dataLoaderRegistry;
     private final InstrumentationState state;
     private volatile boolean aggressivelyBatching = true;
     private volatile boolean hasNoDataLoaders;
 
     public DataLoaderDispatcherInstrumentationState(Logger log, DataLoaderRegistry dataLoaderRegistry) {
+        this(log, dataLoaderRegistry, DataLoaderDispatcherInstrumentationOptions.newOptions());
+    }
+
+    public DataLoaderDispatcherInstrumentationState(Logger log, DataLoaderRegistry dataLoaderRegistry, DataLoaderDispatcherInstrumentationOptions options) {
         this.dataLoaderRegistry = new AtomicReference<>(dataLoaderRegistry);
-        this.approach = new FieldLevelTrackingApproach(log, this::getDataLoaderRegistry);
+        this.approach = options.isLockFreeDispatch()
+                ? new PerLevelCountingApproach(log, this::getDataLoaderRegistry)
+                : new FieldLevelTrackingApproach(log, this::getDataLoaderRegistry);
         this.state = approach.createState();
         hasNoDataLoaders = checkForNoDataLoader(dataLoaderRegistry);
     }
@@ -68,7 +74,7 @@ public class DataLoaderDispatcherInstrumentationState implements Instrumentation
         this.aggressivelyBatching = aggressivelyBatching;
     }
 
-    FieldLevelTrackingApproach getApproach() {
+    DataLoaderDispatchApproach getApproach() {
         return approach;
     }
 
@@ -23,7 +23,7 @@ import java.util.function.Supplier;
  * This approach uses field level tracking to achieve its aims of making the data loader more efficient
  */
 @Internal
-public class FieldLevelTrackingApproach {
+public class FieldLevelTrackingApproach implements DataLoaderDispatchApproach {
     private final Supplier<DataLoaderRegistry> dataLoaderRegistrySupplier;
     private final Logger log;
 
@@ -114,11 +114,13 @@ public class FieldLevelTrackingApproach {
         this.log = log;
     }
 
+    @Override
     public InstrumentationState createState() {
         return new CallStack();
     }
 
-    ExecutionStrategyInstrumentationContext beginExecutionStrategy(InstrumentationExecutionStrategyParameters parameters, InstrumentationState rawState) {
+    @Override
+    public ExecutionStrategyInstrumentationContext beginExecutionStrategy(InstrumentationExecutionStrategyParameters parameters, InstrumentationState rawState) {
         CallStack callStack = (CallStack) rawState;
         ResultPath path = parameters.getExecutionStrategyParameters().getPath();
         int parentLevel = path.getLevel();
@@ -183,6 +185,7 @@ public class FieldLevelTrackingApproach {
     }
 
 
+    @Override
     public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters, InstrumentationState rawState) {
         CallStack callStack = (CallStack) rawState;
         ResultPath path = parameters.getEnvironment().getExecutionStepInfo().getPath();
@@ -234,7 +237,8 @@ public class FieldLevelTrackingApproach {
         return false;
     }
 
-    void dispatch() {
+    @Override
+    public void dispatch() {
         DataLoaderRegistry dataLoaderRegistry = getDataLoaderRegistry();
         if (log.isDebugEnabled()) {
             log.debug("Dispatching data loaders ({})", dataLoaderRegistry.getKeys());
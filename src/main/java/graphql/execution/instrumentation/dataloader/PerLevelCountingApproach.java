@@ -0,0 +1,212 @@
+package graphql.execution.instrumentation.dataloader;
+
+import graphql.ExecutionResult;
+import graphql.Internal;
+import graphql.execution.FieldValueInfo;
+import graphql.execution.ResultPath;
+import graphql.execution.instrumentation.ExecutionStrategyInstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import org.dataloader.DataLoaderRegistry;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * This approach makes the same decisions as {@link FieldLevelTrackingApproach} however it keeps atomic counters per level
+ * rather than synchronising on a single call stack, so that fetches on many threads don't contend with each other.
+ * <p>
+ * This works because every "expected" count is increased before the matching "happened" count, so once a happened count
+ * is seen to reach its expected count, every increase it depends on is visible too.  Levels are checked from the
+ * bottom up, so the expected counts of a level are only compared once they can no longer change.
+ */
+@Internal
+public class PerLevelCountingApproach implements DataLoaderDispatchApproach {
+    private final Supplier<DataLoaderRegistry> dataLoaderRegistrySupplier;
+    private final Logger log;
+
+    private static class Level {
+        private final AtomicInteger expectedFetchCount = new AtomicInteger();
+        private final AtomicInteger fetchCount = new AtomicInteger();
+        private final AtomicInteger expectedStrategyCalls = new AtomicInteger();
+        private final AtomicInteger happenedStrategyCalls = new AtomicInteger();
+        private final AtomicInteger happenedOnFieldValueCalls = new AtomicInteger();
+        private final AtomicBoolean dispatched = new AtomicBoolean();
+
+        @Override
+        public String toString() {
+            return "Level{" +
+                    "expectedFetchCount=" + expectedFetchCount +
+                    ", fetchCount=" + fetchCount +
+                    ", expectedStrategyCalls=" + expectedStrategyCalls +
+                    ", happenedStrategyCalls=" + happenedStrategyCalls +
+                    ", happenedOnFieldValueCalls=" + happenedOnFieldValueCalls +
+                    ", dispatched=" + dispatched +
+                    '}';
+        }
+    }
+
+    private static class CallStack implements InstrumentationState {
+
+        private final AtomicReference<Level[]> levels = new AtomicReference<>(newLevels(new Level[0], 16));
+
+        CallStack() {
+            level(1).expectedStrategyCalls.set(1);
+        }
+
+        Level level(int level) {
+            Level[] current = levels.get();
+            while (level >= current.length) {
+                // the levels are shared between the old and new arrays so no counts can be lost while growing
+                Level[] grown = newLevels(current, Math.max(level + 1, current.length * 2));
+                if (levels.compareAndSet(current, grown)) {
+                    current = grown;
+                } else {
+                    current = levels.get();
+                }
+            }
+            return current[level];
+        }
+
+        private static Level[] newLevels(Level[] current, int length) {
+            Level[] grown = Arrays.copyOf(current, length);
+            for (int i = current.length; i < length; i++) {
+                grown[i] = new Level();
+            }
+            return grown;
+        }
+
+        @Override
+        public String toString() {
+            return "CallStack{levels=" + Arrays.toString(levels.get()) + '}';
+        }
+    }
+
+    public PerLevelCountingApproach(Logger log, Supplier<DataLoaderRegistry> dataLoaderRegistrySupplier) {
+        this.dataLoaderRegistrySupplier = dataLoaderRegistrySupplier;
+        this.log = log;
+    }
+
+    @Override
+    public InstrumentationState createState() {
+        return new CallStack();
+    }
+
+    @Override
+    public ExecutionStrategyInstrumentationContext beginExecutionStrategy(InstrumentationExecutionStrategyParameters parameters, InstrumentationState rawState) {
+        CallStack callStack = (CallStack) rawState;
+        ResultPath path = parameters.getExecutionStrategyParameters().getPath();
+        int parentLevel = path.getLevel();
+        int curLevel = parentLevel + 1;
+        int fieldCount = parameters.getExecutionStrategyParameters().getFields().size();
+
+        Level level = callStack.level(curLevel);
+        level.expectedFetchCount.addAndGet(fieldCount);
+        level.happenedStrategyCalls.incrementAndGet();
+
+        return new ExecutionStrategyInstrumentationContext() {
+            @Override
+            public void onDispatched(CompletableFuture<ExecutionResult> result) {
+
+            }
+
+            @Override
+            public void onCompleted(ExecutionResult result, Throwable t) {
+
+            }
+
+            @Override
+            public void onFieldValuesInfo(List<FieldValueInfo> fieldValueInfoList) {
+                int expectedStrategyCalls = getCountForList(fieldValueInfoList);
+                callStack.level(curLevel + 1).expectedStrategyCalls.addAndGet(expectedStrategyCalls);
+                level.happenedOnFieldValueCalls.incrementAndGet();
+                if (dispatchIfNeeded(callStack, curLevel + 1)) {
+                    dispatch();
+                }
+            }
+
+            @Override
+            public void onFieldValuesException() {
+                level.happenedOnFieldValueCalls.incrementAndGet();
+            }
+        };
+    }
+
+    private int getCountForList(List<FieldValueInfo> fieldValueInfos) {
+        int result = 0;
+        for (FieldValueInfo fieldValueInfo : fieldValueInfos) {
+            if (fieldValueInfo.getCompleteValueType() == FieldValueInfo.CompleteValueType.OBJECT) {
+                result += 1;
+            } else if (fieldValueInfo.getCompleteValueType() == FieldValueInfo.CompleteValueType.LIST) {
+                result += getCountForList(fieldValueInfo.getFieldValueInfos());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters, InstrumentationState rawState) {
+        CallStack callStack = (CallStack) rawState;
+        ResultPath path = parameters.getEnvironment().getExecutionStepInfo().getPath();
+        int level = path.getLevel();
+        return new InstrumentationContext<Object>() {
+
+            @Override
+            public void onDispatched(CompletableFuture<Object> result) {
+                callStack.level(level).fetchCount.incrementAndGet();
+                if (dispatchIfNeeded(callStack, level)) {
+                    dispatch();
+                }
+            }
+
+            @Override
+            public void onCompleted(Object result, Throwable t) {
+            }
+        };
+    }
+
+    private boolean dispatchIfNeeded(CallStack callStack, int level) {
+        if (levelReady(callStack, level)) {
+            // more than one thread can see the level become ready but only one of them dispatches it
+            return callStack.level(level).dispatched.compareAndSet(false, true);
+        }
+        return false;
+    }
+
+    private boolean levelReady(CallStack callStack, int level) {
+        for (int i = 1; i <= level; i++) {
+            Level current = callStack.level(i);
+            if (i > 1) {
+                Level previous = callStack.level(i - 1);
+                if (previous.happenedOnFieldValueCalls.get() != previous.expectedStrategyCalls.get()) {
+                    return false;
+                }
+                // level 1 is special: there is only one strategy call and that's it
+                if (current.happenedStrategyCalls.get() != current.expectedStrategyCalls.get()) {
+                    return false;
+                }
+            }
+            if (current.fetchCount.get() != current.expectedFetchCount.get()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void dispatch() {
+        DataLoaderRegistry dataLoaderRegistry = dataLoaderRegistrySupplier.get();
+        if (log.isDebugEnabled()) {
+            log.debug("Dispatching data loaders ({})", dataLoaderRegistry.getKeys());
+        }
+        dataLoaderRegistry.dispatchAll();
+    }
+}
@@ -0,0 +1,34 @@
+package graphql.execution.instrumentation.fieldcache;
+
+import graphql.PublicApi;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A field value kept in a {@link FieldResultCache} together with the cache policy it was cached with.
+ */
+@PublicApi
+public final class CachedFieldResult {
+
+    private final Object value;
+    private final FieldCachePolicy policy;
+
+    public CachedFieldResult(Object value, FieldCachePolicy policy) {
+        this.value = assertNotNull(value, () -> "value can't be null");
+        this.policy = assertNotNull(policy, () -> "policy can't be null");
+    }
+
+    /**
+     * @return the fetched value
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * @return the policy the value was cached with, whose max age is how long it may be kept for
+     */
+    public FieldCachePolicy getPolicy() {
+        return policy;
+    }
+}
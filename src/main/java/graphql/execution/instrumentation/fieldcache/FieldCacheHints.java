@@ -0,0 +1,70 @@
+package graphql.execution.instrumentation.fieldcache;
+
+import com.google.common.collect.ImmutableMap;
+import graphql.GraphQLContext;
+import graphql.PublicApi;
+import graphql.execution.ResultPath;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * The cache policies that data fetchers hinted at while a request was executed by a {@link FieldResultCacheInstrumentation}.
+ * <p>
+ * A field whose cache policy is not given by a {@code @cacheControl} directive can give one while it is fetched by calling
+ * {@link #hint(DataFetchingEnvironment, FieldCachePolicy)}.  When the value then comes from the cache, the policy it was
+ * cached with is hinted again, so the hints of a request are the same whether or not its values were cached.  They can be
+ * read, for example to set the cache headers of a response, via {@link #getHints(GraphQLContext)}.
+ */
+@PublicApi
+public class FieldCacheHints {
+
+    private final ConcurrentMap<ResultPath, FieldCachePolicy> policies = new ConcurrentHashMap<>();
+
+    FieldCacheHints() {
+    }
+
+    /**
+     * Hints at the cache policy of the field being fetched.  This does nothing if the request is not executed with a
+     * {@link FieldResultCacheInstrumentation}.
+     *
+     * @param environment the environment of the field being fetched
+     * @param policy      the cache policy of its value
+     */
+    public static void hint(DataFetchingEnvironment environment, FieldCachePolicy policy) {
+        assertNotNull(policy, () -> "policy can't be null");
+        FieldCacheHints hints = getHints(environment.getGraphQlContext());
+        if (hints != null) {
+            hints.policies.put(environment.getExecutionStepInfo().getPath(), policy);
+        }
+    }
+
+    /**
+     * @param graphQLContext the context of a request
+     *
+     * @return the hints of the request or null if it was not executed with a {@link FieldResultCacheInstrumentation}
+     */
+    public static FieldCacheHints getHints(GraphQLContext graphQLContext) {
+        return graphQLContext.get(FieldCacheHints.class);
+    }
+
+    /**
+     * @param path the path of a field
+     *
+     * @return the cache policy hinted for the field or null if there was none
+     */
+    public FieldCachePolicy getPolicy(ResultPath path) {
+        return policies.get(path);
+    }
+
+    /**
+     * @return the cache policies hinted so far, by the path of their field
+     */
+    public Map<ResultPath, FieldCachePolicy> getPolicies() {
+        return ImmutableMap.copyOf(policies);
+    }
+}
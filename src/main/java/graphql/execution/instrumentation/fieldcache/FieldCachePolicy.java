@@ -0,0 +1,83 @@
+package graphql.execution.instrumentation.fieldcache;
+
+import graphql.PublicApi;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * How long a field value may be cached for and who may see it once it is.
+ */
+@PublicApi
+public final class FieldCachePolicy {
+
+    /**
+     * Who a cached field value may be given to
+     */
+    public enum Scope {
+        /**
+         * The value may be given to anyone
+         */
+        PUBLIC,
+        /**
+         * The value may only be given to the user it was fetched for
+         */
+        PRIVATE
+    }
+
+    private final Duration maxAge;
+    private final Scope scope;
+
+    /**
+     * @param maxAge how long the value may be cached for, where zero means it is not cached
+     * @param scope  who the cached value may be given to
+     */
+    public FieldCachePolicy(Duration maxAge, Scope scope) {
+        this.maxAge = assertNotNull(maxAge, () -> "maxAge can't be null");
+        this.scope = assertNotNull(scope, () -> "scope can't be null");
+        assertTrue(!maxAge.isNegative(), () -> "maxAge can't be negative");
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * @return true if the max age is greater than zero
+     */
+    public boolean isCacheable() {
+        return !maxAge.isZero();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FieldCachePolicy that = (FieldCachePolicy) o;
+        return maxAge.equals(that.maxAge) && scope == that.scope;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxAge, scope);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldCachePolicy{" +
+                "maxAge=" + maxAge +
+                ", scope=" + scope +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package graphql.execution.instrumentation.fieldcache;
+
+import graphql.PublicSpi;
+
+/**
+ * A cache of fetched field values used by {@link FieldResultCacheInstrumentation}.  Implementations must be thread safe
+ * since fields are fetched concurrently.
+ *
+ * @see InMemoryFieldResultCache
+ */
+@PublicSpi
+public interface FieldResultCache {
+
+    /**
+     * Gets a cached field value
+     *
+     * @param key the key of the field value
+     *
+     * @return the cached value or null if there is none or it has expired
+     */
+    CachedFieldResult get(FieldResultCacheKey key);
+
+    /**
+     * Caches a field value, which may be kept for the max age of its policy
+     *
+     * @param key    the key of the field value
+     * @param result the value to cache and its cache policy
+     */
+    void put(FieldResultCacheKey key, CachedFieldResult result);
+}
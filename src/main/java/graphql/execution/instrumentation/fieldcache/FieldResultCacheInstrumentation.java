@@ -0,0 +1,260 @@
+package graphql.execution.instrumentation.fieldcache;
+
+import graphql.ExecutionResult;
+import graphql.PublicApi;
+import graphql.execution.DataFetcherResult;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLAppliedDirective;
+import graphql.schema.GraphQLAppliedDirectiveArgument;
+import graphql.schema.GraphQLDirectiveContainer;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * This {@link graphql.execution.instrumentation.Instrumentation} caches the fetched values of query fields that have a known max age
+ * and returns them from the {@link FieldResultCache} rather than calling the field's {@link DataFetcher} again until they expire.
+ * <p>
+ * The max age and scope of a field come from a {@code @cacheControl(maxAge: Int, scope: CacheControlScope)} directive on the
+ * field definition or, failing that, on the type of the field.  Fields without the directive can instead hint at a
+ * {@link FieldCachePolicy} via {@link FieldCacheHints#hint(DataFetchingEnvironment, FieldCachePolicy)} when they are fetched,
+ * and that hint is made again whenever the value comes from the cache.  Note that the directive and its
+ * {@code enum CacheControlScope { PUBLIC PRIVATE }} argument type need to be declared in your schema.
+ * <p>
+ * Values are keyed by the coordinates of the field, its arguments and a key for the parent object, which is given by the
+ * parent key function for all but the query's root fields.  Values with a {@code PRIVATE} scope are only cached if a private
+ * scope key, for example a user id, is provided.  Trivial data fetchers, mutations, subscriptions, null values and values
+ * with errors are never cached.  The local context of a {@link DataFetcherResult} belongs to the request it was fetched for,
+ * so it is not cached and the sub fields of a cached value see the local context of its parent instead.
+ */
+@PublicApi
+public class FieldResultCacheInstrumentation extends SimplePerformantInstrumentation {
+
+    public static final String CACHE_CONTROL_DIRECTIVE = "cacheControl";
+
+    private static final Object ROOT_PARENT_KEY = "__root";
+
+    private final FieldResultCache cache;
+    private final Function<DataFetchingEnvironment, Object> parentKey;
+    private final Function<DataFetchingEnvironment, Object> privateScopeKey;
+
+    /**
+     * Caches public field values in the given cache
+     *
+     * @param cache     the cache to use
+     * @param parentKey a function that gives the key of the parent object of a field, see {@link Builder#parentKey(Function)}
+     */
+    public FieldResultCacheInstrumentation(FieldResultCache cache, Function<DataFetchingEnvironment, Object> parentKey) {
+        this(newFieldResultCacheInstrumentation().cache(cache).parentKey(parentKey));
+    }
+
+    private FieldResultCacheInstrumentation(Builder builder) {
+        this.cache = assertNotNull(builder.cache, () -> "You must provide a field result cache");
+        this.parentKey = assertNotNull(builder.parentKey, () -> "You must provide a parent key function");
+        this.privateScopeKey = builder.privateScopeKey;
+    }
+
+    @Override
+    public @Nullable InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters, InstrumentationState state) {
+        parameters.getGraphQLContext().put(FieldCacheHints.class, new FieldCacheHints());
+        return super.beginExecution(parameters, state);
+    }
+
+    @Override
+    public @NotNull DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        if (parameters.getExecutionContext().getOperationDefinition().getOperation() != OperationDefinition.Operation.QUERY) {
+            return dataFetcher;
+        }
+        return environment -> fetch(dataFetcher, environment);
+    }
+
+    private Object fetch(DataFetcher<?> dataFetcher, DataFetchingEnvironment environment) throws Exception {
+        GraphQLFieldDefinition fieldDefinition = environment.getFieldDefinition();
+        FieldCachePolicy directivePolicy = getDirectivePolicy(fieldDefinition);
+        if (directivePolicy != null && !directivePolicy.isCacheable()) {
+            return dataFetcher.get(environment);
+        }
+        Object parent = getParentKey(environment);
+        if (parent == null) {
+            return dataFetcher.get(environment);
+        }
+
+        // when there is no directive the scope is only known once the field has been fetched, so both keys are tried
+        FieldCoordinates coordinates = FieldCoordinates.coordinates((GraphQLFieldsContainer) environment.getParentType(), fieldDefinition);
+        FieldResultCacheKey publicKey = null;
+        FieldResultCacheKey privateKey = null;
+        if (directivePolicy == null || directivePolicy.getScope() == FieldCachePolicy.Scope.PUBLIC) {
+            publicKey = new FieldResultCacheKey(coordinates, environment.getArguments(), parent, null);
+        }
+        if ((directivePolicy == null || directivePolicy.getScope() == FieldCachePolicy.Scope.PRIVATE) && privateScopeKey != null) {
+            Object scopeKey = privateScopeKey.apply(environment);
+            if (scopeKey != null) {
+                privateKey = new FieldResultCacheKey(coordinates, environment.getArguments(), parent, scopeKey);
+            }
+        }
+        if (publicKey == null && privateKey == null) {
+            return dataFetcher.get(environment);
+        }
+
+        CachedFieldResult cachedResult = publicKey != null ? cache.get(publicKey) : null;
+        if (cachedResult == null && privateKey != null) {
+            cachedResult = cache.get(privateKey);
+        }
+        if (cachedResult != null) {
+            if (directivePolicy == null) {
+                // the data fetcher is not called, so the hint it made when the value was cached is made again
+                FieldCacheHints.hint(environment, cachedResult.getPolicy());
+            }
+            return cachedResult.getValue();
+        }
+
+        Object value = dataFetcher.get(environment);
+        FieldResultCacheKey finalPublicKey = publicKey;
+        FieldResultCacheKey finalPrivateKey = privateKey;
+        if (value instanceof CompletionStage) {
+            // the original promise is returned so that exceptions reach the execution strategy unchanged
+            ((CompletionStage<?>) value).whenComplete((result, exception) -> {
+                if (exception == null) {
+                    cacheValue(environment, directivePolicy, finalPublicKey, finalPrivateKey, result);
+                }
+            });
+        } else {
+            cacheValue(environment, directivePolicy, finalPublicKey, finalPrivateKey, value);
+        }
+        return value;
+    }
+
+    private void cacheValue(DataFetchingEnvironment environment, FieldCachePolicy directivePolicy, FieldResultCacheKey publicKey, FieldResultCacheKey privateKey, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof DataFetcherResult) {
+            DataFetcherResult<?> dataFetcherResult = (DataFetcherResult<?>) value;
+            if (dataFetcherResult.hasErrors()) {
+                return;
+            }
+            if (dataFetcherResult.getLocalContext() != null) {
+                value = dataFetcherResult.transform(builder -> builder.localContext(null));
+            }
+        }
+        FieldCachePolicy policy = directivePolicy != null ? directivePolicy : getHintedPolicy(environment);
+        if (policy == null || !policy.isCacheable()) {
+            return;
+        }
+        FieldResultCacheKey key = policy.getScope() == FieldCachePolicy.Scope.PRIVATE ? privateKey : publicKey;
+        if (key != null) {
+            cache.put(key, new CachedFieldResult(value, policy));
+        }
+    }
+
+    private Object getParentKey(DataFetchingEnvironment environment) {
+        ExecutionStepInfo parent = environment.getExecutionStepInfo().getParent();
+        if (parent == null || parent.getPath().isRootPath()) {
+            return ROOT_PARENT_KEY;
+        }
+        return parentKey.apply(environment);
+    }
+
+    private FieldCachePolicy getDirectivePolicy(GraphQLFieldDefinition fieldDefinition) {
+        GraphQLAppliedDirective directive = fieldDefinition.getAppliedDirective(CACHE_CONTROL_DIRECTIVE);
+        if (directive == null) {
+            GraphQLType type = GraphQLTypeUtil.unwrapAll(fieldDefinition.getType());
+            if (type instanceof GraphQLDirectiveContainer) {
+                directive = ((GraphQLDirectiveContainer) type).getAppliedDirective(CACHE_CONTROL_DIRECTIVE);
+            }
+        }
+        if (directive == null) {
+            return null;
+        }
+        Object maxAge = getArgumentValue(directive, "maxAge");
+        if (!(maxAge instanceof Number)) {
+            return null;
+        }
+        Object scope = getArgumentValue(directive, "scope");
+        return new FieldCachePolicy(Duration.ofSeconds(Math.max(0, ((Number) maxAge).longValue())),
+                "PRIVATE".equals(String.valueOf(scope)) ? FieldCachePolicy.Scope.PRIVATE : FieldCachePolicy.Scope.PUBLIC);
+    }
+
+    private static Object getArgumentValue(GraphQLAppliedDirective directive, String name) {
+        GraphQLAppliedDirectiveArgument argument = directive.getArgument(name);
+        return argument == null ? null : argument.getValue();
+    }
+
+    private static FieldCachePolicy getHintedPolicy(DataFetchingEnvironment environment) {
+        FieldCacheHints hints = FieldCacheHints.getHints(environment.getGraphQlContext());
+        return hints == null ? null : hints.getPolicy(environment.getExecutionStepInfo().getPath());
+    }
+
+    public static Builder newFieldResultCacheInstrumentation() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private FieldResultCache cache;
+        private Function<DataFetchingEnvironment, Object> parentKey;
+        private Function<DataFetchingEnvironment, Object> privateScopeKey;
+
+        /**
+         * @param cache the cache to keep the field values in
+         *
+         * @return this builder
+         */
+        public Builder cache(FieldResultCache cache) {
+            this.cache = assertNotNull(cache);
+            return this;
+        }
+
+        /**
+         * The values of fields below the query's root fields are cached by the object they were fetched from, so this needs
+         * to give a key that identifies that object, such as its type and id.  The key needs sensible equals and hash code
+         * methods and must not hold on to request scoped state.  If the function returns null the field is not cached.
+         * This must be set.
+         *
+         * @param parentKey a function that gives the key of the parent object of a field
+         *
+         * @return this builder
+         */
+        public Builder parentKey(Function<DataFetchingEnvironment, Object> parentKey) {
+            this.parentKey = assertNotNull(parentKey);
+            return this;
+        }
+
+        /**
+         * Fields with a {@code PRIVATE} scope are only cached per user, so this needs to give the key of the user the field
+         * is being fetched for.  If it is not set, or it returns null, private fields are not cached.
+         *
+         * @param privateScopeKey a function that gives the key of the user that the field is fetched for
+         *
+         * @return this builder
+         */
+        public Builder privateScopeKey(Function<DataFetchingEnvironment, Object> privateScopeKey) {
+            this.privateScopeKey = assertNotNull(privateScopeKey);
+            return this;
+        }
+
+        public FieldResultCacheInstrumentation build() {
+            return new FieldResultCacheInstrumentation(this);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package graphql.execution.instrumentation.fieldcache;
+
+import graphql.PublicApi;
+import graphql.schema.FieldCoordinates;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * The key of a cached field value: the coordinates of the field, its arguments, a key for the parent object
+ * the field was fetched from and, for fields with a {@code PRIVATE} cache scope, a key for the user that may see the value.
+ */
+@PublicApi
+public final class FieldResultCacheKey {
+
+    private final FieldCoordinates coordinates;
+    private final Map<String, Object> arguments;
+    private final Object parentKey;
+    private final Object scopeKey;
+    private final int hash;
+
+    public FieldResultCacheKey(FieldCoordinates coordinates, Map<String, Object> arguments, Object parentKey, Object scopeKey) {
+        this.coordinates = assertNotNull(coordinates);
+        this.arguments = assertNotNull(arguments);
+        this.parentKey = assertNotNull(parentKey);
+        this.scopeKey = scopeKey;
+        this.hash = Objects.hash(coordinates, arguments, parentKey, scopeKey);
+    }
+
+    public FieldCoordinates getCoordinates() {
+        return coordinates;
+    }
+
+    public Map<String, Object> getArguments() {
+        return arguments;
+    }
+
+    public Object getParentKey() {
+        return parentKey;
+    }
+
+    /**
+     * @return the key of the user that may see the value or null if the value is public
+     */
+    public Object getScopeKey() {
+        return scopeKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FieldResultCacheKey that = (FieldResultCacheKey) o;
+        return hash == that.hash
+                && coordinates.equals(that.coordinates)
+                && arguments.equals(that.arguments)
+                && parentKey.equals(that.parentKey)
+                && Objects.equals(scopeKey, that.scopeKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldResultCacheKey{" +
+                "coordinates=" + coordinates +
+                ", arguments=" + arguments +
+                ", parentKey=" + parentKey +
+                ", scopeKey=" + scopeKey +
+                '}';
+    }
+}
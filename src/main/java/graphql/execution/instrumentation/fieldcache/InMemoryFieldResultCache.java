@@ -0,0 +1,94 @@
+package graphql.execution.instrumentation.fieldcache;
+
+import graphql.PublicApi;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A {@link FieldResultCache} that keeps a bounded number of field values in memory.  When the cache is full the least
+ * recently used values are evicted, and each value expires after the max age it was cached with.
+ */
+@PublicApi
+public class InMemoryFieldResultCache implements FieldResultCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Map<FieldResultCacheKey, Entry> cache;
+    private final Clock clock;
+
+    public InMemoryFieldResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a field result cache that holds at most the given number of values
+     *
+     * @param maximumSize the maximum number of values to keep
+     */
+    public InMemoryFieldResultCache(long maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a field result cache that holds at most the given number of values and expires them according to the given clock
+     *
+     * @param maximumSize the maximum number of values to keep
+     * @param clock       the clock used to expire values
+     */
+    public InMemoryFieldResultCache(long maximumSize, Clock clock) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<FieldResultCacheKey, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FieldResultCacheKey, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        });
+        this.clock = assertNotNull(clock);
+    }
+
+    @Override
+    public CachedFieldResult get(FieldResultCacheKey key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.result;
+    }
+
+    @Override
+    public void put(FieldResultCacheKey key, CachedFieldResult result) {
+        cache.put(key, new Entry(assertNotNull(result), clock.millis() + result.getPolicy().getMaxAge().toMillis()));
+    }
+
+    /**
+     * @return the number of values currently held, some of which may have expired
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all values from the cache
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private static class Entry {
+        private final CachedFieldResult result;
+        private final long expiresAt;
+
+        private Entry(CachedFieldResult result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
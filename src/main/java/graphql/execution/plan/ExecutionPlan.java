@@ -0,0 +1,232 @@
+package graphql.execution.plan;
+
+import graphql.PublicApi;
+import graphql.execution.ExecutionContext;
+import graphql.execution.FieldCollector;
+import graphql.execution.FieldCollectorParameters;
+import graphql.execution.MergedField;
+import graphql.execution.MergedSelectionSet;
+import graphql.language.Argument;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.Node;
+import graphql.language.SelectionSet;
+import graphql.language.VariableReference;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static graphql.Directives.IncludeDirective;
+import static graphql.Directives.SkipDirective;
+import static graphql.execution.FieldCollectorParameters.newParameters;
+
+/**
+ * An execution plan holds the parts of executing an operation that only depend on the document and the schema and not on
+ * the data being fetched.  This is the merged sub selections of a field for a given object type and, if asked for, the
+ * {@link DataFetcher} of a field as produced by the {@link GraphQLCodeRegistry}.
+ * <p>
+ * These values are computed the first time they are asked for and then remembered, so that a list of objects only collects
+ * its sub fields once and a plan kept in an {@link ExecutionPlanCache} means repeated executions of the same document do
+ * not re-collect them at all.
+ * <p>
+ * A plan can only be shared between executions if its field collection does not depend on variables, that is if the document
+ * has no {@code @skip} or {@code @include} directives driven by variables.  See {@link #isReusable()}
+ * <p>
+ * Data fetchers are only remembered by plans created with {@code memoizeDataFetchers} set, since that means a
+ * {@link graphql.schema.DataFetcherFactory} is called once per field and plan rather than once per fetch.  Otherwise the
+ * code registry is asked for the data fetcher every time, as it is without a plan.
+ */
+@PublicApi
+public class ExecutionPlan {
+
+    private final GraphQLSchema graphQLSchema;
+    private final GraphQLCodeRegistry codeRegistry;
+    private final boolean reusable;
+    private final boolean memoizeDataFetchers;
+    private final ConcurrentMap<PlanKey, MergedSelectionSet> collectedFields = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PlanKey, DataFetcher<?>> dataFetchers = new ConcurrentHashMap<>();
+
+    private ExecutionPlan(GraphQLSchema graphQLSchema, boolean reusable, boolean memoizeDataFetchers) {
+        this.graphQLSchema = graphQLSchema;
+        this.codeRegistry = graphQLSchema != null ? graphQLSchema.getCodeRegistry() : null;
+        this.reusable = reusable;
+        this.memoizeDataFetchers = memoizeDataFetchers;
+    }
+
+    /**
+     * Creates a new execution plan for the document against the given schema
+     *
+     * @param graphQLSchema the schema in play
+     * @param document      the document to be executed
+     *
+     * @return a new empty execution plan
+     */
+    public static ExecutionPlan newExecutionPlan(GraphQLSchema graphQLSchema, Document document) {
+        return newExecutionPlan(graphQLSchema, document, false);
+    }
+
+    /**
+     * Creates a new execution plan for the document against the given schema
+     *
+     * @param graphQLSchema       the schema in play
+     * @param document            the document to be executed
+     * @param memoizeDataFetchers true if the plan should remember the data fetchers it hands out
+     *
+     * @return a new empty execution plan
+     */
+    public static ExecutionPlan newExecutionPlan(GraphQLSchema graphQLSchema, Document document, boolean memoizeDataFetchers) {
+        return new ExecutionPlan(graphQLSchema, !hasVariableConditionals(document), memoizeDataFetchers);
+    }
+
+    /**
+     * Creates a new execution plan that must only be used for the one execution since nothing is known about the document
+     *
+     * @param graphQLSchema the schema in play
+     *
+     * @return a new empty execution plan
+     */
+    public static ExecutionPlan newRequestScopedExecutionPlan(GraphQLSchema graphQLSchema) {
+        return new ExecutionPlan(graphQLSchema, false, false);
+    }
+
+    /**
+     * @return true if this plan can be used by more than one execution of the same document
+     */
+    public boolean isReusable() {
+        return reusable;
+    }
+
+    /**
+     * @return true if this plan remembers the data fetchers it hands out
+     */
+    public boolean isMemoizingDataFetchers() {
+        return memoizeDataFetchers;
+    }
+
+    /**
+     * Collects the sub fields of the merged field for the given object type, using the previously collected value if there is one
+     *
+     * @param executionContext the execution context in play
+     * @param fieldCollector   the field collector to use if the sub fields have not been collected yet
+     * @param objectType       the object type the field resolved to
+     * @param mergedField      the field whose sub selections are to be collected
+     *
+     * @return the merged sub selections
+     */
+    public MergedSelectionSet collectFields(ExecutionContext executionContext, FieldCollector fieldCollector, GraphQLObjectType objectType, MergedField mergedField) {
+        if (executionContext.getGraphQLSchema() != graphQLSchema) {
+            return fieldCollector.collectFields(mkCollectorParameters(executionContext, objectType), mergedField);
+        }
+        return collectedFields.computeIfAbsent(new PlanKey(mergedField, objectType),
+                key -> fieldCollector.collectFields(mkCollectorParameters(executionContext, objectType), mergedField));
+    }
+
+    /**
+     * Collects the fields of the selection set for the given object type, using the previously collected value if there is one
+     *
+     * @param executionContext the execution context in play
+     * @param fieldCollector   the field collector to use if the fields have not been collected yet
+     * @param objectType       the object type of the selection set
+     * @param selectionSet     the selection set to collect
+     *
+     * @return the merged selections
+     */
+    public MergedSelectionSet collectFields(ExecutionContext executionContext, FieldCollector fieldCollector, GraphQLObjectType objectType, SelectionSet selectionSet) {
+        if (executionContext.getGraphQLSchema() != graphQLSchema) {
+            return fieldCollector.collectFields(mkCollectorParameters(executionContext, objectType), selectionSet);
+        }
+        return collectedFields.computeIfAbsent(new PlanKey(selectionSet, objectType),
+                key -> fieldCollector.collectFields(mkCollectorParameters(executionContext, objectType), selectionSet));
+    }
+
+    /**
+     * Gets the data fetcher of a field, using the previously looked up value if there is one and this plan memoizes
+     * data fetchers
+     *
+     * @param codeRegistry    the code registry in play
+     * @param parentType      the type containing the field
+     * @param fieldDefinition the field definition
+     *
+     * @return the data fetcher for the field
+     */
+    public DataFetcher<?> getDataFetcher(GraphQLCodeRegistry codeRegistry, GraphQLObjectType parentType, GraphQLFieldDefinition fieldDefinition) {
+        if (!memoizeDataFetchers || codeRegistry != this.codeRegistry) {
+            return codeRegistry.getDataFetcher(parentType, fieldDefinition);
+        }
+        return dataFetchers.computeIfAbsent(new PlanKey(fieldDefinition, parentType),
+                key -> codeRegistry.getDataFetcher(parentType, fieldDefinition));
+    }
+
+    private static FieldCollectorParameters mkCollectorParameters(ExecutionContext executionContext, GraphQLObjectType objectType) {
+        return newParameters()
+                .schema(executionContext.getGraphQLSchema())
+                .objectType(objectType)
+                .fragments(executionContext.getFragmentsByName())
+                .variables(executionContext.getCoercedVariables().toMap())
+                .build();
+    }
+
+    private static boolean hasVariableConditionals(Document document) {
+        Deque<Node> nodes = new ArrayDeque<>(document.getDefinitions());
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            if (node instanceof Directive) {
+                Directive directive = (Directive) node;
+                if (isConditionalDirective(directive)) {
+                    for (Argument argument : directive.getArguments()) {
+                        if (argument.getValue() instanceof VariableReference) {
+                            return true;
+                        }
+                    }
+                }
+                continue;
+            }
+            nodes.addAll(node.getChildren());
+        }
+        return false;
+    }
+
+    private static boolean isConditionalDirective(Directive directive) {
+        return SkipDirective.getName().equals(directive.getName()) || IncludeDirective.getName().equals(directive.getName());
+    }
+
+    /**
+     * AST nodes and schema elements use identity equality, and so does a {@link MergedField} since it is
+     * a list of AST nodes
+     */
+    private static class PlanKey {
+        private final Object element;
+        private final GraphQLObjectType objectType;
+        private final int hashCode;
+
+        private PlanKey(Object element, GraphQLObjectType objectType) {
+            this.element = element;
+            this.objectType = objectType;
+            this.hashCode = 31 * element.hashCode() + System.identityHashCode(objectType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PlanKey that = (PlanKey) o;
+            return objectType == that.objectType && element.equals(that.element);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
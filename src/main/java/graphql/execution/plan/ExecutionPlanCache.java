@@ -0,0 +1,34 @@
+package graphql.execution.plan;
+
+import graphql.PublicSpi;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.schema.GraphQLSchema;
+
+import java.util.function.Supplier;
+
+/**
+ * Interface that allows clients to hook in the caching of {@link ExecutionPlan}s between executions.
+ * <p>
+ * This is most useful in combination with a caching {@link graphql.execution.preparsed.PreparsedDocumentProvider} since
+ * the same {@link Document} and {@link OperationDefinition} objects are then handed to execution each time the query is run.
+ */
+@PublicSpi
+public interface ExecutionPlanCache {
+
+    /**
+     * This is called to get a "cached" execution plan and if it's not present, then the "planSupplier" can
+     * be called to create a new one.
+     * <p>
+     * Implementations must only hand out a plan for an operation and schema that it was created for and should only keep
+     * plans that are {@link ExecutionPlan#isReusable()}
+     *
+     * @param document            the document being executed
+     * @param operationDefinition the operation in the document being executed
+     * @param graphQLSchema       the schema in play
+     * @param planSupplier        this can be called to create a new plan
+     *
+     * @return an execution plan
+     */
+    ExecutionPlan getExecutionPlan(Document document, OperationDefinition operationDefinition, GraphQLSchema graphQLSchema, Supplier<ExecutionPlan> planSupplier);
+}
@@ -0,0 +1,95 @@
+package graphql.execution.plan;
+
+import graphql.PublicApi;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.schema.GraphQLSchema;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ExecutionPlanCache} that keeps a bounded number of reusable plans in memory, keyed by the identity
+ * of the operation being executed and the schema it is executed against.
+ * <p>
+ * Since the operation is an AST node, a plan is only found again if the same parsed document is executed, which is
+ * what a caching {@link graphql.execution.preparsed.PreparsedDocumentProvider} does.
+ * <p>
+ * Note that a plan remembers the data fetchers handed out by the {@link graphql.schema.DataFetcherFactory}s of the schema, so
+ * factories that expect to be asked once per request should not be combined with this cache.
+ */
+@PublicApi
+public class InMemoryExecutionPlanCache implements ExecutionPlanCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Map<PlanCacheKey, ExecutionPlan> cache;
+
+    public InMemoryExecutionPlanCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a plan cache that holds at most the given number of plans, evicting the least recently used plan when it is full
+     *
+     * @param maximumSize the maximum number of plans to keep
+     */
+    public InMemoryExecutionPlanCache(long maximumSize) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<PlanCacheKey, ExecutionPlan>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PlanCacheKey, ExecutionPlan> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+
+    @Override
+    public ExecutionPlan getExecutionPlan(Document document, OperationDefinition operationDefinition, GraphQLSchema graphQLSchema, Supplier<ExecutionPlan> planSupplier) {
+        PlanCacheKey key = new PlanCacheKey(operationDefinition, graphQLSchema);
+        ExecutionPlan executionPlan = cache.get(key);
+        if (executionPlan != null) {
+            return executionPlan;
+        }
+        executionPlan = planSupplier.get();
+        if (executionPlan.isReusable()) {
+            cache.put(key, executionPlan);
+        }
+        return executionPlan;
+    }
+
+    /**
+     * @return the number of plans currently held
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    private static class PlanCacheKey {
+        private final OperationDefinition operationDefinition;
+        private final GraphQLSchema graphQLSchema;
+
+        private PlanCacheKey(OperationDefinition operationDefinition, GraphQLSchema graphQLSchema) {
+            this.operationDefinition = operationDefinition;
+            this.graphQLSchema = graphQLSchema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PlanCacheKey that = (PlanCacheKey) o;
+            return operationDefinition == that.operationDefinition && graphQLSchema == that.graphQLSchema;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(operationDefinition) + System.identityHashCode(graphQLSchema);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package graphql.execution.plan;
+
+import graphql.Internal;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.schema.GraphQLSchema;
+
+import java.util.function.Supplier;
+
+@Internal
+public class NoOpExecutionPlanCache implements ExecutionPlanCache {
+    public static final NoOpExecutionPlanCache INSTANCE = new NoOpExecutionPlanCache();
+
+    @Override
+    public ExecutionPlan getExecutionPlan(Document document, OperationDefinition operationDefinition, GraphQLSchema graphQLSchema, Supplier<ExecutionPlan> planSupplier) {
+        return planSupplier.get();
+    }
+}
@@ -0,0 +1,247 @@
+package graphql.execution.reactive;
+
+import graphql.Internal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A reactive Publisher that takes every item from an upstream Publisher as soon as it is published, and keeps up to a
+ * fixed number of them until downstream asks for them.  When the buffer is full the oldest item is dropped to make room,
+ * so a slow subscriber gets the most recent items and the memory used for it stays bounded.
+ * <p>
+ * Given a sample period, only the latest item that arrived in each period is put in the buffer, once the period is over.
+ * That happens on the scheduler's thread, which then also delivers the item if downstream has already asked for it.
+ * <p>
+ * Buffered items are still delivered after upstream completes or fails, and then the completion or failure is.
+ *
+ * @param <T> the type of items published
+ */
+@SuppressWarnings("ReactiveStreamsPublisherImplementation")
+@Internal
+public class DroppingBufferPublisher<T> implements Publisher<T> {
+
+    private final Publisher<T> upstreamPublisher;
+    private final int bufferSize;
+    private final long samplePeriodNanos;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * You need the following :
+     *
+     * @param upstreamPublisher an upstream source of data
+     * @param bufferSize        the most items kept waiting for downstream
+     * @param samplePeriodNanos the period to sample upstream items in or 0 to buffer every item
+     * @param scheduler         the scheduler that ends each sample period, which can be null if there is no sample period
+     */
+    public DroppingBufferPublisher(Publisher<T> upstreamPublisher, int bufferSize, long samplePeriodNanos, ScheduledExecutorService scheduler) {
+        assertTrue(bufferSize > 0, () -> "bufferSize must be greater than 0");
+        assertTrue(samplePeriodNanos == 0 || scheduler != null, () -> "a scheduler is needed to sample items");
+        this.upstreamPublisher = upstreamPublisher;
+        this.bufferSize = bufferSize;
+        this.samplePeriodNanos = samplePeriodNanos;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> downstreamSubscriber) {
+        upstreamPublisher.subscribe(new DroppingBufferSubscriber(downstreamSubscriber));
+    }
+
+    /**
+     * Get instance of an upstreamPublisher
+     *
+     * @return upstream instance of {@link Publisher}
+     */
+    public Publisher<T> getUpstreamPublisher() {
+        return upstreamPublisher;
+    }
+
+    @SuppressWarnings("ReactiveStreamsSubscriberImplementation")
+    private class DroppingBufferSubscriber implements Subscriber<T>, Subscription {
+        private final Subscriber<? super T> downstreamSubscriber;
+        // the buffer and the sample are guarded by locking the buffer
+        private final Deque<T> buffer = new ArrayDeque<>();
+        private T sample;
+        private boolean hasSample;
+        private final AtomicInteger drainsWanted = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile Subscription upstreamSubscription;
+        private volatile ScheduledFuture<?> sampler;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile boolean cancelled;
+        // only used inside the drain loop
+        private boolean finished;
+
+        DroppingBufferSubscriber(Subscriber<? super T> downstreamSubscriber) {
+            this.downstreamSubscriber = downstreamSubscriber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            downstreamSubscriber.onSubscribe(this);
+            if (cancelled) {
+                return;
+            }
+            if (samplePeriodNanos > 0) {
+                sampler = scheduler.scheduleAtFixedRate(this::endSamplePeriod, samplePeriodNanos, samplePeriodNanos, TimeUnit.NANOSECONDS);
+                if (cancelled) {
+                    // cancelled while the sampler was being scheduled
+                    sampler.cancel(false);
+                }
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (upstreamDone || cancelled) {
+                return;
+            }
+            synchronized (buffer) {
+                if (samplePeriodNanos > 0) {
+                    sample = t;
+                    hasSample = true;
+                    return;
+                }
+                addToBuffer(t);
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            upstreamError = t;
+            upstreamDone = true;
+            // the latest sample is not held back until the end of its period
+            endSamplePeriod();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            endSamplePeriod();
+        }
+
+        private void endSamplePeriod() {
+            synchronized (buffer) {
+                if (hasSample) {
+                    addToBuffer(sample);
+                    sample = null;
+                    hasSample = false;
+                }
+            }
+            drain();
+        }
+
+        // called while holding the buffer lock
+        private void addToBuffer(T t) {
+            if (buffer.size() == bufferSize) {
+                buffer.pollFirst();
+            }
+            buffer.addLast(t);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                upstreamError = new IllegalArgumentException("Downstream must request a positive number of items but asked for " + n);
+                upstreamDone = true;
+                upstreamSubscription.cancel();
+                synchronized (buffer) {
+                    buffer.clear();
+                }
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, more) -> current + more < 0 ? Long.MAX_VALUE : current + more);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstreamSubscription.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (drainsWanted.getAndIncrement() != 0) {
+                // another thread is draining and will go round again for us
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                if (!finished) {
+                    if (cancelled) {
+                        finish();
+                    } else {
+                        drainBuffer();
+                    }
+                }
+                missed = drainsWanted.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void drainBuffer() {
+            long wanted = requested.get();
+            long emitted = 0;
+            while (!cancelled) {
+                // upstream is read as done before looking at the buffer, so an empty buffer then really is the end
+                boolean done = upstreamDone;
+                T next;
+                boolean empty;
+                synchronized (buffer) {
+                    empty = buffer.isEmpty();
+                    next = empty || emitted == wanted ? null : buffer.pollFirst();
+                }
+                if (empty && done) {
+                    finish();
+                    Throwable throwable = upstreamError;
+                    if (throwable != null) {
+                        downstreamSubscriber.onError(throwable);
+                    } else {
+                        downstreamSubscriber.onComplete();
+                    }
+                    break;
+                }
+                if (next == null) {
+                    break;
+                }
+                downstreamSubscriber.onNext(next);
+                emitted++;
+            }
+            if (emitted != 0 && wanted != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+        }
+
+        private void finish() {
+            finished = true;
+            ScheduledFuture<?> sampler = this.sampler;
+            if (sampler != null) {
+                sampler.cancel(false);
+            }
+            synchronized (buffer) {
+                buffer.clear();
+                sample = null;
+                hasSample = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package graphql.execution.reactive;
+
+import graphql.Internal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reactive Publisher that subscribes once to an upstream Publisher and sends each upstream item to all of its
+ * current subscribers.
+ * <p>
+ * Upstream is subscribed to when the first subscriber arrives.  Items are then taken from upstream one at a time, and
+ * only once every subscriber has asked for one, so the slowest subscriber sets the pace for all of them.  If every
+ * subscriber has asked for an unbounded number of items then so is upstream.  A subscriber that joins a running
+ * stream gets the items that arrive after it has asked for them.
+ * <p>
+ * When upstream completes or fails, every subscriber is told.  When the last subscriber cancels, upstream is cancelled.
+ * Either way the stream is then over, and any later subscribers are told it has completed, or failed, straight away,
+ * unless they use {@link #trySubscribe(Subscriber)}.  The given callback is run once when the stream is over.
+ * <p>
+ * The signals to each subscriber are sent one at a time, even when they come from different threads.
+ *
+ * @param <T> the type of items published
+ */
+@SuppressWarnings("ReactiveStreamsPublisherImplementation")
+@Internal
+public class MulticastPublisher<T> implements Publisher<T> {
+
+    private final Publisher<T> upstreamPublisher;
+    private final Runnable onTerminated;
+
+    // all of the state below is guarded by this lock, and no signals are sent while holding it
+    private final Object lock = new Object();
+    private final List<MulticastSubscription> subscriptions = new ArrayList<>();
+    private int zeroDemandCount;
+    private int unboundedDemandCount;
+    private long upstreamRequested;
+    private boolean subscribedUpstream;
+    private Subscription upstreamSubscription;
+    private boolean terminated;
+    private Throwable terminalError;
+
+    /**
+     * You need the following :
+     *
+     * @param upstreamPublisher an upstream source of data
+     * @param onTerminated      called once when the stream is over because upstream finished or every subscriber cancelled
+     */
+    public MulticastPublisher(Publisher<T> upstreamPublisher, Runnable onTerminated) {
+        this.upstreamPublisher = upstreamPublisher;
+        this.onTerminated = onTerminated;
+    }
+
+    /**
+     * Get instance of an upstreamPublisher
+     *
+     * @return upstream instance of {@link Publisher}
+     */
+    public Publisher<T> getUpstreamPublisher() {
+        return upstreamPublisher;
+    }
+
+    /**
+     * @return the number of subscribers currently getting items
+     */
+    public int getSubscriberCount() {
+        synchronized (lock) {
+            return subscriptions.size();
+        }
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (!trySubscribe(subscriber)) {
+            Throwable throwable;
+            synchronized (lock) {
+                throwable = terminalError;
+            }
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            sendTerminalSignal(subscriber, throwable);
+        }
+    }
+
+    /**
+     * Subscribes to this publisher unless its stream is already over
+     *
+     * @param subscriber the subscriber to the items
+     *
+     * @return true if subscribed, or false if the stream is over, in which case the subscriber is not sent any signals
+     */
+    public boolean trySubscribe(Subscriber<? super T> subscriber) {
+        MulticastSubscription subscription = new MulticastSubscription(subscriber);
+        boolean subscribeUpstream;
+        synchronized (lock) {
+            if (terminated) {
+                return false;
+            }
+            subscriptions.add(subscription);
+            zeroDemandCount++;
+            subscribeUpstream = !subscribedUpstream;
+            subscribedUpstream = true;
+        }
+        subscription.signal(() -> subscriber.onSubscribe(subscription));
+        if (subscribeUpstream) {
+            upstreamPublisher.subscribe(new UpstreamSubscriber());
+        }
+        return true;
+    }
+
+    private void requestUpstreamIfReady() {
+        Subscription toRequestFrom;
+        long toRequest;
+        synchronized (lock) {
+            if (terminated || upstreamSubscription == null || subscriptions.isEmpty() || zeroDemandCount > 0) {
+                return;
+            }
+            long wanted = unboundedDemandCount == subscriptions.size() ? Long.MAX_VALUE : 1;
+            if (upstreamRequested >= wanted) {
+                return;
+            }
+            toRequest = wanted - upstreamRequested;
+            upstreamRequested = wanted;
+            toRequestFrom = upstreamSubscription;
+        }
+        toRequestFrom.request(toRequest);
+    }
+
+    private void terminate(Throwable throwable) {
+        List<MulticastSubscription> toSignal;
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            terminalError = throwable;
+            toSignal = new ArrayList<>(subscriptions);
+            subscriptions.clear();
+        }
+        for (MulticastSubscription subscription : toSignal) {
+            subscription.signal(() -> sendTerminalSignal(subscription.subscriber, throwable));
+        }
+        onTerminated.run();
+    }
+
+    private void sendTerminalSignal(Subscriber<? super T> subscriber, Throwable throwable) {
+        if (throwable != null) {
+            subscriber.onError(throwable);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    @SuppressWarnings("ReactiveStreamsSubscriberImplementation")
+    private class UpstreamSubscriber implements Subscriber<T> {
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            boolean cancelled;
+            synchronized (lock) {
+                upstreamSubscription = subscription;
+                cancelled = terminated;
+            }
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                requestUpstreamIfReady();
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            List<MulticastSubscription> toSignal;
+            synchronized (lock) {
+                if (terminated) {
+                    return;
+                }
+                if (upstreamRequested != Long.MAX_VALUE) {
+                    upstreamRequested--;
+                }
+                toSignal = new ArrayList<>(subscriptions.size());
+                for (MulticastSubscription subscription : subscriptions) {
+                    // subscribers that joined after this item was asked for have not asked for it
+                    if (subscription.demand > 0) {
+                        subscription.itemDelivered();
+                        toSignal.add(subscription);
+                    }
+                }
+            }
+            if (toSignal.isEmpty()) {
+                requestUpstreamIfReady();
+            }
+            for (MulticastSubscription subscription : toSignal) {
+                // once the item is delivered the next one is asked for, if every subscriber still wants one
+                subscription.signal(() -> {
+                    subscription.subscriber.onNext(t);
+                    requestUpstreamIfReady();
+                });
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            terminate(t);
+        }
+
+        @Override
+        public void onComplete() {
+            terminate(null);
+        }
+    }
+
+    private class MulticastSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        // signals from different threads, such as an item from upstream and an error for a bad request, are sent one at a time
+        private final NonBlockingMutexExecutor mutex = new NonBlockingMutexExecutor();
+        // guarded by the publisher lock
+        private long demand;
+        private boolean removed;
+
+        MulticastSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void signal(Runnable signal) {
+            mutex.execute(signal);
+        }
+
+        // called while holding the lock
+        private void itemDelivered() {
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+                if (demand == 0) {
+                    zeroDemandCount++;
+                }
+            }
+        }
+
+        // called while holding the lock
+        private void remove() {
+            removed = true;
+            subscriptions.remove(this);
+            if (demand == 0) {
+                zeroDemandCount--;
+            } else if (demand == Long.MAX_VALUE) {
+                unboundedDemandCount--;
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                boolean wasRemoved;
+                synchronized (lock) {
+                    wasRemoved = removed || terminated;
+                    if (!wasRemoved) {
+                        remove();
+                    }
+                }
+                if (!wasRemoved) {
+                    signal(() -> subscriber.onError(new IllegalArgumentException("Subscribers must request a positive number of items but asked for " + n)));
+                    cancelUpstreamIfUnsubscribed();
+                    requestUpstreamIfReady();
+                }
+                return;
+            }
+            synchronized (lock) {
+                if (removed || terminated || demand == Long.MAX_VALUE) {
+                    return;
+                }
+                if (demand == 0) {
+                    zeroDemandCount--;
+                }
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                if (demand == Long.MAX_VALUE) {
+                    unboundedDemandCount++;
+                }
+            }
+            requestUpstreamIfReady();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (lock) {
+                if (removed || terminated) {
+                    return;
+                }
+                remove();
+            }
+            cancelUpstreamIfUnsubscribed();
+            requestUpstreamIfReady();
+        }
+
+        private void cancelUpstreamIfUnsubscribed() {
+            Subscription toCancel;
+            synchronized (lock) {
+                if (terminated || !subscriptions.isEmpty()) {
+                    return;
+                }
+                // a later subscriber is told the stream has completed
+                terminated = true;
+                toCancel = upstreamSubscription;
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+            onTerminated.run();
+        }
+    }
+}
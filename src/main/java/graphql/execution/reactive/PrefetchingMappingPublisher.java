@@ -0,0 +1,237 @@
+package graphql.execution.reactive;
+
+import graphql.Internal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A reactive Publisher that bridges over another Publisher of `U` and maps the results to type `D` via a CompletionStage,
+ * like {@link CompletionStageMappingPublisher}, but built for high rate streams.
+ * <p>
+ * Rather than asking upstream for one item per item asked for downstream, it keeps up to "prefetch" upstream items being mapped
+ * at once, and asks upstream for more in batches as mapped items are delivered.  The mapped items are delivered downstream
+ * in the order the upstream items arrived in, whatever order their mapping completes in, and only as far as downstream has asked for.
+ * <p>
+ * No locks are taken.  The items being mapped are kept in a concurrent queue and all the downstream signals are sent from a drain
+ * loop that only one thread at a time can be in.
+ *
+ * @param <D> the down stream type
+ * @param <U> the up stream type to be mapped to
+ */
+@SuppressWarnings("ReactiveStreamsPublisherImplementation")
+@Internal
+public class PrefetchingMappingPublisher<D, U> implements Publisher<D> {
+    private final Publisher<U> upstreamPublisher;
+    private final Function<U, CompletionStage<D>> mapper;
+    private final int prefetch;
+
+    /**
+     * You need the following :
+     *
+     * @param upstreamPublisher an upstream source of data
+     * @param mapper            a mapper function that turns upstream data into a promise of mapped D downstream data
+     * @param prefetch          the most upstream items that can be mapped, or waiting to be delivered, at once
+     */
+    public PrefetchingMappingPublisher(Publisher<U> upstreamPublisher, Function<U, CompletionStage<D>> mapper, int prefetch) {
+        assertTrue(prefetch > 0, () -> "prefetch must be greater than 0");
+        this.upstreamPublisher = upstreamPublisher;
+        this.mapper = mapper;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super D> downstreamSubscriber) {
+        upstreamPublisher.subscribe(new PrefetchingSubscriber(downstreamSubscriber));
+    }
+
+    /**
+     * Get instance of an upstreamPublisher
+     *
+     * @return upstream instance of {@link Publisher}
+     */
+    public Publisher<U> getUpstreamPublisher() {
+        return upstreamPublisher;
+    }
+
+    /**
+     * @return the most upstream items that can be mapped at once
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    private static class InFlightItem<D> {
+        private D value;
+        private Throwable throwable;
+        // written last so that reading it true makes the value and throwable visible
+        private volatile boolean completed;
+
+        void complete(D value, Throwable throwable) {
+            this.value = value;
+            this.throwable = throwable;
+            this.completed = true;
+        }
+    }
+
+    @SuppressWarnings("ReactiveStreamsSubscriberImplementation")
+    private class PrefetchingSubscriber implements Subscriber<U>, Subscription {
+        private final Subscriber<? super D> downstreamSubscriber;
+        private final int replenishCount;
+        // upstream calls onNext one at a time so there is one producer, and the drain loop is the one consumer
+        private final Queue<InFlightItem<D>> inFlightQ = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger drainsWanted = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean prefetchRequested = new AtomicBoolean();
+        private volatile Subscription upstreamSubscription;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile boolean cancelled;
+        // these are only used inside the drain loop
+        private boolean finished;
+        private int delivered;
+
+        PrefetchingSubscriber(Subscriber<? super D> downstreamSubscriber) {
+            this.downstreamSubscriber = downstreamSubscriber;
+            // ask for more once three quarters of the prefetched items have been delivered
+            this.replenishCount = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            downstreamSubscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(U u) {
+            // for safety - no more data after we are done or cancelled - we should not get this BUT belts and braces
+            if (upstreamDone || cancelled) {
+                return;
+            }
+            InFlightItem<D> inFlightItem = new InFlightItem<>();
+            inFlightQ.offer(inFlightItem);
+            try {
+                mapper.apply(u).whenComplete((d, throwable) -> {
+                    inFlightItem.complete(d, throwable);
+                    drain();
+                });
+            } catch (RuntimeException throwable) {
+                inFlightItem.complete(null, throwable);
+                drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            upstreamError = t;
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                upstreamError = new IllegalArgumentException("Downstream must request a positive number of items but asked for " + n);
+                upstreamDone = true;
+                upstreamSubscription.cancel();
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, more) -> current + more < 0 ? Long.MAX_VALUE : current + more);
+            if (prefetchRequested.compareAndSet(false, true)) {
+                upstreamSubscription.request(prefetch);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstreamSubscription.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (drainsWanted.getAndIncrement() != 0) {
+                // another thread is draining and will go round again for us
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                if (finished || cancelled) {
+                    finished = true;
+                    inFlightQ.clear();
+                } else {
+                    drainInFlightQ();
+                }
+                missed = drainsWanted.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void drainInFlightQ() {
+            long wanted = requested.get();
+            long emitted = 0;
+            while (!cancelled) {
+                // upstream is read as done before looking at the queue, so an empty queue then really is the end
+                boolean done = upstreamDone;
+                InFlightItem<D> head = inFlightQ.peek();
+                if (head == null) {
+                    if (done) {
+                        finished = true;
+                        Throwable throwable = upstreamError;
+                        if (throwable != null) {
+                            downstreamSubscriber.onError(throwable);
+                        } else {
+                            downstreamSubscriber.onComplete();
+                        }
+                    }
+                    break;
+                }
+                if (!head.completed) {
+                    break;
+                }
+                if (head.throwable != null) {
+                    // as with CompletionStageMappingPublisher, a failed mapping ends the stream and upstream is cancelled
+                    finished = true;
+                    inFlightQ.clear();
+                    upstreamSubscription.cancel();
+                    downstreamSubscriber.onError(head.throwable);
+                    break;
+                }
+                if (emitted == wanted) {
+                    break;
+                }
+                inFlightQ.poll();
+                downstreamSubscriber.onNext(head.value);
+                emitted++;
+                if (++delivered == replenishCount) {
+                    delivered = 0;
+                    upstreamSubscription.request(replenishCount);
+                }
+            }
+            if (emitted != 0 && wanted != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+        }
+    }
+}
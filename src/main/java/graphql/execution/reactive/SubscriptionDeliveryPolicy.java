@@ -0,0 +1,96 @@
+package graphql.execution.reactive;
+
+import graphql.Internal;
+import graphql.PublicApi;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * A subscription delivery policy decides which events of a subscription's source event stream are executed and published
+ * to its subscriber.
+ * <p>
+ * By default, with {@link #everyEvent()}, an event is only taken from the source event stream when the subscriber asks for
+ * one, so a slow subscriber leaves the source to hold on to every event it has not yet taken.  The other policies take
+ * every event from the source as soon as it is published and keep only some of them until the subscriber asks, so the
+ * memory held for a slow subscriber stays bounded.  Events are dropped before they are executed, so no time is spent
+ * executing an event that is never published.
+ * <p>
+ * Each subscriber gets its own buffer.  When a {@link graphql.execution.SubscriptionFanOut} shares a source event stream
+ * between subscriptions, the shared stream takes every event and executes it once, and the policy is applied to each
+ * subscriber's execution results instead, so a slow subscriber drops results rather than holding up the others.
+ */
+@PublicApi
+public class SubscriptionDeliveryPolicy {
+
+    private static final SubscriptionDeliveryPolicy EVERY_EVENT = new SubscriptionDeliveryPolicy(0, 0, null);
+
+    private final int bufferSize;
+    private final long samplePeriodNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private SubscriptionDeliveryPolicy(int bufferSize, long samplePeriodNanos, ScheduledExecutorService scheduler) {
+        this.bufferSize = bufferSize;
+        this.samplePeriodNanos = samplePeriodNanos;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return a policy that publishes every event, taking each one from the source event stream when the subscriber asks for it
+     */
+    public static SubscriptionDeliveryPolicy everyEvent() {
+        return EVERY_EVENT;
+    }
+
+    /**
+     * @return a policy that only keeps the latest event that the subscriber has not yet asked for
+     */
+    public static SubscriptionDeliveryPolicy latestOnly() {
+        return dropOldest(1);
+    }
+
+    /**
+     * @param bufferSize the most events kept for the subscriber
+     *
+     * @return a policy that keeps up to bufferSize events that the subscriber has not yet asked for, dropping the oldest to make room
+     */
+    public static SubscriptionDeliveryPolicy dropOldest(int bufferSize) {
+        assertTrue(bufferSize > 0, () -> "bufferSize must be greater than 0");
+        return new SubscriptionDeliveryPolicy(bufferSize, 0, null);
+    }
+
+    /**
+     * The event kept at the end of a period is handed on from the scheduler's thread, so when the subscriber has already
+     * asked for it, the event is executed and published on that thread.  The scheduler should have threads to spare for
+     * this rather than be shared with timing sensitive work.
+     *
+     * @param period    the sample period
+     * @param scheduler the scheduler used to end each sample period, which also executes and publishes the sampled events
+     *
+     * @return a policy that keeps the latest event of each period, at the end of the period, and only until the subscriber asks for it
+     */
+    public static SubscriptionDeliveryPolicy sample(Duration period, ScheduledExecutorService scheduler) {
+        assertNotNull(period, () -> "period can't be null");
+        assertNotNull(scheduler, () -> "scheduler can't be null");
+        assertTrue(!period.isNegative() && !period.isZero(), () -> "period must be greater than 0");
+        return new SubscriptionDeliveryPolicy(1, period.toNanos(), scheduler);
+    }
+
+    /**
+     * @param publisher the source event stream of a subscription, or the execution results of a shared one
+     * @param <T>       the type of items
+     *
+     * @return a publisher of the items of the given publisher that are to be delivered
+     */
+    @Internal
+    public <T> Publisher<T> apply(Publisher<T> publisher) {
+        if (bufferSize == 0) {
+            return publisher;
+        }
+        return new DroppingBufferPublisher<>(publisher, bufferSize, samplePeriodNanos, scheduler);
+    }
+}
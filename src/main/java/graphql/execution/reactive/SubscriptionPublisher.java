@@ -24,7 +24,8 @@ import java.util.function.Function;
 @PublicApi
 public class SubscriptionPublisher implements Publisher<ExecutionResult> {
 
-    private final CompletionStageMappingPublisher<ExecutionResult, Object> mappingPublisher;
+    private final Publisher<Object> upstreamPublisher;
+    private final Publisher<ExecutionResult> mappingPublisher;
 
     /**
      * Subscription consuming code is not expected to create instances of this class
@@ -34,7 +35,57 @@ public class SubscriptionPublisher implements Publisher<ExecutionResult> {
      */
     @Internal
     public  SubscriptionPublisher(Publisher<Object> upstreamPublisher, Function<Object, CompletionStage<ExecutionResult>> mapper) {
-        mappingPublisher = new CompletionStageMappingPublisher<>(upstreamPublisher, mapper);
+        this(upstreamPublisher, mapper, 0);
+    }
+
+    /**
+     * Subscription consuming code is not expected to create instances of this class
+     *
+     * @param upstreamPublisher the original publisher of objects that then have a graphql selection set applied to them
+     * @param mapper            a mapper that turns object into promises to execution results which are then published on this stream
+     * @param prefetch          if greater than 0 then up to this many objects are mapped ahead of being asked for, via a {@link PrefetchingMappingPublisher}
+     */
+    @Internal
+    public SubscriptionPublisher(Publisher<Object> upstreamPublisher, Function<Object, CompletionStage<ExecutionResult>> mapper, int prefetch) {
+        this(upstreamPublisher, mapper, prefetch, SubscriptionDeliveryPolicy.everyEvent());
+    }
+
+    /**
+     * Subscription consuming code is not expected to create instances of this class
+     *
+     * @param upstreamPublisher the original publisher of objects that then have a graphql selection set applied to them
+     * @param mapper            a mapper that turns object into promises to execution results which are then published on this stream
+     * @param prefetch          if greater than 0 then up to this many objects are mapped ahead of being asked for, via a {@link PrefetchingMappingPublisher}
+     * @param deliveryPolicy    the policy that decides which of the upstream objects are mapped
+     */
+    @Internal
+    public SubscriptionPublisher(Publisher<Object> upstreamPublisher, Function<Object, CompletionStage<ExecutionResult>> mapper, int prefetch, SubscriptionDeliveryPolicy deliveryPolicy) {
+        this.upstreamPublisher = upstreamPublisher;
+        Publisher<Object> deliveredPublisher = deliveryPolicy.apply(upstreamPublisher);
+        if (prefetch > 0) {
+            mappingPublisher = new PrefetchingMappingPublisher<>(deliveredPublisher, mapper, prefetch);
+        } else {
+            mappingPublisher = new CompletionStageMappingPublisher<>(deliveredPublisher, mapper);
+        }
+    }
+
+    private SubscriptionPublisher(Publisher<Object> upstreamPublisher, Publisher<ExecutionResult> mappingPublisher) {
+        this.upstreamPublisher = upstreamPublisher;
+        this.mappingPublisher = mappingPublisher;
+    }
+
+    /**
+     * Subscription consuming code is not expected to call this.  It makes a publisher of the same upstream objects that
+     * gets its execution results from the given publisher, such as one that shares the results of this publisher via a
+     * {@link MulticastPublisher}
+     *
+     * @param resultPublisher the publisher of the execution results
+     *
+     * @return a new publisher of the given execution results
+     */
+    @Internal
+    public SubscriptionPublisher withResultPublisher(Publisher<ExecutionResult> resultPublisher) {
+        return new SubscriptionPublisher(upstreamPublisher, resultPublisher);
     }
 
     /**
@@ -42,7 +93,7 @@ public class SubscriptionPublisher implements Publisher<ExecutionResult> {
      * to execution results
      */
     public Publisher<Object> getUpstreamPublisher() {
-        return mappingPublisher.getUpstreamPublisher();
+        return upstreamPublisher;
     }
 
     @Override
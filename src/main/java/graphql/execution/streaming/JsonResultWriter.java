@@ -0,0 +1,299 @@
+package graphql.execution.streaming;
+
+import graphql.ExecutionResult;
+import graphql.PublicApi;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A {@link ResultWriter} that writes a response as UTF-8 JSON bytes to an {@link OutputStream} as it is executed.
+ * <p>
+ * The values written by the {@link StreamingExecutionStrategy} become the "data" entry of the response, and once
+ * execution has finished {@link #writeExecutionResult(ExecutionResult)} writes the rest of the response, such as
+ * the errors and extensions, which are only known at the end.
+ * <pre>
+ * {@code
+ * JsonResultWriter resultWriter = new JsonResultWriter(outputStream);
+ * ExecutionInput executionInput = ExecutionInput.newExecutionInput(query)
+ *         .graphQLContext(builder -> builder.put(ResultWriter.class, resultWriter))
+ *         .build();
+ * ExecutionResult executionResult = graphQL.execute(executionInput);
+ * resultWriter.writeExecutionResult(executionResult);
+ * }
+ * </pre>
+ * If the request never executes, for example because it is not valid, then {@link #writeExecutionResult(ExecutionResult)}
+ * writes the whole response from the {@link ExecutionResult}.  If execution fails part way through the data, then
+ * the objects and lists that are still open are closed off, so the response is still valid JSON, with a partial
+ * "data" entry alongside the errors.
+ * <p>
+ * The output stream is flushed but not closed by this writer.
+ */
+@PublicApi
+public class JsonResultWriter implements ResultWriter {
+
+    private static final String DATA = "data";
+
+    private final Writer writer;
+
+    // whether the object or list at each depth has had an entry written so a separator is needed
+    private boolean[] hasEntries = new boolean[16];
+    // whether the container at each depth is a list rather than an object
+    private boolean[] isList = new boolean[16];
+    private int depth;
+    private boolean afterFieldName;
+    private boolean dataStarted;
+
+    public JsonResultWriter(OutputStream outputStream) {
+        assertNotNull(outputStream, () -> "outputStream can't be null");
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeStartObject() {
+        beforeValue();
+        write('{');
+        push(false);
+    }
+
+    @Override
+    public void writeFieldName(String name) {
+        if (hasEntries[depth]) {
+            write(',');
+        }
+        hasEntries[depth] = true;
+        writeString(name);
+        write(':');
+        afterFieldName = true;
+    }
+
+    @Override
+    public void writeEndObject() {
+        depth--;
+        write('}');
+    }
+
+    @Override
+    public void writeStartList() {
+        beforeValue();
+        write('[');
+        push(true);
+    }
+
+    @Override
+    public void writeEndList() {
+        depth--;
+        write(']');
+    }
+
+    @Override
+    public void writeValue(Object value) {
+        beforeValue();
+        writeJson(value);
+    }
+
+    /**
+     * Finishes the response by writing the entries of the execution result other than its data, or the whole
+     * result if no data was written while executing, and then flushes the output stream.  Any objects and lists
+     * left open by a failed execution are closed first.
+     *
+     * @param executionResult the result returned from execution
+     */
+    public void writeExecutionResult(ExecutionResult executionResult) {
+        Map<String, Object> specification = executionResult.toSpecification();
+        if (!dataStarted) {
+            writeJson(specification);
+        } else {
+            closeOpenContainers();
+            for (Map.Entry<String, Object> entry : specification.entrySet()) {
+                if (!DATA.equals(entry.getKey())) {
+                    write(',');
+                    writeString(entry.getKey());
+                    write(':');
+                    writeJson(entry.getValue());
+                }
+            }
+            write('}');
+        }
+        flush();
+    }
+
+    /**
+     * Flushes what has been written so far to the output stream
+     */
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void beforeValue() {
+        if (afterFieldName) {
+            afterFieldName = false;
+        } else if (depth > 0) {
+            if (hasEntries[depth]) {
+                write(',');
+            }
+            hasEntries[depth] = true;
+        } else if (!dataStarted) {
+            dataStarted = true;
+            write('{');
+            writeString(DATA);
+            write(':');
+        }
+    }
+
+    private void push(boolean list) {
+        depth++;
+        if (depth == hasEntries.length) {
+            hasEntries = Arrays.copyOf(hasEntries, depth * 2);
+            isList = Arrays.copyOf(isList, depth * 2);
+        }
+        hasEntries[depth] = false;
+        isList[depth] = list;
+    }
+
+    private void closeOpenContainers() {
+        if (afterFieldName) {
+            afterFieldName = false;
+            write("null");
+        }
+        while (depth > 0) {
+            write(isList[depth] ? ']' : '}');
+            depth--;
+        }
+    }
+
+    private void writeJson(Object value) {
+        if (value == null) {
+            write("null");
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            write(value.toString());
+        } else if (value instanceof Number) {
+            writeNumber((Number) value);
+        } else if (value instanceof Map) {
+            write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    write(',');
+                }
+                first = false;
+                writeString(String.valueOf(entry.getKey()));
+                write(':');
+                writeJson(entry.getValue());
+            }
+            write('}');
+        } else if (value instanceof Iterable) {
+            write('[');
+            boolean first = true;
+            for (Object item : (Iterable<?>) value) {
+                if (!first) {
+                    write(',');
+                }
+                first = false;
+                writeJson(item);
+            }
+            write(']');
+        } else if (value.getClass().isArray()) {
+            write('[');
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    write(',');
+                }
+                writeJson(Array.get(value, i));
+            }
+            write(']');
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeNumber(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            // JSON has no way to represent these
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                write("null");
+                return;
+            }
+        }
+        write(number.toString());
+    }
+
+    private void writeString(String s) {
+        write('"');
+        int length = s.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            String escaped = escape(c);
+            if (escaped != null) {
+                write(s, start, i - start);
+                write(escaped);
+                start = i + 1;
+            }
+        }
+        write(s, start, length - start);
+        write('"');
+    }
+
+    private static String escape(char c) {
+        switch (c) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\t':
+                return "\\t";
+            case '\b':
+                return "\\b";
+            case '\f':
+                return "\\f";
+            default:
+                if (c < 0x20) {
+                    return String.format("\\u%04x", (int) c);
+                }
+                return null;
+        }
+    }
+
+    private void write(char c) {
+        try {
+            writer.write(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String s) {
+        write(s, 0, s.length());
+    }
+
+    private void write(String s, int offset, int length) {
+        try {
+            writer.write(s, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
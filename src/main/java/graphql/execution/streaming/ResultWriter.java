@@ -0,0 +1,69 @@
+package graphql.execution.streaming;
+
+import graphql.PublicSpi;
+
+/**
+ * A sink that the {@link StreamingExecutionStrategy} writes the "data" of a response into, value by value in
+ * document order, instead of building up a tree of maps and lists.
+ * <p>
+ * The calls made form a well nested sequence, for example the query {@code { hero { name friends { name } } }} would
+ * be written as
+ * <pre>
+ * {@code
+ * writeStartObject()
+ *   writeFieldName("hero")
+ *   writeStartObject()
+ *     writeFieldName("name") writeValue("R2-D2")
+ *     writeFieldName("friends")
+ *     writeStartList()
+ *       writeStartObject() writeFieldName("name") writeValue("Luke") writeEndObject()
+ *     writeEndList()
+ *   writeEndObject()
+ * writeEndObject()
+ * }
+ * </pre>
+ * The calls for a single response never overlap, however they can be made from different threads as
+ * asynchronous data fetchers complete.
+ *
+ * @see JsonResultWriter
+ */
+@PublicSpi
+public interface ResultWriter {
+
+    /**
+     * Called to start an object value
+     */
+    void writeStartObject();
+
+    /**
+     * Called before each field value of an object
+     *
+     * @param name the result key of the field
+     */
+    void writeFieldName(String name);
+
+    /**
+     * Called to end an object value
+     */
+    void writeEndObject();
+
+    /**
+     * Called to start a list value
+     */
+    void writeStartList();
+
+    /**
+     * Called to end a list value
+     */
+    void writeEndList();
+
+    /**
+     * Called to write a completed value.  This is most often a serialized scalar or enum value, however it can be
+     * {@code null} or, since custom scalars can serialize to anything, a {@link java.util.Map} or {@link Iterable} of
+     * values.  The parts of the response that need to be buffered because of non null fields are also written as
+     * maps and lists via this method.
+     *
+     * @param value the value to write, which can be null
+     */
+    void writeValue(Object value);
+}
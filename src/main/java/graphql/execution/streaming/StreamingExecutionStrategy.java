@@ -0,0 +1,402 @@
+package graphql.execution.streaming;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.ExperimentalApi;
+import graphql.SerializationError;
+import graphql.UnresolvedTypeError;
+import graphql.execution.DataFetcherExceptionHandler;
+import graphql.execution.ExecutionContext;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.ExecutionStrategy;
+import graphql.execution.ExecutionStrategyParameters;
+import graphql.execution.FetchedValue;
+import graphql.execution.MergedField;
+import graphql.execution.MergedSelectionSet;
+import graphql.execution.NonNullableFieldValidator;
+import graphql.execution.NonNullableFieldWasNullException;
+import graphql.execution.ResultPath;
+import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.execution.UnresolvedTypeException;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
+import graphql.introspection.Introspection;
+import graphql.language.Field;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLType;
+import graphql.util.FpKit;
+import graphql.util.LogKit;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static graphql.execution.Async.exceptionallyCompletedFuture;
+import static graphql.execution.Async.isCompletedNormally;
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.nonNullCtx;
+import static graphql.schema.GraphQLTypeUtil.isEnum;
+import static graphql.schema.GraphQLTypeUtil.isList;
+import static graphql.schema.GraphQLTypeUtil.isNonNull;
+import static graphql.schema.GraphQLTypeUtil.isScalar;
+import static graphql.schema.GraphQLTypeUtil.unwrapOne;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * An execution strategy that writes the data of a query to a {@link ResultWriter} in document order as it is
+ * completed, rather than building it up as a tree of maps and lists.  This allows very large responses to be sent,
+ * say with a {@link JsonResultWriter}, without holding the whole response in memory.
+ * <p>
+ * The writer for a request is taken from the {@link graphql.GraphQLContext} using {@code ResultWriter.class} as the key.
+ * The {@link ExecutionResult} returned from execution then has {@code null} data, since the data has already been written.
+ * If there is no writer in the context then the data is built up and returned as usual.
+ * <p>
+ * The fields of an object are fetched together, however their values are completed and written one after another, and
+ * the items of a list are completed one after another.  This means {@link org.dataloader.DataLoader} calls are not batched
+ * across the items of a list, and so this strategy is best suited to large responses from simple data fetchers.
+ * <p>
+ * Since a null value for a non null field nulls out its nearest nullable parent, the fields of a nullable object, up to
+ * and including its last non null field, are held back until they are known to be complete, and the fields after them
+ * are streamed straight through.  This includes the fields of the query root, so putting the non null root fields first
+ * lets the rest of the response stream.  Nullable lists of non null items are held back until they are complete.
+ * Responses where such fields are nullable are streamed all the way through.
+ * <p>
+ * Field fetch instrumentation is called as usual, however field completion instrumentation is not, since no completed
+ * value is built to hand to it.
+ */
+@ExperimentalApi
+public class StreamingExecutionStrategy extends ExecutionStrategy {
+
+    private static final Logger logNotSafe = LogKit.getNotPrivacySafeLogger(StreamingExecutionStrategy.class);
+
+    public StreamingExecutionStrategy() {
+        super(new SimpleDataFetcherExceptionHandler());
+    }
+
+    public StreamingExecutionStrategy(DataFetcherExceptionHandler exceptionHandler) {
+        super(exceptionHandler);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> execute(ExecutionContext executionContext, ExecutionStrategyParameters parameters) throws NonNullableFieldWasNullException {
+        Instrumentation instrumentation = executionContext.getInstrumentation();
+        InstrumentationExecutionStrategyParameters instrumentationParameters = new InstrumentationExecutionStrategyParameters(executionContext, parameters);
+        InstrumentationContext<ExecutionResult> executionStrategyCtx = nonNullCtx(instrumentation.beginExecutionStrategy(instrumentationParameters,
+                executionContext.getInstrumentationState())
+        );
+
+        // only the top level data is streamed - other strategies can call back into this one to complete nested objects
+        ResultWriter resultWriter = parameters.getPath().isRootPath() ? executionContext.getGraphQLContext().get(ResultWriter.class) : null;
+        ValueResultWriter valueResultWriter = resultWriter == null ? new ValueResultWriter() : null;
+        ResultWriter writer = resultWriter != null ? resultWriter : valueResultWriter;
+
+        GraphQLObjectType objectType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
+        int heldBackFieldCount = parameters.getExecutionStepInfo().isNonNullType() ? 0 : heldBackFieldCount(executionContext, objectType, parameters.getFields());
+
+        CompletableFuture<ExecutionResult> overallResult = new CompletableFuture<>();
+        executionStrategyCtx.onDispatched(overallResult);
+
+        writeObject(executionContext, parameters, writer, heldBackFieldCount).whenComplete((ignored, exception) -> {
+            if (exception != null) {
+                handleNonNullException(executionContext, overallResult, exception);
+                return;
+            }
+            Object data = valueResultWriter != null ? valueResultWriter.getValue() : null;
+            overallResult.complete(new ExecutionResultImpl(data, executionContext.getErrors()));
+        });
+        overallResult.whenComplete(executionStrategyCtx::onCompleted);
+        return overallResult;
+    }
+
+    /**
+     * Writes the fields of an object.  The given number of leading fields are held back, since a null value for one of
+     * them nulls out the whole object, and then the rest are written straight through.
+     */
+    private CompletableFuture<Void> writeObject(ExecutionContext executionContext, ExecutionStrategyParameters parameters, ResultWriter writer, int heldBackFieldCount) {
+        MergedSelectionSet fields = parameters.getFields();
+        List<String> fieldNames = fields.getKeys();
+
+        List<ExecutionStrategyParameters> fieldParameters = new ArrayList<>(fieldNames.size());
+        List<CompletableFuture<FetchedValue>> fetchedValues = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            MergedField currentField = fields.getSubField(fieldName);
+            ResultPath fieldPath = parameters.getPath().segment(mkNameForPath(currentField));
+            ExecutionStrategyParameters newParameters = parameters
+                    .transform(builder -> builder.field(currentField).path(fieldPath).parent(parameters));
+            fieldParameters.add(newParameters);
+            fetchedValues.add(fetchField(executionContext, newParameters));
+        }
+
+        BiFunction<ResultWriter, Integer, CompletableFuture<Void>> writeFields = (fieldWriter, fromIndex) -> {
+            int toIndex = fromIndex == 0 && heldBackFieldCount > 0 ? heldBackFieldCount : fieldNames.size();
+            CompletableFuture<Void> fieldsWritten = new CompletableFuture<>();
+            writeSequentially(fieldNames.subList(fromIndex, toIndex).iterator(), fromIndex, (fieldName, index) -> {
+                fieldWriter.writeFieldName(fieldName);
+                return fetchedValues.get(index).thenCompose(fetchedValue -> writeField(executionContext, fieldParameters.get(index), fetchedValue, fieldWriter));
+            }, fieldsWritten);
+            return fieldsWritten;
+        };
+
+        if (heldBackFieldCount == 0) {
+            writer.writeStartObject();
+            return writeFields.apply(writer, 0).thenRun(writer::writeEndObject);
+        }
+        ValueResultWriter heldBackWriter = new ValueResultWriter();
+        heldBackWriter.writeStartObject();
+        CompletableFuture<Void> overallResult = new CompletableFuture<>();
+        writeFields.apply(heldBackWriter, 0).whenComplete((ignored, exception) -> {
+            Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            try {
+                if (cause instanceof NonNullableFieldWasNullException) {
+                    // the error has already been recorded by the non null field validator
+                    writer.writeValue(null);
+                    overallResult.complete(null);
+                    return;
+                } else if (cause != null) {
+                    overallResult.completeExceptionally(cause);
+                    return;
+                }
+                heldBackWriter.writeEndObject();
+                @SuppressWarnings("unchecked")
+                Map<String, Object> heldBackFields = (Map<String, Object>) heldBackWriter.getValue();
+                writer.writeStartObject();
+                heldBackFields.forEach((fieldName, value) -> {
+                    writer.writeFieldName(fieldName);
+                    writer.writeValue(value);
+                });
+                writeFields.apply(writer, heldBackFieldCount).thenRun(writer::writeEndObject).whenComplete((written, writeException) -> {
+                    if (writeException != null) {
+                        overallResult.completeExceptionally(writeException);
+                    } else {
+                        overallResult.complete(null);
+                    }
+                });
+            } catch (RuntimeException e) {
+                overallResult.completeExceptionally(e);
+            }
+        });
+        return overallResult;
+    }
+
+    private CompletableFuture<Void> writeField(ExecutionContext executionContext, ExecutionStrategyParameters parameters, FetchedValue fetchedValue, ResultWriter writer) {
+        Field field = parameters.getField().getSingleField();
+        GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
+        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, field);
+        ExecutionStepInfo executionStepInfo = createExecutionStepInfo(executionContext, parameters, fieldDef, parentType);
+
+        NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, executionStepInfo);
+
+        ExecutionStrategyParameters newParameters = parameters.transform(builder ->
+                builder.executionStepInfo(executionStepInfo)
+                        .source(fetchedValue.getFetchedValue())
+                        .localContext(fetchedValue.getLocalContext())
+                        .nonNullFieldValidator(nonNullableFieldValidator)
+        );
+        return writeValue(executionContext, newParameters, writer);
+    }
+
+    private CompletableFuture<Void> writeValue(ExecutionContext executionContext, ExecutionStrategyParameters parameters, ResultWriter writer) {
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        Object result = executionContext.getValueUnboxer().unbox(parameters.getSource());
+        GraphQLType fieldType = executionStepInfo.getUnwrappedNonNullType();
+        try {
+            if (result == null) {
+                writer.writeValue(parameters.getNonNullFieldValidator().validate(parameters.getPath(), null));
+                return completedFuture(null);
+            } else if (isList(fieldType)) {
+                return writeList(executionContext, parameters, result, writer);
+            } else if (isScalar(fieldType)) {
+                Object serialized;
+                try {
+                    serialized = ((GraphQLScalarType) fieldType).getCoercing().serialize(result, executionContext.getGraphQLContext(), executionContext.getLocale());
+                } catch (CoercingSerializeException e) {
+                    serialized = handleCoercionProblem(executionContext, parameters, e);
+                }
+                writer.writeValue(parameters.getNonNullFieldValidator().validate(parameters.getPath(), serialized));
+                return completedFuture(null);
+            } else if (isEnum(fieldType)) {
+                Object serialized;
+                try {
+                    serialized = ((GraphQLEnumType) fieldType).serialize(result, executionContext.getGraphQLContext(), executionContext.getLocale());
+                } catch (CoercingSerializeException e) {
+                    serialized = handleCoercionProblem(executionContext, parameters, e);
+                }
+                writer.writeValue(parameters.getNonNullFieldValidator().validate(parameters.getPath(), serialized));
+                return completedFuture(null);
+            }
+
+            GraphQLObjectType resolvedObjectType;
+            try {
+                resolvedObjectType = resolveType(executionContext, parameters, fieldType);
+            } catch (UnresolvedTypeException e) {
+                UnresolvedTypeError error = new UnresolvedTypeError(parameters.getPath(), executionStepInfo, e);
+                logNotSafe.warn(error.getMessage(), e);
+                executionContext.addError(error);
+                writer.writeValue(parameters.getNonNullFieldValidator().validate(parameters.getPath(), null));
+                return completedFuture(null);
+            }
+            return writeObjectValue(executionContext, parameters, resolvedObjectType, result, writer);
+        } catch (NonNullableFieldWasNullException e) {
+            return exceptionallyCompletedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Void> writeObjectValue(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLObjectType resolvedObjectType, Object result, ResultWriter writer) {
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+
+        MergedSelectionSet subFields = executionContext.getExecutionPlan().collectFields(executionContext, fieldCollector, resolvedObjectType, parameters.getField());
+
+        ExecutionStepInfo newExecutionStepInfo = executionStepInfo.changeTypeWithPreservedNonNull(resolvedObjectType);
+        NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, newExecutionStepInfo);
+
+        ExecutionStrategyParameters newParameters = parameters.transform(builder ->
+                builder.executionStepInfo(newExecutionStepInfo)
+                        .fields(subFields)
+                        .nonNullFieldValidator(nonNullableFieldValidator)
+                        .source(result)
+        );
+
+        int heldBackFieldCount = executionStepInfo.isNonNullType() ? 0 : heldBackFieldCount(executionContext, resolvedObjectType, subFields);
+        return writeObject(executionContext, newParameters, writer, heldBackFieldCount);
+    }
+
+    private CompletableFuture<Void> writeList(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Object result, ResultWriter writer) {
+        Iterable<Object> resultIterable = parameters.getNonNullFieldValidator().validate(parameters.getPath(), toIterable(executionContext, parameters, result));
+        if (resultIterable == null) {
+            writer.writeValue(null);
+            return completedFuture(null);
+        }
+
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        boolean buffered = !executionStepInfo.isNonNullType() && isNonNull(unwrapOne(executionStepInfo.getUnwrappedNonNullType()));
+        return writeNullable(writer, buffered, w -> writeListItems(executionContext, parameters, resultIterable, w));
+    }
+
+    private CompletableFuture<Void> writeListItems(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Iterable<Object> iterableValues, ResultWriter writer) {
+        OptionalInt size = FpKit.toSize(iterableValues);
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+
+        writer.writeStartList();
+        CompletableFuture<Void> itemsWritten = writeSequentially(iterableValues.iterator(), (item, index) -> {
+            ResultPath indexedPath = parameters.getPath().segment(index);
+            ExecutionStepInfo stepInfoForListElement = executionStepInfoFactory.newExecutionStepInfoForListElement(executionStepInfo, index);
+            NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, stepInfoForListElement);
+            FetchedValue value = unboxPossibleDataFetcherResult(executionContext, parameters, item);
+
+            ExecutionStrategyParameters newParameters = parameters.transform(builder ->
+                    builder.executionStepInfo(stepInfoForListElement)
+                            .nonNullFieldValidator(nonNullableFieldValidator)
+                            .listSize(size.orElse(-1)) // -1 signals that we don't know the size
+                            .localContext(value.getLocalContext())
+                            .currentListIndex(index)
+                            .path(indexedPath)
+                            .source(value.getFetchedValue())
+            );
+            return writeValue(executionContext, newParameters, writer);
+        });
+        return itemsWritten.thenRun(writer::writeEndList);
+    }
+
+    /**
+     * Writes a value that a non null child could null out.  If it is buffered, the value is built up in memory and only
+     * written once it is complete, otherwise it is written straight through.
+     */
+    private CompletableFuture<Void> writeNullable(ResultWriter writer, boolean buffered, Function<ResultWriter, CompletableFuture<Void>> valueWriter) {
+        if (!buffered) {
+            return valueWriter.apply(writer);
+        }
+        ValueResultWriter buffer = new ValueResultWriter();
+        CompletableFuture<Void> overallResult = new CompletableFuture<>();
+        valueWriter.apply(buffer).whenComplete((ignored, exception) -> {
+            Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            try {
+                if (cause == null) {
+                    writer.writeValue(buffer.getValue());
+                } else if (cause instanceof NonNullableFieldWasNullException) {
+                    // the error has already been recorded by the non null field validator
+                    writer.writeValue(null);
+                } else {
+                    overallResult.completeExceptionally(cause);
+                    return;
+                }
+                overallResult.complete(null);
+            } catch (RuntimeException e) {
+                overallResult.completeExceptionally(e);
+            }
+        });
+        return overallResult;
+    }
+
+    /**
+     * @return the number of fields up to and including the last non null field, which is 0 if there are none
+     */
+    private int heldBackFieldCount(ExecutionContext executionContext, GraphQLObjectType objectType, MergedSelectionSet fields) {
+        List<MergedField> subFields = fields.getSubFieldsList();
+        for (int i = subFields.size() - 1; i >= 0; i--) {
+            MergedField field = subFields.get(i);
+            // __typename is declared non null but can never be null
+            if (Introspection.TypeNameMetaFieldDef.getName().equals(field.getName())) {
+                continue;
+            }
+            GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), objectType, field.getSingleField());
+            if (isNonNull(fieldDef.getType())) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private Object handleCoercionProblem(ExecutionContext executionContext, ExecutionStrategyParameters parameters, CoercingSerializeException e) {
+        SerializationError error = new SerializationError(parameters.getPath(), e);
+        logNotSafe.warn(error.getMessage(), e);
+        executionContext.addError(error);
+        return null;
+    }
+
+    /**
+     * Writes each item in turn, looping rather than recursing while the writes complete straight away so that
+     * long lists do not grow the stack.
+     */
+    private static <T> CompletableFuture<Void> writeSequentially(Iterator<T> iterator, BiFunction<T, Integer, CompletableFuture<Void>> writeItem) {
+        CompletableFuture<Void> overallResult = new CompletableFuture<>();
+        writeSequentially(iterator, 0, writeItem, overallResult);
+        return overallResult;
+    }
+
+    private static <T> void writeSequentially(Iterator<T> iterator, int startIndex, BiFunction<T, Integer, CompletableFuture<Void>> writeItem, CompletableFuture<Void> overallResult) {
+        int index = startIndex;
+        while (iterator.hasNext()) {
+            CompletableFuture<Void> written;
+            try {
+                written = writeItem.apply(iterator.next(), index);
+            } catch (RuntimeException e) {
+                overallResult.completeExceptionally(e);
+                return;
+            }
+            index++;
+            if (!isCompletedNormally(written)) {
+                int nextIndex = index;
+                written.whenComplete((ignored, exception) -> {
+                    if (exception != null) {
+                        overallResult.completeExceptionally(exception);
+                    } else {
+                        writeSequentially(iterator, nextIndex, writeItem, overallResult);
+                    }
+                });
+                return;
+            }
+        }
+        overallResult.complete(null);
+    }
+}
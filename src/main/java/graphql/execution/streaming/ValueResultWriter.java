@@ -0,0 +1,76 @@
+package graphql.execution.streaming;
+
+import graphql.Internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A {@link ResultWriter} that builds the written values back up into maps and lists.  This is used for the parts
+ * of a result that must be held back in case a non null field nulls them out, and when no other writer is given.
+ */
+@Internal
+public class ValueResultWriter implements ResultWriter {
+
+    private final Deque<Object> containers = new ArrayDeque<>();
+    private final Deque<String> fieldNames = new ArrayDeque<>();
+    private Object value;
+    private boolean written;
+
+    @Override
+    public void writeStartObject() {
+        containers.push(new LinkedHashMap<String, Object>());
+    }
+
+    @Override
+    public void writeFieldName(String name) {
+        fieldNames.push(name);
+    }
+
+    @Override
+    public void writeEndObject() {
+        add(containers.pop());
+    }
+
+    @Override
+    public void writeStartList() {
+        containers.push(new ArrayList<>());
+    }
+
+    @Override
+    public void writeEndList() {
+        add(containers.pop());
+    }
+
+    @Override
+    public void writeValue(Object value) {
+        add(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) {
+        Object container = containers.peek();
+        if (container == null) {
+            this.value = value;
+            this.written = true;
+        } else if (container instanceof Map) {
+            ((Map<String, Object>) container).put(fieldNames.pop(), value);
+        } else {
+            ((List<Object>) container).add(value);
+        }
+    }
+
+    /**
+     * @return the value that was written
+     */
+    public Object getValue() {
+        assertTrue(written && containers.isEmpty(), () -> "A complete value has not been written");
+        return value;
+    }
+}
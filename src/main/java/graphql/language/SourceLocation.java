@@ -42,35 +42,37 @@ public class SourceLocation implements Serializable {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        // locations made by the parser may work out their values lazily, so the getters are compared
+        if (!(o instanceof SourceLocation)) {
             return false;
         }
 
         SourceLocation that = (SourceLocation) o;
 
-        if (line != that.line) {
+        if (getLine() != that.getLine()) {
             return false;
         }
-        if (column != that.column) {
+        if (getColumn() != that.getColumn()) {
             return false;
         }
-        return Objects.equals(sourceName, that.sourceName);
+        return Objects.equals(getSourceName(), that.getSourceName());
     }
 
     @Override
     public int hashCode() {
         int result = 1;
-        result = 31 * result + Integer.hashCode(line);
-        result = 31 * result + Integer.hashCode(column);
-        result = 31 * result + Objects.hashCode(sourceName);
+        result = 31 * result + Integer.hashCode(getLine());
+        result = 31 * result + Integer.hashCode(getColumn());
+        result = 31 * result + Objects.hashCode(getSourceName());
         return result;
     }
 
     @Override
     public String toString() {
+        String sourceName = getSourceName();
         return "SourceLocation{" +
-                "line=" + line +
-                ", column=" + column +
+                "line=" + getLine() +
+                ", column=" + getColumn() +
                 (sourceName != null ? ", sourceName=" + sourceName : "") +
                 '}';
     }
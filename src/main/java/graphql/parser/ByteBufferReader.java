@@ -0,0 +1,87 @@
+package graphql.parser;
+
+import graphql.Internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A reader that decodes UTF-8 straight out of a {@link ByteBuffer}, such as a {@link java.nio.MappedByteBuffer} of a file,
+ * into the caller's char array, rather than decoding the bytes into a {@link String} first.
+ * <p>
+ * When parsing, the decoded text still ends up in the lexer's character stream, which holds the whole document, and
+ * in the {@link MultiSourceReader} if it tracks the data it reads.
+ * <p>
+ * The reader reads from a duplicate of the buffer so the position of the given buffer is left alone.
+ */
+@Internal
+public class ByteBufferReader extends Reader {
+
+    private final ByteBuffer byteBuffer;
+    private final CharsetDecoder decoder;
+    // a decoder needs room for two chars to decode a surrogate pair, so one char reads go via this
+    private final CharBuffer pending = CharBuffer.allocate(2);
+    private boolean endOfInput;
+
+    public ByteBufferReader(ByteBuffer byteBuffer) {
+        this.byteBuffer = assertNotNull(byteBuffer).duplicate();
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        this.pending.flip();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (pending.hasRemaining()) {
+            int read = Math.min(len, pending.remaining());
+            pending.get(cbuf, off, read);
+            return read;
+        }
+        if (endOfInput) {
+            return -1;
+        }
+        if (len == 1) {
+            pending.clear();
+            int read = decode(pending);
+            pending.flip();
+            if (read == -1) {
+                return -1;
+            }
+            cbuf[off] = pending.get();
+            return 1;
+        }
+        return decode(CharBuffer.wrap(cbuf, off, len));
+    }
+
+    private int decode(CharBuffer out) throws IOException {
+        int start = out.position();
+        CoderResult result = decoder.decode(byteBuffer, out, true);
+        if (result.isError()) {
+            result.throwException();
+        }
+        if (!byteBuffer.hasRemaining()) {
+            decoder.flush(out);
+            endOfInput = true;
+        }
+        int read = out.position() - start;
+        return read == 0 && endOfInput ? -1 : read;
+    }
+
+    @Override
+    public void close() {
+        endOfInput = true;
+        pending.clear().flip();
+    }
+}
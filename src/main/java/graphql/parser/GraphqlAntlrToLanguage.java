@@ -93,6 +93,7 @@ public class GraphqlAntlrToLanguage {
     private final ParserOptions parserOptions;
     private final Map<Node<?>, ParserRuleContext> nodeToRuleMap;
     private final I18n i18N;
+    private LazySourceLocation.Sources lazySources;
 
     public GraphqlAntlrToLanguage(CommonTokenStream tokens, MultiSourceReader multiSourceReader, ParserOptions parserOptions, I18n i18N, @Nullable Map<Node<?>, ParserRuleContext> nodeToRuleMap) {
         this.tokens = tokens;
@@ -863,6 +864,9 @@ public class GraphqlAntlrToLanguage {
 
     protected SourceLocation getSourceLocation(Token token) {
         if (parserOptions.isCaptureSourceLocation()) {
+            if (parserOptions.isLazySourceLocation()) {
+                return getLazySources().createSourceLocation(token.getLine(), token.getCharPositionInLine());
+            }
             return AntlrHelper.createSourceLocation(multiSourceReader, token);
         } else {
             return SourceLocation.EMPTY;
@@ -897,14 +901,17 @@ public class GraphqlAntlrToLanguage {
                 continue;
             }
             text = text.replaceFirst("^#", "");
-            MultiSourceReader.SourceAndLine sourceAndLine = multiSourceReader.getSourceAndLineFromOverallLine(refTok.getLine());
-            int column = refTok.getCharPositionInLine();
-            // graphql spec says line numbers start at 1
-            int line = sourceAndLine.getLine() + 1;
-
             SourceLocation sourceLocation = SourceLocation.EMPTY;
             if (parserOptions.isCaptureSourceLocation()) {
-                sourceLocation = new SourceLocation(line, column, sourceAndLine.getSourceName());
+                if (parserOptions.isLazySourceLocation()) {
+                    sourceLocation = getLazySources().createCommentSourceLocation(refTok.getLine(), refTok.getCharPositionInLine());
+                } else {
+                    MultiSourceReader.SourceAndLine sourceAndLine = multiSourceReader.getSourceAndLineFromOverallLine(refTok.getLine());
+                    int column = refTok.getCharPositionInLine();
+                    // graphql spec says line numbers start at 1
+                    int line = sourceAndLine.getLine() + 1;
+                    sourceLocation = new SourceLocation(line, column, sourceAndLine.getSourceName());
+                }
             }
             comments.add(new Comment(text, sourceLocation));
         }
@@ -912,6 +919,14 @@ public class GraphqlAntlrToLanguage {
     }
 
 
+    private LazySourceLocation.Sources getLazySources() {
+        // the sources can only be captured once the reader has been read, which it has been by the time nodes are made
+        if (lazySources == null) {
+            lazySources = new LazySourceLocation.Sources(multiSourceReader);
+        }
+        return lazySources;
+    }
+
     private List<Type> getImplementz(GraphqlParser.ImplementsInterfacesContext implementsInterfacesContext) {
         List<Type> implementz = new ArrayList<>();
         while (implementsInterfacesContext != null) {
@@ -0,0 +1,123 @@
+package graphql.parser;
+
+import graphql.Internal;
+import graphql.language.SourceLocation;
+
+import java.util.List;
+
+/**
+ * A {@link SourceLocation} made by the parser when {@link ParserOptions#isLazySourceLocation()} is on.  It keeps the raw
+ * overall line and column of its token and only works out which source the line belongs to, and the line within that source,
+ * when it is asked for them.  This saves the parser looking up and allocating that information for every AST node
+ * when most documents never have their source locations read.
+ * <p>
+ * It is serialized as a plain {@link SourceLocation}.
+ */
+@Internal
+public class LazySourceLocation extends SourceLocation {
+
+    private final Sources sources;
+
+    private LazySourceLocation(Sources sources, int overallLine, int column) {
+        // the super class holds the raw position to keep these as small as a plain source location
+        super(overallLine, column, null);
+        this.sources = sources;
+    }
+
+    @Override
+    public int getLine() {
+        return sources.getLine(super.getLine()) + 1;
+    }
+
+    @Override
+    public String getSourceName() {
+        return sources.getSourceName(super.getLine());
+    }
+
+    private Object writeReplace() {
+        return new SourceLocation(getLine(), getColumn(), getSourceName());
+    }
+
+    /**
+     * A snapshot of the sources of a fully read {@link MultiSourceReader} that maps overall line numbers back to sources
+     * in exactly the same way as {@link MultiSourceReader#getSourceAndLineFromOverallLine(int)}, but without holding
+     * on to the reader or any of the data it has read.
+     */
+    public static class Sources {
+        private final String[] sourceNames;
+        private final int[] lineCounts;
+
+        public Sources(MultiSourceReader multiSourceReader) {
+            List<MultiSourceReader.SourceAndLine> sourceLineCounts = multiSourceReader.getSourceLineCounts();
+            this.sourceNames = new String[sourceLineCounts.size()];
+            this.lineCounts = new int[sourceLineCounts.size()];
+            for (int i = 0; i < sourceNames.length; i++) {
+                sourceNames[i] = sourceLineCounts.get(i).getSourceName();
+                lineCounts[i] = sourceLineCounts.get(i).getLine();
+            }
+        }
+
+        /**
+         * Makes the same location as {@link AntlrHelper#createSourceLocation(MultiSourceReader, int, int)}
+         *
+         * @param antlrLine          the 1 based ANTLR line of the token
+         * @param charPositionInLine the 0 based ANTLR column of the token
+         *
+         * @return a lazy source location
+         */
+        public SourceLocation createSourceLocation(int antlrLine, int charPositionInLine) {
+            return new LazySourceLocation(this, antlrLine - 1, charPositionInLine + 1);
+        }
+
+        /**
+         * Makes the same location as {@link GraphqlAntlrToLanguage} does for comments, which use the ANTLR line and column as is
+         *
+         * @param antlrLine          the 1 based ANTLR line of the comment
+         * @param charPositionInLine the 0 based ANTLR column of the comment
+         *
+         * @return a lazy source location
+         */
+        public SourceLocation createCommentSourceLocation(int antlrLine, int charPositionInLine) {
+            return new LazySourceLocation(this, antlrLine, charPositionInLine);
+        }
+
+        private int getSourceIndex(int overallLine) {
+            int last = sourceNames.length - 1;
+            if (overallLine == 0) {
+                return 0;
+            }
+            int page = 0;
+            for (int i = 0; i < last; i++) {
+                page += lineCounts[i];
+                if (page > overallLine) {
+                    return i;
+                }
+            }
+            return last;
+        }
+
+        private String getSourceName(int overallLine) {
+            if (sourceNames.length == 0) {
+                return null;
+            }
+            return sourceNames[getSourceIndex(overallLine)];
+        }
+
+        private int getLine(int overallLine) {
+            if (sourceNames.length == 0 || overallLine == 0) {
+                return 0;
+            }
+            int index = getSourceIndex(overallLine);
+            int previousPage = 0;
+            for (int i = 0; i < index; i++) {
+                previousPage += lineCounts[i];
+            }
+            int page = previousPage + lineCounts[index];
+            if (index == sourceNames.length - 1 && page <= overallLine) {
+                // the reader gives the line count of the last source for lines past its end
+                return page;
+            }
+            return overallLine - previousPage;
+        }
+    }
+}
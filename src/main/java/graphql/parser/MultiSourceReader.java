@@ -1,6 +1,7 @@
 package graphql.parser;
 
 import graphql.Assert;
+import graphql.Internal;
 import graphql.PublicApi;
 
 import java.io.IOException;
@@ -8,6 +9,7 @@ import java.io.LineNumberReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -143,6 +145,27 @@ public class MultiSourceReader extends Reader {
         return sourceAndLine;
     }
 
+    /**
+     * This returns the name of every source along with the number of lines that have been read from it so far.  Once the
+     * whole reader has been read this allows overall line numbers to be mapped back to their sources without holding
+     * on to this reader.
+     *
+     * @return the source names and line counts in source order
+     */
+    @Internal
+    public List<SourceAndLine> getSourceLineCounts() {
+        synchronized (this) {
+            List<SourceAndLine> sourceLineCounts = new ArrayList<>(sourceParts.size());
+            for (SourcePart sourcePart : sourceParts) {
+                SourceAndLine sourceAndLine = new SourceAndLine();
+                sourceAndLine.sourceName = sourcePart.sourceName;
+                sourceAndLine.line = sourcePart.lineReader.getLineNumber();
+                sourceLineCounts.add(sourceAndLine);
+            }
+            return sourceLineCounts;
+        }
+    }
+
     /**
      * @return the line number of the current source.  This is zeroes based like {@link java.io.LineNumberReader#getLineNumber()}
      */
@@ -244,6 +267,19 @@ public class MultiSourceReader extends Reader {
             return this;
         }
 
+        /**
+         * Adds UTF-8 encoded input, which is decoded as it is read rather than being copied into a string first.
+         * It is still copied into this reader's data if it tracks data, see {@link #trackData(boolean)}
+         *
+         * @param utf8Input  the UTF-8 bytes of the source, read from its position to its limit
+         * @param sourceName the name of the source
+         *
+         * @return this builder
+         */
+        public Builder byteBuffer(ByteBuffer utf8Input, String sourceName) {
+            return reader(new ByteBufferReader(utf8Input), sourceName);
+        }
+
         public Builder trackData(boolean trackData) {
             this.trackData = trackData;
             return this;
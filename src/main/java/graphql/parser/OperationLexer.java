@@ -0,0 +1,446 @@
+package graphql.parser;
+
+import com.google.common.collect.ImmutableList;
+import graphql.Internal;
+import graphql.collect.ImmutableKit;
+import graphql.i18n.I18n;
+import graphql.language.Comment;
+import graphql.language.SourceLocation;
+import graphql.parser.exceptions.ParseCancelledException;
+
+import java.util.List;
+
+/**
+ * A hand written lexer for the tokens of executable graphql documents, used by {@link OperationParser}.
+ * <p>
+ * It produces the same tokens, with the same lines and columns, as the ANTLR lexer of the graphql grammar, and it
+ * counts grammar, comment and whitespace tokens in the same way as {@link SafeTokenSource} so the same limits apply.
+ * Ignored characters are skipped rather than turned into tokens.  When it finds something it cannot lex it throws
+ * {@link OperationParser.CannotParseException} so that the document can be handed to the ANTLR parser instead,
+ * which produces the error.
+ */
+@Internal
+public class OperationLexer {
+
+    static final int EOF = 0;
+    static final int NAME = 1;
+    static final int INT = 2;
+    static final int FLOAT = 3;
+    static final int STRING = 4;
+    static final int BLOCK_STRING = 5;
+    static final int SPREAD = 6;
+    // all other tokens are punctuators, and they use their character as their kind
+
+    private static final List<Comment> NO_COMMENTS = ImmutableKit.emptyList();
+
+    private final String text;
+    private final int length;
+    private final MultiSourceReader multiSourceReader;
+    private final LazySourceLocation.Sources lazySources;
+    private final I18n i18n;
+    private final boolean captureLineComments;
+    private final boolean captureSourceLocation;
+    private final int maxTokens;
+    private final int maxWhitespaceTokens;
+
+    private int pos;
+    // ANTLR lines start at 1 and columns at 0, and only a line feed starts a new line
+    private int line = 1;
+    private int column;
+
+    private int grammarTokenCount;
+    private int commentTokenCount;
+    private int whitespaceTokenCount;
+
+    // the current token
+    private int kind;
+    private int start;
+    private int end;
+    private int tokenLine;
+    private int tokenColumn;
+    private List<Comment> comments = NO_COMMENTS;
+
+    public OperationLexer(String text, MultiSourceReader multiSourceReader, LazySourceLocation.Sources lazySources, ParserOptions parserOptions, I18n i18n) {
+        this.text = text;
+        this.length = text.length();
+        this.multiSourceReader = multiSourceReader;
+        this.lazySources = lazySources;
+        this.i18n = i18n;
+        this.captureLineComments = parserOptions.isCaptureLineComments();
+        this.captureSourceLocation = parserOptions.isCaptureSourceLocation();
+        this.maxTokens = parserOptions.getMaxTokens();
+        this.maxWhitespaceTokens = parserOptions.getMaxWhitespaceTokens();
+    }
+
+    public int getKind() {
+        return kind;
+    }
+
+    public String getText() {
+        return kind == EOF ? "<EOF>" : text.substring(start, end);
+    }
+
+    /**
+     * @param keyword the keyword to check for
+     *
+     * @return true if the current token is a name with the text of the keyword
+     */
+    public boolean isKeyword(String keyword) {
+        return kind == NAME && end - start == keyword.length() && text.startsWith(keyword, start);
+    }
+
+    public int getTokenLine() {
+        return tokenLine;
+    }
+
+    public int getTokenColumn() {
+        return tokenColumn;
+    }
+
+    /**
+     * @return the comments between the previous token and the current token
+     */
+    public List<Comment> getComments() {
+        return comments;
+    }
+
+    /**
+     * Moves on to the next token
+     */
+    public void next() {
+        comments = NO_COMMENTS;
+        ImmutableList.Builder<Comment> commentsBuilder = null;
+        while (pos < length) {
+            char c = text.charAt(pos);
+            if (c == '\n') {
+                countWhitespace(c);
+                pos++;
+                line++;
+                column = 0;
+            } else if (c == ' ' || c == ',' || c == '\t' || c == '\r' || c == '\ufeff' || c == '\u2028' || c == '\u2029') {
+                countWhitespace(c);
+                pos++;
+                column++;
+            } else if (c == '#') {
+                Comment comment = lexComment();
+                if (comment != null) {
+                    if (commentsBuilder == null) {
+                        commentsBuilder = ImmutableList.builder();
+                    }
+                    commentsBuilder.add(comment);
+                }
+            } else {
+                break;
+            }
+        }
+        if (commentsBuilder != null) {
+            comments = commentsBuilder.build();
+        }
+
+        start = pos;
+        tokenLine = line;
+        tokenColumn = column;
+        if (pos >= length) {
+            kind = EOF;
+            end = pos;
+            // ANTLR counts the end of file as a grammar token too
+            countGrammarToken();
+            return;
+        }
+
+        char c = text.charAt(pos);
+        switch (c) {
+            case '{':
+            case '}':
+            case '(':
+            case ')':
+            case '[':
+            case ']':
+            case ':':
+            case '=':
+            case '@':
+            case '$':
+            case '!':
+                kind = c;
+                pos++;
+                column++;
+                break;
+            case '.':
+                if (!text.startsWith("...", pos)) {
+                    throw OperationParser.CannotParseException.INSTANCE;
+                }
+                kind = SPREAD;
+                pos += 3;
+                column += 3;
+                break;
+            case '"':
+                if (text.startsWith("\"\"\"", pos)) {
+                    lexBlockString();
+                } else {
+                    lexString();
+                }
+                break;
+            default:
+                if (c == '-' || isDigit(c)) {
+                    lexNumber();
+                } else if (isNameStart(c)) {
+                    lexName();
+                } else {
+                    throw OperationParser.CannotParseException.INSTANCE;
+                }
+        }
+        end = pos;
+        countGrammarToken();
+    }
+
+    private void lexName() {
+        int p = pos + 1;
+        while (p < length && isNameContinue(text.charAt(p))) {
+            p++;
+        }
+        kind = NAME;
+        column += p - pos;
+        pos = p;
+    }
+
+    private void lexNumber() {
+        int p = pos;
+        if (text.charAt(p) == '-') {
+            p++;
+        }
+        if (p >= length || !isDigit(text.charAt(p))) {
+            throw OperationParser.CannotParseException.INSTANCE;
+        }
+        if (text.charAt(p) == '0') {
+            p++;
+        } else {
+            p = skipDigits(p);
+        }
+        boolean isFloat = false;
+        if (p < length && text.charAt(p) == '.') {
+            p = skipAtLeastOneDigit(p + 1);
+            isFloat = true;
+        }
+        if (p < length && (text.charAt(p) == 'e' || text.charAt(p) == 'E')) {
+            p++;
+            if (p < length && (text.charAt(p) == '+' || text.charAt(p) == '-')) {
+                p++;
+            }
+            p = skipAtLeastOneDigit(p);
+            isFloat = true;
+        }
+        if (p < length) {
+            char next = text.charAt(p);
+            if (isDigit(next) || next == '.' || isNameStart(next)) {
+                throw OperationParser.CannotParseException.INSTANCE;
+            }
+        }
+        kind = isFloat ? FLOAT : INT;
+        column += p - pos;
+        pos = p;
+    }
+
+    private int skipAtLeastOneDigit(int p) {
+        if (p >= length || !isDigit(text.charAt(p))) {
+            throw OperationParser.CannotParseException.INSTANCE;
+        }
+        return skipDigits(p);
+    }
+
+    private int skipDigits(int p) {
+        while (p < length && isDigit(text.charAt(p))) {
+            p++;
+        }
+        return p;
+    }
+
+    private void lexString() {
+        int p = pos + 1;
+        if (p < length && text.charAt(p) == '"') {
+            // the empty string, we know it's not a block string
+            kind = STRING;
+            pos += 2;
+            column += 2;
+            return;
+        }
+        while (true) {
+            if (p >= length) {
+                throw OperationParser.CannotParseException.INSTANCE;
+            }
+            char c = text.charAt(p);
+            if (c == '"') {
+                p++;
+                break;
+            }
+            if (c == '\n' || c == '\r') {
+                throw OperationParser.CannotParseException.INSTANCE;
+            }
+            if (c == '\\') {
+                p = skipEscape(p);
+            } else {
+                p = skipCodePoint(p);
+            }
+        }
+        kind = STRING;
+        column += countCodePoints(pos, p);
+        pos = p;
+    }
+
+    private int skipEscape(int p) {
+        if (p + 1 >= length) {
+            throw OperationParser.CannotParseException.INSTANCE;
+        }
+        char c = text.charAt(p + 1);
+        if (c == 'u') {
+            p += 2;
+            if (p < length && text.charAt(p) == '{') {
+                p++;
+                int hexStart = p;
+                while (p < length && isHex(text.charAt(p))) {
+                    p++;
+                }
+                if (p == hexStart || p >= length || text.charAt(p) != '}') {
+                    throw OperationParser.CannotParseException.INSTANCE;
+                }
+                return p + 1;
+            }
+            for (int i = 0; i < 4; i++, p++) {
+                if (p >= length || !isHex(text.charAt(p))) {
+                    throw OperationParser.CannotParseException.INSTANCE;
+                }
+            }
+            return p;
+        }
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return p + 2;
+            default:
+                throw OperationParser.CannotParseException.INSTANCE;
+        }
+    }
+
+    private void lexBlockString() {
+        int p = pos + 3;
+        int lineStart = -1;
+        while (true) {
+            if (p >= length) {
+                throw OperationParser.CannotParseException.INSTANCE;
+            }
+            char c = text.charAt(p);
+            if (c == '\\' && text.startsWith("\\\"\"\"", p)) {
+                p += 4;
+            } else if (c == '"' && text.startsWith("\"\"\"", p)) {
+                p += 3;
+                break;
+            } else if (c == '\n') {
+                line++;
+                p++;
+                lineStart = p;
+            } else {
+                p = skipCodePoint(p);
+            }
+        }
+        kind = BLOCK_STRING;
+        if (lineStart == -1) {
+            column += countCodePoints(pos, p);
+        } else {
+            column = countCodePoints(lineStart, p);
+        }
+        pos = p;
+    }
+
+    private Comment lexComment() {
+        int commentLine = line;
+        int commentColumn = column;
+        int p = pos + 1;
+        while (p < length) {
+            char c = text.charAt(p);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            p = skipCodePoint(p);
+        }
+        int commentStart = pos;
+        column += countCodePoints(pos, p);
+        pos = p;
+
+        commentTokenCount++;
+        if (commentTokenCount > maxTokens) {
+            throw cancelled(maxTokens, "comments", text.substring(commentStart, p), commentLine, commentColumn);
+        }
+        if (!captureLineComments) {
+            return null;
+        }
+        // this matches how GraphqlAntlrToLanguage makes comments, which uses the ANTLR line and column as is
+        SourceLocation sourceLocation = SourceLocation.EMPTY;
+        if (captureSourceLocation) {
+            if (lazySources != null) {
+                sourceLocation = lazySources.createCommentSourceLocation(commentLine, commentColumn);
+            } else {
+                MultiSourceReader.SourceAndLine sourceAndLine = multiSourceReader.getSourceAndLineFromOverallLine(commentLine);
+                sourceLocation = new SourceLocation(sourceAndLine.getLine() + 1, commentColumn, sourceAndLine.getSourceName());
+            }
+        }
+        return new Comment(text.substring(commentStart + 1, p), sourceLocation);
+    }
+
+    private int skipCodePoint(int p) {
+        char c = text.charAt(p);
+        if (Character.isHighSurrogate(c)) {
+            if (p + 1 < length && Character.isLowSurrogate(text.charAt(p + 1))) {
+                return p + 2;
+            }
+            throw OperationParser.CannotParseException.INSTANCE;
+        }
+        if (Character.isLowSurrogate(c)) {
+            throw OperationParser.CannotParseException.INSTANCE;
+        }
+        return p + 1;
+    }
+
+    private int countCodePoints(int from, int to) {
+        return Character.codePointCount(text, from, to);
+    }
+
+    private void countWhitespace(char c) {
+        whitespaceTokenCount++;
+        if (whitespaceTokenCount > maxWhitespaceTokens) {
+            throw cancelled(maxWhitespaceTokens, "whitespace", String.valueOf(c), line, column);
+        }
+    }
+
+    private void countGrammarToken() {
+        grammarTokenCount++;
+        if (grammarTokenCount > maxTokens) {
+            throw cancelled(maxTokens, "grammar", getText(), tokenLine, tokenColumn);
+        }
+    }
+
+    private ParseCancelledException cancelled(int maxCount, String tokenType, String tokenText, int line, int column) {
+        SourceLocation sourceLocation = AntlrHelper.createSourceLocation(multiSourceReader, line, column);
+        return new ParseCancelledException(i18n, sourceLocation, tokenText, maxCount, tokenType);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isNameStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isNameContinue(char c) {
+        return isNameStart(c) || isDigit(c);
+    }
+}
@@ -0,0 +1,487 @@
+package graphql.parser;
+
+import graphql.Internal;
+import graphql.collect.ImmutableKit;
+import graphql.i18n.I18n;
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.BooleanValue;
+import graphql.language.Comment;
+import graphql.language.Definition;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.EnumValue;
+import graphql.language.Field;
+import graphql.language.FloatValue;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.ListType;
+import graphql.language.NodeBuilder;
+import graphql.language.NonNullType;
+import graphql.language.NullValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.SourceLocation;
+import graphql.language.StringValue;
+import graphql.language.Type;
+import graphql.language.TypeName;
+import graphql.language.Value;
+import graphql.language.VariableDefinition;
+import graphql.language.VariableReference;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static graphql.parser.StringValueParsing.parseSingleQuotedString;
+import static graphql.parser.StringValueParsing.parseTripleQuotedString;
+
+/**
+ * A hand written, single pass, recursive descent parser for executable graphql documents, that is documents
+ * made of operations and fragments.  It is used by {@link Parser} when {@link ParserOptions#isRecursiveDescentParsing()}
+ * is on and it creates the same AST, with the same source locations and comments, as {@link GraphqlAntlrToLanguage}
+ * but without building an ANTLR parse tree first.
+ * <p>
+ * It only parses documents it is sure about.  If it meets schema definition language or any syntax error then
+ * {@link #parseDocument()} returns null and the document is parsed by the ANTLR parser instead, which then produces
+ * the exact same error messages as before.
+ */
+@Internal
+public class OperationParser {
+
+    /**
+     * Thrown to abandon a parse.  There is only one instance since it never leaves this package and it needs no stack trace.
+     */
+    static class CannotParseException extends RuntimeException {
+        static final CannotParseException INSTANCE = new CannotParseException();
+
+        private CannotParseException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final OperationLexer lexer;
+    private final MultiSourceReader multiSourceReader;
+    private final I18n i18n;
+    private final boolean captureSourceLocation;
+    private final ParsingListener parsingListener;
+    private final LazySourceLocation.Sources lazySources;
+    private int reportedTokenCount;
+
+    public OperationParser(String text, MultiSourceReader multiSourceReader, ParserOptions parserOptions, I18n i18n) {
+        // the text has been read from the reader by now so its sources can be captured
+        this.lazySources = parserOptions.isLazySourceLocation() ? new LazySourceLocation.Sources(multiSourceReader) : null;
+        this.lexer = new OperationLexer(text, multiSourceReader, lazySources, parserOptions, i18n);
+        this.multiSourceReader = multiSourceReader;
+        this.i18n = i18n;
+        this.captureSourceLocation = parserOptions.isCaptureSourceLocation();
+        this.parsingListener = parserOptions.getParsingListener();
+    }
+
+    /**
+     * Parses the text into a document
+     *
+     * @return the document or null if the text needs to be parsed by the ANTLR parser instead
+     *
+     * @throws graphql.parser.exceptions.ParseCancelledException if the text has too many tokens
+     */
+    public Document parseDocument() {
+        try {
+            return document();
+        } catch (CannotParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the number of tokens that have been given to the {@link ParsingListener} so far
+     */
+    public int getReportedTokenCount() {
+        return reportedTokenCount;
+    }
+
+    private Document document() {
+        lexer.next();
+        Document.Builder document = Document.newDocument();
+        addCommonData(document, location(), lexer.getComments());
+        List<Definition> definitions = new ArrayList<>();
+        do {
+            definitions.add(definition());
+        } while (lexer.getKind() != OperationLexer.EOF);
+        document.definitions(definitions);
+        return document.build();
+    }
+
+    private Definition definition() {
+        if (lexer.getKind() == '{' || lexer.isKeyword("query") || lexer.isKeyword("mutation") || lexer.isKeyword("subscription")) {
+            return operationDefinition();
+        }
+        if (lexer.isKeyword("fragment")) {
+            return fragmentDefinition();
+        }
+        // schema definition language is left to the ANTLR parser
+        throw CannotParseException.INSTANCE;
+    }
+
+    private OperationDefinition operationDefinition() {
+        OperationDefinition.Builder operationDefinition = OperationDefinition.newOperationDefinition();
+        addCommonData(operationDefinition, location(), lexer.getComments());
+        if (lexer.getKind() == '{') {
+            operationDefinition.operation(OperationDefinition.Operation.QUERY);
+            operationDefinition.variableDefinitions(ImmutableKit.emptyList());
+            operationDefinition.directives(ImmutableKit.emptyList());
+            operationDefinition.selectionSet(selectionSet());
+            return operationDefinition.build();
+        }
+        operationDefinition.operation(operation());
+        consume();
+        if (lexer.getKind() == OperationLexer.NAME) {
+            operationDefinition.name(name());
+        }
+        operationDefinition.variableDefinitions(lexer.getKind() == '(' ? variableDefinitions() : ImmutableKit.emptyList());
+        operationDefinition.directives(directives());
+        operationDefinition.selectionSet(selectionSet());
+        return operationDefinition.build();
+    }
+
+    private OperationDefinition.Operation operation() {
+        if (lexer.isKeyword("query")) {
+            return OperationDefinition.Operation.QUERY;
+        }
+        if (lexer.isKeyword("mutation")) {
+            return OperationDefinition.Operation.MUTATION;
+        }
+        return OperationDefinition.Operation.SUBSCRIPTION;
+    }
+
+    private FragmentDefinition fragmentDefinition() {
+        FragmentDefinition.Builder fragmentDefinition = FragmentDefinition.newFragmentDefinition();
+        addCommonData(fragmentDefinition, location(), lexer.getComments());
+        consume();
+        fragmentDefinition.name(fragmentName());
+        expectKeyword("on");
+        // like the ANTLR parser the type condition of a fragment definition has no source location or comments
+        fragmentDefinition.typeCondition(TypeName.newTypeName().name(name()).build());
+        fragmentDefinition.directives(directives());
+        fragmentDefinition.selectionSet(selectionSet());
+        return fragmentDefinition.build();
+    }
+
+    private List<VariableDefinition> variableDefinitions() {
+        expect('(');
+        List<VariableDefinition> variableDefinitions = new ArrayList<>();
+        do {
+            variableDefinitions.add(variableDefinition());
+        } while (lexer.getKind() != ')');
+        consume();
+        return variableDefinitions;
+    }
+
+    private VariableDefinition variableDefinition() {
+        VariableDefinition.Builder variableDefinition = VariableDefinition.newVariableDefinition();
+        addCommonData(variableDefinition, location(), lexer.getComments());
+        expect('$');
+        variableDefinition.name(name());
+        expect(':');
+        variableDefinition.type(type());
+        if (lexer.getKind() == '=') {
+            consume();
+            variableDefinition.defaultValue(value(true));
+        }
+        variableDefinition.directives(directives());
+        return variableDefinition.build();
+    }
+
+    private Type<?> type() {
+        SourceLocation sourceLocation = location();
+        List<Comment> comments = lexer.getComments();
+        Type<?> type;
+        if (lexer.getKind() == '[') {
+            consume();
+            ListType.Builder listType = ListType.newListType();
+            addCommonData(listType, sourceLocation, comments);
+            listType.type(type());
+            expect(']');
+            type = listType.build();
+        } else {
+            type = typeName();
+        }
+        if (lexer.getKind() == '!') {
+            consume();
+            NonNullType.Builder nonNullType = NonNullType.newNonNullType();
+            addCommonData(nonNullType, sourceLocation, comments);
+            nonNullType.type(type);
+            type = nonNullType.build();
+        }
+        return type;
+    }
+
+    private TypeName typeName() {
+        TypeName.Builder typeName = TypeName.newTypeName();
+        addCommonData(typeName, location(), lexer.getComments());
+        typeName.name(name());
+        return typeName.build();
+    }
+
+    private SelectionSet selectionSet() {
+        SelectionSet.Builder selectionSet = SelectionSet.newSelectionSet();
+        addCommonData(selectionSet, location(), lexer.getComments());
+        expect('{');
+        List<Selection> selections = new ArrayList<>();
+        do {
+            selections.add(lexer.getKind() == OperationLexer.SPREAD ? fragment() : field());
+        } while (lexer.getKind() != '}');
+        consume();
+        selectionSet.selections(selections);
+        return selectionSet.build();
+    }
+
+    private Field field() {
+        Field.Builder field = Field.newField();
+        addCommonData(field, location(), lexer.getComments());
+        String name = name();
+        if (lexer.getKind() == ':') {
+            consume();
+            field.alias(name);
+            name = name();
+        }
+        field.name(name);
+        field.arguments(lexer.getKind() == '(' ? arguments() : ImmutableKit.emptyList());
+        field.directives(directives());
+        field.selectionSet(lexer.getKind() == '{' ? selectionSet() : null);
+        return field.build();
+    }
+
+    private Selection<?> fragment() {
+        SourceLocation sourceLocation = location();
+        List<Comment> comments = lexer.getComments();
+        consume();
+        if (lexer.getKind() == OperationLexer.NAME && !lexer.isKeyword("on")) {
+            FragmentSpread.Builder fragmentSpread = FragmentSpread.newFragmentSpread();
+            addCommonData(fragmentSpread, sourceLocation, comments);
+            fragmentSpread.name(name());
+            fragmentSpread.directives(directives());
+            return fragmentSpread.build();
+        }
+        InlineFragment.Builder inlineFragment = InlineFragment.newInlineFragment();
+        addCommonData(inlineFragment, sourceLocation, comments);
+        if (lexer.isKeyword("on")) {
+            consume();
+            inlineFragment.typeCondition(typeName());
+        }
+        inlineFragment.directives(directives());
+        inlineFragment.selectionSet(selectionSet());
+        return inlineFragment.build();
+    }
+
+    private List<Argument> arguments() {
+        expect('(');
+        List<Argument> arguments = new ArrayList<>();
+        do {
+            Argument.Builder argument = Argument.newArgument();
+            addCommonData(argument, location(), lexer.getComments());
+            argument.name(name());
+            expect(':');
+            argument.value(value(false));
+            arguments.add(argument.build());
+        } while (lexer.getKind() != ')');
+        consume();
+        return arguments;
+    }
+
+    private List<Directive> directives() {
+        if (lexer.getKind() != '@') {
+            return ImmutableKit.emptyList();
+        }
+        List<Directive> directives = new ArrayList<>();
+        while (lexer.getKind() == '@') {
+            Directive.Builder directive = Directive.newDirective();
+            addCommonData(directive, location(), lexer.getComments());
+            consume();
+            directive.name(name());
+            directive.arguments(lexer.getKind() == '(' ? arguments() : ImmutableKit.emptyList());
+            directives.add(directive.build());
+        }
+        return directives;
+    }
+
+    private Value<?> value(boolean isConst) {
+        SourceLocation sourceLocation = location();
+        List<Comment> comments = lexer.getComments();
+        switch (lexer.getKind()) {
+            case '$': {
+                if (isConst) {
+                    throw CannotParseException.INSTANCE;
+                }
+                consume();
+                VariableReference.Builder variableReference = VariableReference.newVariableReference();
+                addCommonData(variableReference, sourceLocation, comments);
+                return variableReference.name(name()).build();
+            }
+            case OperationLexer.INT: {
+                IntValue.Builder intValue = IntValue.newIntValue().value(new BigInteger(lexer.getText()));
+                addCommonData(intValue, sourceLocation, comments);
+                consume();
+                return intValue.build();
+            }
+            case OperationLexer.FLOAT: {
+                FloatValue.Builder floatValue = FloatValue.newFloatValue().value(new BigDecimal(lexer.getText()));
+                addCommonData(floatValue, sourceLocation, comments);
+                consume();
+                return floatValue.build();
+            }
+            case OperationLexer.STRING:
+            case OperationLexer.BLOCK_STRING: {
+                StringValue.Builder stringValue = StringValue.newStringValue().value(quotedString());
+                addCommonData(stringValue, sourceLocation, comments);
+                consume();
+                return stringValue.build();
+            }
+            case OperationLexer.NAME: {
+                String text = lexer.getText();
+                consume();
+                if (text.equals("true") || text.equals("false")) {
+                    BooleanValue.Builder booleanValue = BooleanValue.newBooleanValue().value(Boolean.parseBoolean(text));
+                    addCommonData(booleanValue, sourceLocation, comments);
+                    return booleanValue.build();
+                }
+                if (text.equals("null")) {
+                    NullValue.Builder nullValue = NullValue.newNullValue();
+                    addCommonData(nullValue, sourceLocation, comments);
+                    return nullValue.build();
+                }
+                EnumValue.Builder enumValue = EnumValue.newEnumValue().name(text);
+                addCommonData(enumValue, sourceLocation, comments);
+                return enumValue.build();
+            }
+            case '[': {
+                consume();
+                ArrayValue.Builder arrayValue = ArrayValue.newArrayValue();
+                addCommonData(arrayValue, sourceLocation, comments);
+                List<Value> values = new ArrayList<>();
+                while (lexer.getKind() != ']') {
+                    values.add(value(isConst));
+                }
+                consume();
+                return arrayValue.values(values).build();
+            }
+            case '{': {
+                consume();
+                ObjectValue.Builder objectValue = ObjectValue.newObjectValue();
+                addCommonData(objectValue, sourceLocation, comments);
+                List<ObjectField> objectFields = new ArrayList<>();
+                while (lexer.getKind() != '}') {
+                    String name = name();
+                    expect(':');
+                    objectFields.add(ObjectField.newObjectField().name(name).value(value(isConst)).build());
+                }
+                consume();
+                return objectValue.objectFields(objectFields).build();
+            }
+            default:
+                throw CannotParseException.INSTANCE;
+        }
+    }
+
+    private String quotedString() {
+        String text = lexer.getText();
+        if (lexer.getKind() == OperationLexer.BLOCK_STRING) {
+            return parseTripleQuotedString(text);
+        }
+        SourceLocation sourceLocation = AntlrHelper.createSourceLocation(multiSourceReader, lexer.getTokenLine(), lexer.getTokenColumn());
+        try {
+            return parseSingleQuotedString(i18n, text, sourceLocation);
+        } catch (RuntimeException e) {
+            // the ANTLR parser reports syntax errors ahead of bad strings so it decides which error wins
+            throw CannotParseException.INSTANCE;
+        }
+    }
+
+    private String name() {
+        if (lexer.getKind() != OperationLexer.NAME) {
+            throw CannotParseException.INSTANCE;
+        }
+        String name = lexer.getText();
+        consume();
+        return name;
+    }
+
+    private String fragmentName() {
+        if (lexer.isKeyword("on")) {
+            throw CannotParseException.INSTANCE;
+        }
+        return name();
+    }
+
+    private void expect(int kind) {
+        if (lexer.getKind() != kind) {
+            throw CannotParseException.INSTANCE;
+        }
+        consume();
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!lexer.isKeyword(keyword)) {
+            throw CannotParseException.INSTANCE;
+        }
+        consume();
+    }
+
+    private void consume() {
+        if (parsingListener != ParsingListener.NOOP) {
+            parsingListener.onToken(new ParsedToken(lexer.getText(), lexer.getTokenLine(), lexer.getTokenColumn()));
+        }
+        reportedTokenCount++;
+        lexer.next();
+    }
+
+    private SourceLocation location() {
+        if (captureSourceLocation) {
+            if (lazySources != null) {
+                return lazySources.createSourceLocation(lexer.getTokenLine(), lexer.getTokenColumn());
+            }
+            return AntlrHelper.createSourceLocation(multiSourceReader, lexer.getTokenLine(), lexer.getTokenColumn());
+        }
+        return SourceLocation.EMPTY;
+    }
+
+    private static void addCommonData(NodeBuilder nodeBuilder, SourceLocation sourceLocation, List<Comment> comments) {
+        if (!comments.isEmpty()) {
+            nodeBuilder.comments(comments);
+        }
+        nodeBuilder.sourceLocation(sourceLocation);
+    }
+
+    private static class ParsedToken implements ParsingListener.Token {
+        private final String text;
+        private final int line;
+        private final int charPositionInLine;
+
+        private ParsedToken(String text, int line, int charPositionInLine) {
+            this.text = text;
+            this.line = line;
+            this.charPositionInLine = charPositionInLine;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getLine() {
+            return line;
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return charPositionInLine;
+        }
+    }
+}
@@ -221,9 +221,63 @@ public class Parser {
             Document doc = toLanguage.createDocument(documentContext);
             return new Object[]{documentContext, doc};
         };
+        ParserOptions parserOptions = getParserOptions(environment);
+        if (parserOptions.isRecursiveDescentParsing() && !parserOptions.isCaptureIgnoredChars()) {
+            return parseDocumentWithRecursiveDescent(environment, parserOptions, nodeFunction);
+        }
         return (Document) parseImpl(environment, nodeFunction);
     }
 
+    private Document parseDocumentWithRecursiveDescent(ParserEnvironment environment, ParserOptions parserOptions, BiFunction<GraphqlParser, GraphqlAntlrToLanguage, Object[]> nodeFunction) throws InvalidSyntaxException {
+        MultiSourceReader multiSourceReader = getMultiSourceReader(environment, parserOptions);
+        String text = readFully(multiSourceReader);
+
+        OperationParser operationParser = new OperationParser(text, multiSourceReader, parserOptions, environment.getI18N());
+        Document document = operationParser.parseDocument();
+        if (document != null) {
+            return document;
+        }
+
+        // SDL and syntax errors are left to ANTLR, which must not tell the parsing listener about tokens it has already been told about
+        ParserOptions antlrParserOptions = parserOptions;
+        int reportedTokenCount = operationParser.getReportedTokenCount();
+        ParsingListener parsingListener = parserOptions.getParsingListener();
+        if (reportedTokenCount > 0 && parsingListener != ParsingListener.NOOP) {
+            antlrParserOptions = parserOptions.transform(builder -> builder.parsingListener(new ParsingListener() {
+                int skipped = 0;
+
+                @Override
+                public void onToken(Token token) {
+                    if (skipped < reportedTokenCount) {
+                        skipped++;
+                    } else {
+                        parsingListener.onToken(token);
+                    }
+                }
+            }));
+        }
+        ParserEnvironment antlrEnvironment = ParserEnvironment.newParserEnvironment()
+                .document(multiSourceReader)
+                .parserOptions(antlrParserOptions)
+                .locale(environment.getLocale())
+                .build();
+        return (Document) parseImpl(antlrEnvironment, multiSourceReader, CharStreams.fromString(text), nodeFunction);
+    }
+
+    private static String readFully(Reader reader) {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[8192];
+        try {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                sb.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
     private Value<?> parseValueImpl(String input) throws InvalidSyntaxException {
         BiFunction<GraphqlParser, GraphqlAntlrToLanguage, Object[]> nodeFunction = (parser, toLanguage) -> {
             GraphqlParser.ValueContext documentContext = parser.value();
@@ -254,26 +308,35 @@ public class Parser {
     }
 
     private Node<?> parseImpl(ParserEnvironment environment, BiFunction<GraphqlParser, GraphqlAntlrToLanguage, Object[]> nodeFunction) throws InvalidSyntaxException {
-        // default in the parser options if they are not set
-        ParserOptions parserOptions = environment.getParserOptions();
-        parserOptions = Optional.ofNullable(parserOptions).orElse(ParserOptions.getDefaultParserOptions());
-
-        MultiSourceReader multiSourceReader;
-        Reader reader = environment.getDocument();
-        if (reader instanceof MultiSourceReader) {
-            multiSourceReader = (MultiSourceReader) reader;
-        } else {
-            multiSourceReader = MultiSourceReader.newMultiSourceReader()
-                    .reader(reader, null)
-                    .trackData(parserOptions.isReaderTrackData())
-                    .build();
-        }
+        MultiSourceReader multiSourceReader = getMultiSourceReader(environment, getParserOptions(environment));
         CodePointCharStream charStream;
         try {
             charStream = CharStreams.fromReader(multiSourceReader);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+        return parseImpl(environment, multiSourceReader, charStream, nodeFunction);
+    }
+
+    private static ParserOptions getParserOptions(ParserEnvironment environment) {
+        // default in the parser options if they are not set
+        ParserOptions parserOptions = environment.getParserOptions();
+        return Optional.ofNullable(parserOptions).orElse(ParserOptions.getDefaultParserOptions());
+    }
+
+    private static MultiSourceReader getMultiSourceReader(ParserEnvironment environment, ParserOptions parserOptions) {
+        Reader reader = environment.getDocument();
+        if (reader instanceof MultiSourceReader) {
+            return (MultiSourceReader) reader;
+        }
+        return MultiSourceReader.newMultiSourceReader()
+                .reader(reader, null)
+                .trackData(parserOptions.isReaderTrackData())
+                .build();
+    }
+
+    private Node<?> parseImpl(ParserEnvironment environment, MultiSourceReader multiSourceReader, CodePointCharStream charStream, BiFunction<GraphqlParser, GraphqlAntlrToLanguage, Object[]> nodeFunction) throws InvalidSyntaxException {
+        ParserOptions parserOptions = getParserOptions(environment);
 
         GraphqlLexer lexer = new GraphqlLexer(charStream);
         lexer.removeErrorListeners();
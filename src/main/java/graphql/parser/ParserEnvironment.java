@@ -5,6 +5,7 @@ import graphql.i18n.I18n;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.Locale;
 
 import static graphql.Assert.assertNotNull;
@@ -59,6 +60,19 @@ public interface ParserEnvironment {
             return document(new StringReader(documentText));
         }
 
+        /**
+         * The document can be given as UTF-8 bytes, say a request body or a {@link java.nio.MappedByteBuffer} of a file,
+         * which are decoded as they are parsed rather than being copied into a string first.  Turn off
+         * {@link ParserOptions#isReaderTrackData()} to not also keep a copy of the text for syntax error messages.
+         *
+         * @param utf8DocumentText the UTF-8 bytes of the document, read from its position to its limit
+         *
+         * @return this builder
+         */
+        public Builder document(ByteBuffer utf8DocumentText) {
+            return document(new ByteBufferReader(utf8DocumentText));
+        }
+
         public Builder parserOptions(ParserOptions parserOptions) {
             this.parserOptions = parserOptions;
             return this;
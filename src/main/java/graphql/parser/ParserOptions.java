@@ -161,6 +161,8 @@ public class ParserOptions {
     private final int maxTokens;
     private final int maxWhitespaceTokens;
     private final ParsingListener parsingListener;
+    private final boolean recursiveDescentParsing;
+    private final boolean lazySourceLocation;
 
     private ParserOptions(Builder builder) {
         this.captureIgnoredChars = builder.captureIgnoredChars;
@@ -170,6 +172,8 @@ public class ParserOptions {
         this.maxTokens = builder.maxTokens;
         this.maxWhitespaceTokens = builder.maxWhitespaceTokens;
         this.parsingListener = builder.parsingListener;
+        this.recursiveDescentParsing = builder.recursiveDescentParsing;
+        this.lazySourceLocation = builder.lazySourceLocation;
     }
 
     /**
@@ -195,6 +199,20 @@ public class ParserOptions {
         return captureSourceLocation;
     }
 
+    /**
+     * When {@link #isCaptureSourceLocation()} is on, the parser normally works out the source name and line of every AST node
+     * as it is created.  Lazy source locations instead just keep the position of their token and work these out
+     * when they are read, for example when a validation error is reported.  This saves time and memory when parsing
+     * documents whose source locations are rarely read, such as operations in production.
+     *
+     * @return true if {@link graphql.language.SourceLocation}s should be worked out when they are read
+     *
+     * @see graphql.language.SourceLocation
+     */
+    public boolean isLazySourceLocation() {
+        return lazySourceLocation;
+    }
+
     /**
      * Single-line {@link graphql.language.Comment}s do not have any semantic meaning in
      * GraphQL source documents, as such you may wish to ignore them.
@@ -244,6 +262,20 @@ public class ParserOptions {
         return parsingListener;
     }
 
+    /**
+     * Executable documents, that is operations and fragments, can be parsed by a hand written recursive descent parser
+     * rather than ANTLR.  This creates the same AST in a single pass over the text without building an ANTLR parse tree first,
+     * which is faster and allocates less.  Documents containing schema definition language or syntax errors, or parses
+     * that capture ignored characters, are still handled by ANTLR so errors are reported the same way.
+     * <p>
+     * Note that a {@link Parser} subclass that overrides {@code getAntlrToLanguage} is bypassed for the documents it parses.
+     *
+     * @return true if executable documents should be parsed by the recursive descent parser
+     */
+    public boolean isRecursiveDescentParsing() {
+        return recursiveDescentParsing;
+    }
+
     public ParserOptions transform(Consumer<Builder> builderConsumer) {
         Builder builder = new Builder(this);
         builderConsumer.accept(builder);
@@ -263,6 +295,8 @@ public class ParserOptions {
         private int maxTokens = MAX_QUERY_TOKENS;
         private ParsingListener parsingListener = ParsingListener.NOOP;
         private int maxWhitespaceTokens = MAX_WHITESPACE_TOKENS;
+        private boolean recursiveDescentParsing = false;
+        private boolean lazySourceLocation = false;
 
         Builder() {
         }
@@ -271,9 +305,12 @@ public class ParserOptions {
             this.captureIgnoredChars = parserOptions.captureIgnoredChars;
             this.captureSourceLocation = parserOptions.captureSourceLocation;
             this.captureLineComments = parserOptions.captureLineComments;
+            this.readerTrackData = parserOptions.readerTrackData;
             this.maxTokens = parserOptions.maxTokens;
             this.maxWhitespaceTokens = parserOptions.maxWhitespaceTokens;
             this.parsingListener = parserOptions.parsingListener;
+            this.recursiveDescentParsing = parserOptions.recursiveDescentParsing;
+            this.lazySourceLocation = parserOptions.lazySourceLocation;
         }
 
         public Builder captureIgnoredChars(boolean captureIgnoredChars) {
@@ -286,6 +323,11 @@ public class ParserOptions {
             return this;
         }
 
+        public Builder lazySourceLocation(boolean lazySourceLocation) {
+            this.lazySourceLocation = lazySourceLocation;
+            return this;
+        }
+
         public Builder captureLineComments(boolean captureLineComments) {
             this.captureLineComments = captureLineComments;
             return this;
@@ -311,6 +353,11 @@ public class ParserOptions {
             return this;
         }
 
+        public Builder recursiveDescentParsing(boolean recursiveDescentParsing) {
+            this.recursiveDescentParsing = recursiveDescentParsing;
+            return this;
+        }
+
         public ParserOptions build() {
             return new ParserOptions(this);
         }
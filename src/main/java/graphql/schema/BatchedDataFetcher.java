@@ -0,0 +1,42 @@
+package graphql.schema;
+
+import graphql.PublicSpi;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link BatchedDataFetcher} is a specialised version of {@link DataFetcher} that can fetch the values of a field for many
+ * source objects in one call.  The {@link graphql.execution.BreadthFirstExecutionStrategy} collects every source object of a
+ * field on a level of the query and calls {@link #getBatch(List)} once for all of them, which turns what would be N+1 calls
+ * into one call per field per level without the need for {@link org.dataloader.DataLoader}s.
+ * <p>
+ * Other execution strategies call {@link #get(DataFetchingEnvironment)} as usual, which fetches a batch of one.
+ *
+ * @param <T> the type of value fetched for each source object. May also be wrapped in a {@link graphql.execution.DataFetcherResult}
+ */
+@PublicSpi
+public interface BatchedDataFetcher<T> extends DataFetcher<CompletableFuture<T>> {
+
+    /**
+     * This is called by the {@link graphql.execution.BreadthFirstExecutionStrategy} to fetch the values of a field for
+     * a batch of source objects.
+     *
+     * @param environments the data fetching environments of the field, one per source object
+     *
+     * @return a promise to a list of values of type T in the same order as the environments, each of which may be
+     * wrapped in a {@link graphql.execution.DataFetcherResult}
+     *
+     * @throws Exception to relieve the implementations from having to wrap checked exceptions. Any exception thrown
+     *                   from a {@code BatchedDataFetcher} will eventually be handled by the registered {@link graphql.execution.DataFetcherExceptionHandler}
+     *                   for every field in the batch and those fields will have a value of {@code null} in the result.
+     */
+    CompletionStage<List<T>> getBatch(List<DataFetchingEnvironment> environments) throws Exception;
+
+    @Override
+    default CompletableFuture<T> get(DataFetchingEnvironment environment) throws Exception {
+        return getBatch(Collections.singletonList(environment)).toCompletableFuture().thenApply(values -> values.get(0));
+    }
+}
@@ -18,6 +18,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import static graphql.Assert.assertNotNull;
@@ -44,7 +45,10 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
     private final String name;
     private final String description;
     private final Comparator<? super GraphQLSchemaElement> interfaceComparator;
-    private final ImmutableMap<String, GraphQLFieldDefinition> fieldDefinitionsByName;
+    private final Comparator<? super GraphQLSchemaElement> fieldComparator;
+    // when the fields are built lazily these are null until they are first asked for
+    private volatile ImmutableMap<String, GraphQLFieldDefinition> fieldDefinitionsByName;
+    private volatile Supplier<List<GraphQLFieldDefinition>> lazyFieldDefinitions;
     private final ImmutableList<GraphQLNamedOutputType> originalInterfaces;
     private final DirectivesUtil.DirectivesHolder directivesHolder;
     private final ObjectTypeDefinition definition;
@@ -59,29 +63,63 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
     private GraphQLObjectType(String name,
                               String description,
                               List<GraphQLFieldDefinition> fieldDefinitions,
+                              Supplier<List<GraphQLFieldDefinition>> lazyFieldDefinitions,
                               List<GraphQLNamedOutputType> interfaces,
                               List<GraphQLDirective> directives,
                               List<GraphQLAppliedDirective> appliedDirectives,
                               ObjectTypeDefinition definition,
                               List<ObjectTypeExtensionDefinition> extensionDefinitions,
-                              Comparator<? super GraphQLSchemaElement> interfaceComparator) {
+                              Comparator<? super GraphQLSchemaElement> interfaceComparator,
+                              Comparator<? super GraphQLSchemaElement> fieldComparator) {
         assertValidName(name);
         assertNotNull(fieldDefinitions, () -> "fieldDefinitions can't be null");
         assertNotNull(interfaces, () -> "interfaces can't be null");
         this.name = name;
         this.description = description;
         this.interfaceComparator = interfaceComparator;
+        this.fieldComparator = fieldComparator;
         this.originalInterfaces = ImmutableList.copyOf(sortTypes(interfaceComparator, interfaces));
         this.definition = definition;
         this.extensionDefinitions = ImmutableList.copyOf(extensionDefinitions);
         this.directivesHolder = new DirectivesUtil.DirectivesHolder(directives, appliedDirectives);
-        this.fieldDefinitionsByName = buildDefinitionMap(fieldDefinitions);
+        if (lazyFieldDefinitions == null) {
+            this.fieldDefinitionsByName = buildDefinitionMap(fieldDefinitions);
+        } else {
+            this.lazyFieldDefinitions = lazyFieldDefinitions;
+        }
     }
 
     void replaceInterfaces(List<GraphQLNamedOutputType> interfaces) {
         this.replacedInterfaces = ImmutableList.copyOf(sortTypes(interfaceComparator, interfaces));
     }
 
+    /*
+     * The supplier of lazily built fields gives the same field definitions each time, so if two threads get here at the
+     * same time they both make a map of the same field definitions.
+     */
+    private ImmutableMap<String, GraphQLFieldDefinition> fieldDefinitionsByName() {
+        ImmutableMap<String, GraphQLFieldDefinition> fieldDefinitions = fieldDefinitionsByName;
+        if (fieldDefinitions == null) {
+            Supplier<List<GraphQLFieldDefinition>> fieldDefinitionsSupplier = lazyFieldDefinitions;
+            if (fieldDefinitionsSupplier == null) {
+                // another thread has just built them
+                return fieldDefinitionsByName;
+            }
+            fieldDefinitions = buildDefinitionMap(sortTypes(fieldComparator, fieldDefinitionsSupplier.get()));
+            fieldDefinitionsByName = fieldDefinitions;
+            lazyFieldDefinitions = null;
+        }
+        return fieldDefinitions;
+    }
+
+    /**
+     * @return true if the fields of this type are built when they are first asked for and that has not happened yet
+     */
+    @Internal
+    public boolean hasLazyFieldDefinitions() {
+        return fieldDefinitionsByName == null;
+    }
+
     private ImmutableMap<String, GraphQLFieldDefinition> buildDefinitionMap(List<GraphQLFieldDefinition> fieldDefinitions) {
         return ImmutableMap.copyOf(FpKit.getByName(fieldDefinitions, GraphQLFieldDefinition::getName,
                 (fld1, fld2) -> assertShouldNeverHappen("Duplicated definition for field '%s' in type '%s'", fld1.getName(), this.name)));
@@ -124,12 +162,12 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
 
     @Override
     public GraphQLFieldDefinition getFieldDefinition(String name) {
-        return fieldDefinitionsByName.get(name);
+        return fieldDefinitionsByName().get(name);
     }
 
     @Override
     public List<GraphQLFieldDefinition> getFieldDefinitions() {
-        return ImmutableList.copyOf(fieldDefinitionsByName.values());
+        return ImmutableList.copyOf(fieldDefinitionsByName().values());
     }
 
 
@@ -164,7 +202,7 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
         return "GraphQLObjectType{" +
                 "name='" + name + '\'' +
                 ", description='" + description + '\'' +
-                ", fieldDefinitionsByName=" + fieldDefinitionsByName.keySet() +
+                ", fieldDefinitionsByName=" + fieldDefinitionsByName().keySet() +
                 ", interfaces=" + getInterfaces() +
                 '}';
     }
@@ -195,7 +233,7 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
 
     @Override
     public List<GraphQLSchemaElement> getChildren() {
-        List<GraphQLSchemaElement> children = new ArrayList<>(fieldDefinitionsByName.values());
+        List<GraphQLSchemaElement> children = new ArrayList<>(fieldDefinitionsByName().values());
         children.addAll(getInterfaces());
         children.addAll(directivesHolder.getDirectives());
         children.addAll(directivesHolder.getAppliedDirectives());
@@ -205,7 +243,19 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
     @Override
     public SchemaElementChildrenContainer getChildrenWithTypeReferences() {
         return SchemaElementChildrenContainer.newSchemaElementChildrenContainer()
-                .children(CHILD_FIELD_DEFINITIONS, fieldDefinitionsByName.values())
+                .children(CHILD_FIELD_DEFINITIONS, fieldDefinitionsByName().values())
+                .children(CHILD_INTERFACES, originalInterfaces)
+                .children(CHILD_APPLIED_DIRECTIVES, directivesHolder.getAppliedDirectives())
+                .children(CHILD_DIRECTIVES, directivesHolder.getDirectives())
+                .build();
+    }
+
+    /**
+     * @return the children of this type other than its fields, which a traversal can use so as not to build lazily built fields
+     */
+    @Internal
+    public SchemaElementChildrenContainer getChildrenWithTypeReferencesOtherThanFields() {
+        return SchemaElementChildrenContainer.newSchemaElementChildrenContainer()
                 .children(CHILD_INTERFACES, originalInterfaces)
                 .children(CHILD_APPLIED_DIRECTIVES, directivesHolder.getAppliedDirectives())
                 .children(CHILD_DIRECTIVES, directivesHolder.getDirectives())
@@ -254,6 +304,7 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
         private ObjectTypeDefinition definition;
         private List<ObjectTypeExtensionDefinition> extensionDefinitions = emptyList();
         private final Map<String, GraphQLFieldDefinition> fields = new LinkedHashMap<>();
+        private Supplier<List<GraphQLFieldDefinition>> lazyFields;
         private final Map<String, GraphQLNamedOutputType> interfaces = new LinkedHashMap<>();
 
         public Builder() {
@@ -344,6 +395,21 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
             return fields.containsKey(fieldName);
         }
 
+        /**
+         * The fields of the type are built by the supplier when they are first asked for, instead of being the fields
+         * given to this builder.  The supplier can be called from several threads at once, so it must be thread safe and
+         * give the same fields each time, and the types of the fields must be the types of the schema the type is put in.
+         *
+         * @param lazyFields the supplier of the fields of the type
+         *
+         * @return this
+         */
+        @Internal
+        public Builder lazyFields(Supplier<List<GraphQLFieldDefinition>> lazyFields) {
+            this.lazyFields = lazyFields;
+            return this;
+        }
+
 
         public Builder withInterface(GraphQLInterfaceType interfaceType) {
             assertNotNull(interfaceType, () -> "interfaceType can't be null");
@@ -436,12 +502,14 @@ public class GraphQLObjectType implements GraphQLNamedOutputType, GraphQLComposi
                     name,
                     description,
                     sort(fields, GraphQLObjectType.class, GraphQLFieldDefinition.class),
+                    lazyFields,
                     valuesToList(interfaces),
                     sort(directives, GraphQLObjectType.class, GraphQLDirective.class),
                     sort(appliedDirectives, GraphQLObjectType.class, GraphQLAppliedDirective.class),
                     definition,
                     extensionDefinitions,
-                    getComparator(GraphQLObjectType.class, GraphQLInterfaceType.class)
+                    getComparator(GraphQLObjectType.class, GraphQLInterfaceType.class),
+                    getComparator(GraphQLObjectType.class, GraphQLFieldDefinition.class)
             );
         }
     }
@@ -29,6 +29,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
 import static graphql.Assert.assertNotNull;
@@ -170,11 +171,11 @@ public class GraphQLSchema {
         return existingSchema.schemaAppliedDirectivesHolder.getAppliedDirectives().toArray(new GraphQLAppliedDirective[0]);
     }
 
-    private static List<GraphQLNamedType> getAllTypesAsList(ImmutableMap<String, GraphQLNamedType> typeMap) {
+    static List<GraphQLNamedType> getAllTypesAsList(ImmutableMap<String, GraphQLNamedType> typeMap) {
         return sortTypes(byNameAsc(), typeMap.values());
     }
 
-    private static ImmutableMap<String, ImmutableList<GraphQLObjectType>> buildInterfacesToObjectTypes(Map<String, List<GraphQLObjectType>> groupImplementations) {
+    static ImmutableMap<String, ImmutableList<GraphQLObjectType>> buildInterfacesToObjectTypes(Map<String, List<GraphQLObjectType>> groupImplementations) {
         ImmutableMap.Builder<String, ImmutableList<GraphQLObjectType>> map = ImmutableMap.builder();
         for (Map.Entry<String, List<GraphQLObjectType>> e : groupImplementations.entrySet()) {
             ImmutableList<GraphQLObjectType> sortedObjectTypes = ImmutableList.copyOf(sortTypes(byNameAsc(), e.getValue()));
@@ -196,6 +197,10 @@ public class GraphQLSchema {
         return codeRegistry;
     }
 
+    ImmutableMap<String, ImmutableList<GraphQLObjectType>> getInterfaceNameToObjectTypes() {
+        return interfaceNameToObjectTypes;
+    }
+
     /**
      * @return the special system field called "__schema"
      */
@@ -699,6 +704,7 @@ public class GraphQLSchema {
         private SchemaDefinition definition;
         private List<SchemaExtensionDefinition> extensionDefinitions;
         private String description;
+        private SchemaElementInterner interner;
 
         // we default these in
         private final Set<GraphQLDirective> additionalDirectives = new LinkedHashSet<>(
@@ -864,6 +870,19 @@ public class GraphQLSchema {
             return this;
         }
 
+        /**
+         * The built schema will share its arguments, enum values, applied directives and descriptions with the other schemas
+         * built with this interner, see {@link SchemaElementInterner#intern(GraphQLSchema)}.
+         *
+         * @param interner the interner to use
+         *
+         * @return the builder
+         */
+        public Builder interner(SchemaElementInterner interner) {
+            this.interner = interner;
+            return this;
+        }
+
         /**
          * Builds the schema
          *
@@ -901,13 +920,68 @@ public class GraphQLSchema {
          * @return the built schema
          */
         public GraphQLSchema build() {
-            return buildImpl();
+            return intern(buildImpl());
         }
 
-        private GraphQLSchema buildImpl() {
-            assertNotNull(additionalTypes, () -> "additionalTypes can't be null");
-            assertNotNull(additionalDirectives, () -> "additionalDirectives can't be null");
+        /**
+         * Builds the schema like {@link #build()} does, but reuses the named types, the type indexes and the validation of a previous
+         * schema that the new one only differs from in some of its named types, such as after a small {@link SchemaTransformer} edit.
+         * If the previous schema can't be safely reused then the schema is built in full.
+         *
+         * @param previousSchema the schema that this builder was made from
+         *
+         * @return the built schema
+         */
+        GraphQLSchema buildIncrementally(GraphQLSchema previousSchema) {
+            addSpecifiedDirectives();
+            GraphQLSchema schema = new IncrementalSchemaBuilder(previousSchema, new GraphQLSchema(this), codeRegistry).build();
+            if (schema == null) {
+                schema = buildImpl();
+            }
+            return intern(schema);
+        }
 
+        /**
+         * Builds the schema from all of its named types, other than the introspection types, without collecting them from the roots
+         * of the schema and without validating the schema.  This is only for types that make up a schema that was validated before,
+         * such as the types restored by {@link graphql.schema.idl.SchemaSnapshot}, or that the caller validates in its own way.
+         * Their type references are still resolved and their code is registered as usual, other than in object type fields that
+         * are still to be built lazily.
+         *
+         * @param allTypes every named type of the schema, including the ones that the roots of the schema lead to
+         *
+         * @return the built schema
+         */
+        @Internal
+        public GraphQLSchema buildFromValidatedTypes(Collection<? extends GraphQLNamedType> allTypes) {
+            addSpecifiedDirectives();
+            final GraphQLSchema partiallyBuiltSchema = new GraphQLSchema(this);
+
+            Map<String, GraphQLNamedType> typeMap = new TreeMap<>();
+            for (GraphQLNamedType type : allTypes) {
+                typeMap.put(type.getName(), type);
+            }
+            GraphQLTypeCollectingVisitor introspectionTypesVisitor = new GraphQLTypeCollectingVisitor();
+            new SchemaTraverser().depthFirst(introspectionTypesVisitor, partiallyBuiltSchema.getIntrospectionSchemaType());
+            introspectionTypesVisitor.getResult().forEach(typeMap::putIfAbsent);
+            ImmutableMap<String, GraphQLNamedType> typesByName = ImmutableMap.copyOf(typeMap);
+
+            List<GraphQLSchemaElement> elements = new ArrayList<>(typesByName.values());
+            elements.addAll(partiallyBuiltSchema.getDirectives());
+            elements.addAll(partiallyBuiltSchema.getSchemaAppliedDirectives());
+            SchemaTraverser withinTypesTraverser = IncrementalSchemaBuilder.withinTypesTraverser();
+            withinTypesTraverser.depthFirst(new GraphQLTypeResolvingVisitor(typesByName), elements);
+
+            GraphQLCodeRegistry.Builder extractedDataFetchers = GraphQLCodeRegistry.newCodeRegistry(codeRegistry);
+            withinTypesTraverser.depthFirst(new CodeRegistryVisitor(extractedDataFetchers), typesByName.values());
+            codeRegistry = extractedDataFetchers.build();
+
+            List<GraphQLNamedType> allTypesAsList = getAllTypesAsList(typesByName);
+            ImmutableMap<String, ImmutableList<GraphQLObjectType>> interfaceNameToObjectTypes = buildInterfacesToObjectTypes(SchemaUtil.groupInterfaceImplementationsByName(allTypesAsList));
+            return new GraphQLSchema(partiallyBuiltSchema, codeRegistry, typesByName, interfaceNameToObjectTypes);
+        }
+
+        private void addSpecifiedDirectives() {
             // schemas built via the schema generator have the deprecated directive BUT we want it present for hand built
             // schemas - it's inherently part of the spec!
             if (additionalDirectives.stream().noneMatch(d -> d.getName().equals(Directives.DeprecatedDirective.getName()))) {
@@ -917,6 +991,13 @@ public class GraphQLSchema {
             if (additionalDirectives.stream().noneMatch(d -> d.getName().equals(Directives.SpecifiedByDirective.getName()))) {
                 additionalDirectives.add(Directives.SpecifiedByDirective);
             }
+        }
+
+        private GraphQLSchema buildImpl() {
+            assertNotNull(additionalTypes, () -> "additionalTypes can't be null");
+            assertNotNull(additionalDirectives, () -> "additionalDirectives can't be null");
+
+            addSpecifiedDirectives();
 
             // quick build - no traversing
             final GraphQLSchema partiallyBuiltSchema = new GraphQLSchema(this);
@@ -939,6 +1020,10 @@ public class GraphQLSchema {
             return validateSchema(finalSchema);
         }
 
+        private GraphQLSchema intern(GraphQLSchema graphQLSchema) {
+            return interner != null ? interner.intern(graphQLSchema) : graphQLSchema;
+        }
+
         private GraphQLSchema validateSchema(GraphQLSchema graphQLSchema) {
             Collection<SchemaValidationError> errors = new SchemaValidator().validateSchema(graphQLSchema);
             if (errors.size() > 0) {
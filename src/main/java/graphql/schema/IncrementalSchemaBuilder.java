@@ -0,0 +1,239 @@
+package graphql.schema;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import graphql.Internal;
+import graphql.schema.impl.SchemaUtil;
+import graphql.schema.validation.InvalidSchemaException;
+import graphql.schema.validation.SchemaValidationError;
+import graphql.schema.validation.SchemaValidator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static graphql.Assert.assertTrue;
+import static graphql.util.FpKit.filterList;
+import static java.lang.String.format;
+
+/**
+ * Builds a schema that differs from a previous schema in only some of its named types, such as the schema made by a small
+ * {@link SchemaTransformer} edit, without collecting, resolving and validating the whole type tree again.
+ * <p>
+ * The named types are still collected from the roots of the schema, but only by looking at the direct children of each type.
+ * The types that are the same objects as in the previous schema are reused as they are.  Only the replaced types, and the
+ * types and directives that refer to them by type reference, have their type references resolved, their code registered and
+ * are validated.  As resolving a type reference changes the element that holds it, the types that refer to a replaced type
+ * by type reference must be replaced by copies too, as {@link SchemaTransformer} does.  The interface implementations index is reused unless object types were replaced or removed.
+ * <p>
+ * If the directives of the schema changed, or two types have the same name, or a type reference can't be found, then null
+ * is returned and the schema must be built in full, which reports those problems as usual.  Changes to input object types
+ * and removed types are validated over the whole schema, as the rules for them look across types.
+ */
+@Internal
+class IncrementalSchemaBuilder {
+
+    private final GraphQLSchema previousSchema;
+    private final GraphQLSchema partiallyBuiltSchema;
+    private final GraphQLCodeRegistry codeRegistry;
+
+    private final Map<String, GraphQLNamedType> typeMap = new LinkedHashMap<>();
+    // the named types and directives that hold type references, by the name they refer to
+    private final Map<String, Set<GraphQLSchemaElement>> typeReferenceHolders = new LinkedHashMap<>();
+
+    IncrementalSchemaBuilder(GraphQLSchema previousSchema, GraphQLSchema partiallyBuiltSchema, GraphQLCodeRegistry codeRegistry) {
+        this.previousSchema = previousSchema;
+        this.partiallyBuiltSchema = partiallyBuiltSchema;
+        this.codeRegistry = codeRegistry;
+    }
+
+    /**
+     * @return the built schema or null if the schema must be built in full
+     */
+    GraphQLSchema build() {
+        if (!sameDirectives(previousSchema.getDirectives(), partiallyBuiltSchema.getDirectives())
+                || !sameElements(previousSchema.getSchemaDirectives(), partiallyBuiltSchema.getSchemaDirectives())
+                || !sameElements(previousSchema.getSchemaAppliedDirectives(), partiallyBuiltSchema.getSchemaAppliedDirectives())) {
+            return null;
+        }
+        if (!collectTypes() || !typeMap.keySet().containsAll(typeReferenceHolders.keySet())) {
+            return null;
+        }
+
+        Map<String, GraphQLNamedType> previousTypeMap = previousSchema.getTypeMap();
+        List<GraphQLNamedType> replacedTypes = new ArrayList<>();
+        boolean objectTypesChanged = false;
+        boolean inputObjectTypesChanged = false;
+        for (GraphQLNamedType type : typeMap.values()) {
+            if (previousTypeMap.get(type.getName()) != type) {
+                replacedTypes.add(type);
+                objectTypesChanged |= type instanceof GraphQLObjectType;
+                inputObjectTypesChanged |= type instanceof GraphQLInputObjectType;
+            }
+        }
+        boolean typesRemoved = false;
+        for (GraphQLNamedType previousType : previousTypeMap.values()) {
+            if (!typeMap.containsKey(previousType.getName())) {
+                typesRemoved = true;
+                objectTypesChanged |= previousType instanceof GraphQLObjectType;
+            }
+        }
+
+        Set<GraphQLSchemaElement> affectedElements = new LinkedHashSet<>(replacedTypes);
+        for (GraphQLNamedType replacedType : replacedTypes) {
+            for (GraphQLSchemaElement holder : typeReferenceHolders.getOrDefault(replacedType.getName(), Collections.emptySet())) {
+                // resolving the type references of a type of the previous schema would change that schema too
+                assertTrue(!(holder instanceof GraphQLNamedType) || previousTypeMap.get(((GraphQLNamedType) holder).getName()) != holder,
+                        () -> format("The type '%s' refers to the replaced type '%s' but was not replaced itself", ((GraphQLNamedType) holder).getName(), replacedType.getName()));
+                affectedElements.add(holder);
+            }
+        }
+
+        SchemaTraverser withinTypesTraverser = withinTypesTraverser();
+
+        GraphQLCodeRegistry.Builder extractedDataFetchers = GraphQLCodeRegistry.newCodeRegistry(codeRegistry);
+        withinTypesTraverser.depthFirst(new CodeRegistryVisitor(extractedDataFetchers), replacedTypes);
+
+        ImmutableMap<String, GraphQLNamedType> allTypes = ImmutableMap.copyOf(new TreeMap<>(typeMap));
+        withinTypesTraverser.depthFirst(new GraphQLTypeResolvingVisitor(allTypes), affectedElements);
+
+        ImmutableMap<String, ImmutableList<GraphQLObjectType>> interfaceNameToObjectTypes = previousSchema.getInterfaceNameToObjectTypes();
+        if (objectTypesChanged) {
+            List<GraphQLNamedType> allTypesAsList = GraphQLSchema.getAllTypesAsList(allTypes);
+            interfaceNameToObjectTypes = GraphQLSchema.buildInterfacesToObjectTypes(SchemaUtil.groupInterfaceImplementationsByName(allTypesAsList));
+        }
+
+        GraphQLSchema schema = new GraphQLSchema(partiallyBuiltSchema, extractedDataFetchers.build(), allTypes, interfaceNameToObjectTypes);
+        Collection<SchemaValidationError> errors;
+        if (inputObjectTypesChanged || typesRemoved) {
+            errors = new SchemaValidator().validateSchema(schema);
+        } else {
+            errors = new SchemaValidator().validateSchemaElements(schema, affectedElements);
+        }
+        if (errors.size() > 0) {
+            throw new InvalidSchemaException(errors);
+        }
+        return schema;
+    }
+
+    /**
+     * @return a traverser that visits the elements within the types it starts from but not the other named types they lead to,
+     * nor the fields of object types that are still to be built lazily
+     */
+    static SchemaTraverser withinTypesTraverser() {
+        return new SchemaTraverser(element -> filterList(
+                childrenWithTypeReferences(element).getChildrenAsList(),
+                child -> !(child instanceof GraphQLNamedType) || child instanceof GraphQLTypeReference));
+    }
+
+    // lazily built fields are made from the types of the schema, so they have no type references to resolve
+    private static SchemaElementChildrenContainer childrenWithTypeReferences(GraphQLSchemaElement element) {
+        if (element instanceof GraphQLObjectType && ((GraphQLObjectType) element).hasLazyFieldDefinitions()) {
+            return ((GraphQLObjectType) element).getChildrenWithTypeReferencesOtherThanFields();
+        }
+        return element.getChildrenWithTypeReferences();
+    }
+
+    /*
+     * This finds the named types reachable from the roots of the schema, like the full build does, but without a
+     * traverser.  It returns false if two different types have the same name.
+     */
+    private boolean collectTypes() {
+        Deque<GraphQLSchemaElement> owners = new ArrayDeque<>();
+        List<GraphQLSchemaElement> roots = new ArrayList<>();
+        roots.add(partiallyBuiltSchema.getQueryType());
+        if (partiallyBuiltSchema.isSupportingMutations()) {
+            roots.add(partiallyBuiltSchema.getMutationType());
+        }
+        if (partiallyBuiltSchema.isSupportingSubscriptions()) {
+            roots.add(partiallyBuiltSchema.getSubscriptionType());
+        }
+        roots.addAll(partiallyBuiltSchema.getAdditionalTypes());
+        roots.add(partiallyBuiltSchema.getIntrospectionSchemaType());
+        for (GraphQLSchemaElement root : roots) {
+            if (root instanceof GraphQLTypeReference) {
+                typeReferenceHolders.computeIfAbsent(((GraphQLTypeReference) root).getName(), name -> new LinkedHashSet<>());
+            } else if (!addType((GraphQLNamedType) root, owners)) {
+                return false;
+            }
+        }
+        // directive definitions can hold type references too
+        owners.addAll(partiallyBuiltSchema.getDirectives());
+        while (!owners.isEmpty()) {
+            if (!scan(owners.pop(), owners)) {
+                return false;
+            }
+        }
+        // as in the full build, the schema applied directives have their type references resolved but no types are collected from them
+        for (GraphQLAppliedDirective schemaAppliedDirective : partiallyBuiltSchema.getSchemaAppliedDirectives()) {
+            scan(schemaAppliedDirective, null);
+        }
+        return true;
+    }
+
+    private boolean scan(GraphQLSchemaElement owner, Deque<GraphQLSchemaElement> owners) {
+        Deque<GraphQLSchemaElement> elements = new ArrayDeque<>();
+        elements.push(owner);
+        while (!elements.isEmpty()) {
+            GraphQLSchemaElement element = elements.pop();
+            for (GraphQLSchemaElement child : element.getChildrenWithTypeReferences().getChildrenAsList()) {
+                if (child instanceof GraphQLTypeReference) {
+                    typeReferenceHolders.computeIfAbsent(((GraphQLTypeReference) child).getName(), name -> new LinkedHashSet<>()).add(owner);
+                } else if (child instanceof GraphQLNamedType) {
+                    if (owners != null && !addType((GraphQLNamedType) child, owners)) {
+                        return false;
+                    }
+                } else {
+                    elements.push(child);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean addType(GraphQLNamedType type, Deque<GraphQLSchemaElement> owners) {
+        GraphQLNamedType existingType = typeMap.putIfAbsent(type.getName(), type);
+        if (existingType == null) {
+            owners.push(type);
+            return true;
+        }
+        // object comparison here is deliberate
+        return existingType == type;
+    }
+
+    private static boolean sameDirectives(List<GraphQLDirective> previousDirectives, List<GraphQLDirective> directives) {
+        if (previousDirectives.size() != directives.size()) {
+            return false;
+        }
+        Map<String, GraphQLDirective> previousByName = new LinkedHashMap<>();
+        for (GraphQLDirective previousDirective : previousDirectives) {
+            previousByName.put(previousDirective.getName(), previousDirective);
+        }
+        for (GraphQLDirective directive : directives) {
+            if (previousByName.get(directive.getName()) != directive) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameElements(List<? extends GraphQLSchemaElement> previousElements, List<? extends GraphQLSchemaElement> elements) {
+        if (previousElements.size() != elements.size()) {
+            return false;
+        }
+        for (int i = 0; i < elements.size(); i++) {
+            if (previousElements.get(i) != elements.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
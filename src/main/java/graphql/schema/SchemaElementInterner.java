@@ -0,0 +1,353 @@
+package graphql.schema;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.MapMaker;
+import graphql.PublicApi;
+import graphql.language.AstComparator;
+import graphql.language.Node;
+import graphql.language.Value;
+import graphql.util.TraversalControl;
+import graphql.util.TraverserContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static graphql.util.TraversalControl.CONTINUE;
+
+/**
+ * Shares equal schema elements between schemas, such as the many variants of a schema that {@link SchemaTransformer} or
+ * {@link graphql.schema.transform.FieldVisibilitySchemaTransformation} derive from one schema, or the schemas that are made
+ * again and again from the same SDL.  The arguments, enum values and applied directives of fields, input fields, arguments
+ * and enum values, and the descriptions of those and of fields and input fields, are held once by all the schemas that are
+ * interned with the same interner.
+ * <p>
+ * An element is only shared with the element in the same place of another schema, and only if their names, descriptions,
+ * values, deprecation reasons and AST definitions are equal and they refer to the same type objects and legacy directives.
+ * So the scalar typed arguments and the enum values of schemas made from the same SDL are shared, but input object and enum
+ * typed arguments are only shared between schemas that share those types, as the variants made by a transformation do.
+ * Elements that still hold type references are not shared, as resolving a type reference changes the element in place.
+ * <p>
+ * An interner is safe to use from many threads at once.  It holds its elements weakly, so it does not keep schemas alive.
+ *
+ * @see GraphQLSchema.Builder#interner(SchemaElementInterner)
+ * @see SchemaTransformer#withInterner(SchemaElementInterner)
+ */
+@PublicApi
+public class SchemaElementInterner {
+
+    private final ConcurrentMap<Key, GraphQLArgument> arguments = new MapMaker().weakValues().makeMap();
+    private final ConcurrentMap<Key, GraphQLEnumValueDefinition> enumValueDefinitions = new MapMaker().weakValues().makeMap();
+    private final ConcurrentMap<Key, GraphQLAppliedDirective> appliedDirectives = new MapMaker().weakValues().makeMap();
+    private final ConcurrentMap<Key, GraphQLAppliedDirectiveArgument> appliedDirectiveArguments = new MapMaker().weakValues().makeMap();
+    private final Interner<String> descriptions = Interners.newWeakInterner();
+
+    private SchemaElementInterner() {
+    }
+
+    /**
+     * @return a new empty interner
+     */
+    public static SchemaElementInterner newInterner() {
+        return new SchemaElementInterner();
+    }
+
+    /**
+     * Interns the elements of a schema.  The schema is transformed to use the shared elements, which traverses the whole
+     * schema and copies the types that hold elements that were shared before.
+     *
+     * @param schema the schema to intern
+     *
+     * @return the schema, or a new schema if some of its elements were replaced by shared ones
+     */
+    public GraphQLSchema intern(GraphQLSchema schema) {
+        return SchemaTransformer.incrementalTransformer().transform(schema, new InterningVisitor());
+    }
+
+    /**
+     * @param description the description to intern, which can be null
+     *
+     * @return the shared description equal to the given one
+     */
+    public String internDescription(String description) {
+        return description == null ? null : descriptions.intern(description);
+    }
+
+    /*
+     * The elements are only shared with the elements in the same place of other schemas, named by the coordinates of their
+     * owner, so that a transformation that changes an element in one place of a schema does not change it in other places.
+     */
+    private GraphQLArgument intern(GraphQLArgument argument, String owner) {
+        List<GraphQLAppliedDirective> internedAppliedDirectives = internOrNull(argument.getAppliedDirectives(), () -> owner + "(" + argument.getName() + ":)");
+        if (internedAppliedDirectives == null || hasTypeReference(argument)) {
+            return argument;
+        }
+        Key key = new Key(
+                new Object[]{owner, argument.getName(), argument.getDescription(), argument.getDeprecationReason()},
+                new Object[]{argument.getType(), argument.getDirectives(), internedAppliedDirectives},
+                argument.getDefinition(),
+                new InputValueWithState[]{argument.getArgumentDefaultValue(), argument.getArgumentValue()});
+        GraphQLArgument interned = arguments.get(key);
+        if (interned != null) {
+            return interned;
+        }
+        GraphQLArgument canonical = argument;
+        String description = internDescription(argument.getDescription());
+        if (description != argument.getDescription() || !sameElements(internedAppliedDirectives, argument.getAppliedDirectives())) {
+            canonical = argument.transform(builder -> builder.description(description).replaceAppliedDirectives(internedAppliedDirectives));
+        }
+        interned = arguments.putIfAbsent(key, canonical);
+        return interned != null ? interned : canonical;
+    }
+
+    private GraphQLEnumValueDefinition intern(GraphQLEnumValueDefinition enumValueDefinition, String owner) {
+        List<GraphQLAppliedDirective> internedAppliedDirectives = internOrNull(enumValueDefinition.getAppliedDirectives(), () -> owner + "." + enumValueDefinition.getName());
+        if (internedAppliedDirectives == null) {
+            return enumValueDefinition;
+        }
+        Key key = new Key(
+                new Object[]{owner, enumValueDefinition.getName(), enumValueDefinition.getDescription(), enumValueDefinition.getValue(), enumValueDefinition.getDeprecationReason()},
+                new Object[]{enumValueDefinition.getDirectives(), internedAppliedDirectives},
+                enumValueDefinition.getDefinition(),
+                new InputValueWithState[0]);
+        GraphQLEnumValueDefinition interned = enumValueDefinitions.get(key);
+        if (interned != null) {
+            return interned;
+        }
+        GraphQLEnumValueDefinition canonical = enumValueDefinition;
+        String description = internDescription(enumValueDefinition.getDescription());
+        if (description != enumValueDefinition.getDescription() || !sameElements(internedAppliedDirectives, enumValueDefinition.getAppliedDirectives())) {
+            canonical = enumValueDefinition.transform(builder -> builder.description(description).replaceAppliedDirectives(internedAppliedDirectives));
+        }
+        interned = enumValueDefinitions.putIfAbsent(key, canonical);
+        return interned != null ? interned : canonical;
+    }
+
+    private List<GraphQLAppliedDirective> intern(List<GraphQLAppliedDirective> appliedDirectives, Supplier<String> owner) {
+        List<GraphQLAppliedDirective> interned = internOrNull(appliedDirectives, owner);
+        return interned != null ? interned : appliedDirectives;
+    }
+
+    /*
+     * returns null if one of the applied directives can't be shared
+     */
+    private List<GraphQLAppliedDirective> internOrNull(List<GraphQLAppliedDirective> appliedDirectives, Supplier<String> owner) {
+        if (appliedDirectives.isEmpty()) {
+            return appliedDirectives;
+        }
+        String ownerCoordinates = owner.get();
+        List<GraphQLAppliedDirective> internedAppliedDirectives = new ArrayList<>(appliedDirectives.size());
+        for (int i = 0; i < appliedDirectives.size(); i++) {
+            GraphQLAppliedDirective interned = internOrNull(appliedDirectives.get(i), ownerCoordinates, i);
+            if (interned == null) {
+                return null;
+            }
+            internedAppliedDirectives.add(interned);
+        }
+        return internedAppliedDirectives;
+    }
+
+    private GraphQLAppliedDirective internOrNull(GraphQLAppliedDirective appliedDirective, String owner, int index) {
+        List<GraphQLAppliedDirectiveArgument> internedArguments = new ArrayList<>();
+        for (GraphQLAppliedDirectiveArgument argument : appliedDirective.getArguments()) {
+            if (hasTypeReference(argument)) {
+                return null;
+            }
+            Key argumentKey = new Key(
+                    new Object[]{owner, index, argument.getName()},
+                    new Object[]{argument.getType()},
+                    argument.getDefinition(),
+                    new InputValueWithState[]{argument.getArgumentValue()});
+            GraphQLAppliedDirectiveArgument internedArgument = appliedDirectiveArguments.putIfAbsent(argumentKey, argument);
+            internedArguments.add(internedArgument != null ? internedArgument : argument);
+        }
+        Key key = new Key(
+                new Object[]{owner, index, appliedDirective.getName()},
+                new Object[]{internedArguments},
+                appliedDirective.getDefinition(),
+                new InputValueWithState[0]);
+        GraphQLAppliedDirective interned = appliedDirectives.get(key);
+        if (interned != null) {
+            return interned;
+        }
+        GraphQLAppliedDirective canonical = appliedDirective;
+        if (!sameElements(internedArguments, appliedDirective.getArguments())) {
+            canonical = appliedDirective.transform(builder -> builder.replaceArguments(internedArguments));
+        }
+        interned = appliedDirectives.putIfAbsent(key, canonical);
+        return interned != null ? interned : canonical;
+    }
+
+    /*
+     * The type that an element was made with is kept even after a type reference in it is resolved, and the element is
+     * changed again if a schema resolves it, so only elements made without type references can be shared.
+     */
+    private static boolean hasTypeReference(GraphQLSchemaElement element) {
+        List<GraphQLSchemaElement> types = element.getChildrenWithTypeReferences().getChildren(GraphQLArgument.CHILD_TYPE);
+        while (!types.isEmpty()) {
+            GraphQLSchemaElement type = types.get(0);
+            if (type instanceof GraphQLTypeReference) {
+                return true;
+            }
+            if (!(type instanceof GraphQLModifiedType)) {
+                return false;
+            }
+            types = type.getChildrenWithTypeReferences().getChildrenAsList();
+        }
+        return false;
+    }
+
+    private static boolean sameElements(List<?> elements1, List<?> elements2) {
+        if (elements1.size() != elements2.size()) {
+            return false;
+        }
+        for (int i = 0; i < elements1.size(); i++) {
+            if (elements1.get(i) != elements2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameValue(InputValueWithState value1, InputValueWithState value2) {
+        if (value1.isLiteral() && value2.isLiteral()) {
+            return AstComparator.sameValue((Value<?>) value1.getValue(), (Value<?>) value2.getValue());
+        }
+        return value1.isNotSet() == value2.isNotSet()
+                && value1.isLiteral() == value2.isLiteral()
+                && value1.isExternal() == value2.isExternal()
+                && Objects.equals(value1.getValue(), value2.getValue());
+    }
+
+    /*
+     * The equal parts are compared with equals, the same parts by object identity, element by element for lists, and the
+     * definitions and literal values by their AST.
+     */
+    private static class Key {
+        private final Object[] equalParts;
+        private final Object[] sameParts;
+        private final Node<?> definition;
+        private final InputValueWithState[] values;
+        private final int hashCode;
+
+        Key(Object[] equalParts, Object[] sameParts, Node<?> definition, InputValueWithState[] values) {
+            this.equalParts = equalParts;
+            this.sameParts = sameParts;
+            this.definition = definition;
+            this.values = values;
+            int result = Arrays.hashCode(equalParts);
+            for (Object samePart : sameParts) {
+                if (samePart instanceof List) {
+                    for (Object element : (List<?>) samePart) {
+                        result = 31 * result + System.identityHashCode(element);
+                    }
+                } else {
+                    result = 31 * result + System.identityHashCode(samePart);
+                }
+            }
+            // the definitions and literals are compared by their AST, so only their kind is hashed
+            result = 31 * result + (definition == null ? 0 : definition.getClass().hashCode());
+            for (InputValueWithState value : values) {
+                Object hashedValue = value.isLiteral() ? value.getValue().getClass() : value.getValue();
+                result = 31 * result + Objects.hashCode(hashedValue);
+            }
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (hashCode != other.hashCode || !Arrays.equals(equalParts, other.equalParts)) {
+                return false;
+            }
+            if (definition != other.definition && !AstComparator.isEqual(definition, other.definition)) {
+                return false;
+            }
+            for (int i = 0; i < sameParts.length; i++) {
+                Object samePart = sameParts[i];
+                Object otherSamePart = other.sameParts[i];
+                if (samePart instanceof List && otherSamePart instanceof List) {
+                    if (!sameElements((List<?>) samePart, (List<?>) otherSamePart)) {
+                        return false;
+                    }
+                } else if (samePart != otherSamePart) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!sameValue(values[i], other.values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /*
+     * The shared elements are put in place by changing their parents, as the transformer can't change an element to
+     * one that is already elsewhere in the schema.
+     */
+    private class InterningVisitor extends GraphQLTypeVisitorStub {
+
+        @Override
+        public TraversalControl visitGraphQLFieldDefinition(GraphQLFieldDefinition node, TraverserContext<GraphQLSchemaElement> context) {
+            String owner = ownerName(context) + "." + node.getName();
+            String description = internDescription(node.getDescription());
+            List<GraphQLArgument> internedArguments = new ArrayList<>(node.getArguments().size());
+            for (GraphQLArgument argument : node.getArguments()) {
+                internedArguments.add(intern(argument, owner));
+            }
+            List<GraphQLAppliedDirective> internedAppliedDirectives = intern(node.getAppliedDirectives(), () -> owner);
+            if (description != node.getDescription()
+                    || !sameElements(internedArguments, node.getArguments())
+                    || !sameElements(internedAppliedDirectives, node.getAppliedDirectives())) {
+                return changeNode(context, node.transform(builder -> builder.description(description)
+                        .replaceArguments(internedArguments)
+                        .replaceAppliedDirectives(internedAppliedDirectives)));
+            }
+            return CONTINUE;
+        }
+
+        @Override
+        public TraversalControl visitGraphQLInputObjectField(GraphQLInputObjectField node, TraverserContext<GraphQLSchemaElement> context) {
+            String description = internDescription(node.getDescription());
+            List<GraphQLAppliedDirective> internedAppliedDirectives = intern(node.getAppliedDirectives(), () -> ownerName(context) + "." + node.getName());
+            if (description != node.getDescription() || !sameElements(internedAppliedDirectives, node.getAppliedDirectives())) {
+                return changeNode(context, node.transform(builder -> builder.description(description)
+                        .replaceAppliedDirectives(internedAppliedDirectives)));
+            }
+            return CONTINUE;
+        }
+
+        @Override
+        public TraversalControl visitGraphQLEnumType(GraphQLEnumType node, TraverserContext<GraphQLSchemaElement> context) {
+            List<GraphQLEnumValueDefinition> internedValues = new ArrayList<>(node.getValues().size());
+            for (GraphQLEnumValueDefinition value : node.getValues()) {
+                internedValues.add(intern(value, node.getName()));
+            }
+            if (!sameElements(internedValues, node.getValues())) {
+                return changeNode(context, node.transform(builder -> builder.replaceValues(internedValues)));
+            }
+            return CONTINUE;
+        }
+
+        private String ownerName(TraverserContext<GraphQLSchemaElement> context) {
+            return ((GraphQLNamedSchemaElement) context.getParentNode()).getName();
+        }
+    }
+}
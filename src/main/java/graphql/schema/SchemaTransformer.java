@@ -72,10 +72,54 @@ import static java.lang.String.format;
  *  }
  *  }
  * </pre>
+ * <p>
+ * Only the changed elements and their ancestors are re-created, along with the elements that refer to a changed named type by
+ * type reference, as resolving that reference in the new schema must not change the original schema.  By default the
+ * transformed schema is then built in full,
+ * collecting, resolving and validating every type again.  An incremental transformer, see {@link #incrementalTransformer()},
+ * instead reuses the unchanged named types and the type indexes of the original schema, and only resolves and validates the
+ * replaced types and the types that refer to them.  This makes small edits of large schemas much cheaper.
  */
 @PublicApi
 public class SchemaTransformer {
 
+    private final boolean incremental;
+    private final SchemaElementInterner interner;
+
+    public SchemaTransformer() {
+        this(false, null);
+    }
+
+    private SchemaTransformer(boolean incremental, SchemaElementInterner interner) {
+        this.incremental = incremental;
+        this.interner = interner;
+    }
+
+    /**
+     * A transformer that rebuilds transformed schemas incrementally, reusing the unchanged named types and the type indexes
+     * of the original schema.  Where that can't be done safely, such as when directive definitions change, the schema is
+     * built in full as usual.
+     *
+     * @return a new incremental SchemaTransformer
+     */
+    public static SchemaTransformer incrementalTransformer() {
+        return new SchemaTransformer(true, null);
+    }
+
+    /**
+     * A transformer like this one that also interns the transformed schemas, so that the arguments, enum values, applied
+     * directives and descriptions that stay the same are shared between the many variants of a schema.
+     *
+     * @param interner the interner to intern the transformed schemas with
+     *
+     * @return a new SchemaTransformer
+     *
+     * @see SchemaElementInterner#intern(GraphQLSchema)
+     */
+    public SchemaTransformer withInterner(SchemaElementInterner interner) {
+        return new SchemaTransformer(incremental, assertNotNull(interner));
+    }
+
     /**
      * Transforms a GraphQLSchema and returns a new GraphQLSchema object.
      *
@@ -159,9 +203,18 @@ public class SchemaTransformer {
 
             GraphQLSchema graphQLSchema = schema;
             if (schemaChanged || codeRegistry.hasChanged()) {
-                graphQLSchema = dummyRoot.rebuildSchema(codeRegistry);
+                graphQLSchema = dummyRoot.rebuildSchema(codeRegistry, incremental);
                 if (postTransformation != null) {
-                    graphQLSchema = graphQLSchema.transform(postTransformation);
+                    if (incremental) {
+                        GraphQLSchema.Builder builder = GraphQLSchema.newSchema(graphQLSchema);
+                        postTransformation.accept(builder);
+                        graphQLSchema = builder.buildIncrementally(graphQLSchema);
+                    } else {
+                        graphQLSchema = graphQLSchema.transform(postTransformation);
+                    }
+                }
+                if (interner != null) {
+                    graphQLSchema = interner.intern(graphQLSchema);
                 }
             }
             return graphQLSchema;
@@ -276,7 +329,11 @@ public class SchemaTransformer {
 
         List<List<GraphQLSchemaElement>> stronglyConnectedTopologicallySorted = getStronglyConnectedComponentsTopologicallySorted(reverseDependencies, typeRefReverseDependencies);
 
-        return zipUpToDummyRoot(zippers, stronglyConnectedTopologicallySorted, breadcrumbsByZipper, zipperByNodeAfterTraversing);
+        Map<GraphQLSchemaElement, Set<String>> typeRefNamesByHolder = new LinkedHashMap<>();
+        typeRefReverseDependencies.forEach((typeName, holders) -> holders.forEach(holder ->
+                typeRefNamesByHolder.computeIfAbsent(holder, ign -> new LinkedHashSet<>()).add(typeName)));
+
+        return zipUpToDummyRoot(zippers, stronglyConnectedTopologicallySorted, breadcrumbsByZipper, zipperByNodeAfterTraversing, typeRefNamesByHolder);
     }
 
     private static class RelevantZippersAndBreadcrumbs {
@@ -336,14 +393,36 @@ public class SchemaTransformer {
     private boolean zipUpToDummyRoot(List<NodeZipper<GraphQLSchemaElement>> zippers,
                                      List<List<GraphQLSchemaElement>> stronglyConnectedTopologicallySorted,
                                      Map<NodeZipper<GraphQLSchemaElement>, List<List<Breadcrumb<GraphQLSchemaElement>>>> breadcrumbsByZipper,
-                                     Map<GraphQLSchemaElement, NodeZipper<GraphQLSchemaElement>> nodeToZipper) {
+                                     Map<GraphQLSchemaElement, NodeZipper<GraphQLSchemaElement>> nodeToZipper,
+                                     Map<GraphQLSchemaElement, Set<String>> typeRefNamesByHolder) {
         if (zippers.size() == 0) {
             return false;
         }
         RelevantZippersAndBreadcrumbs relevantZippers = new RelevantZippersAndBreadcrumbs(zippers, breadcrumbsByZipper);
 
+        // the named types that are replaced in the new schema
+        Set<String> changedTypeNames = new LinkedHashSet<>();
+        for (NodeZipper<GraphQLSchemaElement> zipper : zippers) {
+            addIfNamedType(changedTypeNames, zipper.getCurNode());
+        }
+
         for (int i = stronglyConnectedTopologicallySorted.size() - 1; i >= 0; i--) {
             List<GraphQLSchemaElement> scc = stronglyConnectedTopologicallySorted.get(i);
+            // the new schema resolves the type references to the changed types in place, so the elements holding them
+            // are copied rather than shared with the original schema.  The changed types are always zipped up before the
+            // elements that refer to them by type reference.
+            for (GraphQLSchemaElement element : scc) {
+                Set<String> typeRefNames = typeRefNamesByHolder.get(element);
+                NodeZipper<GraphQLSchemaElement> currentZipper = nodeToZipper.get(element);
+                if (typeRefNames == null || currentZipper == null || relevantZippers.isRelevantZipper(currentZipper)) {
+                    continue;
+                }
+                if (typeRefNames.stream().anyMatch(changedTypeNames::contains)) {
+                    NodeZipper<GraphQLSchemaElement> newZipper = currentZipper.withNewNode(element.copy());
+                    nodeToZipper.put(element, newZipper);
+                    relevantZippers.updateZipper(currentZipper, newZipper);
+                }
+            }
             // performance relevant: we avoid calling zipperWithSameParent twice
             // for SCC of size one.
             if (scc.size() > 1) {
@@ -372,6 +451,7 @@ public class SchemaTransformer {
                     NodeZipper<GraphQLSchemaElement> newZipper = currentZipper.withNewNode(element.copy());
                     nodeToZipper.put(element, newZipper);
                     relevantZippers.updateZipper(currentZipper, newZipper);
+                    addIfNamedType(changedTypeNames, element);
                 }
             }
             for (int j = scc.size() - 1; j >= 0; j--) {
@@ -382,6 +462,7 @@ public class SchemaTransformer {
                     continue;
                 }
                 NodeZipper<GraphQLSchemaElement> newZipper = moveUp(element, zipperWithSameParent);
+                addIfNamedType(changedTypeNames, element);
 
                 if (element instanceof DummyRoot) {
                     // this means we have updated the dummy root and we are done (dummy root is a special as it gets updated in place, see Implementation of DummyRoot)
@@ -397,6 +478,12 @@ public class SchemaTransformer {
         return true;
     }
 
+    private static void addIfNamedType(Set<String> typeNames, GraphQLSchemaElement element) {
+        if (element instanceof GraphQLNamedType) {
+            typeNames.add(((GraphQLNamedType) element).getName());
+        }
+    }
+
     private Map<NodeZipper<GraphQLSchemaElement>, Breadcrumb<GraphQLSchemaElement>> zipperWithSameParent(
             GraphQLSchemaElement parent,
             RelevantZippersAndBreadcrumbs relevantZippers,
@@ -614,8 +701,8 @@ public class SchemaTransformer {
             return assertShouldNeverHappen();
         }
 
-        public GraphQLSchema rebuildSchema(GraphQLCodeRegistry.Builder codeRegistry) {
-            return GraphQLSchema.newSchema()
+        public GraphQLSchema rebuildSchema(GraphQLCodeRegistry.Builder codeRegistry, boolean incremental) {
+            GraphQLSchema.Builder builder = GraphQLSchema.newSchema()
                     .query(this.query)
                     .mutation(this.mutation)
                     .subscription(this.subscription)
@@ -625,8 +712,8 @@ public class SchemaTransformer {
                     .withSchemaDirectives(this.schemaDirectives)
                     .withSchemaAppliedDirectives(this.schemaAppliedDirectives)
                     .codeRegistry(codeRegistry.build())
-                    .description(schema.getDescription())
-                    .build();
+                    .description(schema.getDescription());
+            return incremental ? builder.buildIncrementally(schema) : builder.build();
         }
     }
 }
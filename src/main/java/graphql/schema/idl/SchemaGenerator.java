@@ -12,7 +12,9 @@ import graphql.schema.idl.errors.SchemaProblem;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
+import static graphql.Assert.assertTrue;
 import static graphql.schema.idl.SchemaGeneratorHelper.buildDescription;
 
 
@@ -70,13 +72,20 @@ public class SchemaGenerator {
      * @throws SchemaProblem if there are problems in assembling a schema such as missing type resolvers or no operations defined
      */
     public GraphQLSchema makeExecutableSchema(Options options, TypeDefinitionRegistry typeRegistry, RuntimeWiring wiring) throws SchemaProblem {
+        assertTrue(!options.isLazyFieldDefinitions() || options.getParallelBuildExecutor() == null,
+                () -> "Lazy field definitions can't be used with a parallel build");
 
         TypeDefinitionRegistry typeRegistryCopy = new TypeDefinitionRegistry();
         typeRegistryCopy.merge(typeRegistry);
 
         schemaGeneratorHelper.addDirectivesIncludedByDefault(typeRegistryCopy);
 
-        List<GraphQLError> errors = typeChecker.checkTypeRegistry(typeRegistryCopy, wiring);
+        List<GraphQLError> errors;
+        if (options.getParallelBuildExecutor() != null) {
+            errors = typeChecker.checkTypeRegistry(typeRegistryCopy, wiring, options.getParallelBuildExecutor());
+        } else {
+            errors = typeChecker.checkTypeRegistry(typeRegistryCopy, wiring);
+        }
         if (!errors.isEmpty()) {
             throw new SchemaProblem(errors);
         }
@@ -94,9 +103,18 @@ public class SchemaGenerator {
 
         GraphQLSchema.Builder schemaBuilder = GraphQLSchema.newSchema();
 
+        if (buildCtx.isParallelBuild()) {
+            schemaGeneratorHelper.buildSpecifiedScalars(buildCtx);
+        }
+
         Set<GraphQLDirective> additionalDirectives = schemaGeneratorHelper.buildAdditionalDirectiveDefinitions(buildCtx);
         schemaBuilder.additionalDirectives(additionalDirectives);
 
+        if (buildCtx.isParallelBuild()) {
+            // the types are built on their own and the schema builder then links their type references
+            schemaGeneratorHelper.buildTypesInParallel(buildCtx, options.getParallelBuildExecutor());
+        }
+
         schemaGeneratorHelper.buildSchemaDirectivesAndExtensions(buildCtx, schemaBuilder);
 
         schemaGeneratorHelper.buildOperations(buildCtx, schemaBuilder);
@@ -113,7 +131,12 @@ public class SchemaGenerator {
             String description = buildDescription(buildCtx, schemaDefinition, schemaDefinition.getDescription());
             schemaBuilder.description(description);
         });
-        GraphQLSchema graphQLSchema = schemaBuilder.build();
+        GraphQLSchema graphQLSchema;
+        if (options.isLazyFieldDefinitions()) {
+            graphQLSchema = schemaGeneratorHelper.buildSchemaWithLazyFields(buildCtx, schemaBuilder);
+        } else {
+            graphQLSchema = schemaBuilder.build();
+        }
 
 
         // we check if there are any SchemaDirectiveWiring's in play and if there are
@@ -144,11 +167,15 @@ public class SchemaGenerator {
         private final boolean useCommentsAsDescription;
         private final boolean captureAstDefinitions;
         private final boolean useAppliedDirectivesOnly;
+        private final Executor parallelBuildExecutor;
+        private final boolean lazyFieldDefinitions;
 
-        Options(boolean useCommentsAsDescription, boolean captureAstDefinitions, boolean useAppliedDirectivesOnly) {
+        Options(boolean useCommentsAsDescription, boolean captureAstDefinitions, boolean useAppliedDirectivesOnly, Executor parallelBuildExecutor, boolean lazyFieldDefinitions) {
             this.useCommentsAsDescription = useCommentsAsDescription;
             this.captureAstDefinitions = captureAstDefinitions;
             this.useAppliedDirectivesOnly = useAppliedDirectivesOnly;
+            this.parallelBuildExecutor = parallelBuildExecutor;
+            this.lazyFieldDefinitions = lazyFieldDefinitions;
         }
 
         public boolean isUseCommentsAsDescription() {
@@ -163,8 +190,16 @@ public class SchemaGenerator {
             return useAppliedDirectivesOnly;
         }
 
+        public Executor getParallelBuildExecutor() {
+            return parallelBuildExecutor;
+        }
+
+        public boolean isLazyFieldDefinitions() {
+            return lazyFieldDefinitions;
+        }
+
         public static Options defaultOptions() {
-            return new Options(true, true, false);
+            return new Options(true, true, false, null, false);
         }
 
         /**
@@ -177,7 +212,7 @@ public class SchemaGenerator {
          * @return a new Options object
          */
         public Options useCommentsAsDescriptions(boolean useCommentsAsDescription) {
-            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly);
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor, lazyFieldDefinitions);
         }
 
         /**
@@ -189,7 +224,7 @@ public class SchemaGenerator {
          * @return a new Options object
          */
         public Options captureAstDefinitions(boolean captureAstDefinitions) {
-            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly);
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor, lazyFieldDefinitions);
         }
 
         /**
@@ -202,7 +237,43 @@ public class SchemaGenerator {
          * @return a new Options object
          */
         public Options useAppliedDirectivesOnly(boolean useAppliedDirectivesOnly) {
-            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly);
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor, lazyFieldDefinitions);
+        }
+
+        /**
+         * Very large schemas can be built faster by type checking the registry and building its types concurrently.  Each
+         * type is then built on its own with the types it refers to left as {@link graphql.schema.GraphQLTypeReference}s, and
+         * the schema builder links them together at the end, on the calling thread.
+         * <p>
+         * The built schema is the same as a sequential build makes, except that every type is one of its
+         * {@link GraphQLSchema#getAdditionalTypes()}.  Field types given to the {@link WiringFactory} are type references,
+         * and the {@link RuntimeWiring} callbacks must be safe to call from several threads at once.
+         *
+         * @param parallelBuildExecutor the executor to build the schema on or null to build it on the calling thread
+         *
+         * @return a new Options object
+         */
+        public Options parallelBuildExecutor(Executor parallelBuildExecutor) {
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor, lazyFieldDefinitions);
+        }
+
+        /**
+         * Heap can be saved on very large schemas, where most requests only touch a few types, by building the fields of
+         * object types, with their arguments and applied directives, from their SDL definitions when they are first asked for.
+         * This is thread safe.  The data fetchers of the fields are still wired when the schema is built, so the
+         * {@link WiringFactory} is called as usual.
+         * <p>
+         * The schema is not validated as a whole when it is built, as that would build every field.  The type registry
+         * checks are still made, and the types other than object types are validated.  Schema directive wiring and
+         * {@link SchemaGeneratorPostProcessing}s see the whole schema, so when they are used every field is built up front.
+         * This can't be used with a {@link #parallelBuildExecutor(Executor)}.
+         *
+         * @param lazyFieldDefinitions the flag on whether to build the fields of object types when they are first asked for
+         *
+         * @return a new Options object
+         */
+        public Options lazyFieldDefinitions(boolean lazyFieldDefinitions) {
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor, lazyFieldDefinitions);
         }
     }
 }
\ No newline at end of file
@@ -48,10 +48,12 @@ import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLNamedInputType;
 import graphql.schema.GraphQLNamedOutputType;
+import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLSchemaElement;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeReference;
 import graphql.schema.GraphQLUnionType;
@@ -61,6 +63,9 @@ import graphql.schema.TypeResolver;
 import graphql.schema.TypeResolverProxy;
 import graphql.schema.idl.errors.NotAnInputTypeError;
 import graphql.schema.idl.errors.NotAnOutputTypeError;
+import graphql.schema.validation.InvalidSchemaException;
+import graphql.schema.validation.SchemaValidationError;
+import graphql.schema.validation.SchemaValidator;
 import graphql.util.FpKit;
 import graphql.util.Pair;
 
@@ -75,7 +80,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static graphql.Assert.assertNotNull;
@@ -86,6 +95,7 @@ import static graphql.Directives.SPECIFIED_BY_DIRECTIVE_DEFINITION;
 import static graphql.Directives.SkipDirective;
 import static graphql.Directives.SpecifiedByDirective;
 import static graphql.collect.ImmutableKit.emptyList;
+import static graphql.collect.ImmutableKit.map;
 import static graphql.introspection.Introspection.DirectiveLocation.ARGUMENT_DEFINITION;
 import static graphql.introspection.Introspection.DirectiveLocation.ENUM;
 import static graphql.introspection.Introspection.DirectiveLocation.ENUM_VALUE;
@@ -116,21 +126,60 @@ public class SchemaGeneratorHelper {
 
         private final Map<String, GraphQLOutputType> outputGTypes = new LinkedHashMap<>();
         private final Map<String, GraphQLInputType> inputGTypes = new LinkedHashMap<>();
-        private final Set<GraphQLDirective> directives = new LinkedHashSet<>();
+        private final Set<GraphQLDirective> directives;
+        // shared by the contexts of a parallel build, so it is only used while holding its lock
         private final GraphQLCodeRegistry.Builder codeRegistry;
         public final Map<String, OperationTypeDefinition> operationTypeDefs;
         public final SchemaGenerator.Options options;
         public boolean directiveWiringRequired;
+        // in a parallel build every type is built on its own and refers to the other types by name
+        private final boolean parallelBuild;
+        private final String typeBeingBuilt;
 
         BuildContext(TypeDefinitionRegistry typeRegistry, RuntimeWiring wiring, Map<String, OperationTypeDefinition> operationTypeDefinitions, SchemaGenerator.Options options) {
             this.typeRegistry = typeRegistry;
             this.wiring = wiring;
+            this.directives = new LinkedHashSet<>();
             this.codeRegistry = GraphQLCodeRegistry.newCodeRegistry(wiring.getCodeRegistry());
             this.operationTypeDefs = operationTypeDefinitions;
             this.options = options;
+            this.parallelBuild = options.getParallelBuildExecutor() != null;
+            this.typeBeingBuilt = null;
             directiveWiringRequired = false;
         }
 
+        private BuildContext(BuildContext parentCtx, String typeBeingBuilt) {
+            this.typeRegistry = parentCtx.typeRegistry;
+            this.wiring = parentCtx.wiring;
+            this.directives = parentCtx.directives;
+            this.codeRegistry = parentCtx.codeRegistry;
+            this.operationTypeDefs = parentCtx.operationTypeDefs;
+            this.options = parentCtx.options;
+            this.parallelBuild = true;
+            this.typeBeingBuilt = typeBeingBuilt;
+            directiveWiringRequired = false;
+            // the types built up front, which are the specified scalars, are used as they are
+            outputGTypes.putAll(parentCtx.outputGTypes);
+            inputGTypes.putAll(parentCtx.inputGTypes);
+        }
+
+        /**
+         * @param typeName the name of the type to build
+         *
+         * @return a context that builds only the named type, referring to the other types by name
+         */
+        BuildContext forType(String typeName) {
+            return new BuildContext(this, typeName);
+        }
+
+        boolean isParallelBuild() {
+            return parallelBuild;
+        }
+
+        boolean isBuiltElsewhere(TypeInfo typeInfo) {
+            return parallelBuild && !typeInfo.getName().equals(typeBeingBuilt);
+        }
+
         public boolean isDirectiveWiringRequired() {
             return directiveWiringRequired;
         }
@@ -195,6 +244,36 @@ public class SchemaGeneratorHelper {
             return codeRegistry;
         }
 
+        boolean hasDataFetcher(FieldCoordinates coordinates) {
+            synchronized (codeRegistry) {
+                return codeRegistry.hasDataFetcher(coordinates);
+            }
+        }
+
+        void dataFetcher(FieldCoordinates coordinates, DataFetcherFactory<?> dataFetcherFactory) {
+            synchronized (codeRegistry) {
+                codeRegistry.dataFetcher(coordinates, dataFetcherFactory);
+            }
+        }
+
+        DataFetcherFactory<?> getDefaultDataFetcherFactory() {
+            synchronized (codeRegistry) {
+                return codeRegistry.getDefaultDataFetcherFactory();
+            }
+        }
+
+        boolean hasTypeResolver(String typeName) {
+            synchronized (codeRegistry) {
+                return codeRegistry.hasTypeResolver(typeName);
+            }
+        }
+
+        void typeResolver(String typeName, TypeResolver typeResolver) {
+            synchronized (codeRegistry) {
+                codeRegistry.typeResolver(typeName, typeResolver);
+            }
+        }
+
         public void addDirectiveDefinition(GraphQLDirective directive) {
             this.directives.add(directive);
         }
@@ -266,6 +345,10 @@ public class SchemaGeneratorHelper {
             return typeInfo.decorate(inputType);
         }
 
+        if (buildCtx.isBuiltElsewhere(typeInfo)) {
+            return typeInfo.decorate(typeRef(typeInfo.getName()));
+        }
+
         if (buildCtx.stackContains(typeInfo)) {
             // we have circled around so put in a type reference and fix it later
             return typeInfo.decorate(typeRef(typeInfo.getName()));
@@ -605,9 +688,9 @@ public class SchemaGeneratorHelper {
         buildInterfaceTypeInterfaces(buildCtx, typeDefinition, builder, extensions);
 
         GraphQLInterfaceType interfaceType = builder.build();
-        if (!buildCtx.getCodeRegistry().hasTypeResolver(interfaceType.getName())) {
+        if (!buildCtx.hasTypeResolver(interfaceType.getName())) {
             TypeResolver typeResolver = getTypeResolverForInterface(buildCtx, typeDefinition);
-            buildCtx.getCodeRegistry().typeResolver(interfaceType, typeResolver);
+            buildCtx.typeResolver(interfaceType.getName(), typeResolver);
         }
         return directivesObserve(buildCtx, interfaceType);
     }
@@ -631,23 +714,61 @@ public class SchemaGeneratorHelper {
                 buildCtx.getComparatorRegistry());
         buildAppliedDirectives(buildCtx, builder, appliedDirectives);
 
-        typeDefinition.getFieldDefinitions().forEach(fieldDef -> {
-            GraphQLFieldDefinition fieldDefinition = buildField(buildCtx, typeDefinition, fieldDef);
-            builder.field(fieldDefinition);
-        });
-
-        extensions.forEach(extension -> extension.getFieldDefinitions().forEach(fieldDef -> {
-            GraphQLFieldDefinition fieldDefinition = buildField(buildCtx, typeDefinition, fieldDef);
-            if (!builder.hasField(fieldDefinition.getName())) {
+        if (buildCtx.options.isLazyFieldDefinitions()) {
+            builder.lazyFields(new LazyFieldDefinitions(buildCtx, typeDefinition, extensions));
+        } else {
+            typeDefinition.getFieldDefinitions().forEach(fieldDef -> {
+                GraphQLFieldDefinition fieldDefinition = buildField(buildCtx, typeDefinition, fieldDef);
                 builder.field(fieldDefinition);
-            }
-        }));
+            });
+
+            extensions.forEach(extension -> extension.getFieldDefinitions().forEach(fieldDef -> {
+                GraphQLFieldDefinition fieldDefinition = buildField(buildCtx, typeDefinition, fieldDef);
+                if (!builder.hasField(fieldDefinition.getName())) {
+                    builder.field(fieldDefinition);
+                }
+            }));
+        }
 
         buildObjectTypeInterfaces(buildCtx, typeDefinition, builder, extensions);
 
         return directivesObserve(buildCtx, builder.build());
     }
 
+    /**
+     * The fields of an object type that are built when they are first asked for.  They are built once up front as well, and
+     * then dropped, as that wires their data fetchers, which must be in the code registry when the schema is built, it
+     * finds out if schema directive wiring is needed and it builds the types that the fields lead to.  The types the fields
+     * are built with later are then the ones in the schema.
+     */
+    private class LazyFieldDefinitions implements Supplier<List<GraphQLFieldDefinition>> {
+        private final BuildContext buildCtx;
+        private final ObjectTypeDefinition typeDefinition;
+        private final List<FieldDefinition> fieldDefs;
+        private List<GraphQLFieldDefinition> fieldDefinitions;
+
+        LazyFieldDefinitions(BuildContext buildCtx, ObjectTypeDefinition typeDefinition, List<ObjectTypeExtensionDefinition> extensions) {
+            this.buildCtx = buildCtx;
+            this.typeDefinition = typeDefinition;
+            Map<String, FieldDefinition> fieldDefsByName = new LinkedHashMap<>();
+            typeDefinition.getFieldDefinitions().forEach(fieldDef -> fieldDefsByName.put(fieldDef.getName(), fieldDef));
+            extensions.forEach(extension -> extension.getFieldDefinitions().forEach(fieldDef -> fieldDefsByName.putIfAbsent(fieldDef.getName(), fieldDef)));
+            this.fieldDefs = new ArrayList<>(fieldDefsByName.values());
+            fieldDefs.forEach(fieldDef -> buildField(buildCtx, typeDefinition, fieldDef));
+        }
+
+        @Override
+        public List<GraphQLFieldDefinition> get() {
+            // the lazily built fields of all the types share the build context so they are built under the one lock
+            synchronized (buildCtx) {
+                if (fieldDefinitions == null) {
+                    fieldDefinitions = map(fieldDefs, fieldDef -> buildField(buildCtx, typeDefinition, fieldDef));
+                }
+                return fieldDefinitions;
+            }
+        }
+    }
+
     private void buildObjectTypeInterfaces(BuildContext buildCtx,
                                            ObjectTypeDefinition typeDefinition,
                                            GraphQLObjectType.Builder builder,
@@ -718,9 +839,9 @@ public class SchemaGeneratorHelper {
         ));
 
         GraphQLUnionType unionType = builder.build();
-        if (!buildCtx.getCodeRegistry().hasTypeResolver(unionType.getName())) {
+        if (!buildCtx.hasTypeResolver(unionType.getName())) {
             TypeResolver typeResolver = getTypeResolverForUnion(buildCtx, typeDefinition);
-            buildCtx.getCodeRegistry().typeResolver(unionType, typeResolver);
+            buildCtx.typeResolver(unionType.getName(), typeResolver);
         }
         return directivesObserve(buildCtx, unionType);
     }
@@ -744,6 +865,10 @@ public class SchemaGeneratorHelper {
             return typeInfo.decorate(outputType);
         }
 
+        if (buildCtx.isBuiltElsewhere(typeInfo)) {
+            return typeInfo.decorate(typeRef(typeInfo.getName()));
+        }
+
         if (buildCtx.stackContains(typeInfo)) {
             // we have circled around so put in a type reference and fix it up later
             // otherwise we will go into an infinite loop
@@ -799,14 +924,14 @@ public class SchemaGeneratorHelper {
         GraphQLFieldDefinition fieldDefinition = builder.build();
         // if they have already wired in a fetcher - then leave it alone
         FieldCoordinates coordinates = FieldCoordinates.coordinates(parentType.getName(), fieldDefinition.getName());
-        if (!buildCtx.getCodeRegistry().hasDataFetcher(coordinates)) {
+        if (!buildCtx.hasDataFetcher(coordinates)) {
             DataFetcherFactory<?> dataFetcherFactory = buildDataFetcherFactory(buildCtx,
                     parentType,
                     fieldDef,
                     fieldType,
                     appliedDirectives.first,
                     appliedDirectives.second);
-            buildCtx.getCodeRegistry().dataFetcher(coordinates, dataFetcherFactory);
+            buildCtx.dataFetcher(coordinates, dataFetcherFactory);
         }
         return directivesObserve(buildCtx, fieldDefinition);
     }
@@ -822,7 +947,6 @@ public class SchemaGeneratorHelper {
         TypeDefinitionRegistry typeRegistry = buildCtx.getTypeRegistry();
         RuntimeWiring runtimeWiring = buildCtx.getWiring();
         WiringFactory wiringFactory = runtimeWiring.getWiringFactory();
-        GraphQLCodeRegistry.Builder codeRegistry = buildCtx.getCodeRegistry();
 
         FieldWiringEnvironment wiringEnvironment = new FieldWiringEnvironment(typeRegistry, parentType, fieldDef, fieldType, directives, appliedDirectives);
 
@@ -844,7 +968,7 @@ public class SchemaGeneratorHelper {
                     if (dataFetcher == null) {
                         dataFetcher = wiringFactory.getDefaultDataFetcher(wiringEnvironment);
                         if (dataFetcher == null) {
-                            DataFetcherFactory<?> codeRegistryDFF = codeRegistry.getDefaultDataFetcherFactory();
+                            DataFetcherFactory<?> codeRegistryDFF = buildCtx.getDefaultDataFetcherFactory();
                             if (codeRegistryDFF != null) {
                                 return codeRegistryDFF;
                             }
@@ -992,6 +1116,22 @@ public class SchemaGeneratorHelper {
     Set<GraphQLType> buildAdditionalTypes(BuildContext buildCtx) {
         TypeDefinitionRegistry typeRegistry = buildCtx.getTypeRegistry();
 
+        if (buildCtx.isParallelBuild()) {
+            // the types only refer to each other by name, so they are all additional types
+            Set<GraphQLType> additionalTypes = new LinkedHashSet<>();
+            buildCtx.outputGTypes.forEach((name, type) -> {
+                if (!ScalarInfo.isGraphqlSpecifiedScalar(name)) {
+                    additionalTypes.add(type);
+                }
+            });
+            buildCtx.inputGTypes.forEach((name, type) -> {
+                if (!ScalarInfo.isGraphqlSpecifiedScalar(name)) {
+                    additionalTypes.add(type);
+                }
+            });
+            return additionalTypes;
+        }
+
         Set<String> detachedTypeNames = getDetachedTypeNames(buildCtx);
 
         Set<GraphQLType> additionalTypes = new LinkedHashSet<>();
@@ -1058,6 +1198,110 @@ public class SchemaGeneratorHelper {
         return detachedTypeNames;
     }
 
+    /**
+     * In a parallel build the specified scalars are built before anything else, so that every type uses them directly
+     * rather than by name, as a sequential build does.
+     *
+     * @param buildCtx the context we need to work out what we are doing
+     */
+    void buildSpecifiedScalars(BuildContext buildCtx) {
+        buildCtx.getTypeRegistry().scalars().values().stream()
+                .filter(scalarTypeDefinition -> ScalarInfo.isGraphqlSpecifiedScalar(scalarTypeDefinition.getName()))
+                .forEach(scalarTypeDefinition -> buildCtx.putOutputType(buildScalar(buildCtx, scalarTypeDefinition)));
+    }
+
+    /**
+     * This builds every type in the registry on the given executor, each one on its own with the types it refers to
+     * left as type references.  The built types are put in the context and the schema builder links them together.
+     *
+     * @param buildCtx the context we need to work out what we are doing
+     * @param executor the executor to build the types on
+     */
+    void buildTypesInParallel(BuildContext buildCtx, Executor executor) {
+        TypeDefinitionRegistry typeRegistry = buildCtx.getTypeRegistry();
+        List<TypeDefinition<?>> typeDefinitions = new ArrayList<>();
+        typeRegistry.types().values().forEach(typeDefinitions::add);
+        typeRegistry.scalars().values().stream()
+                .filter(scalarTypeDefinition -> !ScalarInfo.isGraphqlSpecifiedScalar(scalarTypeDefinition.getName()))
+                .forEach(typeDefinitions::add);
+
+        List<CompletableFuture<BuildContext>> typeBuilds = new ArrayList<>(typeDefinitions.size());
+        for (TypeDefinition<?> typeDefinition : typeDefinitions) {
+            typeBuilds.add(CompletableFuture.supplyAsync(() -> {
+                BuildContext typeCtx = buildCtx.forType(typeDefinition.getName());
+                TypeName typeName = TypeName.newTypeName().name(typeDefinition.getName()).build();
+                if (typeDefinition instanceof InputObjectTypeDefinition) {
+                    buildInputType(typeCtx, typeName);
+                } else {
+                    buildOutputType(typeCtx, typeName);
+                }
+                return typeCtx;
+            }, executor));
+        }
+
+        for (int i = 0; i < typeDefinitions.size(); i++) {
+            TypeDefinition<?> typeDefinition = typeDefinitions.get(i);
+            BuildContext typeCtx = joinBuildStep(typeBuilds.get(i));
+            if (typeDefinition instanceof InputObjectTypeDefinition) {
+                buildCtx.putInputType((GraphQLNamedInputType) typeCtx.hasInputType(typeDefinition));
+            } else {
+                buildCtx.putOutputType((GraphQLNamedOutputType) typeCtx.hasOutputType(typeDefinition));
+            }
+            buildCtx.directiveWiringRequired = buildCtx.directiveWiringRequired || typeCtx.directiveWiringRequired;
+        }
+    }
+
+    /**
+     * This builds the schema when the fields of object types are built lazily.  Every type built so far is put in the schema
+     * as it is, and the types other than object types are validated, as validating an object type would build its fields.
+     *
+     * @param buildCtx      the context we need to work out what we are doing
+     * @param schemaBuilder the builder of the schema
+     *
+     * @return the schema
+     */
+    GraphQLSchema buildSchemaWithLazyFields(BuildContext buildCtx, GraphQLSchema.Builder schemaBuilder) {
+        Map<String, GraphQLNamedType> types = new LinkedHashMap<>();
+        buildCtx.outputGTypes.forEach((name, type) -> types.put(name, (GraphQLNamedType) type));
+        buildCtx.inputGTypes.forEach((name, type) -> types.put(name, (GraphQLNamedType) type));
+        GraphQLSchema schema = schemaBuilder.buildFromValidatedTypes(types.values());
+
+        List<GraphQLSchemaElement> elementsToValidate = new ArrayList<>(schema.getDirectives());
+        for (GraphQLNamedType type : schema.getAllTypesAsList()) {
+            if (!(type instanceof GraphQLObjectType)) {
+                elementsToValidate.add(type);
+            }
+        }
+        Set<SchemaValidationError> errors = new SchemaValidator().validateSchemaElements(schema, elementsToValidate);
+        if (!errors.isEmpty()) {
+            throw new InvalidSchemaException(errors);
+        }
+
+        // schema directive wiring and post processing look at the whole schema
+        if (buildCtx.isDirectiveWiringRequired() || !buildCtx.getWiring().getSchemaGeneratorPostProcessings().isEmpty()) {
+            for (GraphQLNamedType type : schema.getAllTypesAsList()) {
+                if (type instanceof GraphQLObjectType) {
+                    ((GraphQLObjectType) type).getFieldDefinitions();
+                }
+            }
+        }
+        return schema;
+    }
+
+    static <T> T joinBuildStep(CompletableFuture<T> buildStep) {
+        try {
+            return buildStep.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     Set<GraphQLDirective> buildAdditionalDirectiveDefinitions(BuildContext buildCtx) {
         Set<GraphQLDirective> additionalDirectives = new LinkedHashSet<>();
         TypeDefinitionRegistry typeRegistry = buildCtx.getTypeRegistry();
@@ -7,6 +7,7 @@ import graphql.language.Definition;
 import graphql.language.Document;
 import graphql.language.SDLDefinition;
 import graphql.parser.InvalidSyntaxException;
+import graphql.parser.MultiSourceReader;
 import graphql.parser.Parser;
 import graphql.parser.ParserEnvironment;
 import graphql.parser.ParserOptions;
@@ -19,7 +20,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +57,57 @@ public class SchemaParser {
         }
     }
 
+    /**
+     * Parse a UTF-8 file of schema definitions and create a {@link TypeDefinitionRegistry}.  The file is memory mapped
+     * and decoded straight into the lexer's character stream as it is parsed, so it is never read into a string.  Source
+     * locations are given the path of the file as their source name.
+     * <p>
+     * The default SDL parser options are used, except that the text that was read is not kept for the previews in syntax
+     * error messages, see {@link ParserOptions#isReaderTrackData()}.
+     *
+     * @param path the path of the file to parse
+     *
+     * @return registry of type definitions
+     *
+     * @throws SchemaProblem if there are problems compiling the schema definitions
+     */
+    public TypeDefinitionRegistry parse(Path path) throws SchemaProblem {
+        return parse(path, ParserOptions.getDefaultSdlParserOptions().transform(builder -> builder.readerTrackData(false)));
+    }
+
+    /**
+     * Parse a UTF-8 file of schema definitions and create a {@link TypeDefinitionRegistry}.  The file is memory mapped
+     * and decoded straight into the lexer's character stream as it is parsed, so it is never read into a string.  Source
+     * locations are given the path of the file as their source name.
+     * <p>
+     * Unless {@link ParserOptions#isReaderTrackData()} is turned off, the text that was read is also kept for the
+     * previews in syntax error messages, which is a copy of the whole file.
+     *
+     * @param path          the path of the file to parse
+     * @param parserOptions the parse options to use while parsing
+     *
+     * @return registry of type definitions
+     *
+     * @throws SchemaProblem if there are problems compiling the schema definitions
+     */
+    public TypeDefinitionRegistry parse(Path path, ParserOptions parserOptions) throws SchemaProblem {
+        if (parserOptions == null) {
+            parserOptions = ParserOptions.getDefaultSdlParserOptions();
+        }
+        MappedByteBuffer mappedFile;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid once the channel is closed
+            mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        MultiSourceReader multiSourceReader = MultiSourceReader.newMultiSourceReader()
+                .byteBuffer(mappedFile, path.toString())
+                .trackData(parserOptions.isReaderTrackData())
+                .build();
+        return parse(multiSourceReader, parserOptions);
+    }
+
     /**
      * Parse a inputStream of schema definitions and create a {@link TypeDefinitionRegistry}
      *
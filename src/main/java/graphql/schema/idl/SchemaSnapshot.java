@@ -0,0 +1,57 @@
+package graphql.schema.idl;
+
+import graphql.PublicApi;
+import graphql.schema.GraphQLSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A schema snapshot is a compact binary form of a built and validated {@link GraphQLSchema}.  Reading a snapshot back is much
+ * faster than making the schema from SDL again, as the SDL is not parsed, the type registry is not checked and the schema is not
+ * validated.  Only the code of the schema is wired in when it is read, from a {@link RuntimeWiring}.
+ * <p>
+ * A snapshot holds the named types, fields, arguments, input fields, enum values, directive definitions, applied directives,
+ * descriptions, deprecation reasons and default values of a schema.  It does not hold the AST definitions of the schema elements,
+ * and the directives applied to schema elements are read back as {@link graphql.schema.GraphQLAppliedDirective}s only, as
+ * {@link SchemaGenerator.Options#useAppliedDirectivesOnly(boolean)} would build them.
+ * <p>
+ * When a snapshot is read, the scalars, data fetchers, type resolvers, enum values providers and field visibility of the
+ * runtime wiring are used as {@link SchemaGenerator} would use them.  The {@link WiringFactory}, the schema directive wiring and
+ * the post processing of the runtime wiring are not used, as they work on the SDL definitions of the schema.
+ * <p>
+ * A snapshot can only be read by the same version of graphql-java that wrote it.
+ */
+@PublicApi
+public class SchemaSnapshot {
+
+    static final int MAGIC = 0x47514C53;
+    static final int VERSION = 1;
+
+    /**
+     * Writes a snapshot of the schema to the output stream
+     *
+     * @param schema       the schema to write
+     * @param outputStream the stream to write the snapshot to, which is not closed
+     *
+     * @throws IOException if the snapshot can't be written
+     */
+    public static void write(GraphQLSchema schema, OutputStream outputStream) throws IOException {
+        new SchemaSnapshotWriter(schema).write(outputStream);
+    }
+
+    /**
+     * Reads a schema back from a snapshot
+     *
+     * @param inputStream the stream to read the snapshot from, which is not closed
+     * @param wiring      the runtime wiring that gives the code of the schema
+     *
+     * @return the schema
+     *
+     * @throws IOException if the snapshot can't be read or is truncated or corrupt, in which case the schema can be made from its SDL instead
+     */
+    public static GraphQLSchema read(InputStream inputStream, RuntimeWiring wiring) throws IOException {
+        return new SchemaSnapshotReader(wiring).read(inputStream);
+    }
+}
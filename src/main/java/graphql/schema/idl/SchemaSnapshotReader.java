@@ -0,0 +1,492 @@
+package graphql.schema.idl;
+
+import graphql.Internal;
+import graphql.introspection.Introspection.DirectiveLocation;
+import graphql.language.ArrayValue;
+import graphql.language.BooleanValue;
+import graphql.language.EnumValue;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.NullValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLAppliedDirective;
+import graphql.schema.GraphQLAppliedDirectiveArgument;
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLDirective;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLEnumValueDefinition;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLInputType;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLUnionType;
+import graphql.schema.GraphqlTypeComparatorRegistry;
+import graphql.schema.TypeResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+import static graphql.schema.GraphQLTypeReference.typeRef;
+import static graphql.schema.idl.SchemaSnapshotWriter.BOOLEAN_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.ENUM;
+import static graphql.schema.idl.SchemaSnapshotWriter.ENUM_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.FLOAT_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.INPUT_OBJECT;
+import static graphql.schema.idl.SchemaSnapshotWriter.INTERFACE;
+import static graphql.schema.idl.SchemaSnapshotWriter.INT_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.LIST_TYPE;
+import static graphql.schema.idl.SchemaSnapshotWriter.LIST_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.NON_NULL_TYPE;
+import static graphql.schema.idl.SchemaSnapshotWriter.NULL_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.OBJECT;
+import static graphql.schema.idl.SchemaSnapshotWriter.OBJECT_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.SCALAR;
+import static graphql.schema.idl.SchemaSnapshotWriter.STRING_VALUE;
+import static graphql.schema.idl.SchemaSnapshotWriter.UNION;
+import static java.lang.String.format;
+
+/**
+ * Reads a {@link SchemaSnapshot} written by {@link SchemaSnapshotWriter}.  The types are made with type references to each
+ * other and the schema builder then resolves them, without collecting the types again or validating the schema.
+ */
+@Internal
+class SchemaSnapshotReader {
+
+    private final RuntimeWiring wiring;
+    private final GraphqlTypeComparatorRegistry comparatorRegistry;
+    private final GraphQLCodeRegistry.Builder codeRegistry;
+
+    private byte[] bytes;
+    private int position;
+    private String[] strings;
+
+    SchemaSnapshotReader(RuntimeWiring wiring) {
+        this.wiring = wiring;
+        this.comparatorRegistry = wiring.getComparatorRegistry();
+        this.codeRegistry = GraphQLCodeRegistry.newCodeRegistry(wiring.getCodeRegistry());
+    }
+
+    GraphQLSchema read(InputStream inputStream) throws IOException {
+        bytes = readAllBytes(inputStream);
+        assertTrue(bytes.length >= 8 && readInt() == SchemaSnapshot.MAGIC, () -> "This is not a schema snapshot");
+        int version = readInt();
+        assertTrue(version == SchemaSnapshot.VERSION, () -> format("The schema snapshot has version %d but only version %d can be read", version, SchemaSnapshot.VERSION));
+        strings = new String[readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = readCount();
+            strings[i] = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+        }
+        return readSchema();
+    }
+
+    private GraphQLSchema readSchema() throws IOException {
+        GraphQLSchema.Builder schemaBuilder = GraphQLSchema.newSchema();
+        schemaBuilder.description(readString());
+        String queryTypeName = readString();
+        String mutationTypeName = readString();
+        String subscriptionTypeName = readString();
+
+        int directiveCount = readCount();
+        for (int i = 0; i < directiveCount; i++) {
+            schemaBuilder.additionalDirective(readDirectiveDefinition());
+        }
+        schemaBuilder.withSchemaAppliedDirectives(readAppliedDirectives());
+
+        Map<String, GraphQLNamedType> types = new LinkedHashMap<>();
+        int typeCount = readCount();
+        for (int i = 0; i < typeCount; i++) {
+            GraphQLNamedType type = readType();
+            types.put(type.getName(), type);
+        }
+
+        Set<GraphQLType> additionalTypes = new LinkedHashSet<>();
+        int additionalTypeCount = readCount();
+        for (int i = 0; i < additionalTypeCount; i++) {
+            additionalTypes.add(types.get(readString()));
+        }
+
+        schemaBuilder.query((GraphQLObjectType) types.get(queryTypeName));
+        if (mutationTypeName != null) {
+            schemaBuilder.mutation((GraphQLObjectType) types.get(mutationTypeName));
+        }
+        if (subscriptionTypeName != null) {
+            schemaBuilder.subscription((GraphQLObjectType) types.get(subscriptionTypeName));
+        }
+        schemaBuilder.additionalTypes(additionalTypes);
+
+        codeRegistry.fieldVisibility(wiring.getFieldVisibility());
+        schemaBuilder.codeRegistry(codeRegistry.build());
+        return schemaBuilder.buildFromValidatedTypes(types.values());
+    }
+
+    private GraphQLDirective readDirectiveDefinition() throws IOException {
+        GraphQLDirective.Builder builder = GraphQLDirective.newDirective()
+                .name(readString())
+                .description(readString())
+                .repeatable(readVarInt() == 1)
+                .comparatorRegistry(comparatorRegistry);
+        int locationCount = readCount();
+        DirectiveLocation[] locations = new DirectiveLocation[locationCount];
+        for (int i = 0; i < locationCount; i++) {
+            locations[i] = DirectiveLocation.valueOf(readString());
+        }
+        builder.validLocations(locations);
+        int argumentCount = readCount();
+        for (int i = 0; i < argumentCount; i++) {
+            builder.argument(readArgument());
+        }
+        return builder.build();
+    }
+
+    private GraphQLNamedType readType() throws IOException {
+        int kind = readVarInt();
+        String name = readString();
+        String description = readString();
+        switch (kind) {
+            case OBJECT:
+                return readObjectType(name, description);
+            case INTERFACE:
+                return readInterfaceType(name, description);
+            case UNION:
+                return readUnionType(name, description);
+            case ENUM:
+                return readEnumType(name, description);
+            case INPUT_OBJECT:
+                return readInputObjectType(name, description);
+            case SCALAR:
+                return readScalarType(name, description);
+            default:
+                throw corrupt(format("unexpected type kind %d", kind));
+        }
+    }
+
+    private GraphQLObjectType readObjectType(String name, String description) throws IOException {
+        GraphQLObjectType.Builder builder = GraphQLObjectType.newObject()
+                .name(name)
+                .description(description)
+                .comparatorRegistry(comparatorRegistry);
+        int interfaceCount = readCount();
+        for (int i = 0; i < interfaceCount; i++) {
+            builder.withInterface(typeRef(readString()));
+        }
+        int fieldCount = readCount();
+        for (int i = 0; i < fieldCount; i++) {
+            builder.field(readField(name));
+        }
+        return builder.replaceAppliedDirectives(readAppliedDirectives()).build();
+    }
+
+    private GraphQLInterfaceType readInterfaceType(String name, String description) throws IOException {
+        GraphQLInterfaceType.Builder builder = GraphQLInterfaceType.newInterface()
+                .name(name)
+                .description(description)
+                .comparatorRegistry(comparatorRegistry);
+        int interfaceCount = readCount();
+        for (int i = 0; i < interfaceCount; i++) {
+            builder.withInterface(typeRef(readString()));
+        }
+        int fieldCount = readCount();
+        for (int i = 0; i < fieldCount; i++) {
+            builder.field(readField(name));
+        }
+        wireTypeResolver(name);
+        return builder.replaceAppliedDirectives(readAppliedDirectives()).build();
+    }
+
+    private GraphQLUnionType readUnionType(String name, String description) throws IOException {
+        GraphQLUnionType.Builder builder = GraphQLUnionType.newUnionType()
+                .name(name)
+                .description(description)
+                .comparatorRegistry(comparatorRegistry);
+        int memberCount = readCount();
+        for (int i = 0; i < memberCount; i++) {
+            builder.possibleType(typeRef(readString()));
+        }
+        wireTypeResolver(name);
+        return builder.replaceAppliedDirectives(readAppliedDirectives()).build();
+    }
+
+    private GraphQLEnumType readEnumType(String name, String description) throws IOException {
+        GraphQLEnumType.Builder builder = GraphQLEnumType.newEnum()
+                .name(name)
+                .description(description)
+                .comparatorRegistry(comparatorRegistry);
+        EnumValuesProvider enumValuesProvider = wiring.getEnumValuesProviders().get(name);
+        int valueCount = readCount();
+        for (int i = 0; i < valueCount; i++) {
+            String valueName = readString();
+            Object value;
+            if (enumValuesProvider != null) {
+                value = enumValuesProvider.getValue(valueName);
+                assertNotNull(value, () -> format("EnumValuesProvider for %s returned null for %s", name, valueName));
+            } else {
+                value = valueName;
+            }
+            builder.value(GraphQLEnumValueDefinition.newEnumValueDefinition()
+                    .name(valueName)
+                    .value(value)
+                    .description(readString())
+                    .deprecationReason(readString())
+                    .comparatorRegistry(comparatorRegistry)
+                    .replaceAppliedDirectives(readAppliedDirectives())
+                    .build());
+        }
+        return builder.replaceAppliedDirectives(readAppliedDirectives()).build();
+    }
+
+    private GraphQLInputObjectType readInputObjectType(String name, String description) throws IOException {
+        GraphQLInputObjectType.Builder builder = GraphQLInputObjectType.newInputObject()
+                .name(name)
+                .description(description)
+                .comparatorRegistry(comparatorRegistry);
+        int fieldCount = readCount();
+        for (int i = 0; i < fieldCount; i++) {
+            GraphQLInputObjectField.Builder fieldBuilder = GraphQLInputObjectField.newInputObjectField()
+                    .name(readString())
+                    .description(readString())
+                    .deprecate(readString())
+                    .type((GraphQLInputType) readTypeUse())
+                    .comparatorRegistry(comparatorRegistry);
+            Value<?> defaultValue = readInputValue();
+            if (defaultValue != null) {
+                fieldBuilder.defaultValueLiteral(defaultValue);
+            }
+            builder.field(fieldBuilder.replaceAppliedDirectives(readAppliedDirectives()).build());
+        }
+        return builder.replaceAppliedDirectives(readAppliedDirectives()).build();
+    }
+
+    private GraphQLScalarType readScalarType(String name, String description) throws IOException {
+        String specifiedByUrl = readString();
+        List<GraphQLAppliedDirective> appliedDirectives = readAppliedDirectives();
+        GraphQLScalarType scalar = assertNotNull(wiring.getScalars().get(name), () -> format("The runtime wiring has no scalar called '%s'", name));
+        if (ScalarInfo.isGraphqlSpecifiedScalar(scalar)) {
+            return scalar;
+        }
+        return scalar.transform(builder -> builder
+                .description(description)
+                .specifiedByUrl(specifiedByUrl)
+                .comparatorRegistry(comparatorRegistry)
+                .replaceAppliedDirectives(appliedDirectives));
+    }
+
+    private GraphQLFieldDefinition readField(String parentTypeName) throws IOException {
+        GraphQLFieldDefinition.Builder builder = GraphQLFieldDefinition.newFieldDefinition()
+                .name(readString())
+                .description(readString())
+                .deprecate(readString())
+                .type((GraphQLOutputType) readTypeUse())
+                .comparatorRegistry(comparatorRegistry);
+        int argumentCount = readCount();
+        for (int i = 0; i < argumentCount; i++) {
+            builder.argument(readArgument());
+        }
+        GraphQLFieldDefinition fieldDefinition = builder.replaceAppliedDirectives(readAppliedDirectives()).build();
+
+        // if they have already wired in a fetcher - then leave it alone
+        FieldCoordinates coordinates = FieldCoordinates.coordinates(parentTypeName, fieldDefinition.getName());
+        if (!codeRegistry.hasDataFetcher(coordinates)) {
+            Map<String, DataFetcher> dataFetchers = wiring.getDataFetchers().get(parentTypeName);
+            DataFetcher<?> dataFetcher = dataFetchers != null ? dataFetchers.get(fieldDefinition.getName()) : null;
+            if (dataFetcher == null) {
+                dataFetcher = wiring.getDefaultDataFetcherForType(parentTypeName);
+            }
+            if (dataFetcher != null) {
+                codeRegistry.dataFetcher(coordinates, dataFetcher);
+            }
+        }
+        return fieldDefinition;
+    }
+
+    private GraphQLArgument readArgument() throws IOException {
+        GraphQLArgument.Builder builder = GraphQLArgument.newArgument()
+                .name(readString())
+                .description(readString())
+                .deprecate(readString())
+                .type((GraphQLInputType) readTypeUse())
+                .comparatorRegistry(comparatorRegistry);
+        Value<?> defaultValue = readInputValue();
+        if (defaultValue != null) {
+            builder.defaultValueLiteral(defaultValue);
+        }
+        return builder.replaceAppliedDirectives(readAppliedDirectives()).build();
+    }
+
+    private void wireTypeResolver(String typeName) {
+        if (!codeRegistry.hasTypeResolver(typeName)) {
+            TypeResolver typeResolver = wiring.getTypeResolvers().get(typeName);
+            if (typeResolver != null) {
+                codeRegistry.typeResolver(typeName, typeResolver);
+            }
+        }
+    }
+
+    private List<GraphQLAppliedDirective> readAppliedDirectives() throws IOException {
+        int appliedDirectiveCount = readCount();
+        List<GraphQLAppliedDirective> appliedDirectives = new ArrayList<>(appliedDirectiveCount);
+        for (int i = 0; i < appliedDirectiveCount; i++) {
+            GraphQLAppliedDirective.Builder builder = GraphQLAppliedDirective.newDirective()
+                    .name(readString())
+                    .comparatorRegistry(comparatorRegistry);
+            int argumentCount = readCount();
+            for (int j = 0; j < argumentCount; j++) {
+                GraphQLAppliedDirectiveArgument.Builder argumentBuilder = GraphQLAppliedDirectiveArgument.newArgument()
+                        .name(readString())
+                        .type((GraphQLInputType) readTypeUse());
+                Value<?> value = readInputValue();
+                if (value != null) {
+                    argumentBuilder.valueLiteral(value);
+                }
+                builder.argument(argumentBuilder.build());
+            }
+            appliedDirectives.add(builder.build());
+        }
+        return appliedDirectives;
+    }
+
+    private GraphQLType readTypeUse() throws IOException {
+        int kind = readVarInt();
+        if (kind == NON_NULL_TYPE) {
+            return GraphQLNonNull.nonNull(readTypeUse());
+        }
+        if (kind == LIST_TYPE) {
+            return GraphQLList.list(readTypeUse());
+        }
+        return typeRef(readString());
+    }
+
+    private Value<?> readInputValue() throws IOException {
+        if (readVarInt() == 0) {
+            return null;
+        }
+        return readValue();
+    }
+
+    private Value<?> readValue() throws IOException {
+        int kind = readVarInt();
+        switch (kind) {
+            case NULL_VALUE:
+                return NullValue.of();
+            case BOOLEAN_VALUE:
+                return BooleanValue.of(readVarInt() == 1);
+            case INT_VALUE:
+                return new IntValue(new BigInteger(readString()));
+            case FLOAT_VALUE:
+                return new FloatValue(new BigDecimal(readString()));
+            case STRING_VALUE:
+                return StringValue.of(readString());
+            case ENUM_VALUE:
+                return EnumValue.of(readString());
+            case LIST_VALUE: {
+                int valueCount = readCount();
+                List<Value> values = new ArrayList<>(valueCount);
+                for (int i = 0; i < valueCount; i++) {
+                    values.add(readValue());
+                }
+                return new ArrayValue(values);
+            }
+            case OBJECT_VALUE: {
+                int fieldCount = readCount();
+                List<ObjectField> objectFields = new ArrayList<>(fieldCount);
+                for (int i = 0; i < fieldCount; i++) {
+                    String name = readString();
+                    objectFields.add(new ObjectField(name, readValue()));
+                }
+                return new ObjectValue(objectFields);
+            }
+            default:
+                throw corrupt(format("unexpected value kind %d", kind));
+        }
+    }
+
+    private String readString() throws IOException {
+        int index = readVarInt();
+        if (index > strings.length) {
+            throw corrupt(format("string %d is not in the string table of %d strings", index, strings.length));
+        }
+        return index == 0 ? null : strings[index - 1];
+    }
+
+    private int readInt() throws IOException {
+        if (bytes.length - position < 4) {
+            throw corrupt("it ends part way through a number");
+        }
+        int value = ((bytes[position] & 0xFF) << 24)
+                | ((bytes[position + 1] & 0xFF) << 16)
+                | ((bytes[position + 2] & 0xFF) << 8)
+                | (bytes[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    // a count of things that each take up at least one byte, or of bytes, so it can't be more than the bytes that are left
+    private int readCount() throws IOException {
+        int count = readVarInt();
+        if (count > bytes.length - position) {
+            throw corrupt(format("a count of %d is more than the %d bytes that are left", count, bytes.length - position));
+        }
+        return count;
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            if (position >= bytes.length) {
+                throw corrupt("it ends part way through a number");
+            }
+            byte b = bytes[position++];
+            // the fifth byte can only hold the top three bits of a non negative int
+            if (shift == 28 && (b & 0xF8) != 0) {
+                throw corrupt("it has a number that is out of range");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private IOException corrupt(String reason) {
+        return new IOException(format("The schema snapshot is corrupt, %s at byte %d", reason, position));
+    }
+
+    private static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+}
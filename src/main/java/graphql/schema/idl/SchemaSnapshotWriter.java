@@ -0,0 +1,337 @@
+package graphql.schema.idl;
+
+import graphql.DirectivesUtil;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.execution.ValuesResolver;
+import graphql.introspection.Introspection;
+import graphql.introspection.Introspection.DirectiveLocation;
+import graphql.language.ArrayValue;
+import graphql.language.BooleanValue;
+import graphql.language.EnumValue;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.NullValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.GraphQLAppliedDirective;
+import graphql.schema.GraphQLAppliedDirectiveArgument;
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLDirective;
+import graphql.schema.GraphQLDirectiveContainer;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLEnumValueDefinition;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLInputType;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNamedOutputType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLUnionType;
+import graphql.schema.InputValueWithState;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static graphql.Assert.assertShouldNeverHappen;
+
+/**
+ * Writes a {@link SchemaSnapshot}.  The snapshot starts with a table of every string it uses, so each name is only written
+ * once, and then the schema follows with strings as indexes into the table and numbers as variable length integers.
+ */
+@Internal
+class SchemaSnapshotWriter {
+
+    static final int OBJECT = 1;
+    static final int INTERFACE = 2;
+    static final int UNION = 3;
+    static final int ENUM = 4;
+    static final int INPUT_OBJECT = 5;
+    static final int SCALAR = 6;
+
+    static final int NAMED_TYPE = 0;
+    static final int LIST_TYPE = 1;
+    static final int NON_NULL_TYPE = 2;
+
+    static final int NULL_VALUE = 0;
+    static final int BOOLEAN_VALUE = 1;
+    static final int INT_VALUE = 2;
+    static final int FLOAT_VALUE = 3;
+    static final int STRING_VALUE = 4;
+    static final int ENUM_VALUE = 5;
+    static final int LIST_VALUE = 6;
+    static final int OBJECT_VALUE = 7;
+
+    private final GraphQLSchema schema;
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    SchemaSnapshotWriter(GraphQLSchema schema) {
+        this.schema = schema;
+    }
+
+    void write(OutputStream outputStream) throws IOException {
+        writeSchema();
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(header);
+        data.writeInt(SchemaSnapshot.MAGIC);
+        data.writeInt(SchemaSnapshot.VERSION);
+        writeVarInt(header, strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(header, bytes.length);
+            header.write(bytes);
+        }
+        header.writeTo(outputStream);
+        body.writeTo(outputStream);
+    }
+
+    private void writeSchema() {
+        writeString(schema.getDescription());
+        writeString(schema.getQueryType().getName());
+        writeString(schema.isSupportingMutations() ? schema.getMutationType().getName() : null);
+        writeString(schema.isSupportingSubscriptions() ? schema.getSubscriptionType().getName() : null);
+
+        List<GraphQLDirective> directiveDefinitions = new ArrayList<>();
+        for (GraphQLDirective directive : schema.getDirectives()) {
+            // the schema builder puts the specified directives in
+            if (!DirectiveInfo.isGraphqlSpecifiedDirective(directive)) {
+                directiveDefinitions.add(directive);
+            }
+        }
+        writeVarInt(directiveDefinitions.size());
+        directiveDefinitions.forEach(this::writeDirectiveDefinition);
+        writeAppliedDirectives(DirectivesUtil.toAppliedDirectives(schema.getSchemaAppliedDirectives(), schema.getSchemaDirectives()));
+
+        List<GraphQLNamedType> types = new ArrayList<>();
+        for (GraphQLNamedType type : schema.getAllTypesAsList()) {
+            // the introspection types are the same in every schema
+            if (!Introspection.isIntrospectionTypes(type)) {
+                types.add(type);
+            }
+        }
+        writeVarInt(types.size());
+        types.forEach(this::writeType);
+
+        writeVarInt(schema.getAdditionalTypes().size());
+        for (GraphQLType additionalType : schema.getAdditionalTypes()) {
+            writeString(((GraphQLNamedType) additionalType).getName());
+        }
+    }
+
+    private void writeDirectiveDefinition(GraphQLDirective directive) {
+        writeString(directive.getName());
+        writeString(directive.getDescription());
+        writeVarInt(directive.isRepeatable() ? 1 : 0);
+        writeVarInt(directive.validLocations().size());
+        for (DirectiveLocation location : directive.validLocations()) {
+            writeString(location.name());
+        }
+        writeVarInt(directive.getArguments().size());
+        directive.getArguments().forEach(this::writeArgument);
+    }
+
+    private void writeType(GraphQLNamedType type) {
+        if (type instanceof GraphQLObjectType) {
+            GraphQLObjectType objectType = (GraphQLObjectType) type;
+            writeTypeStart(OBJECT, objectType.getName(), objectType.getDescription());
+            writeInterfaces(objectType.getInterfaces());
+            writeFields(objectType.getFieldDefinitions());
+        } else if (type instanceof GraphQLInterfaceType) {
+            GraphQLInterfaceType interfaceType = (GraphQLInterfaceType) type;
+            writeTypeStart(INTERFACE, interfaceType.getName(), interfaceType.getDescription());
+            writeInterfaces(interfaceType.getInterfaces());
+            writeFields(interfaceType.getFieldDefinitions());
+        } else if (type instanceof GraphQLUnionType) {
+            GraphQLUnionType unionType = (GraphQLUnionType) type;
+            writeTypeStart(UNION, unionType.getName(), unionType.getDescription());
+            writeVarInt(unionType.getTypes().size());
+            for (GraphQLNamedOutputType memberType : unionType.getTypes()) {
+                writeString(memberType.getName());
+            }
+        } else if (type instanceof GraphQLEnumType) {
+            GraphQLEnumType enumType = (GraphQLEnumType) type;
+            writeTypeStart(ENUM, enumType.getName(), enumType.getDescription());
+            writeVarInt(enumType.getValues().size());
+            for (GraphQLEnumValueDefinition value : enumType.getValues()) {
+                writeString(value.getName());
+                writeString(value.getDescription());
+                writeString(value.getDeprecationReason());
+                writeAppliedDirectives(value);
+            }
+        } else if (type instanceof GraphQLInputObjectType) {
+            GraphQLInputObjectType inputObjectType = (GraphQLInputObjectType) type;
+            writeTypeStart(INPUT_OBJECT, inputObjectType.getName(), inputObjectType.getDescription());
+            writeVarInt(inputObjectType.getFieldDefinitions().size());
+            for (GraphQLInputObjectField field : inputObjectType.getFieldDefinitions()) {
+                writeString(field.getName());
+                writeString(field.getDescription());
+                writeString(field.getDeprecationReason());
+                writeTypeUse(field.getType());
+                writeInputValue(field.getInputFieldDefaultValue(), field.getType());
+                writeAppliedDirectives(field);
+            }
+        } else if (type instanceof GraphQLScalarType) {
+            GraphQLScalarType scalarType = (GraphQLScalarType) type;
+            writeTypeStart(SCALAR, scalarType.getName(), scalarType.getDescription());
+            writeString(scalarType.getSpecifiedByUrl());
+        } else {
+            assertShouldNeverHappen("Unexpected type %s", type);
+        }
+        writeAppliedDirectives((GraphQLDirectiveContainer) type);
+    }
+
+    private void writeTypeStart(int kind, String name, String description) {
+        writeVarInt(kind);
+        writeString(name);
+        writeString(description);
+    }
+
+    private void writeInterfaces(List<GraphQLNamedOutputType> interfaces) {
+        writeVarInt(interfaces.size());
+        for (GraphQLNamedOutputType interfaceType : interfaces) {
+            writeString(interfaceType.getName());
+        }
+    }
+
+    private void writeFields(List<GraphQLFieldDefinition> fields) {
+        writeVarInt(fields.size());
+        for (GraphQLFieldDefinition field : fields) {
+            writeString(field.getName());
+            writeString(field.getDescription());
+            writeString(field.getDeprecationReason());
+            writeTypeUse(field.getType());
+            writeVarInt(field.getArguments().size());
+            field.getArguments().forEach(this::writeArgument);
+            writeAppliedDirectives(field);
+        }
+    }
+
+    private void writeArgument(GraphQLArgument argument) {
+        writeString(argument.getName());
+        writeString(argument.getDescription());
+        writeString(argument.getDeprecationReason());
+        writeTypeUse(argument.getType());
+        writeInputValue(argument.getArgumentDefaultValue(), argument.getType());
+        writeAppliedDirectives(argument);
+    }
+
+    private void writeAppliedDirectives(GraphQLDirectiveContainer directiveContainer) {
+        writeAppliedDirectives(DirectivesUtil.toAppliedDirectives(directiveContainer));
+    }
+
+    private void writeAppliedDirectives(List<GraphQLAppliedDirective> appliedDirectives) {
+        writeVarInt(appliedDirectives.size());
+        for (GraphQLAppliedDirective appliedDirective : appliedDirectives) {
+            writeString(appliedDirective.getName());
+            writeVarInt(appliedDirective.getArguments().size());
+            for (GraphQLAppliedDirectiveArgument argument : appliedDirective.getArguments()) {
+                writeString(argument.getName());
+                writeTypeUse(argument.getType());
+                writeInputValue(argument.getArgumentValue(), argument.getType());
+            }
+        }
+    }
+
+    private void writeTypeUse(GraphQLType type) {
+        if (type instanceof GraphQLNonNull) {
+            writeVarInt(NON_NULL_TYPE);
+            writeTypeUse(((GraphQLNonNull) type).getWrappedType());
+        } else if (type instanceof GraphQLList) {
+            writeVarInt(LIST_TYPE);
+            writeTypeUse(((GraphQLList) type).getWrappedType());
+        } else {
+            writeVarInt(NAMED_TYPE);
+            writeString(((GraphQLNamedType) type).getName());
+        }
+    }
+
+    private void writeInputValue(InputValueWithState inputValue, GraphQLInputType type) {
+        if (inputValue.isNotSet()) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(1);
+        writeValue(ValuesResolver.valueToLiteral(inputValue, type, GraphQLContext.getDefault(), Locale.getDefault()));
+    }
+
+    private void writeValue(Value<?> value) {
+        if (value instanceof NullValue) {
+            writeVarInt(NULL_VALUE);
+        } else if (value instanceof BooleanValue) {
+            writeVarInt(BOOLEAN_VALUE);
+            writeVarInt(((BooleanValue) value).isValue() ? 1 : 0);
+        } else if (value instanceof IntValue) {
+            writeVarInt(INT_VALUE);
+            writeString(((IntValue) value).getValue().toString());
+        } else if (value instanceof FloatValue) {
+            writeVarInt(FLOAT_VALUE);
+            writeString(((FloatValue) value).getValue().toString());
+        } else if (value instanceof StringValue) {
+            writeVarInt(STRING_VALUE);
+            writeString(((StringValue) value).getValue());
+        } else if (value instanceof EnumValue) {
+            writeVarInt(ENUM_VALUE);
+            writeString(((EnumValue) value).getName());
+        } else if (value instanceof ArrayValue) {
+            List<Value> values = ((ArrayValue) value).getValues();
+            writeVarInt(LIST_VALUE);
+            writeVarInt(values.size());
+            values.forEach(this::writeValue);
+        } else if (value instanceof ObjectValue) {
+            List<ObjectField> objectFields = ((ObjectValue) value).getObjectFields();
+            writeVarInt(OBJECT_VALUE);
+            writeVarInt(objectFields.size());
+            for (ObjectField objectField : objectFields) {
+                writeString(objectField.getName());
+                writeValue(objectField.getValue());
+            }
+        } else {
+            assertShouldNeverHappen("Unexpected value %s in a schema", value);
+        }
+    }
+
+    // a null string is written as 0 and the others as their index in the string table plus 1
+    private void writeString(String string) {
+        if (string == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer index = strings.get(string);
+        if (index == null) {
+            index = strings.size();
+            strings.put(string, index);
+        }
+        writeVarInt(index + 1);
+    }
+
+    private void writeVarInt(int value) {
+        writeVarInt(body, value);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream outputStream, int value) {
+        while ((value & ~0x7F) != 0) {
+            outputStream.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        outputStream.write(value);
+    }
+}
@@ -36,6 +36,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -54,32 +56,58 @@ public class SchemaTypeChecker {
 
     public List<GraphQLError> checkTypeRegistry(TypeDefinitionRegistry typeRegistry, RuntimeWiring wiring) throws SchemaProblem {
         List<GraphQLError> errors = new ArrayList<>();
-        checkForMissingTypes(errors, typeRegistry);
-
-        SchemaTypeExtensionsChecker typeExtensionsChecker = new SchemaTypeExtensionsChecker();
-
-        typeExtensionsChecker.checkTypeExtensions(errors, typeRegistry);
-
-        ImplementingTypesChecker implementingTypesChecker = new ImplementingTypesChecker();
-        implementingTypesChecker.checkImplementingTypes(errors, typeRegistry);
-
-        UnionTypesChecker unionTypesChecker = new UnionTypesChecker();
-        unionTypesChecker.checkUnionType(errors, typeRegistry);
-
-        SchemaExtensionsChecker.checkSchemaInvariants(errors, typeRegistry);
-
-        checkScalarImplementationsArePresent(errors, typeRegistry, wiring);
-        checkTypeResolversArePresent(errors, typeRegistry, wiring);
-
-        checkFieldsAreSensible(errors, typeRegistry);
+        for (Consumer<List<GraphQLError>> check : checks(typeRegistry, wiring)) {
+            check.accept(errors);
+        }
+        return errors;
+    }
 
-        //check directive definitions before checking directive usages
-        checkDirectiveDefinitions(typeRegistry, errors);
+    /**
+     * This runs the same checks as {@link #checkTypeRegistry(TypeDefinitionRegistry, RuntimeWiring)} but on the given executor.  The
+     * checks only read the type registry and each one collects its own errors, so the errors come back in the same order.
+     *
+     * @param typeRegistry the type registry to check
+     * @param wiring       the runtime wiring
+     * @param executor     the executor to run the checks on
+     *
+     * @return the errors found
+     */
+    public List<GraphQLError> checkTypeRegistry(TypeDefinitionRegistry typeRegistry, RuntimeWiring wiring, Executor executor) throws SchemaProblem {
+        List<CompletableFuture<List<GraphQLError>>> checkResults = new ArrayList<>();
+        for (Consumer<List<GraphQLError>> check : checks(typeRegistry, wiring)) {
+            checkResults.add(CompletableFuture.supplyAsync(() -> {
+                List<GraphQLError> errors = new ArrayList<>();
+                check.accept(errors);
+                return errors;
+            }, executor));
+        }
+        List<GraphQLError> errors = new ArrayList<>();
+        for (CompletableFuture<List<GraphQLError>> checkResult : checkResults) {
+            errors.addAll(SchemaGeneratorHelper.joinBuildStep(checkResult));
+        }
+        return errors;
+    }
 
-        SchemaTypeDirectivesChecker directivesChecker = new SchemaTypeDirectivesChecker(typeRegistry, wiring);
-        directivesChecker.checkTypeDirectives(errors);
+    private List<Consumer<List<GraphQLError>>> checks(TypeDefinitionRegistry typeRegistry, RuntimeWiring wiring) {
+        List<Consumer<List<GraphQLError>>> checks = new ArrayList<>();
+        checks.add(errors -> checkForMissingTypes(errors, typeRegistry));
+        checks.add(errors -> new SchemaTypeExtensionsChecker().checkTypeExtensions(errors, typeRegistry));
+        checks.add(errors -> new ImplementingTypesChecker().checkImplementingTypes(errors, typeRegistry));
+        checks.add(errors -> new UnionTypesChecker().checkUnionType(errors, typeRegistry));
+        checks.add(errors -> SchemaExtensionsChecker.checkSchemaInvariants(errors, typeRegistry));
+        checks.add(errors -> {
+            checkScalarImplementationsArePresent(errors, typeRegistry, wiring);
+            checkTypeResolversArePresent(errors, typeRegistry, wiring);
+        });
+        checks.add(errors -> checkFieldsAreSensible(errors, typeRegistry));
+        checks.add(errors -> {
+            //check directive definitions before checking directive usages
+            checkDirectiveDefinitions(typeRegistry, errors);
 
-        return errors;
+            SchemaTypeDirectivesChecker directivesChecker = new SchemaTypeDirectivesChecker(typeRegistry, wiring);
+            directivesChecker.checkTypeDirectives(errors);
+        });
+        return checks;
     }
 
     private void checkForMissingTypes(List<GraphQLError> errors, TypeDefinitionRegistry typeRegistry) {
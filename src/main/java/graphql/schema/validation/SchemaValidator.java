@@ -1,16 +1,21 @@
 package graphql.schema.validation;
 
 import graphql.Internal;
+import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLSchemaElement;
 import graphql.schema.GraphQLTypeVisitor;
 import graphql.schema.SchemaTraverser;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static graphql.util.FpKit.filterList;
+
 @Internal
 public class SchemaValidator {
 
@@ -40,4 +45,23 @@ public class SchemaValidator {
         return validationErrorCollector.getErrors();
     }
 
+    /**
+     * Validates only the given schema elements of a schema, such as the named types changed by an edit.  The elements inside
+     * them are visited but other named types they refer to are not.
+     *
+     * @param schema   the schema the elements are in
+     * @param elements the schema elements to validate
+     *
+     * @return the validation errors found
+     */
+    public Set<SchemaValidationError> validateSchemaElements(GraphQLSchema schema, Collection<? extends GraphQLSchemaElement> elements) {
+        SchemaValidationErrorCollector validationErrorCollector = new SchemaValidationErrorCollector();
+        Map<Class<?>, Object> rootVars = new LinkedHashMap<>();
+        rootVars.put(GraphQLSchema.class, schema);
+        rootVars.put(SchemaValidationErrorCollector.class, validationErrorCollector);
+        SchemaTraverser traverser = new SchemaTraverser(element -> filterList(element.getChildren(), child -> !(child instanceof GraphQLNamedType)));
+        traverser.depthFirst(rules, elements, rootVars);
+        return validationErrorCollector.getErrors();
+    }
+
 }
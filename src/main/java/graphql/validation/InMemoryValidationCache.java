@@ -0,0 +1,128 @@
+package graphql.validation;
+
+import com.google.common.collect.ImmutableList;
+import graphql.PublicApi;
+import graphql.language.AstPrinter;
+import graphql.language.AstSorter;
+import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ValidationCache} that remembers a bounded number of documents that are valid, keyed by a canonical printed form
+ * of the document and the identity of the schema they were validated against.
+ * <p>
+ * The canonical form is the compact printing of the document, which leaves out whitespace, comments and descriptions.  By
+ * default the document is sorted with an {@link AstSorter} first, so that documents that only differ in the order of
+ * their definitions, fields and arguments are validated once.  None of the validation rules depend on that order.
+ * <p>
+ * The canonical form is worked out once per document, so when documents are cached by a
+ * {@link graphql.execution.preparsed.PreparsedDocumentProvider} a lookup only costs a hash map access.  The cache only
+ * holds weak references to documents and schemas, so it does not keep them alive.
+ * <p>
+ * Only valid documents are remembered.  The errors of an invalid document point at locations in that exact text, so
+ * invalid documents are validated each time.  This also means a cached result does not depend on the locale.
+ */
+@PublicApi
+public class InMemoryValidationCache implements ValidationCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Map<ValidationCacheKey, Boolean> cache;
+    // AST nodes do not override equals, so documents are looked up by identity
+    private final Map<Document, String> canonicalDocuments = Collections.synchronizedMap(new WeakHashMap<>());
+    private final boolean sortDocuments;
+
+    public InMemoryValidationCache() {
+        this(DEFAULT_MAXIMUM_SIZE, true);
+    }
+
+    /**
+     * Creates a validation cache that remembers at most the given number of valid documents, forgetting the least recently
+     * used document when it is full
+     *
+     * @param maximumSize   the maximum number of valid documents to remember
+     * @param sortDocuments whether documents are sorted before they are printed into their canonical form
+     */
+    public InMemoryValidationCache(long maximumSize, boolean sortDocuments) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<ValidationCacheKey, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ValidationCacheKey, Boolean> eldest) {
+                return size() > maximumSize;
+            }
+        });
+        this.sortDocuments = sortDocuments;
+    }
+
+    @Override
+    public List<ValidationError> getValidationErrors(Document document, GraphQLSchema graphQLSchema, Locale locale, Supplier<List<ValidationError>> validator) {
+        ValidationCacheKey key = new ValidationCacheKey(canonicalDocument(document), graphQLSchema);
+        if (cache.get(key) != null) {
+            return ImmutableList.of();
+        }
+        List<ValidationError> validationErrors = validator.get();
+        if (validationErrors.isEmpty()) {
+            cache.put(key, Boolean.TRUE);
+        }
+        return validationErrors;
+    }
+
+    /**
+     * @return the number of valid documents currently remembered, some of which may be for schemas that are gone
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    private String canonicalDocument(Document document) {
+        String canonicalDocument = canonicalDocuments.get(document);
+        if (canonicalDocument == null) {
+            // printed outside the lock, so at worst two threads print the same document
+            Document canonical = sortDocuments ? new AstSorter().sort(document) : document;
+            canonicalDocument = AstPrinter.printAstCompact(canonical);
+            canonicalDocuments.put(document, canonicalDocument);
+        }
+        return canonicalDocument;
+    }
+
+    /**
+     * The schema is only weakly referenced, so once it is gone the key never matches again and the entry is evicted in time
+     */
+    private static class ValidationCacheKey {
+        private final String canonicalDocument;
+        private final WeakReference<GraphQLSchema> graphQLSchema;
+        private final int hashCode;
+
+        private ValidationCacheKey(String canonicalDocument, GraphQLSchema graphQLSchema) {
+            this.canonicalDocument = canonicalDocument;
+            this.graphQLSchema = new WeakReference<>(graphQLSchema);
+            this.hashCode = 31 * canonicalDocument.hashCode() + System.identityHashCode(graphQLSchema);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ValidationCacheKey that = (ValidationCacheKey) o;
+            GraphQLSchema schema = graphQLSchema.get();
+            return hashCode == that.hashCode && schema != null && schema == that.graphQLSchema.get() && canonicalDocument.equals(that.canonicalDocument);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
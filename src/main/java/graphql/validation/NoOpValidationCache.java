@@ -0,0 +1,19 @@
+package graphql.validation;
+
+import graphql.Internal;
+import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+@Internal
+public class NoOpValidationCache implements ValidationCache {
+    public static final NoOpValidationCache INSTANCE = new NoOpValidationCache();
+
+    @Override
+    public List<ValidationError> getValidationErrors(Document document, GraphQLSchema graphQLSchema, Locale locale, Supplier<List<ValidationError>> validator) {
+        return validator.get();
+    }
+}
@@ -0,0 +1,107 @@
+package graphql.validation;
+
+import graphql.Internal;
+import graphql.language.Argument;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.SelectionSet;
+import graphql.language.TypeName;
+import graphql.language.VariableDefinition;
+import graphql.language.VariableReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * For a list of rules this holds, for each {@link AbstractRule} callback, only the rules that actually override that
+ * callback.  This lets the {@link RulesVisitor} skip calling the many rules that do nothing for a given node type.
+ * <p>
+ * Which callbacks a rule class overrides is worked out once per class and then cached.
+ */
+@Internal
+class RuleDispatchTable {
+
+    enum Callback {
+        CHECK_DOCUMENT("checkDocument", Document.class),
+        CHECK_ARGUMENT("checkArgument", Argument.class),
+        CHECK_TYPE_NAME("checkTypeName", TypeName.class),
+        CHECK_VARIABLE_DEFINITION("checkVariableDefinition", VariableDefinition.class),
+        CHECK_FIELD("checkField", Field.class),
+        CHECK_INLINE_FRAGMENT("checkInlineFragment", InlineFragment.class),
+        CHECK_DIRECTIVE("checkDirective", Directive.class, List.class),
+        CHECK_FRAGMENT_SPREAD("checkFragmentSpread", FragmentSpread.class),
+        CHECK_FRAGMENT_DEFINITION("checkFragmentDefinition", FragmentDefinition.class),
+        CHECK_OPERATION_DEFINITION("checkOperationDefinition", OperationDefinition.class),
+        LEAVE_OPERATION_DEFINITION("leaveOperationDefinition", OperationDefinition.class),
+        CHECK_SELECTION_SET("checkSelectionSet", SelectionSet.class),
+        LEAVE_SELECTION_SET("leaveSelectionSet", SelectionSet.class),
+        CHECK_VARIABLE("checkVariable", VariableReference.class),
+        DOCUMENT_FINISHED("documentFinished", Document.class);
+
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+
+        Callback(String methodName, Class<?>... parameterTypes) {
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+        }
+    }
+
+    private static final Callback[] CALLBACKS = Callback.values();
+    private static final Map<Class<?>, boolean[]> OVERRIDDEN_CALLBACKS = new ConcurrentHashMap<>();
+
+    private final AbstractRule[][] rulesByCallback;
+
+    RuleDispatchTable(List<AbstractRule> rules) {
+        List<List<AbstractRule>> rulesPerCallback = new ArrayList<>(CALLBACKS.length);
+        for (int i = 0; i < CALLBACKS.length; i++) {
+            rulesPerCallback.add(new ArrayList<>());
+        }
+        for (AbstractRule rule : rules) {
+            boolean[] overridden = overriddenCallbacks(rule.getClass());
+            for (int i = 0; i < CALLBACKS.length; i++) {
+                if (overridden[i]) {
+                    rulesPerCallback.get(i).add(rule);
+                }
+            }
+        }
+        this.rulesByCallback = new AbstractRule[CALLBACKS.length][];
+        for (int i = 0; i < CALLBACKS.length; i++) {
+            rulesByCallback[i] = rulesPerCallback.get(i).toArray(new AbstractRule[0]);
+        }
+    }
+
+    /**
+     * @param callback the callback about to be made
+     *
+     * @return the rules, in their original order, that override the callback.  This must not be modified.
+     */
+    AbstractRule[] rulesFor(Callback callback) {
+        return rulesByCallback[callback.ordinal()];
+    }
+
+    static boolean[] overriddenCallbacks(Class<?> ruleClass) {
+        return OVERRIDDEN_CALLBACKS.computeIfAbsent(ruleClass, RuleDispatchTable::findOverriddenCallbacks);
+    }
+
+    private static boolean[] findOverriddenCallbacks(Class<?> ruleClass) {
+        boolean[] overridden = new boolean[CALLBACKS.length];
+        for (int i = 0; i < CALLBACKS.length; i++) {
+            Callback callback = CALLBACKS[i];
+            try {
+                overridden[i] = ruleClass.getMethod(callback.methodName, callback.parameterTypes).getDeclaringClass() != AbstractRule.class;
+            } catch (NoSuchMethodException | SecurityException e) {
+                // if we can't tell then always call the rule
+                overridden[i] = true;
+            }
+        }
+        return overridden;
+    }
+}
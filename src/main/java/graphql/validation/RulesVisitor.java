@@ -1,11 +1,9 @@
 package graphql.validation;
 
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-
-import com.google.common.collect.ImmutableList;
+import java.util.stream.Collectors;
 
 import graphql.Internal;
 import graphql.language.Argument;
@@ -21,33 +19,34 @@ import graphql.language.SelectionSet;
 import graphql.language.TypeName;
 import graphql.language.VariableDefinition;
 import graphql.language.VariableReference;
+import graphql.validation.RuleDispatchTable.Callback;
 
 @Internal
 @SuppressWarnings("rawtypes")
 public class RulesVisitor implements DocumentVisitor {
     private final ValidationContext validationContext;
-    private final List<AbstractRule> allRules;
-    private List<AbstractRule> currentRules;
+    private final RuleDispatchTable allRules;
+    private RuleDispatchTable currentRules;
     private final Set<String> visitedFragmentSpreads = new HashSet<>();
-    private final List<AbstractRule> fragmentSpreadVisitRules;
-    private final List<AbstractRule> nonFragmentSpreadRules;
+    private final RuleDispatchTable fragmentSpreadVisitRules;
+    private final RuleDispatchTable nonFragmentSpreadRules;
     private boolean operationScope = false;
     private int fragmentSpreadVisitDepth = 0;
 
     public RulesVisitor(ValidationContext validationContext, List<AbstractRule> rules) {
         this.validationContext = validationContext;
-        this.allRules = rules;
+        this.allRules = new RuleDispatchTable(rules);
         this.currentRules = allRules;
-        this.nonFragmentSpreadRules = filterRulesVisitingFragmentSpreads(allRules, false);
-        this.fragmentSpreadVisitRules = filterRulesVisitingFragmentSpreads(allRules, true);
+        this.nonFragmentSpreadRules = filterRulesVisitingFragmentSpreads(rules, false);
+        this.fragmentSpreadVisitRules = filterRulesVisitingFragmentSpreads(rules, true);
     }
 
-    private List<AbstractRule> filterRulesVisitingFragmentSpreads(List<AbstractRule> rules, boolean isVisitFragmentSpreads) {
-        Iterator<AbstractRule> itr = rules
+    private RuleDispatchTable filterRulesVisitingFragmentSpreads(List<AbstractRule> rules, boolean isVisitFragmentSpreads) {
+        List<AbstractRule> filteredRules = rules
             .stream()
             .filter(r -> r.isVisitFragmentSpreads() == isVisitFragmentSpreads)
-            .iterator();
-        return ImmutableList.copyOf(itr);
+            .collect(Collectors.toList());
+        return new RuleDispatchTable(filteredRules);
     }
 
     @Override
@@ -82,42 +81,58 @@ public class RulesVisitor implements DocumentVisitor {
     }
 
     private void checkDocument(Document node) {
-        currentRules.forEach(r -> r.checkDocument(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_DOCUMENT)) {
+            rule.checkDocument(node);
+        }
     }
 
     private void checkArgument(Argument node) {
-        currentRules.forEach(r -> r.checkArgument(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_ARGUMENT)) {
+            rule.checkArgument(node);
+        }
     }
 
     private void checkTypeName(TypeName node) {
-        currentRules.forEach(r -> r.checkTypeName(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_TYPE_NAME)) {
+            rule.checkTypeName(node);
+        }
     }
 
     private void checkVariableDefinition(VariableDefinition node) {
-        currentRules.forEach(r -> r.checkVariableDefinition(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_VARIABLE_DEFINITION)) {
+            rule.checkVariableDefinition(node);
+        }
     }
 
     private void checkField(Field node) {
-        currentRules.forEach(r -> r.checkField(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_FIELD)) {
+            rule.checkField(node);
+        }
     }
 
     private void checkInlineFragment(InlineFragment node) {
-        currentRules.forEach(r -> r.checkInlineFragment(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_INLINE_FRAGMENT)) {
+            rule.checkInlineFragment(node);
+        }
     }
 
     private void checkDirective(Directive node, List<Node> ancestors) {
-        currentRules.forEach(r -> r.checkDirective(node, ancestors));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_DIRECTIVE)) {
+            rule.checkDirective(node, ancestors);
+        }
     }
 
     private void checkFragmentSpread(FragmentSpread node, List<Node> ancestors) {
-        currentRules.forEach(r -> r.checkFragmentSpread(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_FRAGMENT_SPREAD)) {
+            rule.checkFragmentSpread(node);
+        }
 
         if (operationScope) {
             FragmentDefinition fragment = validationContext.getFragment(node.getName());
             if (fragment != null && !visitedFragmentSpreads.contains(node.getName())) {
                 // Manually traverse into the FragmentDefinition
                 visitedFragmentSpreads.add(node.getName());
-                List<AbstractRule> prevRules = currentRules;
+                RuleDispatchTable prevRules = currentRules;
                 currentRules = fragmentSpreadVisitRules;
                 fragmentSpreadVisitDepth++;
                 new LanguageTraversal(ancestors).traverse(fragment, this);
@@ -135,20 +150,28 @@ public class RulesVisitor implements DocumentVisitor {
             currentRules = nonFragmentSpreadRules;
         }
 
-        currentRules.forEach(r -> r.checkFragmentDefinition(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_FRAGMENT_DEFINITION)) {
+            rule.checkFragmentDefinition(node);
+        }
     }
 
     private void checkOperationDefinition(OperationDefinition node) {
         operationScope = true;
-        currentRules.forEach(r -> r.checkOperationDefinition(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_OPERATION_DEFINITION)) {
+            rule.checkOperationDefinition(node);
+        }
     }
 
     private void checkSelectionSet(SelectionSet node) {
-        currentRules.forEach(r -> r.checkSelectionSet(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_SELECTION_SET)) {
+            rule.checkSelectionSet(node);
+        }
     }
 
     private void checkVariable(VariableReference node) {
-        currentRules.forEach(r -> r.checkVariable(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.CHECK_VARIABLE)) {
+            rule.checkVariable(node);
+        }
     }
 
     @Override
@@ -167,18 +190,24 @@ public class RulesVisitor implements DocumentVisitor {
     }
 
     private void leaveSelectionSet(SelectionSet node) {
-        currentRules.forEach(r -> r.leaveSelectionSet(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.LEAVE_SELECTION_SET)) {
+            rule.leaveSelectionSet(node);
+        }
     }
 
     private void leaveOperationDefinition(OperationDefinition node) {
         // fragments should be revisited for each operation
         visitedFragmentSpreads.clear();
         operationScope = false;
-        currentRules.forEach(r -> r.leaveOperationDefinition(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.LEAVE_OPERATION_DEFINITION)) {
+            rule.leaveOperationDefinition(node);
+        }
     }
 
     private void documentFinished(Document node) {
-        currentRules.forEach(r -> r.documentFinished(node));
+        for (AbstractRule rule : currentRules.rulesFor(Callback.DOCUMENT_FINISHED)) {
+            rule.documentFinished(node);
+        }
     }
 
     private void leaveFragmentDefinition(FragmentDefinition node) {
@@ -0,0 +1,34 @@
+package graphql.validation;
+
+import graphql.PublicSpi;
+import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Interface that allows clients to hook in the caching of validation outcomes between executions, independently of
+ * the caching of parsed documents done by a {@link graphql.execution.preparsed.PreparsedDocumentProvider}.
+ */
+@PublicSpi
+public interface ValidationCache {
+
+    /**
+     * This is called to get the "cached" validation errors of a document and if they are not present, then the "validator"
+     * can be called to validate the document.
+     * <p>
+     * Implementations must only hand out a result for a document and schema that it was created for.  Since validation
+     * errors carry the source locations of the document they were found in, and messages in the locale that was asked
+     * for, it is only safe to hand out a cached result to an equivalent document when that result has no errors.
+     *
+     * @param document      the document to be validated
+     * @param graphQLSchema the schema to validate against
+     * @param locale        the locale of the validation messages
+     * @param validator     this can be called to validate the document
+     *
+     * @return the validation errors of the document, which is empty when it is valid
+     */
+    List<ValidationError> getValidationErrors(Document document, GraphQLSchema graphQLSchema, Locale locale, Supplier<List<ValidationError>> validator);
+}
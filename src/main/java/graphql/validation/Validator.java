@@ -1,9 +1,18 @@
 package graphql.validation;
 
 
+import com.google.common.collect.ImmutableSet;
 import graphql.Internal;
 import graphql.i18n.I18n;
+import graphql.language.Definition;
 import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
 import graphql.schema.GraphQLSchema;
 import graphql.validation.rules.ArgumentsOfCorrectType;
 import graphql.validation.rules.ExecutableDefinitions;
@@ -32,9 +41,20 @@ import graphql.validation.rules.VariableDefaultValuesOfCorrectType;
 import graphql.validation.rules.VariableTypesMatch;
 import graphql.validation.rules.VariablesAreInputTypes;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -66,12 +86,97 @@ public class Validator {
 
     public List<ValidationError> validateDocument(GraphQLSchema schema, Document document, Predicate<Class<?>> applyRule, Locale locale) {
         I18n i18n = I18n.i18n(I18n.BundleType.Validation, locale);
-        ValidationContext validationContext = new ValidationContext(schema, document, i18n);
+        return validateDocument(schema, document, document, applyRule, i18n);
+    }
+
+    /**
+     * This validates a document with many operations in parallel on the given executor.  Each operation is validated, along with
+     * the fragments it uses, as its own unit of work.  The fragment definitions are validated in one more unit, and the rules
+     * that need to see the whole document, such as {@link UniqueOperationNames}, in a last one.
+     * <p>
+     * The errors are returned in a deterministic order: those of each operation in document order, then those of the fragment
+     * definitions and then those of the whole document, with duplicates removed.  This is not always the order the errors
+     * are found in by {@link #validateDocument(GraphQLSchema, Document, Predicate, Locale)}.  An error in a fragment may
+     * also be reported for each operation that uses it where the single threaded validation reports it once.
+     *
+     * @param schema    the schema to validate against
+     * @param document  the document to validate
+     * @param applyRule the predicate deciding which rules are applied
+     * @param locale    the locale of the validation messages
+     * @param executor  the executor to validate the operations on
+     *
+     * @return the validation errors of the document
+     */
+    public List<ValidationError> validateDocument(GraphQLSchema schema, Document document, Predicate<Class<?>> applyRule, Locale locale, Executor executor) {
+        I18n i18n = I18n.i18n(I18n.BundleType.Validation, locale);
+        List<OperationDefinition> operations = new ArrayList<>();
+        Map<String, FragmentDefinition> fragmentsByName = new LinkedHashMap<>();
+        for (Definition<?> definition : document.getDefinitions()) {
+            if (definition instanceof OperationDefinition) {
+                operations.add((OperationDefinition) definition);
+            } else if (definition instanceof FragmentDefinition) {
+                FragmentDefinition fragmentDefinition = (FragmentDefinition) definition;
+                fragmentsByName.put(fragmentDefinition.getName(), fragmentDefinition);
+            }
+        }
+        if (operations.size() <= 1) {
+            return validateDocument(schema, document, document, applyRule, i18n);
+        }
+
+        Predicate<Class<?>> unitRules = ruleClass -> !DOCUMENT_RULES.contains(ruleClass) && applyRule.test(ruleClass);
+        Predicate<Class<?>> documentRules = ruleClass -> DOCUMENT_RULES.contains(ruleClass) && applyRule.test(ruleClass);
+        Map<String, Set<String>> spreadsByFragment = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<List<ValidationError>>> units = new ArrayList<>();
+        for (OperationDefinition operation : operations) {
+            units.add(CompletableFuture.supplyAsync(() -> {
+                // the fragments must be there to be followed from spreads, but it's only the operation that is traversed
+                List<Definition> definitions = new ArrayList<>();
+                definitions.add(operation);
+                for (String fragmentName : usedFragments(operation, fragmentsByName, spreadsByFragment)) {
+                    definitions.add(fragmentsByName.get(fragmentName));
+                }
+                Document unitDocument = Document.newDocument().definitions(definitions).build();
+                Document operationDocument = Document.newDocument().definition(operation).build();
+                return validateDocument(schema, unitDocument, operationDocument, unitRules, i18n);
+            }, executor));
+        }
+        if (!fragmentsByName.isEmpty()) {
+            units.add(CompletableFuture.supplyAsync(() -> {
+                List<Definition> fragmentDefinitions = new ArrayList<>();
+                for (Definition<?> definition : document.getDefinitions()) {
+                    if (definition instanceof FragmentDefinition) {
+                        fragmentDefinitions.add(definition);
+                    }
+                }
+                Document fragmentsDocument = Document.newDocument().definitions(fragmentDefinitions).build();
+                return validateDocument(schema, fragmentsDocument, fragmentsDocument, unitRules, i18n);
+            }, executor));
+        }
+        units.add(CompletableFuture.supplyAsync(() -> validateDocument(schema, document, document, documentRules, i18n), executor));
+
+        Set<ValidationError> errors = new LinkedHashSet<>();
+        for (CompletableFuture<List<ValidationError>> unit : units) {
+            for (ValidationError validationError : joinUnit(unit)) {
+                if (errors.size() >= MAX_VALIDATION_ERRORS) {
+                    return new ArrayList<>(errors);
+                }
+                errors.add(validationError);
+            }
+        }
+        return new ArrayList<>(errors);
+    }
+
+    private List<ValidationError> validateDocument(GraphQLSchema schema, Document contextDocument, Document document, Predicate<Class<?>> applyRule, I18n i18n) {
+        ValidationContext validationContext = new ValidationContext(schema, contextDocument, i18n);
 
         ValidationErrorCollector validationErrorCollector = new ValidationErrorCollector(MAX_VALIDATION_ERRORS);
         List<AbstractRule> rules = createRules(validationContext, validationErrorCollector);
         // filter out any rules they don't want applied
         rules = rules.stream().filter(r -> applyRule.test(r.getClass())).collect(Collectors.toList());
+        // and any rules that cannot find anything wrong with this document
+        Predicate<Class<?>> relevantRule = relevantRules(document);
+        rules = rules.stream().filter(r -> relevantRule.test(r.getClass())).collect(Collectors.toList());
         LanguageTraversal languageTraversal = new LanguageTraversal();
         try {
             languageTraversal.traverse(document, new RulesVisitor(validationContext, rules));
@@ -82,6 +187,103 @@ public class Validator {
         return validationErrorCollector.getErrors();
     }
 
+    private static List<ValidationError> joinUnit(CompletableFuture<List<ValidationError>> unit) {
+        try {
+            return unit.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the names of the fragments used by the operation, directly or through other fragments
+     */
+    private static Set<String> usedFragments(OperationDefinition operation, Map<String, FragmentDefinition> fragmentsByName, Map<String, Set<String>> spreadsByFragment) {
+        Set<String> usedFragments = new LinkedHashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        collectSpreads(operation.getSelectionSet(), new LinkedHashSet<>()).forEach(toVisit::add);
+        while (!toVisit.isEmpty()) {
+            String fragmentName = toVisit.removeFirst();
+            FragmentDefinition fragmentDefinition = fragmentsByName.get(fragmentName);
+            if (fragmentDefinition == null || !usedFragments.add(fragmentName)) {
+                continue;
+            }
+            Set<String> spreads = spreadsByFragment.computeIfAbsent(fragmentName, name -> collectSpreads(fragmentDefinition.getSelectionSet(), new LinkedHashSet<>()));
+            toVisit.addAll(spreads);
+        }
+        return usedFragments;
+    }
+
+    private static Set<String> collectSpreads(SelectionSet selectionSet, Set<String> spreads) {
+        if (selectionSet == null) {
+            return spreads;
+        }
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof FragmentSpread) {
+                spreads.add(((FragmentSpread) selection).getName());
+            } else if (selection instanceof Field) {
+                collectSpreads(((Field) selection).getSelectionSet(), spreads);
+            } else if (selection instanceof InlineFragment) {
+                collectSpreads(((InlineFragment) selection).getSelectionSet(), spreads);
+            }
+        }
+        return spreads;
+    }
+
+    /**
+     * Some rules only look at fragment definitions, or at how many operations there are, and so they can never report an
+     * error on documents without them.  A quick look at the top level definitions lets us skip those rules entirely.
+     *
+     * @param document the document to be validated
+     *
+     * @return a predicate that is false for rule classes that cannot report an error for this document
+     */
+    static Predicate<Class<?>> relevantRules(Document document) {
+        boolean hasFragments = false;
+        boolean hasSubscriptions = false;
+        int operationCount = 0;
+        for (Definition<?> definition : document.getDefinitions()) {
+            if (definition instanceof FragmentDefinition) {
+                hasFragments = true;
+            } else if (definition instanceof OperationDefinition) {
+                operationCount++;
+                hasSubscriptions |= ((OperationDefinition) definition).getOperation() == OperationDefinition.Operation.SUBSCRIPTION;
+            }
+        }
+        Set<Class<?>> irrelevantRules = new HashSet<>();
+        if (!hasFragments) {
+            irrelevantRules.add(NoFragmentCycles.class);
+            irrelevantRules.add(NoUnusedFragments.class);
+            irrelevantRules.add(UniqueFragmentNames.class);
+        }
+        if (operationCount <= 1) {
+            irrelevantRules.add(LoneAnonymousOperation.class);
+            irrelevantRules.add(UniqueOperationNames.class);
+        }
+        if (!hasSubscriptions) {
+            irrelevantRules.add(SubscriptionUniqueRootField.class);
+        }
+        return ruleClass -> !irrelevantRules.contains(ruleClass);
+    }
+
+    /**
+     * These rules need to see all the definitions of a document and so they can't be applied to a part of it
+     */
+    private static final Set<Class<?>> DOCUMENT_RULES = ImmutableSet.of(
+            ExecutableDefinitions.class,
+            LoneAnonymousOperation.class,
+            NoFragmentCycles.class,
+            NoUnusedFragments.class,
+            UniqueFragmentNames.class,
+            UniqueOperationNames.class
+    );
+
     public List<AbstractRule> createRules(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         List<AbstractRule> rules = new ArrayList<>();
 
@@ -26,6 +26,8 @@ import graphql.validation.ValidationErrorCollector;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -56,6 +58,11 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
     private final Set<Set<FieldAndType>> sameResponseShapeChecked = new LinkedHashSet<>();
     private final Set<Set<FieldAndType>> sameForCommonParentsChecked = new LinkedHashSet<>();
     private final Set<Set<Field>> conflictsReported = new LinkedHashSet<>();
+    // the fields of a selection set only depend on the selection set and its parent type, so they are collected once
+    // even though fragments are spread, and the sub selections of fields are compared, many times over
+    private final Map<SelectionSetAndType, Map<String, Set<FieldAndType>>> collectedFields = new HashMap<>();
+    private final Set<SelectionSetAndType> collectingFields = new HashSet<>();
+    private boolean fragmentCycleFound = false;
 
     public OverlappingFieldsCanBeMerged(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
@@ -63,9 +70,7 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
 
     @Override
     public void leaveSelectionSet(SelectionSet selectionSet) {
-        Map<String, Set<FieldAndType>> fieldMap = new LinkedHashMap<>();
-        Set<String> visitedFragmentSpreads = new LinkedHashSet<>();
-        collectFields(fieldMap, selectionSet, getValidationContext().getOutputType(), visitedFragmentSpreads);
+        Map<String, Set<FieldAndType>> fieldMap = getCollectedFields(selectionSet, getValidationContext().getOutputType());
         List<Conflict> conflicts = findConflicts(fieldMap);
         for (Conflict conflict : conflicts) {
             if (conflictsReported.contains(conflict.fields)) {
@@ -78,6 +83,41 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
         }
     }
 
+    /**
+     * Returns the fields of the selection set grouped by response name.  The returned map must not be modified.
+     */
+    private Map<String, Set<FieldAndType>> getCollectedFields(SelectionSet selectionSet, GraphQLType parentType) {
+        if (fragmentCycleFound) {
+            // fields collected while a cycle is being followed can be incomplete, so nothing is remembered from then on
+            Map<String, Set<FieldAndType>> fieldMap = new LinkedHashMap<>();
+            collectFields(fieldMap, selectionSet, parentType, new LinkedHashSet<>());
+            return fieldMap;
+        }
+        SelectionSetAndType key = new SelectionSetAndType(selectionSet, parentType);
+        Map<String, Set<FieldAndType>> fieldMap = collectedFields.get(key);
+        if (fieldMap != null) {
+            return fieldMap;
+        }
+        if (!collectingFields.add(key)) {
+            // a fragment that spreads itself, its fields are already being collected further up
+            fragmentCycleFound = true;
+            return Collections.emptyMap();
+        }
+        fieldMap = new LinkedHashMap<>();
+        collectFields(fieldMap, selectionSet, parentType, new LinkedHashSet<>());
+        collectingFields.remove(key);
+        if (!fragmentCycleFound) {
+            collectedFields.put(key, fieldMap);
+        }
+        return fieldMap;
+    }
+
+    private void mergeFields(Map<String, Set<FieldAndType>> fieldMap, Map<String, Set<FieldAndType>> fieldsToMerge) {
+        for (Map.Entry<String, Set<FieldAndType>> entry : fieldsToMerge.entrySet()) {
+            fieldMap.computeIfAbsent(entry.getKey(), responseName -> new LinkedHashSet<>()).addAll(entry.getValue());
+        }
+    }
+
     private void collectFields(Map<String, Set<FieldAndType>> fieldMap, SelectionSet selectionSet, GraphQLType parentType, Set<String> visitedFragmentSpreads) {
 
         for (Selection selection : selectionSet.getSelections()) {
@@ -103,7 +143,11 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
         }
         visitedFragmentSpreads.add(fragment.getName());
         GraphQLType graphQLType = getGraphQLTypeForFragmentDefinition(fragment);
-        collectFields(fieldMap, fragment.getSelectionSet(), graphQLType, visitedFragmentSpreads);
+        if (fragmentCycleFound) {
+            collectFields(fieldMap, fragment.getSelectionSet(), graphQLType, visitedFragmentSpreads);
+        } else {
+            mergeFields(fieldMap, getCollectedFields(fragment.getSelectionSet(), graphQLType));
+        }
     }
 
     private GraphQLType getGraphQLTypeForFragmentDefinition(FragmentDefinition fragment) {
@@ -157,11 +201,10 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
 
     private void sameResponseShapeByName(Map<String, Set<FieldAndType>> fieldMap, ImmutableList<String> currentPath, List<Conflict> conflictsResult) {
         for (Map.Entry<String, Set<FieldAndType>> entry : fieldMap.entrySet()) {
-            if (sameResponseShapeChecked.contains(entry.getValue())) {
+            if (!sameResponseShapeChecked.add(entry.getValue())) {
                 continue;
             }
             ImmutableList<String> newPath = addToList(currentPath, entry.getKey());
-            sameResponseShapeChecked.add(entry.getValue());
             Conflict conflict = requireSameOutputTypeShape(newPath, entry.getValue());
             if (conflict != null) {
                 conflictsResult.add(conflict);
@@ -176,8 +219,7 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
         Map<String, Set<FieldAndType>> fieldMap = new LinkedHashMap<>();
         for (FieldAndType fieldAndType : sameNameFields) {
             if (fieldAndType.field.getSelectionSet() != null) {
-                Set<String> visitedFragmentSpreads = new LinkedHashSet<>();
-                collectFields(fieldMap, fieldAndType.field.getSelectionSet(), fieldAndType.graphQLType, visitedFragmentSpreads);
+                mergeFields(fieldMap, getCollectedFields(fieldAndType.field.getSelectionSet(), fieldAndType.graphQLType));
             }
         }
         return fieldMap;
@@ -188,10 +230,9 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
             List<Set<FieldAndType>> groups = groupByCommonParents(entry.getValue());
             ImmutableList<String> newPath = addToList(currentPath, entry.getKey());
             for (Set<FieldAndType> group : groups) {
-                if (sameForCommonParentsChecked.contains(group)) {
+                if (!sameForCommonParentsChecked.add(group)) {
                     continue;
                 }
-                sameForCommonParentsChecked.add(group);
                 Conflict conflict = requireSameNameAndArguments(newPath, group);
                 if (conflict != null) {
                     conflictsResult.add(conflict);
@@ -384,6 +425,33 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
         }
     }
 
+    private static class SelectionSetAndType {
+        final SelectionSet selectionSet;
+        final GraphQLType parentType;
+
+        SelectionSetAndType(SelectionSet selectionSet, GraphQLType parentType) {
+            this.selectionSet = selectionSet;
+            this.parentType = parentType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SelectionSetAndType that = (SelectionSetAndType) o;
+            return selectionSet == that.selectionSet && Objects.equals(parentType, that.parentType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(selectionSet) + Objects.hashCode(parentType);
+        }
+    }
+
     private static class Conflict {
         final String reason;
         final Set<Field> fields = new LinkedHashSet<>();
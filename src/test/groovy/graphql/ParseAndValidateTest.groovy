@@ -6,6 +6,7 @@ import graphql.validation.ValidationErrorType
 import graphql.validation.rules.NoUnusedFragments
 import spock.lang.Specification
 
+import java.util.concurrent.Executors
 import java.util.function.Predicate
 
 /**
@@ -155,4 +156,32 @@ class ParseAndValidateTest extends Specification {
         then:
         !rs.errors.isEmpty() // all rules apply - we have errors
     }
+
+    def "can validate the operations of a document in parallel"() {
+        def query = """
+            query A { hero { name } }
+            query B { hero }
+            query A { hero { ...F } }
+            fragment F on Character { name nope }
+            fragment Unused on Character { name }
+        """
+        def document = ParseAndValidate.parse(ExecutionInput.newExecutionInput(query).build()).getDocument()
+        def executor = Executors.newFixedThreadPool(2)
+
+        when:
+        def errors = ParseAndValidate.validate(StarWarsSchema.starWarsSchema, document, Locale.ENGLISH, executor)
+        def singleThreadedErrors = ParseAndValidate.validate(StarWarsSchema.starWarsSchema, document, Locale.ENGLISH)
+
+        then:
+        errors.collect { it.validationErrorType } == [
+                ValidationErrorType.SubselectionRequired,
+                ValidationErrorType.FieldUndefined,
+                ValidationErrorType.DuplicateOperationName,
+                ValidationErrorType.UnusedFragment,
+        ]
+        errors as Set == singleThreadedErrors as Set
+
+        cleanup:
+        executor.shutdown()
+    }
 }
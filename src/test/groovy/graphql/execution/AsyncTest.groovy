@@ -130,4 +130,44 @@ class AsyncTest extends Specification {
         exception.getCause().getMessage() == "some error"
     }
 
+    def "combined builder only completes when all values are present"() {
+        given:
+        def cf1 = completedFuture('x')
+        def cf2 = new CompletableFuture()
+        def combinedBuilder = Async.ofExpectedSize(2)
+        combinedBuilder.add(cf1)
+        combinedBuilder.add(cf2)
+
+        when:
+        def result = combinedBuilder.await()
+
+        then:
+        !result.isDone()
+
+        when:
+        cf2.complete('y')
+
+        then:
+        result.isDone()
+        result.get() == ['x', 'y']
+    }
+
+    def "combined builder of already completed values is itself completed"() {
+        given:
+        def combinedBuilder = Async.ofExpectedSize(size)
+        values.each { combinedBuilder.add(completedFuture(it)) }
+
+        when:
+        def result = combinedBuilder.await()
+
+        then:
+        result.isDone()
+        result.get() == values
+
+        where:
+        size | values
+        0    | []
+        1    | ['x']
+        3    | ['x', 'y', 'z']
+    }
 }
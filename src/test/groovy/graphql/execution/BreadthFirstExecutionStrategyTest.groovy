@@ -0,0 +1,150 @@
+package graphql.execution
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.BatchedDataFetcher
+import graphql.schema.DataFetcher
+import graphql.schema.DataFetchingEnvironment
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+
+class BreadthFirstExecutionStrategyTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            owners : [Owner]
+            strictOwners : [Owner!]
+        }
+
+        type Owner {
+            name : String
+            pets : [Pet]
+        }
+
+        type Pet {
+            name : String
+            strictName : String!
+            toys : [Toy]
+        }
+
+        type Toy {
+            name : String
+        }
+    '''
+
+    def owners = [
+            [name: "Ted", pets: [[name: "Fido", strictName: "Fido"], [name: "Rover", strictName: "Rover"]]],
+            [name: "Mary", pets: [[name: "Spot", strictName: null]]],
+            [name: "Jane", pets: []],
+    ]
+
+    class CountingBatchedDataFetcher implements BatchedDataFetcher<Object> {
+        List<Integer> batchSizes = []
+        Closure<Object> fetch
+
+        @Override
+        CompletionStage<List<Object>> getBatch(List<DataFetchingEnvironment> environments) throws Exception {
+            batchSizes.add(environments.size())
+            CompletableFuture.supplyAsync({ environments.collect { fetch(it) } })
+        }
+    }
+
+    def graphQL(Map<String, Map<String, DataFetcher>> dataFetchers, ExecutionStrategy strategy) {
+        GraphQL.newGraphQL(TestUtil.schema(sdl, dataFetchers)).queryExecutionStrategy(strategy).build()
+    }
+
+    def "gives the same results as the async execution strategy"() {
+        def dataFetchers = [Query: [
+                owners      : { env -> owners } as DataFetcher,
+                strictOwners: { env -> CompletableFuture.supplyAsync({ owners }) } as DataFetcher,
+        ]]
+
+        when:
+        def expected = graphQL(dataFetchers, new AsyncExecutionStrategy()).execute(query)
+        def actual = graphQL(dataFetchers, new BreadthFirstExecutionStrategy()).execute(query)
+
+        then:
+        actual.data == expected.data
+        actual.errors.collect { it.path } as Set == expected.errors.collect { it.path } as Set
+
+        where:
+        query << [
+                '{ owners { name pets { name } } }',
+                '{ owners { pets { name } name __typename } }',
+                '{ owners { name pets { name strictName } } }',
+                '{ strictOwners { name pets { strictName } } }',
+                '{ a : owners { name } b : strictOwners { name pets { name } } }',
+        ]
+    }
+
+    def "batched data fetchers are called once per field per level"() {
+        def petsFetcher = new CountingBatchedDataFetcher(fetch: { env -> env.source["pets"] })
+        def toysFetcher = new CountingBatchedDataFetcher(fetch: { env -> [[name: env.source["name"] + "'s ball"]] })
+        def dataFetchers = [
+                Query: [owners: { env -> owners } as DataFetcher],
+                Owner: [pets: petsFetcher],
+                Pet  : [toys: toysFetcher],
+        ]
+
+        when:
+        def er = graphQL(dataFetchers, new BreadthFirstExecutionStrategy()).execute('{ owners { name pets { name toys { name } } } }')
+
+        then:
+        er.errors.isEmpty()
+        er.data == [owners: [
+                [name: "Ted", pets: [[name: "Fido", toys: [[name: "Fido's ball"]]], [name: "Rover", toys: [[name: "Rover's ball"]]]]],
+                [name: "Mary", pets: [[name: "Spot", toys: [[name: "Spot's ball"]]]]],
+                [name: "Jane", pets: []],
+        ]]
+        petsFetcher.batchSizes == [3]
+        toysFetcher.batchSizes == [3]
+    }
+
+    def "batched data fetchers fetch a batch of one in other strategies"() {
+        def petsFetcher = new CountingBatchedDataFetcher(fetch: { env -> env.source["pets"] })
+        def dataFetchers = [
+                Query: [owners: { env -> owners } as DataFetcher],
+                Owner: [pets: petsFetcher],
+        ]
+
+        when:
+        def er = graphQL(dataFetchers, new AsyncExecutionStrategy()).execute('{ owners { pets { name } } }')
+
+        then:
+        er.errors.isEmpty()
+        er.data == [owners: [[pets: [[name: "Fido"], [name: "Rover"]]], [pets: [[name: "Spot"]]], [pets: []]]]
+        petsFetcher.batchSizes == [1, 1, 1]
+    }
+
+    def "a failed batch is an error on every field in it"() {
+        def petsFetcher = new CountingBatchedDataFetcher(fetch: { env -> throw new RuntimeException("bang") })
+        def dataFetchers = [
+                Query: [owners: { env -> owners } as DataFetcher],
+                Owner: [pets: petsFetcher],
+        ]
+
+        when:
+        def er = graphQL(dataFetchers, new BreadthFirstExecutionStrategy()).execute('{ owners { name pets { name } } }')
+
+        then:
+        er.data == [owners: [[name: "Ted", pets: null], [name: "Mary", pets: null], [name: "Jane", pets: null]]]
+        er.errors.collect { it.path } as Set == [["owners", 0, "pets"], ["owners", 1, "pets"], ["owners", 2, "pets"]] as Set
+    }
+
+    def "a null non null field on a later level nulls out its parents"() {
+        def dataFetchers = [Query: [strictOwners: { env -> owners } as DataFetcher]]
+
+        when:
+        def er = graphQL(dataFetchers, new BreadthFirstExecutionStrategy()).execute('{ strictOwners { name pets { name strictName } } }')
+
+        then:
+        er.data == [strictOwners: [
+                [name: "Ted", pets: [[name: "Fido", strictName: "Fido"], [name: "Rover", strictName: "Rover"]]],
+                [name: "Mary", pets: [null]],
+                [name: "Jane", pets: []],
+        ]]
+        er.errors.collect { it.path } == [["strictOwners", 1, "pets", 0, "strictName"]]
+    }
+}
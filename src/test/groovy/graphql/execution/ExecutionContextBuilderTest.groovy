@@ -7,6 +7,7 @@ import graphql.language.FragmentDefinition
 import graphql.language.OperationDefinition
 import graphql.parser.Parser
 import graphql.schema.GraphQLSchema
+import graphql.schema.idl.errors.SchemaMissingError
 import org.dataloader.DataLoaderRegistry
 import spock.lang.Specification
 
@@ -205,4 +206,68 @@ class ExecutionContextBuilderTest extends Specification {
         executionContext.operationDefinition == operation
         executionContext.dataLoaderRegistry == dataLoaderRegistry
     }
+
+    def "errors are only added once per path and are kept in order"() {
+        given:
+        def executionContext = new ExecutionContextBuilder()
+                .executionId(executionId)
+                .build()
+        def path = ResultPath.rootPath().segment("foo")
+
+        when:
+        executionContext.addError(new SchemaMissingError(), path)
+        def errorsAfterFirstAdd = executionContext.getErrors()
+        executionContext.addError(new SchemaMissingError(), path)
+        executionContext.addErrors([new SchemaMissingError(), new SchemaMissingError()])
+
+        then:
+        errorsAfterFirstAdd.size() == 1
+        executionContext.getErrors().size() == 3
+        executionContext.getErrors()[0] == errorsAfterFirstAdd[0]
+        executionContext.getErrors().is(executionContext.getErrors())
+    }
+
+    def "the errors of a completed value are the errors added before it was completed"() {
+        given:
+        def executionContext = new ExecutionContextBuilder()
+                .executionId(executionId)
+                .build()
+        def firstError = new SchemaMissingError()
+
+        when:
+        def noErrorsResult = executionContext.newCompletedValueResult("a")
+        executionContext.addError(firstError)
+        def oneErrorResult = executionContext.newCompletedValueResult("b")
+        executionContext.addErrors([new SchemaMissingError(), new SchemaMissingError()])
+
+        then:
+        executionContext.getErrors().size() == 3
+        oneErrorResult.getData() == "b"
+        oneErrorResult.getErrors() == [firstError]
+        noErrorsResult.getErrors().isEmpty()
+        executionContext.newCompletedValueResult(null).getErrors() == executionContext.getErrors()
+    }
+
+    def "errors can be added concurrently"() {
+        given:
+        def executionContext = new ExecutionContextBuilder()
+                .executionId(executionId)
+                .build()
+        def threadCount = 8
+        def errorsPerThread = 500
+
+        when:
+        def threads = (0..<threadCount).collect { t ->
+            Thread.start {
+                for (int i = 0; i < errorsPerThread; i++) {
+                    executionContext.addError(new SchemaMissingError(), ResultPath.rootPath().segment(t).segment(i))
+                    executionContext.getErrors()
+                }
+            }
+        }
+        threads.each { it.join() }
+
+        then:
+        executionContext.getErrors().size() == threadCount * errorsPerThread
+    }
 }
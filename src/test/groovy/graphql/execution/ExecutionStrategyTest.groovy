@@ -3,6 +3,7 @@ package graphql.execution
 import graphql.Assert
 import graphql.ExceptionWhileDataFetching
 import graphql.ExecutionResult
+import graphql.ExecutionResultImpl
 import graphql.GraphQLContext
 import graphql.GraphqlErrorBuilder
 import graphql.Scalars
@@ -946,6 +947,127 @@ class ExecutionStrategyTest extends Specification {
         executionResult.get().data == [1L, 2L, 3L]
     }
 
+    def "completes a list of leaf values with an error on each element that fails to serialize"() {
+        given:
+        ExecutionContext executionContext = buildContext()
+        def fieldType = list(Scalars.GraphQLInt)
+        def fldDef = newFieldDefinition().name("test").type(fieldType).build()
+        def executionStepInfo = ExecutionStepInfo.newExecutionStepInfo().type(fieldType).path(ResultPath.parse("/test")).fieldDefinition(fldDef).build()
+        NonNullableFieldValidator nullableFieldValidator = new NonNullableFieldValidator(executionContext, executionStepInfo)
+
+        def parameters = newParameters()
+                .executionStepInfo(executionStepInfo)
+                .source([1, "not a number", null, 4])
+                .nonNullFieldValidator(nullableFieldValidator)
+                .fields(mergedSelectionSet(["fld": []]))
+                .field(mergedField(new Field("test")))
+                .path(ResultPath.parse("/test"))
+                .build()
+
+        when:
+        def fieldValueInfo = executionStrategy.completeValue(executionContext, parameters)
+
+        then:
+        fieldValueInfo.completeValueType == FieldValueInfo.CompleteValueType.LIST
+        fieldValueInfo.fieldValue.join().data == [1, null, null, 4]
+        executionContext.errors.size() == 1
+        executionContext.errors[0] instanceof SerializationError
+        executionContext.errors[0].path == ["test", 1]
+    }
+
+    def "a null element in a list of non null leaf values nulls out the list"() {
+        given:
+        ExecutionContext executionContext = buildContext()
+        def fieldType = list(nonNull(Scalars.GraphQLInt))
+        def fldDef = newFieldDefinition().name("test").type(fieldType).build()
+        def executionStepInfo = ExecutionStepInfo.newExecutionStepInfo().type(fieldType).path(ResultPath.parse("/test")).fieldDefinition(fldDef).build()
+        NonNullableFieldValidator nullableFieldValidator = new NonNullableFieldValidator(executionContext, executionStepInfo)
+
+        def parameters = newParameters()
+                .executionStepInfo(executionStepInfo)
+                .source([1, 2, null, 4])
+                .nonNullFieldValidator(nullableFieldValidator)
+                .fields(mergedSelectionSet(["fld": []]))
+                .field(mergedField(new Field("test")))
+                .path(ResultPath.parse("/test"))
+                .build()
+
+        when:
+        def executionResult = executionStrategy.completeValue(executionContext, parameters).fieldValue.join()
+
+        then:
+        executionResult.data == null
+        executionContext.errors.size() == 1
+        executionContext.errors[0] instanceof NonNullableFieldWasNullError
+        executionContext.errors[0].path == ["test", 2]
+    }
+
+    def "every element of a list of non null leaf values is completed after a null one"() {
+        given:
+        ExecutionContext executionContext = buildContext()
+        def fieldType = list(nonNull(Scalars.GraphQLInt))
+        def fldDef = newFieldDefinition().name("test").type(fieldType).build()
+        def executionStepInfo = ExecutionStepInfo.newExecutionStepInfo().type(fieldType).path(ResultPath.parse("/test")).fieldDefinition(fldDef).build()
+        NonNullableFieldValidator nullableFieldValidator = new NonNullableFieldValidator(executionContext, executionStepInfo)
+
+        def parameters = newParameters()
+                .executionStepInfo(executionStepInfo)
+                .source([1, null, "not a number", null])
+                .nonNullFieldValidator(nullableFieldValidator)
+                .fields(mergedSelectionSet(["fld": []]))
+                .field(mergedField(new Field("test")))
+                .path(ResultPath.parse("/test"))
+                .build()
+
+        when:
+        def executionResult = executionStrategy.completeValue(executionContext, parameters).fieldValue.join()
+
+        then:
+        executionResult.data == null
+        executionContext.errors.size() == 3
+        executionContext.errors[0] instanceof NonNullableFieldWasNullError
+        executionContext.errors[0].path == ["test", 1]
+        executionContext.errors[1] instanceof SerializationError
+        executionContext.errors[1].path == ["test", 2]
+        executionContext.errors[2] instanceof NonNullableFieldWasNullError
+        executionContext.errors[2].path == ["test", 3]
+    }
+
+    def "the elements of a list of leaf values are completed with an overridden completeValueForScalar"() {
+        given:
+        ExecutionContext executionContext = buildContext()
+        ExecutionStrategy overridingStrategy = new ExecutionStrategy() {
+            @Override
+            CompletableFuture<ExecutionResult> execute(ExecutionContext context, ExecutionStrategyParameters parameters) {
+                return Assert.assertShouldNeverHappen("should not be called")
+            }
+
+            @Override
+            protected CompletableFuture<ExecutionResult> completeValueForScalar(ExecutionContext context, ExecutionStrategyParameters parameters, GraphQLScalarType scalarType, Object result) {
+                return CompletableFuture.completedFuture(new ExecutionResultImpl(result * 10, []))
+            }
+        }
+        def fieldType = list(Scalars.GraphQLInt)
+        def fldDef = newFieldDefinition().name("test").type(fieldType).build()
+        def executionStepInfo = ExecutionStepInfo.newExecutionStepInfo().type(fieldType).path(ResultPath.parse("/test")).fieldDefinition(fldDef).build()
+        NonNullableFieldValidator nullableFieldValidator = new NonNullableFieldValidator(executionContext, executionStepInfo)
+
+        def parameters = newParameters()
+                .executionStepInfo(executionStepInfo)
+                .source([1, 2, 3])
+                .nonNullFieldValidator(nullableFieldValidator)
+                .fields(mergedSelectionSet(["fld": []]))
+                .field(mergedField(new Field("test")))
+                .path(ResultPath.parse("/test"))
+                .build()
+
+        when:
+        def executionResult = overridingStrategy.completeValue(executionContext, parameters).fieldValue.join()
+
+        then:
+        executionResult.data == [10, 20, 30]
+    }
+
     def "when completeValue expects GraphQLList and non iterable or non array is passed then it should yield a TypeMismatch error"() {
         given:
         ExecutionContext executionContext = buildContext()
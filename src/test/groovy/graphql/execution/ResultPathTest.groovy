@@ -280,4 +280,53 @@ class ResultPathTest extends Specification {
         then:
         newPath.toList() == ["a", "b", "x"]
     }
+
+    def "paths built separately are equal and have the same hash code"() {
+        when:
+        def path1 = ResultPath.rootPath().segment("a").segment(1).segment("b")
+        def path2 = ResultPath.parse("/a[1]/b")
+        def path3 = ResultPath.rootPath().segment("a").segment(2).segment("b")
+        def path4 = ResultPath.rootPath().segment("a").segment(1)
+
+        then:
+        path1 == path2
+        path1.hashCode() == path2.hashCode()
+        path1 != path3
+        path1 != path4
+        path4 != path1
+        path1.getParent() == path4
+        [path1, path3, path4].toSet().contains(path2)
+    }
+
+    def "segment values"() {
+        when:
+        def path = ResultPath.parse("/a/b[3]")
+
+        then:
+        path.isListSegment()
+        !path.isNamedSegment()
+        path.getSegmentIndex() == 3
+        path.getSegmentValue() == 3
+        path.getLevel() == 2
+
+        path.getParent().isNamedSegment()
+        path.getParent().getSegmentName() == "b"
+        path.getParent().getSegmentValue() == "b"
+
+        !ResultPath.rootPath().isListSegment()
+        !ResultPath.rootPath().isNamedSegment()
+        ResultPath.rootPath().getLevel() == 0
+
+        when:
+        path.getSegmentName()
+
+        then:
+        thrown(AssertException)
+
+        when:
+        path.getParent().getSegmentIndex()
+
+        then:
+        thrown(AssertException)
+    }
 }
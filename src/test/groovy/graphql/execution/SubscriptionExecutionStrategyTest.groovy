@@ -15,13 +15,17 @@ import graphql.execution.pubsub.Message
 import graphql.execution.pubsub.ReactiveStreamsMessagePublisher
 import graphql.execution.pubsub.ReactiveStreamsObjectPublisher
 import graphql.execution.pubsub.RxJavaMessagePublisher
+import graphql.execution.reactive.SubscriptionDeliveryPolicy
 import graphql.execution.reactive.SubscriptionPublisher
 import graphql.schema.DataFetcher
 import graphql.schema.DataFetchingEnvironment
 import graphql.schema.PropertyDataFetcher
 import graphql.schema.idl.RuntimeWiring
+import io.reactivex.processors.PublishProcessor
 import org.awaitility.Awaitility
 import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -183,6 +187,264 @@ class SubscriptionExecutionStrategyTest extends Specification {
 
     }
 
+    @Unroll
+    def "subscription query with a prefetch window sends out an ordered stream of events using the '#why' implementation"() {
+
+        given:
+        Publisher<Object> publisher = eventStreamPublisher
+
+        DataFetcher newMessageDF = new DataFetcher() {
+            @Override
+            Object get(DataFetchingEnvironment environment) {
+                return publisher
+            }
+        }
+
+        RuntimeWiring runtimeWiring = buildBaseSubscriptionWiring(PropertyDataFetcher.fetching("sender"), PropertyDataFetcher.fetching("text"))
+                .type(newTypeWiring("Subscription").dataFetcher("newMessage", newMessageDF).build())
+                .build()
+        def strategy = new SubscriptionExecutionStrategy(new SimpleDataFetcherExceptionHandler(), 4)
+        GraphQL graphQL = TestUtil.graphQL(idl, runtimeWiring).subscriptionExecutionStrategy(strategy).build()
+
+        def executionInput = ExecutionInput.newExecutionInput().query("""
+            subscription NewMessages {
+              newMessage(roomId: 123) {
+                sender
+                text
+              }
+            }
+        """).build()
+
+        def executionResult = graphQL.execute(executionInput)
+
+        when:
+        Publisher<ExecutionResult> msgStream = executionResult.getData()
+        def capturingSubscriber = new CapturingSubscriber<ExecutionResult>()
+        msgStream.subscribe(capturingSubscriber)
+
+        then:
+        msgStream instanceof SubscriptionPublisher
+        (msgStream as SubscriptionPublisher).getUpstreamPublisher() == publisher
+        Awaitility.await().untilTrue(capturingSubscriber.isDone())
+
+        def messages = capturingSubscriber.events
+        messages.size() == 10
+        for (int i = 0; i < messages.size(); i++) {
+            def message = messages[i].data
+            assert message == ["newMessage": [sender: "sender" + i, text: "text" + i]]
+        }
+
+        where:
+        why                       | eventStreamPublisher
+        'reactive streams stream' | new ReactiveStreamsMessagePublisher(10)
+        'rxjava stream'           | new RxJavaMessagePublisher(10)
+
+    }
+
+    def "identical subscriptions share one source event stream when given a fan out"() {
+
+        given:
+        def processor = PublishProcessor.create()
+        int newMessageCalls = 0
+        int senderCalls = 0
+        DataFetcher newMessageDF = { env -> newMessageCalls++; return processor } as DataFetcher
+        DataFetcher senderDF = { env -> senderCalls++; return (env.getSource() as Message).sender } as DataFetcher
+
+        RuntimeWiring runtimeWiring = buildBaseSubscriptionWiring(senderDF, PropertyDataFetcher.fetching("text"))
+                .type(newTypeWiring("Subscription").dataFetcher("newMessage", newMessageDF).build())
+                .build()
+        def fanOut = new SubscriptionFanOut({ executionContext -> "everyone" })
+        def strategy = new SubscriptionExecutionStrategy(new SimpleDataFetcherExceptionHandler(), 0, fanOut)
+        GraphQL graphQL = TestUtil.graphQL(idl, runtimeWiring).subscriptionExecutionStrategy(strategy).build()
+
+        def query = '''
+            subscription NewMessages($roomId : Int) {
+              newMessage(roomId: $roomId) {
+                sender
+                text
+              }
+            }
+        '''
+        def executionInput = { roomId -> ExecutionInput.newExecutionInput(query).variables([roomId: roomId]).build() }
+
+        when:
+        Publisher<ExecutionResult> msgStream1 = graphQL.execute(executionInput(123)).getData()
+        Publisher<ExecutionResult> msgStream2 = graphQL.execute(executionInput(123)).getData()
+        graphQL.execute(executionInput(456))
+
+        def capturingSubscriber1 = new CapturingSubscriber<ExecutionResult>()
+        def capturingSubscriber2 = new CapturingSubscriber<ExecutionResult>()
+        msgStream1.subscribe(capturingSubscriber1)
+        msgStream2.subscribe(capturingSubscriber2)
+
+        then:
+        msgStream1 instanceof SubscriptionPublisher
+        (msgStream1 as SubscriptionPublisher).getUpstreamPublisher() == processor
+        // the other room is not the same subscription
+        newMessageCalls == 2
+        fanOut.getSharedSubscriptionCount() == 2
+
+        when:
+        3.times { processor.onNext(new Message("sender" + it, "text" + it)) }
+        processor.onComplete()
+
+        then:
+        capturingSubscriber1.isDone().get()
+        capturingSubscriber2.isDone().get()
+
+        def expected = (0..2).collect { ["newMessage": [sender: "sender" + it, text: "text" + it]] }
+        capturingSubscriber1.events.collect { it.data } == expected
+        capturingSubscriber2.events.collect { it.data } == expected
+        // each event is executed once for both subscribers
+        senderCalls == 3
+        fanOut.getSharedSubscriptionCount() == 1
+    }
+
+    def "events dropped by a delivery policy are never executed"() {
+
+        given:
+        def processor = PublishProcessor.create()
+        int senderCalls = 0
+        DataFetcher newMessageDF = { env -> processor } as DataFetcher
+        DataFetcher senderDF = { env -> senderCalls++; return (env.getSource() as Message).sender } as DataFetcher
+
+        RuntimeWiring runtimeWiring = buildBaseSubscriptionWiring(senderDF, PropertyDataFetcher.fetching("text"))
+                .type(newTypeWiring("Subscription").dataFetcher("newMessage", newMessageDF).build())
+                .build()
+        def strategy = new SubscriptionExecutionStrategy(new SimpleDataFetcherExceptionHandler(), 0, null, SubscriptionDeliveryPolicy.latestOnly())
+        GraphQL graphQL = TestUtil.graphQL(idl, runtimeWiring).subscriptionExecutionStrategy(strategy).build()
+
+        Publisher<ExecutionResult> msgStream = graphQL.execute("subscription { newMessage(roomId: 123) { sender text } }").getData()
+        Subscription subscription = null
+        List<ExecutionResult> results = []
+        msgStream.subscribe(new Subscriber<ExecutionResult>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription = s
+            }
+
+            @Override
+            void onNext(ExecutionResult executionResult) {
+                results.add(executionResult)
+            }
+
+            @Override
+            void onError(Throwable t) {
+            }
+
+            @Override
+            void onComplete() {
+            }
+        })
+
+        when:
+        10.times { processor.onNext(new Message("sender" + it, "text" + it)) }
+        subscription.request(1)
+
+        then:
+        results.collect { it.data } == [["newMessage": [sender: "sender9", text: "text9"]]]
+        senderCalls == 1
+    }
+
+    def "a delivery policy applies to each subscriber of a shared stream"() {
+
+        given:
+        def processor = PublishProcessor.create()
+        int senderCalls = 0
+        DataFetcher newMessageDF = { env -> processor } as DataFetcher
+        DataFetcher senderDF = { env -> senderCalls++; return (env.getSource() as Message).sender } as DataFetcher
+
+        RuntimeWiring runtimeWiring = buildBaseSubscriptionWiring(senderDF, PropertyDataFetcher.fetching("text"))
+                .type(newTypeWiring("Subscription").dataFetcher("newMessage", newMessageDF).build())
+                .build()
+        def fanOut = new SubscriptionFanOut({ executionContext -> "everyone" })
+        def strategy = new SubscriptionExecutionStrategy(new SimpleDataFetcherExceptionHandler(), 0, fanOut, SubscriptionDeliveryPolicy.latestOnly())
+        GraphQL graphQL = TestUtil.graphQL(idl, runtimeWiring).subscriptionExecutionStrategy(strategy).build()
+
+        def query = "subscription { newMessage(roomId: 123) { sender text } }"
+        Publisher<ExecutionResult> fastStream = graphQL.execute(query).getData()
+        Publisher<ExecutionResult> slowStream = graphQL.execute(query).getData()
+
+        def fastSubscriber = new CapturingSubscriber<ExecutionResult>()
+        fastStream.subscribe(fastSubscriber)
+        Subscription slowSubscription = null
+        List<ExecutionResult> slowResults = []
+        slowStream.subscribe(new Subscriber<ExecutionResult>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                slowSubscription = s
+            }
+
+            @Override
+            void onNext(ExecutionResult executionResult) {
+                slowResults.add(executionResult)
+            }
+
+            @Override
+            void onError(Throwable t) {
+            }
+
+            @Override
+            void onComplete() {
+            }
+        })
+
+        when:
+        10.times { processor.onNext(new Message("sender" + it, "text" + it)) }
+        slowSubscription.request(1)
+
+        then:
+        // the slow subscriber does not hold up the fast one, and only gets the latest result
+        fastSubscriber.events.collect { it.data } == (0..9).collect { ["newMessage": [sender: "sender" + it, text: "text" + it]] }
+        slowResults.collect { it.data } == [["newMessage": [sender: "sender9", text: "text9"]]]
+        // each event of the shared stream is executed once
+        senderCalls == 10
+        fanOut.getSharedSubscriptionCount() == 1
+    }
+
+    def "a subscription that joined a shared stream which then ended starts a fresh one"() {
+
+        given:
+        def processor = PublishProcessor.create()
+        int newMessageCalls = 0
+        DataFetcher newMessageDF = { env -> newMessageCalls++; return processor } as DataFetcher
+
+        RuntimeWiring runtimeWiring = buildBaseSubscriptionWiring(PropertyDataFetcher.fetching("sender"), PropertyDataFetcher.fetching("text"))
+                .type(newTypeWiring("Subscription").dataFetcher("newMessage", newMessageDF).build())
+                .build()
+        def fanOut = new SubscriptionFanOut({ executionContext -> "everyone" })
+        def strategy = new SubscriptionExecutionStrategy(new SimpleDataFetcherExceptionHandler(), 0, fanOut)
+        GraphQL graphQL = TestUtil.graphQL(idl, runtimeWiring).subscriptionExecutionStrategy(strategy).build()
+
+        def query = '''
+            subscription NewMessages {
+              newMessage(roomId: 123) {
+                sender
+                text
+              }
+            }
+        '''
+
+        when:
+        Publisher<ExecutionResult> msgStream1 = graphQL.execute(query).getData()
+        Publisher<ExecutionResult> msgStream2 = graphQL.execute(query).getData()
+
+        def capturingSubscriber1 = new CapturingSubscriber<ExecutionResult>()
+        msgStream1.subscribe(capturingSubscriber1)
+        // the only subscriber of the shared stream cancels, which ends it
+        capturingSubscriber1.subscription.cancel()
+
+        def capturingSubscriber2 = new CapturingSubscriber<ExecutionResult>()
+        msgStream2.subscribe(capturingSubscriber2)
+        processor.onNext(new Message("sender", "text"))
+
+        then:
+        newMessageCalls == 2
+        !capturingSubscriber2.isDone().get()
+        capturingSubscriber2.events.collect { it.data } == [["newMessage": [sender: "sender", text: "text"]]]
+        capturingSubscriber1.events.isEmpty()
+    }
+
     @Unroll
     def "subscription alias is correctly used in response messages using '#why' implementation"() {
 
@@ -0,0 +1,112 @@
+package graphql.execution
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.instrumentation.dataloader.BatchCompare
+import graphql.execution.instrumentation.dataloader.BatchCompareDataFetchers
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation
+import graphql.execution.instrumentation.dataloader.DataLoaderPerformanceData
+import graphql.schema.DataFetcher
+import graphql.schema.DataFetcherFactory
+import graphql.schema.FieldCoordinates
+import graphql.schema.GraphQLCodeRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class VirtualThreadExecutionStrategyTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            hello : String
+            person : Person
+        }
+
+        type Person {
+            name : String
+        }
+    '''
+
+    def "non trivial data fetchers run on the fetch executor and trivial ones do not"() {
+        def fetchThreads = new ConcurrentHashMap<String, String>()
+        def callingThread = Thread.currentThread().getName()
+
+        DataFetcher helloDF = { env ->
+            fetchThreads.put("hello", Thread.currentThread().getName())
+            "world"
+        }
+        DataFetcher personDF = { env ->
+            fetchThreads.put("person", Thread.currentThread().getName())
+            [name: "Brad"]
+        }
+        def schema = TestUtil.schema(sdl, [Query: [hello: helloDF, person: personDF]])
+
+        def strategy = new VirtualThreadExecutionStrategy(Executors.newFixedThreadPool(2))
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(strategy).build()
+
+        when:
+        def er = graphQL.execute('{ hello person { name } __typename }')
+
+        then:
+        er.errors.isEmpty()
+        er.data == [hello: "world", person: [name: "Brad"], __typename: "Query"]
+        fetchThreads["hello"] != callingThread
+        fetchThreads["person"] != callingThread
+    }
+
+    def "data fetcher factories are asked once per fetch"() {
+        def factoryCalls = new AtomicInteger()
+        def helloFactory = { env -> factoryCalls.incrementAndGet(); { e -> "world" } as DataFetcher } as DataFetcherFactory
+        def codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Query", "hello"), helloFactory)
+                .build()
+        def schema = TestUtil.schema(sdl).transform({ it.codeRegistry(codeRegistry) })
+
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(new VirtualThreadExecutionStrategy()).build()
+
+        when:
+        def er = graphQL.execute('{ hello }')
+
+        then:
+        er.errors.isEmpty()
+        er.data == [hello: "world"]
+        factoryCalls.get() == 1
+    }
+
+    def "exceptions thrown by data fetchers are handled as normal"() {
+        DataFetcher helloDF = { env -> throw new RuntimeException("bang") }
+        def schema = TestUtil.schema(sdl, [Query: [hello: helloDF]])
+
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(new VirtualThreadExecutionStrategy()).build()
+
+        when:
+        def er = graphQL.execute('{ hello }')
+
+        then:
+        er.data == [hello: null]
+        er.errors.size() == 1
+        er.errors[0].path == ["hello"]
+    }
+
+    def "data loader calls are still batched per level"() {
+        def batchCompareDataFetchers = new BatchCompareDataFetchers()
+        def dataLoaderRegistry = new DataLoaderPerformanceData(batchCompareDataFetchers).setupDataLoaderRegistry()
+        def schema = new BatchCompare().buildDataLoaderSchema(batchCompareDataFetchers)
+        def graphQL = GraphQL.newGraphQL(schema)
+                .queryExecutionStrategy(new VirtualThreadExecutionStrategy(Executors.newFixedThreadPool(4)))
+                .instrumentation(new DataLoaderDispatcherInstrumentation())
+                .build()
+
+        when:
+        def executionInput = ExecutionInput.newExecutionInput().query(DataLoaderPerformanceData.query).dataLoaderRegistry(dataLoaderRegistry).build()
+        def er = graphQL.execute(executionInput)
+
+        then:
+        er.data == DataLoaderPerformanceData.expectedData
+        batchCompareDataFetchers.departmentsForShopsBatchLoaderCounter.get() == 1
+        batchCompareDataFetchers.productsForDepartmentsBatchLoaderCounter.get() == 1
+    }
+}
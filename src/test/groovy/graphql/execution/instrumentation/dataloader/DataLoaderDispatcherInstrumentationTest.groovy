@@ -8,6 +8,7 @@ import graphql.execution.AsyncExecutionStrategy
 import graphql.execution.AsyncSerialExecutionStrategy
 import graphql.execution.ExecutionContext
 import graphql.execution.ExecutionStrategyParameters
+import graphql.execution.VirtualThreadExecutionStrategy
 import graphql.execution.instrumentation.ChainedInstrumentation
 import graphql.execution.instrumentation.Instrumentation
 import graphql.execution.instrumentation.InstrumentationState
@@ -23,6 +24,7 @@ import spock.lang.Unroll
 
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionStage
+import java.util.concurrent.Executors
 
 import static graphql.ExecutionInput.newExecutionInput
 import static graphql.StarWarsSchema.starWarsSchema
@@ -323,4 +325,65 @@ class DataLoaderDispatcherInstrumentationTest extends Specification {
         er.errors.isEmpty()
         er.data == support.buildResponse(depth)
     }
+
+    def "lock free dispatch batches the same as the default dispatch"() {
+
+        given:
+        def starWarsWiring = new StarWarsDataLoaderWiring()
+        def dlRegistry = starWarsWiring.newDataLoaderRegistry()
+        def options = DataLoaderDispatcherInstrumentationOptions.newOptions().lockFreeDispatch(true)
+        def batchingInstrumentation = new DataLoaderDispatcherInstrumentation(options)
+
+        def graphql = GraphQL.newGraphQL(starWarsWiring.schema).instrumentation(batchingInstrumentation).build()
+
+        when:
+        def er = graphql.executeAsync(newExecutionInput().query(query).dataLoaderRegistry(dlRegistry)).join()
+
+        then:
+        er.data == expectedQueryData
+        starWarsWiring.rawCharacterLoadCount == 5
+        starWarsWiring.batchFunctionLoadCount == 3
+    }
+
+    def "lock free dispatch handles deep async queries"() {
+        given:
+        def support = new DeepDataFetchers()
+        def options = DataLoaderDispatcherInstrumentationOptions.newOptions().lockFreeDispatch(true)
+        def graphql = GraphQL.newGraphQL(support.schema())
+                .instrumentation(new DataLoaderDispatcherInstrumentation(options))
+                .build()
+        // deeper than the initial number of levels so they have to grow
+        def depth = 50
+
+        when:
+        def er = graphql.executeAsync(
+                newExecutionInput()
+                        .query(support.buildQuery(depth))
+                        .dataLoaderRegistry(new DataLoaderRegistry())
+        ).join()
+
+        then:
+        er.errors.isEmpty()
+        er.data == support.buildResponse(depth)
+    }
+
+    def "lock free dispatch batches per level when fetches happen on many threads"() {
+        given:
+        def batchCompareDataFetchers = new BatchCompareDataFetchers()
+        def dataLoaderRegistry = new DataLoaderPerformanceData(batchCompareDataFetchers).setupDataLoaderRegistry()
+        def schema = new BatchCompare().buildDataLoaderSchema(batchCompareDataFetchers)
+        def options = DataLoaderDispatcherInstrumentationOptions.newOptions().lockFreeDispatch(true)
+        def graphql = GraphQL.newGraphQL(schema)
+                .queryExecutionStrategy(new VirtualThreadExecutionStrategy(Executors.newFixedThreadPool(8)))
+                .instrumentation(new DataLoaderDispatcherInstrumentation(options))
+                .build()
+
+        when:
+        def er = graphql.execute(newExecutionInput().query(DataLoaderPerformanceData.query).dataLoaderRegistry(dataLoaderRegistry))
+
+        then:
+        er.data == DataLoaderPerformanceData.expectedData
+        batchCompareDataFetchers.departmentsForShopsBatchLoaderCounter.get() == 1
+        batchCompareDataFetchers.productsForDepartmentsBatchLoaderCounter.get() == 1
+    }
 }
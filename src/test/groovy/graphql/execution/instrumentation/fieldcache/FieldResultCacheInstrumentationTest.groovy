@@ -0,0 +1,241 @@
+package graphql.execution.instrumentation.fieldcache
+
+import graphql.AssertException
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.DataFetcherResult
+import graphql.execution.ResultPath
+import graphql.schema.DataFetcher
+import graphql.schema.DataFetchingEnvironment
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.CompletableFuture
+
+class FieldResultCacheInstrumentationTest extends Specification {
+
+    def sdl = '''
+        directive @cacheControl(maxAge : Int, scope : CacheControlScope) on FIELD_DEFINITION | OBJECT
+
+        enum CacheControlScope {
+            PUBLIC
+            PRIVATE
+        }
+
+        type Query {
+            product(id : ID) : Product @cacheControl(maxAge : 60)
+            hinted : String
+            uncached : String
+            me : String @cacheControl(maxAge : 60, scope : PRIVATE)
+            withContext : Item @cacheControl(maxAge : 60)
+        }
+
+        type Product {
+            id : ID
+            reviews : [String] @cacheControl(maxAge : 10)
+        }
+
+        type Item {
+            context : String
+        }
+    '''
+
+    static class MutableClock extends Clock {
+        long millis
+
+        @Override
+        ZoneId getZone() {
+            return ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            return this
+        }
+
+        @Override
+        Instant instant() {
+            return Instant.ofEpochMilli(millis)
+        }
+
+        @Override
+        long millis() {
+            return millis
+        }
+    }
+
+    def fetchCounts = [:].withDefault { 0 }
+    def clock = new MutableClock()
+    def cache = new InMemoryFieldResultCache(100, clock)
+    def byId = { DataFetchingEnvironment env -> env.getSource()["id"] }
+
+    def graphQL(FieldResultCacheInstrumentation instrumentation) {
+        def counting = { String name, Closure fetch ->
+            { env ->
+                fetchCounts[name]++
+                fetch(env)
+            } as DataFetcher
+        }
+        def dataFetchers = [
+                Query  : [
+                        product : counting("product", { env -> [id: env.getArgument("id")] }),
+                        hinted     : counting("hinted", { env ->
+                            FieldCacheHints.hint(env, new FieldCachePolicy(Duration.ofSeconds(60), FieldCachePolicy.Scope.PUBLIC))
+                            CompletableFuture.completedFuture("hinted")
+                        }),
+                        uncached   : counting("uncached", { env -> "uncached" }),
+                        me         : counting("me", { env -> env.getGraphQlContext().get("user") }),
+                        withContext: counting("withContext", { env ->
+                            DataFetcherResult.newResult().data([:]).localContext(env.getGraphQlContext().get("user")).build()
+                        }),
+                ],
+                Product: [
+                        reviews: counting("reviews", { env -> ["great", "ok"] }),
+                ],
+                Item   : [
+                        context: { env -> env.getLocalContext() } as DataFetcher,
+                ],
+        ]
+        GraphQL.newGraphQL(TestUtil.schema(sdl, dataFetchers)).instrumentation(instrumentation).build()
+    }
+
+    def "field values with a max age are fetched once until they expire"() {
+        def graphQL = graphQL(new FieldResultCacheInstrumentation(cache, byId))
+        def query = '{ product(id : "1") { id reviews } }'
+
+        when:
+        def er1 = graphQL.execute(query)
+        def er2 = graphQL.execute(query)
+
+        then:
+        er1.errors.isEmpty()
+        er1.data == [product: [id: "1", reviews: ["great", "ok"]]]
+        er2.data == er1.data
+        fetchCounts["product"] == 1
+        fetchCounts["reviews"] == 1
+
+        when:
+        clock.millis += 20_000
+        graphQL.execute(query)
+
+        then:
+        fetchCounts["product"] == 1
+        fetchCounts["reviews"] == 2
+
+        when:
+        graphQL.execute('{ product(id : "2") { id } }')
+
+        then:
+        fetchCounts["product"] == 2
+    }
+
+    def "cache control hints made while fetching are used for fields without the directive"() {
+        def graphQL = graphQL(new FieldResultCacheInstrumentation(cache, byId))
+
+        when:
+        graphQL.execute('{ hinted uncached }')
+        def er = graphQL.execute('{ hinted uncached }')
+
+        then:
+        er.data == [hinted: "hinted", uncached: "uncached"]
+        fetchCounts["hinted"] == 1
+        fetchCounts["uncached"] == 2
+    }
+
+    def "the hint of a cached value is made again when the value comes from the cache"() {
+        def graphQL = graphQL(new FieldResultCacheInstrumentation(cache, byId))
+        def execute = {
+            def executionInput = ExecutionInput.newExecutionInput('{ hinted uncached }').build()
+            graphQL.execute(executionInput)
+            FieldCacheHints.getHints(executionInput.getGraphQLContext())
+        }
+
+        when:
+        def missHints = execute()
+        def hitHints = execute()
+
+        then:
+        fetchCounts["hinted"] == 1
+        missHints.getPolicies() == [(ResultPath.parse("/hinted")): new FieldCachePolicy(Duration.ofSeconds(60), FieldCachePolicy.Scope.PUBLIC)]
+        hitHints.getPolicies() == missHints.getPolicies()
+    }
+
+    def "the local context of a data fetcher result is not cached"() {
+        def graphQL = graphQL(new FieldResultCacheInstrumentation(cache, byId))
+        def execute = { String user ->
+            graphQL.execute(ExecutionInput.newExecutionInput('{ withContext { context } }').graphQLContext([user: user]).build())
+        }
+
+        when:
+        def ted = execute("ted")
+        def mary = execute("mary")
+
+        then:
+        fetchCounts["withContext"] == 1
+        ted.data == [withContext: [context: "ted"]]
+        mary.data == [withContext: [context: null]]
+    }
+
+    def "a parent key function must be given"() {
+        when:
+        FieldResultCacheInstrumentation.newFieldResultCacheInstrumentation().cache(cache).build()
+
+        then:
+        thrown(AssertException)
+    }
+
+    def "private field values are only cached per user"() {
+        def instrumentation = FieldResultCacheInstrumentation.newFieldResultCacheInstrumentation()
+                .cache(cache)
+                .parentKey(byId)
+                .privateScopeKey({ env -> env.getGraphQlContext().get("user") })
+                .build()
+        def graphQL = graphQL(instrumentation)
+
+        def execute = { String user ->
+            graphQL.execute(ExecutionInput.newExecutionInput('{ me }').graphQLContext([user: user]).build())
+        }
+
+        when:
+        def ted1 = execute("ted")
+        def ted2 = execute("ted")
+        def mary = execute("mary")
+
+        then:
+        ted1.data == [me: "ted"]
+        ted2.data == [me: "ted"]
+        mary.data == [me: "mary"]
+        fetchCounts["me"] == 2
+    }
+
+    def "private field values are not cached without a private scope key"() {
+        def graphQL = graphQL(new FieldResultCacheInstrumentation(cache, byId))
+
+        when:
+        graphQL.execute(ExecutionInput.newExecutionInput('{ me }').graphQLContext([user: "ted"]).build())
+        graphQL.execute(ExecutionInput.newExecutionInput('{ me }').graphQLContext([user: "ted"]).build())
+
+        then:
+        fetchCounts["me"] == 2
+        cache.size() == 0
+    }
+
+    def "the in memory cache evicts values when it is full"() {
+        def smallCache = new InMemoryFieldResultCache(1, clock)
+        def graphQL = graphQL(new FieldResultCacheInstrumentation(smallCache, byId))
+
+        when:
+        graphQL.execute('{ product(id : "1") { id } }')
+        graphQL.execute('{ product(id : "2") { id } }')
+        graphQL.execute('{ product(id : "1") { id } }')
+
+        then:
+        fetchCounts["product"] == 3
+        smallCache.size() == 1
+    }
+}
@@ -0,0 +1,135 @@
+package graphql.execution.plan
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.preparsed.TestingPreparsedDocumentProvider
+import graphql.schema.DataFetcher
+import graphql.schema.DataFetcherFactory
+import graphql.schema.FieldCoordinates
+import graphql.schema.GraphQLCodeRegistry
+import graphql.schema.PropertyDataFetcher
+import spock.lang.Specification
+
+class ExecutionPlanTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            pets : [Pet]
+        }
+
+        type Pet {
+            name : String
+            owner : Owner
+        }
+
+        type Owner {
+            name : String
+        }
+    '''
+
+    def pets = [
+            [name: "Fido", owner: [name: "Ted"]],
+            [name: "Rover", owner: [name: "Mary"]],
+            [name: "Spot", owner: [name: "Jane"]],
+    ]
+
+    def "a plan is only reusable if field collection does not depend on variables"() {
+        def schema = TestUtil.schema(sdl)
+
+        expect:
+        ExecutionPlan.newExecutionPlan(schema, TestUtil.parseQuery(query)).isReusable() == reusable
+
+        where:
+        query                                                                                   | reusable
+        '{ pets { name } }'                                                                     | true
+        '{ pets { name @skip(if : true) } }'                                                    | true
+        'query q($v : Boolean!) { pets { name @skip(if : $v) } }'                               | false
+        'query q($v : Boolean!) { pets { ...F } } fragment F on Pet { name @include(if : $v) }' | false
+        'query q($v : Boolean!) { pets { ... @include(if : $v) { name } } }'                    | false
+    }
+
+    def "reusable plans are cached and give the same results"() {
+        def schema = TestUtil.schema(sdl, [Query: [pets: { env -> pets } as DataFetcher]])
+        def planCache = new InMemoryExecutionPlanCache()
+        def graphQL = GraphQL.newGraphQL(schema)
+                .preparsedDocumentProvider(new TestingPreparsedDocumentProvider())
+                .executionPlanCache(planCache)
+                .build()
+
+        def query = '{ pets { name owner { name } } }'
+        def expected = [pets: [
+                [name: "Fido", owner: [name: "Ted"]],
+                [name: "Rover", owner: [name: "Mary"]],
+                [name: "Spot", owner: [name: "Jane"]],
+        ]]
+
+        when:
+        def er1 = graphQL.execute(query)
+        def er2 = graphQL.execute(query)
+
+        then:
+        er1.errors.isEmpty()
+        er1.data == expected
+        er2.errors.isEmpty()
+        er2.data == expected
+        planCache.size() == 1
+    }
+
+    def "plans that depend on variables are not cached"() {
+        def schema = TestUtil.schema(sdl, [Query: [pets: { env -> pets } as DataFetcher]])
+        def planCache = new InMemoryExecutionPlanCache()
+        def graphQL = GraphQL.newGraphQL(schema)
+                .preparsedDocumentProvider(new TestingPreparsedDocumentProvider())
+                .executionPlanCache(planCache)
+                .build()
+
+        def query = 'query q($v : Boolean!) { pets { name owner @include(if : $v) { name } } }'
+
+        when:
+        def er1 = graphQL.execute(ExecutionInput.newExecutionInput(query).variables([v: true]))
+        def er2 = graphQL.execute(ExecutionInput.newExecutionInput(query).variables([v: false]))
+
+        then:
+        er1.data["pets"][0] == [name: "Fido", owner: [name: "Ted"]]
+        er2.data["pets"][0] == [name: "Fido"]
+        planCache.size() == 0
+    }
+
+    def "the no op cache always creates a new plan"() {
+        def schema = TestUtil.schema(sdl)
+        def document = TestUtil.parseQuery('{ pets { name } }')
+        def plan = ExecutionPlan.newExecutionPlan(schema, document)
+
+        when:
+        def actual = NoOpExecutionPlanCache.INSTANCE.getExecutionPlan(document, document.getDefinitions()[0], schema, { plan })
+
+        then:
+        actual == plan
+    }
+
+    def "data fetcher factories are called for every fetch unless data fetchers are memoized"() {
+        def factoryCalls = 0
+        def nameFactory = { env -> factoryCalls++; PropertyDataFetcher.fetching("name") } as DataFetcherFactory
+        def codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Query", "pets"), { env -> pets } as DataFetcher)
+                .dataFetcher(FieldCoordinates.coordinates("Pet", "name"), nameFactory)
+                .build()
+        def schema = TestUtil.schema(sdl).transform({ it.codeRegistry(codeRegistry) })
+
+        when:
+        def er = GraphQL.newGraphQL(schema).build().execute('{ pets { name } }')
+
+        then:
+        er.data == [pets: [[name: "Fido"], [name: "Rover"], [name: "Spot"]]]
+        factoryCalls == 3
+
+        when:
+        factoryCalls = 0
+        er = GraphQL.newGraphQL(schema).memoizeDataFetchers(true).build().execute('{ pets { name } }')
+
+        then:
+        er.data == [pets: [[name: "Fido"], [name: "Rover"], [name: "Spot"]]]
+        factoryCalls == 1
+    }
+}
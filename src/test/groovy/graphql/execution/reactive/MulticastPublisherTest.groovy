@@ -0,0 +1,256 @@
+package graphql.execution.reactive
+
+import graphql.execution.pubsub.CapturingSubscriber
+import io.reactivex.Flowable
+import io.reactivex.processors.PublishProcessor
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+class MulticastPublisherTest extends Specification {
+
+    def "subscribes once upstream and publishes each item to every subscriber"() {
+
+        when:
+        def processor = PublishProcessor.<Integer> create()
+        int upstreamSubscriptions = 0
+        Publisher<Integer> upstream = processor.doOnSubscribe({ upstreamSubscriptions++ })
+        int terminations = 0
+        def multicastPublisher = new MulticastPublisher<Integer>(upstream, { terminations++ })
+
+        def capturingSubscriber1 = new CapturingSubscriber<>()
+        def capturingSubscriber2 = new CapturingSubscriber<>()
+        multicastPublisher.subscribe(capturingSubscriber1)
+        multicastPublisher.subscribe(capturingSubscriber2)
+        (0..<10).each { processor.onNext(it) }
+        processor.onComplete()
+
+        then:
+        upstreamSubscriptions == 1
+        capturingSubscriber1.events == (0..<10).toList()
+        capturingSubscriber2.events == (0..<10).toList()
+        capturingSubscriber1.isDone().get()
+        capturingSubscriber2.isDone().get()
+        terminations == 1
+
+        when:
+        def lateSubscriber = new CapturingSubscriber<>()
+        multicastPublisher.subscribe(lateSubscriber)
+
+        then:
+        upstreamSubscriptions == 1
+        lateSubscriber.events.isEmpty()
+        lateSubscriber.isDone().get()
+        terminations == 1
+    }
+
+    def "upstream is only asked for an item once every subscriber has asked for one"() {
+
+        when:
+        List<Long> upstreamRequests = []
+        Publisher<Integer> rxIntegers = Flowable.range(0, 10).doOnRequest({ n -> upstreamRequests.add(n) })
+        def multicastPublisher = new MulticastPublisher<Integer>(rxIntegers, {})
+
+        def subscriber1 = new RequestingSubscriber()
+        def subscriber2 = new RequestingSubscriber()
+        multicastPublisher.subscribe(subscriber1)
+        multicastPublisher.subscribe(subscriber2)
+        subscriber1.subscription.request(2)
+
+        then:
+        upstreamRequests.isEmpty()
+
+        when:
+        subscriber2.subscription.request(1)
+
+        then:
+        upstreamRequests == [1L]
+        subscriber1.events == [0]
+        subscriber2.events == [0]
+
+        when:
+        subscriber2.subscription.request(Long.MAX_VALUE)
+        subscriber1.subscription.request(Long.MAX_VALUE)
+
+        then:
+        subscriber1.events == (0..<10).toList()
+        subscriber2.events == (0..<10).toList()
+        subscriber1.completed
+        subscriber2.completed
+    }
+
+    def "a subscriber that asks for several items gets all of them"() {
+
+        when:
+        List<Long> upstreamRequests = []
+        Publisher<Integer> rxIntegers = Flowable.range(0, 10).doOnRequest({ n -> upstreamRequests.add(n) })
+        def multicastPublisher = new MulticastPublisher<Integer>(rxIntegers, {})
+
+        def subscriber = new RequestingSubscriber()
+        multicastPublisher.subscribe(subscriber)
+        subscriber.subscription.request(5)
+
+        then:
+        subscriber.events == (0..<5).toList()
+        upstreamRequests == [1L, 1L, 1L, 1L, 1L]
+        !subscriber.completed
+
+        when:
+        subscriber.subscription.request(5)
+
+        then:
+        subscriber.events == (0..<10).toList()
+    }
+
+    def "subscribers with different demands are sent items until the slowest has had all it asked for"() {
+
+        when:
+        Publisher<Integer> rxIntegers = Flowable.range(0, 10)
+        def multicastPublisher = new MulticastPublisher<Integer>(rxIntegers, {})
+
+        def subscriber1 = new RequestingSubscriber()
+        def subscriber2 = new RequestingSubscriber()
+        multicastPublisher.subscribe(subscriber1)
+        multicastPublisher.subscribe(subscriber2)
+        subscriber1.subscription.request(5)
+        subscriber2.subscription.request(3)
+
+        then:
+        subscriber1.events == [0, 1, 2]
+        subscriber2.events == [0, 1, 2]
+
+        when:
+        subscriber2.subscription.request(4)
+
+        then:
+        subscriber1.events == [0, 1, 2, 3, 4]
+        subscriber2.events == [0, 1, 2, 3, 4]
+
+        when:
+        subscriber1.subscription.request(2)
+
+        then:
+        subscriber1.events == (0..<7).toList()
+        subscriber2.events == (0..<7).toList()
+    }
+
+    def "upstream is cancelled once every subscriber has cancelled"() {
+
+        when:
+        boolean upstreamCancelled = false
+        Publisher<Integer> rxIntegers = Flowable.<Integer> never().doOnCancel({ upstreamCancelled = true })
+        int terminations = 0
+        def multicastPublisher = new MulticastPublisher<Integer>(rxIntegers, { terminations++ })
+
+        def subscriber1 = new RequestingSubscriber()
+        def subscriber2 = new RequestingSubscriber()
+        multicastPublisher.subscribe(subscriber1)
+        multicastPublisher.subscribe(subscriber2)
+        subscriber1.subscription.cancel()
+
+        then:
+        multicastPublisher.getSubscriberCount() == 1
+        !upstreamCancelled
+        terminations == 0
+
+        when:
+        subscriber2.subscription.cancel()
+
+        then:
+        multicastPublisher.getSubscriberCount() == 0
+        upstreamCancelled
+        terminations == 1
+
+        when:
+        def lateSubscriber = new RequestingSubscriber()
+        multicastPublisher.subscribe(lateSubscriber)
+
+        then:
+        lateSubscriber.completed
+        !multicastPublisher.trySubscribe(new RequestingSubscriber())
+    }
+
+    def "upstream errors are sent to every subscriber"() {
+
+        when:
+        def processor = PublishProcessor.<Integer> create()
+        def multicastPublisher = new MulticastPublisher<Integer>(processor, {})
+
+        def capturingSubscriber1 = new CapturingSubscriber<>()
+        def capturingSubscriber2 = new CapturingSubscriber<>()
+        multicastPublisher.subscribe(capturingSubscriber1)
+        multicastPublisher.subscribe(capturingSubscriber2)
+        processor.onNext(0)
+        processor.onError(new RuntimeException("Bang"))
+
+        then:
+        capturingSubscriber1.events == [0]
+        capturingSubscriber2.events == [0]
+        capturingSubscriber1.throwable.getMessage() == "Bang"
+        capturingSubscriber2.throwable.getMessage() == "Bang"
+    }
+
+    def "an error for a bad request is sent after the item that is being sent"() {
+
+        when:
+        def processor = PublishProcessor.<Integer> create()
+        def multicastPublisher = new MulticastPublisher<Integer>(processor, {})
+        List<String> signals = []
+        multicastPublisher.subscribe(new Subscriber<Integer>() {
+            Subscription subscription
+
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription = s
+                s.request(1)
+            }
+
+            @Override
+            void onNext(Integer integer) {
+                signals.add("onNext " + integer)
+                subscription.request(0)
+                signals.add("onNext returns")
+            }
+
+            @Override
+            void onError(Throwable t) {
+                signals.add("onError")
+            }
+
+            @Override
+            void onComplete() {
+                signals.add("onComplete")
+            }
+        })
+        processor.onNext(0)
+
+        then:
+        signals == ["onNext 0", "onNext returns", "onError"]
+    }
+
+    static class RequestingSubscriber implements Subscriber<Integer> {
+        Subscription subscription
+        List<Integer> events = []
+        boolean completed
+
+        @Override
+        void onSubscribe(Subscription s) {
+            subscription = s
+        }
+
+        @Override
+        void onNext(Integer integer) {
+            events.add(integer)
+        }
+
+        @Override
+        void onError(Throwable t) {
+        }
+
+        @Override
+        void onComplete() {
+            completed = true
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package graphql.execution.reactive
+
+import graphql.execution.pubsub.CapturingSubscriber
+import io.reactivex.Flowable
+import org.awaitility.Awaitility
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.function.Function
+
+class PrefetchingMappingPublisherTest extends Specification {
+
+    def "basic mapping"() {
+
+        when:
+        Publisher<Integer> rxIntegers = Flowable.range(0, 10)
+
+        def mapper = new Function<Integer, CompletionStage<String>>() {
+            @Override
+            CompletionStage<String> apply(Integer integer) {
+                return CompletableFuture.completedFuture(String.valueOf(integer))
+            }
+        }
+        Publisher<String> rxStrings = new PrefetchingMappingPublisher<String, Integer>(rxIntegers, mapper, 4)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        rxStrings.subscribe(capturingSubscriber)
+
+        then:
+
+        capturingSubscriber.isDone().get()
+        capturingSubscriber.events == ["0", "1", "2", "3", "4", "5", "6", "7", "8", "9"]
+    }
+
+    def "upstream is asked for no more than the prefetch window"() {
+
+        when:
+        List<Long> upstreamRequests = []
+        Publisher<Integer> rxIntegers = Flowable.range(0, 100).doOnRequest({ n -> upstreamRequests.add(n) })
+
+        List<CompletableFuture<String>> inFlight = []
+        def mapper = new Function<Integer, CompletionStage<String>>() {
+            @Override
+            CompletionStage<String> apply(Integer integer) {
+                def future = new CompletableFuture<String>()
+                inFlight.add(future)
+                return future
+            }
+        }
+        Publisher<String> rxStrings = new PrefetchingMappingPublisher<String, Integer>(rxIntegers, mapper, 8)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        rxStrings.subscribe(capturingSubscriber)
+
+        then:
+        upstreamRequests == [8L]
+        inFlight.size() == 8
+        capturingSubscriber.events.isEmpty()
+
+        when:
+        // 3/4 of the window delivered means upstream is asked for that many more
+        inFlight.take(6).eachWithIndex { future, i -> future.complete(String.valueOf(i)) }
+
+        then:
+        capturingSubscriber.events == ["0", "1", "2", "3", "4", "5"]
+        upstreamRequests == [8L, 6L]
+        inFlight.size() == 14
+    }
+
+    def "delivers in upstream order whatever order the mapping completes in"() {
+
+        when:
+        Publisher<Integer> rxIntegers = Flowable.range(0, 4)
+
+        List<CompletableFuture<String>> inFlight = []
+        def mapper = new Function<Integer, CompletionStage<String>>() {
+            @Override
+            CompletionStage<String> apply(Integer integer) {
+                def future = new CompletableFuture<String>()
+                inFlight.add(future)
+                return future
+            }
+        }
+        Publisher<String> rxStrings = new PrefetchingMappingPublisher<String, Integer>(rxIntegers, mapper, 4)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        rxStrings.subscribe(capturingSubscriber)
+
+        inFlight[3].complete("3")
+        inFlight[1].complete("1")
+
+        then:
+        capturingSubscriber.events.isEmpty()
+
+        when:
+        inFlight[0].complete("0")
+
+        then:
+        capturingSubscriber.events == ["0", "1"]
+        !capturingSubscriber.isDone().get()
+
+        when:
+        inFlight[2].complete("2")
+
+        then:
+        capturingSubscriber.events == ["0", "1", "2", "3"]
+        capturingSubscriber.isDone().get()
+    }
+
+    def "only delivers as many items as downstream has asked for"() {
+
+        when:
+        Publisher<Integer> rxIntegers = Flowable.range(0, 100)
+
+        def mapper = new Function<Integer, CompletionStage<String>>() {
+            @Override
+            CompletionStage<String> apply(Integer integer) {
+                return CompletableFuture.completedFuture(String.valueOf(integer))
+            }
+        }
+        Publisher<String> rxStrings = new PrefetchingMappingPublisher<String, Integer>(rxIntegers, mapper, 16)
+
+        List<String> events = []
+        Subscription subscription = null
+        boolean completed = false
+        rxStrings.subscribe(new Subscriber<String>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription = s
+                s.request(3)
+            }
+
+            @Override
+            void onNext(String s) {
+                events.add(s)
+            }
+
+            @Override
+            void onError(Throwable t) {
+            }
+
+            @Override
+            void onComplete() {
+                completed = true
+            }
+        })
+
+        then:
+        events == ["0", "1", "2"]
+        !completed
+
+        when:
+        subscription.request(Long.MAX_VALUE)
+
+        then:
+        events.size() == 100
+        completed
+    }
+
+    def "error handling"() {
+        when:
+        Publisher<Integer> rxIntegers = Flowable.range(0, 10)
+
+        def mapper = new Function<Integer, CompletionStage<String>>() {
+            @Override
+            CompletionStage<String> apply(Integer integer) {
+
+                if (integer == 5) {
+                    def future = new CompletableFuture()
+                    future.completeExceptionally(new RuntimeException("Bang"))
+                    return future
+                } else {
+                    CompletableFuture.completedFuture(String.valueOf(integer))
+                }
+            }
+        }
+        Publisher<String> rxStrings = new PrefetchingMappingPublisher<String, Integer>(rxIntegers, mapper, 4)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        rxStrings.subscribe(capturingSubscriber)
+
+        then:
+
+        capturingSubscriber.throwable.getMessage() == "Bang"
+        //
+        // got this far and cancelled
+        capturingSubscriber.events.size() == 5
+
+    }
+
+    def "mapper exception causes onError"() {
+        when:
+        Publisher<Integer> rxIntegers = Flowable.range(0, 10)
+
+        def mapper = new Function<Integer, CompletionStage<String>>() {
+            @Override
+            CompletionStage<String> apply(Integer integer) {
+
+                if (integer == 5) {
+                    throw new RuntimeException("Bang")
+                } else {
+                    CompletableFuture.completedFuture(String.valueOf(integer))
+                }
+            }
+        }
+        Publisher<String> rxStrings = new PrefetchingMappingPublisher<String, Integer>(rxIntegers, mapper, 4)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        rxStrings.subscribe(capturingSubscriber)
+
+        then:
+
+        capturingSubscriber.throwable.getMessage() == "Bang"
+        //
+        // got this far and cancelled
+        capturingSubscriber.events.size() == 5
+
+    }
+
+    def "asynchronous mapping works with completion"() {
+
+        when:
+        Publisher<Integer> rxIntegers = Flowable.range(0, 10)
+
+        def mapper = new Function<Integer, CompletionStage<String>>() {
+            @Override
+            CompletionStage<String> apply(Integer integer) {
+                return CompletableFuture.supplyAsync({
+                    // the earlier items take longer so they complete out of order
+                    Thread.sleep(100 - integer * 10)
+                    return String.valueOf(integer)
+                })
+            }
+        }
+        Publisher<String> rxStrings = new PrefetchingMappingPublisher<String, Integer>(rxIntegers, mapper, 4)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        rxStrings.subscribe(capturingSubscriber)
+
+        then:
+
+        Awaitility.await().untilTrue(capturingSubscriber.isDone())
+
+        capturingSubscriber.events == ["0", "1", "2", "3", "4", "5", "6", "7", "8", "9"]
+    }
+}
@@ -0,0 +1,155 @@
+package graphql.execution.reactive
+
+import graphql.execution.pubsub.CapturingSubscriber
+import io.reactivex.processors.PublishProcessor
+import org.awaitility.Awaitility
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.Executors
+
+class SubscriptionDeliveryPolicyTest extends Specification {
+
+    def "every event policy leaves the source event stream as is"() {
+        def processor = PublishProcessor.<Integer> create()
+
+        expect:
+        SubscriptionDeliveryPolicy.everyEvent().apply(processor) == processor
+    }
+
+    def "latest only policy keeps only the latest event not yet asked for"() {
+
+        when:
+        def processor = PublishProcessor.<Integer> create()
+        Publisher<Integer> publisher = SubscriptionDeliveryPolicy.latestOnly().apply(processor)
+
+        def subscriber = new RequestingSubscriber()
+        publisher.subscribe(subscriber)
+        (0..<10).each { processor.onNext(it) }
+
+        then:
+        // the source is never held back, so it never runs out of demand
+        subscriber.throwable == null
+        subscriber.events.isEmpty()
+
+        when:
+        subscriber.subscription.request(5)
+
+        then:
+        subscriber.events == [9]
+
+        when:
+        processor.onNext(10)
+        processor.onNext(11)
+        processor.onComplete()
+
+        then:
+        subscriber.events == [9, 10, 11]
+        subscriber.completed
+    }
+
+    def "drop oldest policy keeps a bounded number of events not yet asked for"() {
+
+        when:
+        def processor = PublishProcessor.<Integer> create()
+        Publisher<Integer> publisher = SubscriptionDeliveryPolicy.dropOldest(3).apply(processor)
+
+        def subscriber = new RequestingSubscriber()
+        publisher.subscribe(subscriber)
+        (0..<10).each { processor.onNext(it) }
+        processor.onComplete()
+
+        then:
+        subscriber.events.isEmpty()
+        !subscriber.completed
+
+        when:
+        subscriber.subscription.request(2)
+
+        then:
+        subscriber.events == [7, 8]
+        !subscriber.completed
+
+        when:
+        subscriber.subscription.request(1)
+
+        then:
+        subscriber.events == [7, 8, 9]
+        subscriber.completed
+    }
+
+    def "buffered events are delivered before an error"() {
+
+        when:
+        def processor = PublishProcessor.<Integer> create()
+        Publisher<Integer> publisher = SubscriptionDeliveryPolicy.dropOldest(2).apply(processor)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        publisher.subscribe(capturingSubscriber)
+        processor.onNext(0)
+        processor.onError(new RuntimeException("Bang"))
+
+        then:
+        capturingSubscriber.events == [0]
+        capturingSubscriber.throwable.getMessage() == "Bang"
+    }
+
+    def "sample policy keeps the latest event of each period"() {
+
+        when:
+        def scheduler = Executors.newSingleThreadScheduledExecutor()
+        def processor = PublishProcessor.<Integer> create()
+        Publisher<Integer> publisher = SubscriptionDeliveryPolicy.sample(Duration.ofMillis(50), scheduler).apply(processor)
+
+        def capturingSubscriber = new CapturingSubscriber<>()
+        publisher.subscribe(capturingSubscriber)
+        (0..<10).each { processor.onNext(it) }
+
+        then:
+        Awaitility.await().until({ capturingSubscriber.events == [9] })
+
+        when:
+        processor.onNext(10)
+        processor.onNext(11)
+        processor.onComplete()
+
+        then:
+        // the last sample is not held back once the source completes
+        capturingSubscriber.events.first() == 9
+        capturingSubscriber.events.last() == 11
+        capturingSubscriber.isDone().get()
+
+        cleanup:
+        scheduler.shutdown()
+    }
+
+    static class RequestingSubscriber implements Subscriber<Integer> {
+        Subscription subscription
+        List<Integer> events = []
+        boolean completed
+        Throwable throwable
+
+        @Override
+        void onSubscribe(Subscription s) {
+            subscription = s
+        }
+
+        @Override
+        void onNext(Integer integer) {
+            events.add(integer)
+        }
+
+        @Override
+        void onError(Throwable t) {
+            throwable = t
+        }
+
+        @Override
+        void onComplete() {
+            completed = true
+        }
+    }
+}
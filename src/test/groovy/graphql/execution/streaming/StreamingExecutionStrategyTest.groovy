@@ -0,0 +1,208 @@
+package graphql.execution.streaming
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.AbortExecutionException
+import graphql.execution.Async
+import graphql.execution.DataFetcherExceptionHandler
+import graphql.execution.DataFetcherExceptionHandlerParameters
+import graphql.execution.DataFetcherExceptionHandlerResult
+import graphql.schema.DataFetcher
+import groovy.json.JsonSlurper
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+
+class StreamingExecutionStrategyTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            pets : [Pet]
+            strictPets : [Pet!]
+            pet : Pet
+            strictPet : Pet!
+        }
+
+        type Pet {
+            name : String
+            strictName : String!
+            tags : [String]
+            owner : Owner
+        }
+
+        type Owner {
+            name : String
+        }
+    '''
+
+    def pets = [
+            [name: "Fido", strictName: "Fido", tags: ["good", "boy"], owner: [name: "Ted"]],
+            [name: "Rover", strictName: null, tags: [], owner: null],
+            [name: "Spot \"the\" dog\n", strictName: "Spot", tags: null, owner: [name: "Jane"]],
+    ]
+
+    def graphQL(Map<String, Map<String, DataFetcher>> dataFetchers) {
+        def schema = TestUtil.schema(sdl, dataFetchers)
+        GraphQL.newGraphQL(schema).queryExecutionStrategy(new StreamingExecutionStrategy()).build()
+    }
+
+    def executeStreaming(GraphQL graphQL, String query) {
+        def outputStream = new ByteArrayOutputStream()
+        def resultWriter = new JsonResultWriter(outputStream)
+        def executionInput = ExecutionInput.newExecutionInput(query)
+                .graphQLContext({ it.put(ResultWriter.class, resultWriter) })
+                .build()
+        def er = graphQL.execute(executionInput)
+        resultWriter.writeExecutionResult(er)
+        new String(outputStream.toByteArray(), StandardCharsets.UTF_8)
+    }
+
+    def "the data is streamed as json in document order"() {
+        def graphQL = graphQL([Query: [pets: { env -> pets } as DataFetcher]])
+
+        when:
+        def json = executeStreaming(graphQL, '{ pets { tags name owner { name } } }')
+
+        then:
+        json == '{"data":{"pets":[' +
+                '{"tags":["good","boy"],"name":"Fido","owner":{"name":"Ted"}},' +
+                '{"tags":[],"name":"Rover","owner":null},' +
+                '{"tags":null,"name":"Spot \\"the\\" dog\\n","owner":{"name":"Jane"}}' +
+                ']}}'
+    }
+
+    def "the streamed response is the same as the specification of the normal result"() {
+        def dataFetchers = [Query: [
+                pets     : { env -> pets } as DataFetcher,
+                pet      : { env -> CompletableFuture.supplyAsync({ pets[1] }) } as DataFetcher,
+                strictPet: { env -> CompletableFuture.supplyAsync({ pets[0] }) } as DataFetcher,
+        ]]
+        def query = '{ pets { name strictName } pet { name strictName } strictPet { name __typename } }'
+        def normalResult = GraphQL.newGraphQL(TestUtil.schema(sdl, dataFetchers)).build().execute(query)
+
+        when:
+        def json = executeStreaming(graphQL(dataFetchers), query)
+
+        then:
+        new JsonSlurper().parseText(json) == normalResult.toSpecification()
+        normalResult.data["pets"][1] == null
+        normalResult.data["pet"] == null
+        normalResult.errors.size() == 2
+    }
+
+    def "a non null list item that is null nulls out the list"() {
+        def graphQL = graphQL([Query: [strictPets: { env -> [pets[0], null] } as DataFetcher]])
+
+        when:
+        def json = new JsonSlurper().parseText(executeStreaming(graphQL, '{ strictPets { name } }'))
+
+        then:
+        json["data"] == [strictPets: null]
+        json["errors"].size() == 1
+        json["errors"][0]["path"] == ["strictPets", 1]
+    }
+
+    def "a non null root field that is null nulls out the data"() {
+        def graphQL = graphQL([Query: [strictPet: { env -> null } as DataFetcher]])
+
+        when:
+        def json = new JsonSlurper().parseText(executeStreaming(graphQL, '{ strictPet { name } }'))
+
+        then:
+        json.containsKey("data")
+        json["data"] == null
+        json["errors"].size() == 1
+    }
+
+    def "the data is returned as usual when there is no result writer"() {
+        def graphQL = graphQL([Query: [pets: { env -> pets } as DataFetcher]])
+
+        when:
+        def er = graphQL.execute('{ pets { name owner { name } } }')
+
+        then:
+        er.errors.isEmpty()
+        er.data == [pets: [
+                [name: "Fido", owner: [name: "Ted"]],
+                [name: "Rover", owner: null],
+                [name: "Spot \"the\" dog\n", owner: [name: "Jane"]],
+        ]]
+    }
+
+    def "the whole result is written if the request is never executed"() {
+        def graphQL = graphQL([:])
+
+        when:
+        def json = new JsonSlurper().parseText(executeStreaming(graphQL, '{ unknownField }'))
+
+        then:
+        !json.containsKey("data")
+        json["errors"].size() == 1
+    }
+
+    def "long lists of simple values do not grow the stack"() {
+        def manyPets = (1..100_000).collect { [name: "pet" + it] }
+        def graphQL = graphQL([Query: [pets: { env -> manyPets } as DataFetcher]])
+
+        when:
+        def json = new JsonSlurper().parseText(executeStreaming(graphQL, '{ pets { name } }'))
+
+        then:
+        json["data"]["pets"].size() == 100_000
+        json["data"]["pets"][99_999] == [name: "pet100000"]
+    }
+
+    def "the response is still valid json when execution fails part way through the data"() {
+        def failingHandler = new DataFetcherExceptionHandler() {
+            @Override
+            CompletableFuture<DataFetcherExceptionHandlerResult> handleException(DataFetcherExceptionHandlerParameters handlerParameters) {
+                return Async.exceptionallyCompletedFuture(new AbortExecutionException("stopped"))
+            }
+        }
+        def schema = TestUtil.schema(sdl, [
+                Query: [pets: { env -> pets } as DataFetcher],
+                Owner: [name: { env -> throw new RuntimeException("bang") } as DataFetcher],
+        ])
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(new StreamingExecutionStrategy(failingHandler)).build()
+
+        when:
+        def json = executeStreaming(graphQL, '{ pets { name owner { name } } }')
+        def response = new JsonSlurper().parseText(json)
+
+        then:
+        json.startsWith('{"data":{"pets":[{"name":"Fido","owner":{"name":null}}]},"errors":')
+        response["data"] == [pets: [[name: "Fido", owner: [name: null]]]]
+        response["errors"].size() == 1
+        response["errors"][0]["message"] == "stopped"
+    }
+
+    def "the root fields after the last non null one are streamed as they complete"() {
+        def petsFuture = new CompletableFuture()
+        def graphQL = graphQL([Query: [
+                strictPet: { env -> pets[0] } as DataFetcher,
+                pets     : { env -> petsFuture } as DataFetcher,
+        ]])
+        def outputStream = new ByteArrayOutputStream()
+        def resultWriter = new JsonResultWriter(outputStream)
+        def executionInput = ExecutionInput.newExecutionInput('{ strictPet { name } pets { name } }')
+                .graphQLContext({ it.put(ResultWriter.class, resultWriter) })
+                .build()
+
+        when:
+        def erFuture = graphQL.executeAsync(executionInput)
+        resultWriter.flush()
+
+        then:
+        !erFuture.isDone()
+        new String(outputStream.toByteArray(), StandardCharsets.UTF_8) == '{"data":{"strictPet":{"name":"Fido"},"pets":'
+
+        when:
+        petsFuture.complete(pets.take(1))
+        resultWriter.writeExecutionResult(erFuture.join())
+
+        then:
+        new String(outputStream.toByteArray(), StandardCharsets.UTF_8) == '{"data":{"strictPet":{"name":"Fido"},"pets":[{"name":"Fido"}]}}'
+    }
+}
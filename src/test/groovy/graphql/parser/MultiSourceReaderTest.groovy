@@ -2,6 +2,9 @@ package graphql.parser
 
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
 class MultiSourceReaderTest extends Specification {
 
     MultiSourceReader multiSource
@@ -171,6 +174,21 @@ B5*******X
         multiSource.getOverallLineNumber() == 1
     }
 
+    def "can read UTF-8 byte buffers"() {
+        def bytes = ByteBuffer.wrap("Hello 🍺\nWörld".getBytes(StandardCharsets.UTF_8))
+        when:
+        multiSource = MultiSourceReader.newMultiSourceReader()
+                .byteBuffer(bytes, "PartA")
+                .string("\nAgain", "PartB")
+                .build()
+        def lines = multiSource.readLines()
+        then:
+        lines == ["Hello 🍺", "Wörld", "Again"]
+        multiSource.getSourceAndLineFromOverallLine(1).sourceName == "PartA"
+        multiSource.getSourceAndLineFromOverallLine(2).sourceName == "PartB"
+        bytes.position() == 0
+    }
+
     def "can work out relative lines from overall lines"() {
         when:
         multiSource = MultiSourceReader.newMultiSourceReader()
@@ -4,6 +4,7 @@ import graphql.ExecutionInput
 import graphql.TestUtil
 import graphql.language.Argument
 import graphql.language.ArrayValue
+import graphql.language.AstPrinter
 import graphql.language.AstComparator
 import graphql.language.BooleanValue
 import graphql.language.Description
@@ -1266,4 +1267,146 @@ triple3 : """edge cases \\""" "" " \\"" \\" edge cases"""
         tokens == ["query", "{", "f", "(", "arg", ":", "1", ")", "}"]
 
     }
+
+    static List<String> describeNodes(Node node) {
+        def descriptions = [node.getClass().simpleName + " " + node.sourceLocation + " " + node.comments.collect { it.content + " " + it.sourceLocation }]
+        node.children.each { descriptions.addAll(describeNodes(it)) }
+        descriptions
+    }
+
+    def "the recursive descent parser creates the same documents as ANTLR"() {
+        def antlrOptions = ParserOptions.newParserOptions().captureLineComments(captureLineComments).build()
+        def recursiveDescentOptions = antlrOptions.transform({ it.recursiveDescentParsing(true) })
+        def parse = { ParserOptions options ->
+            def reader = MultiSourceReader.newMultiSourceReader()
+                    .string("# first source\n{ first }\n", "first.graphql")
+                    .string(query, "second.graphql")
+                    .build()
+            Parser.parse(ParserEnvironment.newParserEnvironment().document(reader).parserOptions(options).build())
+        }
+
+        when:
+        def antlrDocument = parse(antlrOptions)
+        def recursiveDescentDocument = parse(recursiveDescentOptions)
+
+        then:
+        AstPrinter.printAst(recursiveDescentDocument) == AstPrinter.printAst(antlrDocument)
+        describeNodes(recursiveDescentDocument) == describeNodes(antlrDocument)
+
+        where:
+        query                                                                                           | captureLineComments
+        'query { f(arg : 1) }'                                                                          | true
+        'query Foo($a: [Int!]! = [1, 2], $b: In @d) @dir(x: $y) { alias: f(a: {b: "s\\u00e9"}) }'       | true
+        '# comment\nmutation M { m(f: -1.5e3, e: ENUM, n: null, t: true) { ...Frag } }'                | true
+        '# comment\nmutation M { m(f: -1.5e3, e: ENUM, n: null, t: true) { ...Frag } }'                | false
+        '{ a { ... on T { x } ... @skip(if: false) { y } } }\n#c1\n#c2\nfragment Frag on T @d { z }'    | true
+        '{ a(s: """\n  block \\""" \n  x""", e: "", u: "\\u{1F37A}") b }'                               | true
+        '{ query fragment on(on: on) true null }, subscription on { s }'                                | true
+        '{ emoji(s: "🍺") } # 🍺 comment\n{ c }'                                                        | true
+    }
+
+    def "the recursive descent parser leaves schema definitions and syntax errors to ANTLR"() {
+        def options = ParserOptions.newParserOptions().recursiveDescentParsing(true).build()
+
+        when:
+        def document = new Parser().parseDocument(new StringReader("query { f } type Query { f : String }"), options)
+
+        then:
+        document.definitions.size() == 2
+        document.definitions[1] instanceof ObjectTypeDefinition
+
+        when:
+        new Parser().parseDocument(new StringReader(query), options)
+
+        then:
+        def e = thrown(InvalidSyntaxException)
+        when:
+        new Parser().parseDocument(new StringReader(query), ParserOptions.newParserOptions().build())
+
+        then:
+        def antlrException = thrown(InvalidSyntaxException)
+        e.message == antlrException.message
+        e.location == antlrException.location
+
+        where:
+        query << ['{ f(a: ) }', '{ f } garbage(', '{ 01 }', '{ f(a: "\\x") }', 'query($v: Int = $w) { f }', 'fragment on on T { f }']
+    }
+
+    def "the recursive descent parser tells the listener about every token once"() {
+        def tokens = []
+        ParsingListener listener = { tokens.add(it.getText()) }
+        def options = ParserOptions.newParserOptions().parsingListener(listener).recursiveDescentParsing(true).build()
+
+        when:
+        new Parser().parseDocument(new StringReader("query { f(arg : 1) }"), options)
+
+        then:
+        tokens == ["query", "{", "f", "(", "arg", ":", "1", ")", "}"]
+
+        when:
+        tokens = []
+        new Parser().parseDocument(new StringReader("query { f } type Q { f : ID }"), options)
+
+        then:
+        tokens == ["query", "{", "f", "}", "type", "Q", "{", "f", ":", "ID", "}"]
+    }
+
+    def "the recursive descent parser has the same token limits"() {
+        def options = ParserOptions.newParserOptions().recursiveDescentParsing(true)
+
+        when:
+        new Parser().parseDocument(new StringReader("query { f ${"@lol" * 10000} }"), options.build())
+
+        then:
+        def e = thrown(ParseCancelledException)
+        e.getMessage().contains("parsing has been cancelled")
+
+        when:
+        new Parser().parseDocument(new StringReader("query { f ${" " * 300_000} }"), options.build())
+
+        then:
+        e = thrown(ParseCancelledException)
+        e.getMessage().contains("parsing has been cancelled")
+
+        when:
+        def document = new Parser().parseDocument(new StringReader("query { f ${"@lol" * 10000} }"), options.maxTokens(30000).build())
+
+        then:
+        document != null
+    }
+
+    def "lazy source locations are the same as eager ones"() {
+        def eagerOptions = ParserOptions.newParserOptions().recursiveDescentParsing(recursiveDescentParsing).build()
+        def lazyOptions = eagerOptions.transform({ it.lazySourceLocation(true) })
+        def parse = { ParserOptions options ->
+            def reader = MultiSourceReader.newMultiSourceReader()
+                    .string("# first\n{ first }\n", "first.graphql")
+                    .string("\n\nquery Q(\$v : [Int!]) {\n  # second\n  second(v : \$v) { ... on T { x } }\n}", "second.graphql")
+                    .string("type T { x : ID }", null)
+                    .build()
+            Parser.parse(ParserEnvironment.newParserEnvironment().document(reader).parserOptions(options).build())
+        }
+
+        when:
+        def eagerDocument = parse(eagerOptions)
+        def lazyDocument = parse(lazyOptions)
+        def lazySourceLocation = lazyDocument.definitions[1].sourceLocation
+
+        then:
+        lazySourceLocation instanceof LazySourceLocation
+        lazySourceLocation == new SourceLocation(3, 1, "second.graphql")
+        describeNodes(lazyDocument) == describeNodes(eagerDocument)
+
+        when:
+        def bytes = new ByteArrayOutputStream()
+        new ObjectOutputStream(bytes).writeObject(lazySourceLocation)
+        def deserialized = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject()
+
+        then:
+        deserialized.getClass() == SourceLocation
+        deserialized == lazySourceLocation
+
+        where:
+        recursiveDescentParsing << [false, true]
+    }
 }
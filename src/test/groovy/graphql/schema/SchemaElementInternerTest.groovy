@@ -0,0 +1,164 @@
+package graphql.schema
+
+import graphql.Scalars
+import graphql.TestUtil
+import graphql.schema.idl.SchemaPrinter
+import graphql.util.TraversalControl
+import graphql.util.TraverserContext
+import spock.lang.Specification
+
+import static graphql.schema.GraphQLArgument.newArgument
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition
+import static graphql.schema.GraphQLObjectType.newObject
+import static graphql.schema.GraphQLTypeReference.typeRef
+
+class SchemaElementInternerTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            "the pets"
+            pets("how many" first : Int = 10, after : String, kind : Kind) : [Pet] @deprecated(reason : "use animals")
+            animals(first : Int = 10, after : String) : [Pet]
+        }
+
+        type Pet {
+            name : String
+            kind : Kind
+        }
+
+        enum Kind {
+            "a dog"
+            DOG
+            CAT
+        }
+    '''
+
+    def "schemas made from the same SDL share their equal elements"() {
+        def interner = SchemaElementInterner.newInterner()
+        def plain = TestUtil.schema(sdl)
+
+        when:
+        def schema1 = interner.intern(TestUtil.schema(sdl))
+        def schema2 = interner.intern(TestUtil.schema(sdl))
+
+        def pets1 = schema1.getObjectType("Query").getField("pets")
+        def pets2 = schema2.getObjectType("Query").getField("pets")
+
+        then:
+        pets1 != pets2
+        pets1.getArgument("first") == pets2.getArgument("first")
+        pets1.getArgument("after") == pets2.getArgument("after")
+        pets1.getAppliedDirective("deprecated") == pets2.getAppliedDirective("deprecated")
+        pets1.getDescription().is(pets2.getDescription())
+        pets1.getArgument("first").getDescription() == "how many"
+
+        schema1.getTypeAs("Kind").getValue("DOG") == schema2.getTypeAs("Kind").getValue("DOG")
+
+        // the types of the schemas are not shared so neither are the arguments of those types
+        pets1.getArgument("kind") != pets2.getArgument("kind")
+        pets1.getArgument("kind").getType() == schema1.getType("Kind")
+        pets2.getArgument("kind").getType() == schema2.getType("Kind")
+
+        new SchemaPrinter().print(schema2) == new SchemaPrinter().print(plain)
+    }
+
+    def "interning leaves the source schemas unchanged"() {
+        def interner = SchemaElementInterner.newInterner()
+        def source1 = TestUtil.schema(sdl)
+        def source2 = TestUtil.schema(sdl)
+        def printed = new SchemaPrinter().print(source1)
+
+        when:
+        def schema1 = interner.intern(source1)
+        def schema2 = interner.intern(source2)
+
+        then:
+        [[source1, schema1], [source2, schema2]].each { source, interned ->
+            assert !interned.getType("Pet").is(source.getType("Pet"))
+            assert GraphQLTypeUtil.unwrapAll(source.getObjectType("Query").getField("pets").getType()).is(source.getType("Pet"))
+            assert source.getObjectType("Pet").getField("kind").getType().is(source.getType("Kind"))
+            assert source.getObjectType("Query").getField("pets").getArgument("kind").getType().is(source.getType("Kind"))
+            assert GraphQLTypeUtil.unwrapAll(interned.getObjectType("Query").getField("pets").getType()).is(interned.getType("Pet"))
+            assert interned.getObjectType("Pet").getField("kind").getType().is(interned.getType("Kind"))
+        }
+        new SchemaPrinter().print(source1) == printed
+        new SchemaPrinter().print(source2) == printed
+    }
+
+    def "equal elements in different places of a schema are not shared"() {
+        def interner = SchemaElementInterner.newInterner()
+        def schema = interner.intern(TestUtil.schema(sdl))
+        def query = schema.getObjectType("Query")
+
+        expect:
+        query.getField("pets").getArgument("after") != query.getField("animals").getArgument("after")
+
+        when:
+        def transformed = SchemaTransformer.transformSchema(schema, new GraphQLTypeVisitorStub() {
+            @Override
+            TraversalControl visitGraphQLArgument(GraphQLArgument node, TraverserContext<GraphQLSchemaElement> context) {
+                if (node.getName() == "after" && (context.getParentNode() as GraphQLFieldDefinition).getName() == "pets") {
+                    return deleteNode(context)
+                }
+                return TraversalControl.CONTINUE
+            }
+        })
+
+        then:
+        transformed.getObjectType("Query").getField("pets").getArgument("after") == null
+        transformed.getObjectType("Query").getField("animals").getArgument("after") != null
+    }
+
+    def "a transformer with an interner shares the elements that each transformation copies"() {
+        def schema = TestUtil.schema(sdl)
+        def copyingVisitor = new GraphQLTypeVisitorStub() {
+            @Override
+            TraversalControl visitGraphQLFieldDefinition(GraphQLFieldDefinition node, TraverserContext<GraphQLSchemaElement> context) {
+                def arguments = node.getArguments().collect { argument -> argument.transform({}) }
+                return changeNode(context, node.transform({ it.replaceArguments(arguments) }))
+            }
+        }
+
+        when:
+        def variant1 = new SchemaTransformer().transform(schema, copyingVisitor)
+        def variant2 = new SchemaTransformer().transform(schema, copyingVisitor)
+
+        then:
+        variant1.getObjectType("Query").getField("pets").getArgument("first") != variant2.getObjectType("Query").getField("pets").getArgument("first")
+
+        when:
+        def transformer = new SchemaTransformer().withInterner(SchemaElementInterner.newInterner())
+        variant1 = transformer.transform(schema, copyingVisitor)
+        variant2 = transformer.transform(schema, copyingVisitor)
+
+        then:
+        variant1.getObjectType("Query").getField("pets").getArgument("first") == variant2.getObjectType("Query").getField("pets").getArgument("first")
+        variant1.getObjectType("Query").getField("pets").getArgument("kind") == variant2.getObjectType("Query").getField("pets").getArgument("kind")
+    }
+
+    def "schemas built with an interner share their equal elements but not the ones with type references"() {
+        def interner = SchemaElementInterner.newInterner()
+        def limit = newArgument().name("limit").type(Scalars.GraphQLInt).build()
+        def buildSchema = {
+            def kind = GraphQLEnumType.newEnum().name("Kind").value("DOG").build()
+            def query = newObject().name("Query")
+                    .field(newFieldDefinition().name("pets").type(Scalars.GraphQLString)
+                            .argument(limit.transform({}))
+                            .argument(newArgument().name("kind").type(typeRef("Kind"))))
+                    .build()
+            GraphQLSchema.newSchema().query(query).additionalType(kind).interner(interner).build()
+        }
+
+        when:
+        def schema1 = buildSchema()
+        def schema2 = buildSchema()
+        def pets1 = schema1.getObjectType("Query").getField("pets")
+        def pets2 = schema2.getObjectType("Query").getField("pets")
+
+        then:
+        pets1.getArgument("limit") == pets2.getArgument("limit")
+        pets1.getArgument("kind") != pets2.getArgument("kind")
+        pets1.getArgument("kind").getType() == schema1.getType("Kind")
+        pets2.getArgument("kind").getType() == schema2.getType("Kind")
+    }
+}
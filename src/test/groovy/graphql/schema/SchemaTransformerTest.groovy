@@ -5,6 +5,7 @@ import graphql.Scalars
 import graphql.TestUtil
 import graphql.schema.idl.RuntimeWiring
 import graphql.schema.idl.SchemaPrinter
+import graphql.schema.validation.InvalidSchemaException
 import graphql.util.TraversalControl
 import graphql.util.TraverserContext
 import spock.lang.Specification
@@ -931,4 +932,190 @@ type Query {
         (appliedDirective.getArgument("fooArgOnDirective").getType() as GraphQLScalarType).getName() == "Bar"
         newSchema.getType("Foo") == null
     }
+
+    def "incremental transform reuses the unchanged types"() {
+        given:
+        GraphQLSchema schema = TestUtil.schema("""
+        type Query {
+            foo: Foo
+            bar: Bar
+        }
+        type Foo {
+           name: String
+           bar: Bar
+        }
+        type Bar {
+           name: String
+           foo: Foo
+        }
+        """)
+        def visitor = new GraphQLTypeVisitorStub() {
+            @Override
+            TraversalControl visitGraphQLFieldDefinition(GraphQLFieldDefinition fieldDefinition, TraverserContext<GraphQLSchemaElement> context) {
+                if (fieldDefinition.name == "name" && (context.getParentNode() as GraphQLNamedType).name == "Foo") {
+                    return changeNode(context, fieldDefinition.transform({ builder -> builder.name("fooName") }))
+                }
+                return TraversalControl.CONTINUE
+            }
+        }
+
+        when:
+        GraphQLSchema fullSchema = new SchemaTransformer().transform(schema, visitor)
+        GraphQLSchema newSchema = SchemaTransformer.incrementalTransformer().transform(schema, visitor)
+
+        then:
+        newSchema != schema
+        newSchema.getObjectType("Foo").getFieldDefinition("fooName") != null
+        newSchema.getObjectType("Foo").getFieldDefinition("name") == null
+        newSchema.getType("String").is(schema.getType("String"))
+        // Bar refers to Foo by type reference so it is copied rather than shared
+        !newSchema.getType("Bar").is(schema.getType("Bar"))
+        newSchema.getTypeMap().keySet() == fullSchema.getTypeMap().keySet()
+        new SchemaPrinter().print(newSchema) == new SchemaPrinter().print(fullSchema)
+
+        // the type references to the changed type are resolved to it
+        newSchema.getObjectType("Bar").getFieldDefinition("foo").getType().is(newSchema.getType("Foo"))
+        newSchema.getObjectType("Query").getFieldDefinition("foo").getType().is(newSchema.getType("Foo"))
+    }
+
+    def "the types of the original schema still refer to the original types after a transform"() {
+        given:
+        def foo = newObject().name("Foo")
+                .field(newFieldDefinition().name("name").type(Scalars.GraphQLString))
+                .field(newFieldDefinition().name("bar").type(typeRef("Bar")))
+                .build()
+        def bar = newObject().name("Bar")
+                .field(newFieldDefinition().name("foo").type(typeRef("Foo")))
+                .build()
+        def query = newObject().name("Query")
+                .field(newFieldDefinition().name("foo").type(typeRef("Foo")))
+                .field(newFieldDefinition().name("bar").type(bar))
+                .build()
+        GraphQLSchema schema = GraphQLSchema.newSchema().query(query).additionalType(foo).build()
+        def originalFoo = schema.getType("Foo")
+        def visitor = new GraphQLTypeVisitorStub() {
+            @Override
+            TraversalControl visitGraphQLFieldDefinition(GraphQLFieldDefinition fieldDefinition, TraverserContext<GraphQLSchemaElement> context) {
+                if (fieldDefinition.name == "name" && (context.getParentNode() as GraphQLNamedType).name == "Foo") {
+                    return changeNode(context, fieldDefinition.transform({ builder -> builder.name("fooName") }))
+                }
+                return TraversalControl.CONTINUE
+            }
+        }
+
+        when:
+        GraphQLSchema newSchema = transformer.transform(schema, visitor)
+
+        then:
+        !newSchema.getType("Foo").is(originalFoo)
+        newSchema.getObjectType("Query").getFieldDefinition("foo").getType().is(newSchema.getType("Foo"))
+        newSchema.getObjectType("Bar").getFieldDefinition("foo").getType().is(newSchema.getType("Foo"))
+
+        schema.getType("Foo").is(originalFoo)
+        schema.getObjectType("Query").getFieldDefinition("foo").getType().is(originalFoo)
+        schema.getObjectType("Bar").getFieldDefinition("foo").getType().is(originalFoo)
+        (originalFoo as GraphQLObjectType).getFieldDefinition("name") != null
+
+        where:
+        transformer << [new SchemaTransformer(), SchemaTransformer.incrementalTransformer()]
+    }
+
+    def "incremental transform validates the types that refer to a changed type"() {
+        given:
+        GraphQLSchema schema = TestUtil.schema("""
+        type Query {
+            node: Node
+        }
+        interface Node {
+           id: ID
+        }
+        type Foo implements Node {
+           id: ID
+        }
+        """)
+        def visitor = new GraphQLTypeVisitorStub() {
+            @Override
+            TraversalControl visitGraphQLInterfaceType(GraphQLInterfaceType node, TraverserContext<GraphQLSchemaElement> context) {
+                def changedNode = node.transform({ builder -> builder.field(newFieldDefinition().name("name").type(Scalars.GraphQLString)) })
+                return changeNode(context, changedNode)
+            }
+        }
+
+        when:
+        SchemaTransformer.incrementalTransformer().transform(schema, visitor)
+
+        then:
+        def e = thrown(InvalidSchemaException)
+        e.message.contains("object type 'Foo' does not implement interface 'Node' because field 'name' is missing")
+    }
+
+    def "incremental transform keeps the interface implementations up to date"() {
+        given:
+        GraphQLSchema schema = TestUtil.schema("""
+        type Query {
+            node: Node
+        }
+        interface Node {
+           id: ID
+        }
+        type Foo implements Node {
+           id: ID
+        }
+        type Bar implements Node {
+           id: ID
+        }
+        """)
+        def visitor = new GraphQLTypeVisitorStub() {
+            @Override
+            TraversalControl visitGraphQLObjectType(GraphQLObjectType node, TraverserContext<GraphQLSchemaElement> context) {
+                if (node.name == "Bar") {
+                    return changeNode(context, node.transform({ builder -> builder.clearInterfaces() }))
+                }
+                return TraversalControl.CONTINUE
+            }
+        }
+
+        when:
+        GraphQLSchema newSchema = SchemaTransformer.incrementalTransformer().transform(schema, visitor)
+
+        then:
+        newSchema.getImplementations(newSchema.getType("Node") as GraphQLInterfaceType).collect { it.name } == ["Foo"]
+        newSchema.getType("Foo").is(schema.getType("Foo"))
+    }
+
+    def "incremental transform builds the schema in full when directive definitions change"() {
+        given:
+        def schema = TestUtil.schema("""
+            scalar Foo
+            directive @myDirective(fooArgOnDirective: Foo) on FIELD_DEFINITION
+            type Query {
+              foo(fooArgOnField: Foo) : Foo @myDirective
+            }
+""")
+
+        def visitor = new GraphQLTypeVisitorStub() {
+
+            @Override
+            TraversalControl visitGraphQLScalarType(GraphQLScalarType node, TraverserContext<GraphQLSchemaElement> context) {
+                if (node.getName() == "Foo") {
+                    GraphQLScalarType newNode = node.transform({ sc -> sc.name("Bar") })
+                    return changeNode(context, newNode)
+                }
+                return super.visitGraphQLScalarType(node, context)
+            }
+        }
+
+        when:
+        def newSchema = SchemaTransformer.incrementalTransformer().transform(schema, visitor)
+
+        then:
+        def fieldDef = newSchema.getObjectType("Query").getFieldDefinition("foo")
+        def directiveDecl = newSchema.getDirective("myDirective")
+
+        (fieldDef.getType() as GraphQLScalarType).getName() == "Bar"
+        (fieldDef.getArgument("fooArgOnField").getType() as GraphQLScalarType).getName() == "Bar"
+        (directiveDecl.getArgument("fooArgOnDirective").getType() as GraphQLScalarType).getName() == "Bar"
+        newSchema.getType("Bar") instanceof GraphQLScalarType
+        newSchema.getType("Foo") == null
+    }
 }
@@ -1,6 +1,8 @@
 package graphql.schema.idl
 
 
+import graphql.AssertException
+import graphql.GraphQL
 import graphql.TestUtil
 import graphql.introspection.Introspection
 import graphql.language.Node
@@ -28,12 +30,14 @@ import graphql.schema.GraphQLType
 import graphql.schema.GraphQLTypeUtil
 import graphql.schema.GraphQLUnionType
 import graphql.schema.GraphqlTypeComparatorRegistry
+import graphql.schema.idl.errors.MissingTypeError
 import graphql.schema.idl.errors.NotAnInputTypeError
 import graphql.schema.idl.errors.NotAnOutputTypeError
 import graphql.schema.idl.errors.SchemaProblem
 import graphql.schema.visibility.GraphqlFieldVisibility
 import spock.lang.Specification
 
+import java.util.concurrent.Executors
 import java.util.function.UnaryOperator
 
 import static graphql.Scalars.GraphQLBoolean
@@ -2536,4 +2540,219 @@ class SchemaGeneratorTest extends Specification {
         newSchema.getDirectives().findAll { it.name == "skip" }.size() == 1
         newSchema.getDirectives().findAll { it.name == "include" }.size() == 1
     }
+
+    def "a parallel build makes the same schema as a sequential build"() {
+        def sdl = '''
+            directive @tag(color : Color) on FIELD_DEFINITION
+
+            scalar Date
+
+            enum Color { RED, BLUE }
+
+            interface Node {
+                id : ID
+            }
+
+            input Filter {
+                name : String
+                next : Filter
+            }
+
+            type Query {
+                node(filter : Filter) : Node
+                people : [Person]
+            }
+
+            type Person implements Node {
+                id : ID
+                name : String @tag(color : RED)
+                born : Date
+                friends : [Person]
+                pets : [Pet]
+            }
+
+            type Dog implements Node {
+                id : ID
+                owner : Person
+            }
+
+            type Cat implements Node {
+                id : ID
+            }
+
+            union Pet = Dog | Cat
+
+            type Unused {
+                color : Color
+            }
+        '''
+        def executor = Executors.newFixedThreadPool(4)
+
+        when:
+        def sequentialSchema = TestUtil.schema(sdl)
+        def parallelSchema = TestUtil.schema(defaultOptions().parallelBuildExecutor(executor), sdl, TestUtil.mockRuntimeWiring)
+        def printer = new SchemaPrinter(SchemaPrinter.Options.defaultOptions().includeDirectives(true))
+
+        then:
+        printer.print(parallelSchema) == printer.print(sequentialSchema)
+        parallelSchema.typeMap.keySet() == sequentialSchema.typeMap.keySet()
+
+        (parallelSchema.getObjectType("Person").getFieldDefinition("friends").type as GraphQLList).wrappedType == parallelSchema.getObjectType("Person")
+        parallelSchema.getImplementations(parallelSchema.getType("Node") as GraphQLInterfaceType).collect { it.name } as Set == ["Cat", "Dog", "Person"] as Set
+        parallelSchema.codeRegistry.getTypeResolver(parallelSchema.getType("Pet") as GraphQLUnionType) != null
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "a parallel build reports type problems like a sequential build"() {
+        def sdl = '''
+            type Query {
+                person : Person
+                pet : Pet
+            }
+        '''
+        def executor = Executors.newFixedThreadPool(4)
+
+        when:
+        def registry = new SchemaParser().parse(sdl)
+        new SchemaGenerator().makeExecutableSchema(defaultOptions().parallelBuildExecutor(executor), registry, TestUtil.mockRuntimeWiring)
+
+        then:
+        def problem = thrown(SchemaProblem)
+        problem.errors.size() == 2
+        problem.errors.every { it instanceof MissingTypeError }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "lazily built fields make the same schema as eagerly built fields"() {
+        def sdl = '''
+            directive @tag(color : Color) on FIELD_DEFINITION
+
+            enum Color { RED, BLUE }
+
+            interface Node {
+                id : ID
+            }
+
+            input Filter {
+                name : String
+                next : Filter
+            }
+
+            type Query {
+                node(filter : Filter) : Node
+                people : [Person]
+            }
+
+            type Person implements Node {
+                id : ID
+                name : String @tag(color : RED)
+                friends(first : Int = 10) : [Person]
+            }
+
+            extend type Person {
+                nickName : String
+            }
+
+            type Unused {
+                color : Color
+            }
+        '''
+
+        when:
+        def eagerSchema = TestUtil.schema(sdl)
+        def lazySchema = TestUtil.schema(defaultOptions().lazyFieldDefinitions(true), sdl, TestUtil.mockRuntimeWiring)
+
+        then:
+        lazySchema.getObjectType("Person").hasLazyFieldDefinitions()
+        lazySchema.typeMap.keySet() == eagerSchema.typeMap.keySet()
+        lazySchema.additionalTypes.collect { (it as GraphQLNamedType).name } == eagerSchema.additionalTypes.collect { (it as GraphQLNamedType).name }
+
+        when:
+        def printer = new SchemaPrinter(SchemaPrinter.Options.defaultOptions().includeDirectives(true))
+
+        then:
+        printer.print(lazySchema) == printer.print(eagerSchema)
+        !lazySchema.getObjectType("Person").hasLazyFieldDefinitions()
+        (lazySchema.getObjectType("Person").getFieldDefinition("friends").type as GraphQLList).wrappedType == lazySchema.getObjectType("Person")
+        lazySchema.getObjectType("Person").getFieldDefinition("nickName") != null
+    }
+
+    def "lazily built fields are wired and can be introspected"() {
+        def sdl = '''
+            type Query {
+                hello : String
+                person : Person
+            }
+
+            type Person {
+                name : String
+            }
+        '''
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("hello", { env -> "world" } as DataFetcher))
+                .build()
+        def schema = TestUtil.schema(defaultOptions().lazyFieldDefinitions(true), sdl, wiring)
+        def graphQL = GraphQL.newGraphQL(schema).build()
+
+        when:
+        def result = graphQL.execute('{ hello }')
+
+        then:
+        result.errors.isEmpty()
+        result.data == [hello: "world"]
+        schema.getObjectType("Person").hasLazyFieldDefinitions()
+
+        when:
+        result = graphQL.execute('{ __type(name : "Person") { fields { name } } }')
+
+        then:
+        result.errors.isEmpty()
+        result.data == [__type: [fields: [[name: "name"]]]]
+    }
+
+    def "schema directive wiring is applied to lazily built fields"() {
+        def sdl = '''
+            directive @described(text : String) on FIELD_DEFINITION
+
+            type Query {
+                person : Person
+            }
+
+            type Person {
+                name : String @described(text : "wired")
+            }
+        '''
+        def directiveWiring = new SchemaDirectiveWiring() {
+            @Override
+            GraphQLFieldDefinition onField(SchemaDirectiveWiringEnvironment<GraphQLFieldDefinition> environment) {
+                def text = environment.getAppliedDirective().getArgument("text").getValue()
+                return environment.getElement().transform({ it.description(text) })
+            }
+        }
+        def wiring = RuntimeWiring.newRuntimeWiring().directive("described", directiveWiring).build()
+
+        when:
+        def schema = TestUtil.schema(defaultOptions().lazyFieldDefinitions(true), sdl, wiring)
+
+        then:
+        schema.getObjectType("Person").getFieldDefinition("name").description == "wired"
+    }
+
+    def "lazily built fields can't be used with a parallel build"() {
+        def executor = Executors.newFixedThreadPool(2)
+
+        when:
+        def registry = new SchemaParser().parse("type Query { f : String }")
+        new SchemaGenerator().makeExecutableSchema(defaultOptions().lazyFieldDefinitions(true).parallelBuildExecutor(executor), registry, TestUtil.mockRuntimeWiring)
+
+        then:
+        thrown(AssertException)
+
+        cleanup:
+        executor.shutdown()
+    }
 }
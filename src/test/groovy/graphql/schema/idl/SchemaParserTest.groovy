@@ -10,6 +10,9 @@ import graphql.schema.idl.errors.SchemaProblem
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+
 import static graphql.schema.idl.SchemaPrinter.Options.defaultOptions
 
 /**
@@ -365,6 +368,40 @@ class SchemaParserTest extends Specification {
 
     }
 
+    def "schema files can be parsed via their path"() {
+        def path = Files.createTempFile("schema", ".graphqls")
+        Files.write(path, "type Query {\n  f : ID # 🍺\n}\n\ntype Bar {\n  b : String\n}".getBytes(StandardCharsets.UTF_8))
+
+        when:
+        def typeDefinitionRegistry = new SchemaParser().parse(path)
+        def bar = typeDefinitionRegistry.getType("Bar").get()
+
+        then:
+        typeDefinitionRegistry.getType("Query").isPresent()
+        bar.sourceLocation.line == 5
+        bar.sourceLocation.sourceName == path.toString()
+
+        when:
+        Files.write(path, "type Query {".getBytes(StandardCharsets.UTF_8))
+        new SchemaParser().parse(path)
+
+        then:
+        def e = thrown(SchemaProblem)
+        e.errors[0].message.contains("Invalid syntax")
+        // the text of the file is not kept for the preview by default
+        !(e.errors[0].sourcePreview ?: "").contains("type Query")
+
+        when:
+        new SchemaParser().parse(path, ParserOptions.getDefaultSdlParserOptions())
+
+        then:
+        def e2 = thrown(SchemaProblem)
+        e2.errors[0].sourcePreview.contains("type Query")
+
+        cleanup:
+        Files.deleteIfExists(path)
+    }
+
     def "correctly parses schema keyword block, include Query, does not include Mutation type"() {
         // From RFC to clarify spec https://github.com/graphql/graphql-spec/pull/987
         when:
@@ -0,0 +1,202 @@
+package graphql.schema.idl
+
+import graphql.AssertException
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.TypeResolutionEnvironment
+import graphql.schema.GraphQLObjectType
+import graphql.schema.GraphQLSchema
+import graphql.schema.TypeResolver
+import graphql.schema.validation.SchemaValidator
+import spock.lang.Specification
+
+class SchemaSnapshotTest extends Specification {
+
+    def sdl = '''
+        "the schema"
+        schema @contact(name : "team") {
+            query : Query
+            mutation : Mutation
+        }
+
+        directive @contact(name : String!) on SCHEMA
+        directive @tag(labels : [String] = ["a", "b"]) repeatable on FIELD_DEFINITION | OBJECT
+
+        "the query"
+        type Query {
+            "a pet"
+            pet(id : ID!, filter : PetFilter = {kind : DOG, names : ["rex"], limit : 10, ratio : 0.5}) : Pet @tag @tag(labels : ["c"])
+            pets(kinds : [Kind!] = [CAT]) : [Pet!]!
+            searched : SearchResult
+            when : Date @deprecated(reason : "use something else")
+        }
+
+        type Mutation {
+            rename(to : String) : Boolean
+        }
+
+        interface Named {
+            name : String
+        }
+
+        interface Pet implements Named {
+            name : String
+            kind : Kind
+        }
+
+        type Dog implements Pet & Named @tag {
+            name : String
+            kind : Kind
+            barks : Boolean
+        }
+
+        type Cat implements Pet & Named {
+            name : String
+            kind : Kind
+            lives : Int
+        }
+
+        union SearchResult = Dog | Cat
+
+        enum Kind {
+            DOG
+            CAT @deprecated
+        }
+
+        input PetFilter {
+            kind : Kind
+            names : [String]
+            limit : Int = 5
+            ratio : Float
+            legacy : String @deprecated
+        }
+
+        scalar Date @specifiedBy(url : "https://example.com/date")
+
+        type Orphan {
+            id : ID
+        }
+    '''
+
+    TypeResolver typeResolver = new TypeResolver() {
+        @Override
+        GraphQLObjectType getType(TypeResolutionEnvironment env) {
+            return env.getSchema().getObjectType(env.getObject()["type"] as String)
+        }
+    }
+
+    RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+            .scalar(TestUtil.mockScalar("Date"))
+            .type("Query", { it.dataFetcher("pet", { env -> [type: "Dog", name: "rex", kind: "DOG", barks: true] }) })
+            .type("Named", { it.typeResolver(typeResolver) })
+            .type("Pet", { it.typeResolver(typeResolver) })
+            .type("SearchResult", { it.typeResolver(typeResolver) })
+            .build()
+
+    GraphQLSchema generate(String sdl, RuntimeWiring wiring) {
+        def options = SchemaGenerator.Options.defaultOptions().useAppliedDirectivesOnly(true)
+        def registry = new SchemaParser().parse(sdl)
+        return new SchemaGenerator().makeExecutableSchema(options, registry, wiring)
+    }
+
+    static GraphQLSchema roundTrip(GraphQLSchema schema, RuntimeWiring wiring) {
+        def out = new ByteArrayOutputStream()
+        SchemaSnapshot.write(schema, out)
+        return SchemaSnapshot.read(new ByteArrayInputStream(out.toByteArray()), wiring)
+    }
+
+    def "a schema read from a snapshot prints the same as the schema that was written"() {
+        def schema = generate(sdl, wiring)
+        def printer = new SchemaPrinter(SchemaPrinter.Options.defaultOptions().includeDirectives(true).includeSchemaDefinition(true))
+
+        when:
+        def readSchema = roundTrip(schema, wiring)
+
+        then:
+        printer.print(readSchema) == printer.print(schema)
+        readSchema.getTypeMap().keySet() == schema.getTypeMap().keySet()
+        readSchema.getAdditionalTypes().collect { it.name }.toSet() == schema.getAdditionalTypes().collect { it.name }.toSet()
+        readSchema.getDescription() == "the schema"
+        readSchema.getImplementations(readSchema.getType("Pet")).collect { it.name } == ["Cat", "Dog"]
+        new SchemaValidator().validateSchema(readSchema).isEmpty()
+    }
+
+    def "a schema read from a snapshot is wired from the runtime wiring"() {
+        def schema = roundTrip(generate(sdl, wiring), wiring)
+
+        when:
+        def result = GraphQL.newGraphQL(schema).build().execute('{ pet(id : "1") { name ... on Dog { barks } } }')
+
+        then:
+        result.errors.isEmpty()
+        result.data == [pet: [name: "rex", barks: true]]
+    }
+
+    def "enum values are taken from the enum values provider"() {
+        def wiringWithEnumValues = RuntimeWiring.newRuntimeWiring(wiring)
+                .type("Kind", { it.enumValues({ name -> name.toLowerCase() } as EnumValuesProvider) })
+                .build()
+
+        when:
+        def schema = roundTrip(generate(sdl, wiringWithEnumValues), wiringWithEnumValues)
+
+        then:
+        schema.getTypeAs("Kind").getValue("CAT").getValue() == "cat"
+    }
+
+    def "the custom scalars must be in the runtime wiring"() {
+        def out = new ByteArrayOutputStream()
+        SchemaSnapshot.write(generate(sdl, wiring), out)
+
+        when:
+        SchemaSnapshot.read(new ByteArrayInputStream(out.toByteArray()), RuntimeWiring.newRuntimeWiring().build())
+
+        then:
+        def e = thrown(AssertException)
+        e.message == "The runtime wiring has no scalar called 'Date'"
+    }
+
+    def "something that is not a snapshot is not read"() {
+        when:
+        SchemaSnapshot.read(new ByteArrayInputStream("type Query { f : String }".getBytes("UTF-8")), wiring)
+
+        then:
+        def e = thrown(AssertException)
+        e.message == "This is not a schema snapshot"
+    }
+
+    def "a truncated snapshot fails with an IOException"() {
+        def out = new ByteArrayOutputStream()
+        SchemaSnapshot.write(generate(sdl, wiring), out)
+        def bytes = out.toByteArray()
+
+        expect:
+        (8..<bytes.length).every { length ->
+            try {
+                SchemaSnapshot.read(new ByteArrayInputStream(Arrays.copyOf(bytes, length)), wiring)
+                false
+            } catch (IOException e) {
+                e.message.startsWith("The schema snapshot is corrupt")
+            }
+        }
+    }
+
+    def "a snapshot with a number that is out of range fails with an IOException"() {
+        def out = new ByteArrayOutputStream()
+        SchemaSnapshot.write(generate(sdl, wiring), out)
+        def bytes = Arrays.copyOf(out.toByteArray(), 13)
+        // the size of the string table is made negative
+        bytes[8] = (byte) 0xFF
+        bytes[9] = (byte) 0xFF
+        bytes[10] = (byte) 0xFF
+        bytes[11] = (byte) 0xFF
+        bytes[12] = (byte) 0x0F
+
+        when:
+        SchemaSnapshot.read(new ByteArrayInputStream(bytes), wiring)
+
+        then:
+        def e = thrown(IOException)
+        e.message == "The schema snapshot is corrupt, it has a number that is out of range at byte 13"
+    }
+}
@@ -0,0 +1,172 @@
+package graphql.validation
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.ParseAndValidate
+import graphql.TestUtil
+import graphql.execution.instrumentation.Instrumentation
+import graphql.execution.instrumentation.InstrumentationContext
+import graphql.execution.instrumentation.InstrumentationState
+import graphql.execution.instrumentation.SimpleInstrumentationContext
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters
+import graphql.schema.DataFetcher
+import spock.lang.Specification
+
+import java.lang.ref.WeakReference
+
+class InMemoryValidationCacheTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            pet(name : String) : Pet
+        }
+
+        type Pet {
+            name : String
+            age : Int
+        }
+    '''
+
+    def "documents that only differ in whitespace and order are validated once"() {
+        def schema = TestUtil.schema(sdl)
+        def cache = new InMemoryValidationCache()
+        int validations = 0
+        def validate = { String query ->
+            def document = TestUtil.parseQuery(query)
+            cache.getValidationErrors(document, schema, Locale.ENGLISH, {
+                validations++
+                ParseAndValidate.validate(schema, document, Locale.ENGLISH)
+            })
+        }
+
+        when:
+        def errors1 = validate('{ pet(name : "Fido") { name age } }')
+        def errors2 = validate('''
+            # the same query from another client
+            {
+                pet(name: "Fido") {
+                    age
+                    name
+                }
+            }
+        ''')
+        def errors3 = validate('{ pet(name : "Rover") { name } }')
+
+        then:
+        errors1.isEmpty()
+        errors2.isEmpty()
+        errors3.isEmpty()
+        validations == 2
+        cache.size() == 2
+    }
+
+    def "invalid documents are validated every time"() {
+        def schema = TestUtil.schema(sdl)
+        def cache = new InMemoryValidationCache()
+        def document = TestUtil.parseQuery('{ pet { nope } }')
+        int validations = 0
+
+        when:
+        def errors1 = cache.getValidationErrors(document, schema, Locale.ENGLISH, { validations++; ParseAndValidate.validate(schema, document, Locale.ENGLISH) })
+        def errors2 = cache.getValidationErrors(document, schema, Locale.ENGLISH, { validations++; ParseAndValidate.validate(schema, document, Locale.ENGLISH) })
+
+        then:
+        errors1.size() == 1
+        errors2 == errors1
+        validations == 2
+        cache.size() == 0
+    }
+
+    def "valid documents are only cached for the schema they were validated against"() {
+        def schema1 = TestUtil.schema(sdl)
+        def schema2 = TestUtil.schema(sdl)
+        def cache = new InMemoryValidationCache()
+        def document = TestUtil.parseQuery('{ pet { name } }')
+
+        when:
+        cache.getValidationErrors(document, schema1, Locale.ENGLISH, { [] })
+        cache.getValidationErrors(document, schema2, Locale.ENGLISH, { [] })
+
+        then:
+        cache.size() == 2
+    }
+
+    def "documents that differ in order are validated separately when they are not sorted"() {
+        def schema = TestUtil.schema(sdl)
+        def cache = new InMemoryValidationCache(InMemoryValidationCache.DEFAULT_MAXIMUM_SIZE, false)
+        int validations = 0
+        def validate = { String query ->
+            def document = TestUtil.parseQuery(query)
+            cache.getValidationErrors(document, schema, Locale.ENGLISH, { validations++; [] })
+        }
+
+        when:
+        validate('{ pet { name age } }')
+        validate('''
+            {
+                pet { name age }
+            }
+        ''')
+        validate('{ pet { age name } }')
+
+        then:
+        validations == 2
+        cache.size() == 2
+    }
+
+    def "the cache does not keep schemas alive"() {
+        def cache = new InMemoryValidationCache()
+        def document = TestUtil.parseQuery('{ pet { name } }')
+        def schemaRef = new WeakReference(TestUtil.schema(sdl))
+        cache.getValidationErrors(document, schemaRef.get(), Locale.ENGLISH, { [] })
+
+        when:
+        for (int i = 0; i < 10 && schemaRef.get() != null; i++) {
+            System.gc()
+            Thread.sleep(50)
+        }
+
+        then:
+        schemaRef.get() == null
+        cache.size() == 1
+    }
+
+    def "GraphQL consults the validation cache and still calls the validation instrumentation"() {
+        def schema = TestUtil.schema(sdl, [Query: [pet: { env -> [name: env.getArgument("name"), age: 3] } as DataFetcher]])
+        def cache = new InMemoryValidationCache()
+        int validations = 0
+        def instrumentation = new Instrumentation() {
+            @Override
+            InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters, InstrumentationState state) {
+                validations++
+                return SimpleInstrumentationContext.noOp()
+            }
+        }
+        def graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(instrumentation)
+                .validationCache(cache)
+                .build()
+
+        when:
+        def er1 = graphQL.execute('{ pet(name : "Fido") { name age } }')
+        def er2 = graphQL.execute('{ pet(name : "Fido") { age name } }')
+        def er3 = graphQL.execute(ExecutionInput.newExecutionInput('{ pet { nope } }'))
+
+        then:
+        er1.errors.isEmpty()
+        er1.data == [pet: [name: "Fido", age: 3]]
+        er2.errors.isEmpty()
+        er2.data == [pet: [age: 3, name: "Fido"]]
+        er3.errors.size() == 1
+        validations == 3
+        cache.size() == 1
+    }
+
+    def "the no op cache always validates"() {
+        def document = TestUtil.parseQuery('{ pet { name } }')
+        def errors = []
+
+        expect:
+        NoOpValidationCache.INSTANCE.getValidationErrors(document, TestUtil.schema(sdl), Locale.ENGLISH, { errors }).is(errors)
+    }
+}
@@ -3,6 +3,13 @@ package graphql.validation
 import graphql.TestUtil
 import graphql.i18n.I18n
 import graphql.language.Document
+import graphql.language.Field
+import graphql.validation.rules.LoneAnonymousOperation
+import graphql.validation.rules.NoFragmentCycles
+import graphql.validation.rules.NoUnusedFragments
+import graphql.validation.rules.SubscriptionUniqueRootField
+import graphql.validation.rules.UniqueFragmentNames
+import graphql.validation.rules.UniqueOperationNames
 import graphql.parser.Parser
 import spock.lang.Specification
 
@@ -93,5 +100,76 @@ class RulesVisitorTest extends Specification {
         2 * visitsSpreadsRule.checkFragmentDefinition({it.name == "B"})
         2 * visitsSpreadsRule.checkFragmentDefinition({it.name == "C"})
     }
-}
 
+    static class FieldCountingRule extends AbstractRule {
+        List<String> fieldNames = []
+
+        FieldCountingRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
+            super(validationContext, validationErrorCollector)
+        }
+
+        @Override
+        void checkField(Field field) {
+            fieldNames.add(field.name)
+        }
+    }
+
+    def "RulesVisitor only dispatches to the callbacks a rule overrides"() {
+        given:
+        def rule = new FieldCountingRule(null, null)
+
+        expect:
+        RuleDispatchTable.overriddenCallbacks(FieldCountingRule) as List ==
+                RuleDispatchTable.Callback.values().collect { it == RuleDispatchTable.Callback.CHECK_FIELD }
+        new RuleDispatchTable([simpleRule, rule]).rulesFor(RuleDispatchTable.Callback.CHECK_FIELD) as List == [simpleRule, rule]
+        new RuleDispatchTable([simpleRule, rule]).rulesFor(RuleDispatchTable.Callback.CHECK_SELECTION_SET) as List == [simpleRule]
+
+        when:
+        Document document = new Parser().parseDocument("{ __schema { queryType { name } } }")
+        I18n i18n = I18n.i18n(I18n.BundleType.Validation, Locale.ENGLISH)
+        ValidationContext validationContext = new ValidationContext(TestUtil.dummySchema, document, i18n)
+        new LanguageTraversal().traverse(document, new RulesVisitor(validationContext, [rule]))
+
+        then:
+        rule.fieldNames == ["__schema", "queryType", "name"]
+    }
+
+    def "rules that cannot find errors in a document are skipped"() {
+        when:
+        def relevantRules = Validator.relevantRules(new Parser().parseDocument(query))
+        def skipped = [NoFragmentCycles, NoUnusedFragments, UniqueFragmentNames, LoneAnonymousOperation, UniqueOperationNames, SubscriptionUniqueRootField]
+                .findAll { !relevantRules.test(it) }
+
+        then:
+        skipped == expectedSkipped
+
+        where:
+        query                                                  | expectedSkipped
+        "{ f }"                                                | [NoFragmentCycles, NoUnusedFragments, UniqueFragmentNames, LoneAnonymousOperation, UniqueOperationNames, SubscriptionUniqueRootField]
+        "query A { ...F } fragment F on Query { f }"           | [LoneAnonymousOperation, UniqueOperationNames, SubscriptionUniqueRootField]
+        "query A { f } query B { f }"                          | [NoFragmentCycles, NoUnusedFragments, UniqueFragmentNames, SubscriptionUniqueRootField]
+        "subscription S { f }"                                 | [NoFragmentCycles, NoUnusedFragments, UniqueFragmentNames, LoneAnonymousOperation, UniqueOperationNames]
+    }
+
+    def "skipping irrelevant rules still reports the same errors"() {
+        given:
+        def query = """
+        query A { __typename }
+        query A { __typename }
+        { __typename }
+        fragment F on QueryType { ...G }
+        fragment G on QueryType { ...F }
+        """
+
+        when:
+        def errors = new Validator().validateDocument(TestUtil.dummySchema, new Parser().parseDocument(query), Locale.ENGLISH)
+
+        then:
+        errors.collect { it.validationErrorType }.toSet() == [
+                ValidationErrorType.DuplicateOperationName,
+                ValidationErrorType.LoneAnonymousOperationViolation,
+                ValidationErrorType.FragmentCycle,
+                ValidationErrorType.UnusedFragment,
+        ] as Set
+    }
+}
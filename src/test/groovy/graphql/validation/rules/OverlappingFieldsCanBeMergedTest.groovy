@@ -895,5 +895,43 @@ class OverlappingFieldsCanBeMergedTest extends Specification {
         errorCollector.getErrors().size() == 0
     }
 
+    def "conflicts are found through fragments spread many times"() {
+        given:
+        def query = """
+            {
+                ...A
+                ...B
+                ...C
+            }
+            fragment A on Test { ...C ...D }
+            fragment B on Test { ...D ...C }
+            fragment C on Test { ...D }
+            fragment D on Test { myName : name }
+            fragment E on Test { ...D myName : nickname }
+        """
+        when:
+        traverse(query, null)
+
+        then:
+        errorCollector.getErrors().size() == 1
+        errorCollector.getErrors()[0].message == "Validation error (FieldsConflict@[E]) : 'myName' : 'name' and 'nickname' are different fields"
+        errorCollector.getErrors()[0].locations == [new SourceLocation(10, 34), new SourceLocation(11, 39)]
+    }
 
+    def "conflicts are still found in fragments that spread themselves"() {
+        given:
+        def query = """
+            {
+                ...A
+            }
+            fragment A on Test { ...B myName : name }
+            fragment B on Test { ...A myName : nickname }
+        """
+        when:
+        traverse(query, null)
+
+        then:
+        errorCollector.getErrors().size() == 1
+        errorCollector.getErrors()[0].message == "Validation error (FieldsConflict) : 'myName' : 'nickname' and 'name' are different fields"
+    }
 }
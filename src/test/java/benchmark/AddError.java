@@ -7,13 +7,21 @@ import graphql.execution.ResultPath;
 import graphql.schema.idl.errors.SchemaMissingError;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @State(Scope.Benchmark)
 public class AddError {
@@ -35,4 +43,58 @@ public class AddError {
         );
         return context;
     }
+
+    /**
+     * A partial failure storm where many threads fail list items at once.  As in an execution, the
+     * errors are only read back once all of them have been added.
+     */
+    @State(Scope.Benchmark)
+    public static class ConcurrentErrors {
+
+        ExecutionContext context;
+        final AtomicInteger index = new AtomicInteger();
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            context = new ExecutionContextBuilder()
+                    .executionId(ExecutionId.generate())
+                    .build();
+            index.set(0);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            context.getErrors();
+        }
+
+        ExecutionContext addError() {
+            context.addError(
+                    new SchemaMissingError(),
+                    ResultPath.rootPath().segment("items").segment(index.getAndIncrement())
+            );
+            return context;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 3, time = 2)
+    @Fork(1)
+    @Threads(8)
+    public ExecutionContext benchMarkAddErrorWith8Threads(ConcurrentErrors state) {
+        return state.addError();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 3, time = 2)
+    @Fork(1)
+    @Threads(64)
+    public ExecutionContext benchMarkAddErrorWith64Threads(ConcurrentErrors state) {
+        return state.addError();
+    }
 }
@@ -0,0 +1,153 @@
+package benchmark;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.AsyncExecutionStrategy;
+import graphql.execution.ExecutionStrategy;
+import graphql.execution.VirtualThreadExecutionStrategy;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentationOptions;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.dataloader.BatchLoader;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+
+/**
+ * Measures the overhead of deciding when to dispatch data loaders for a query that fans out to 10,000 objects,
+ * each of which loads its owner via a data loader
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class DataLoaderDispatchBenchmark {
+
+    private static final int ITEM_COUNT = 10_000;
+
+    private static final String SDL = "" +
+            "type Query {\n" +
+            "    items : [Item]\n" +
+            "}\n" +
+            "type Item {\n" +
+            "    id : ID\n" +
+            "    name : String\n" +
+            "    owner : Owner\n" +
+            "}\n" +
+            "type Owner {\n" +
+            "    id : ID\n" +
+            "    name : String\n" +
+            "}\n";
+
+    private static final String QUERY = "{ items { id name owner { id name } } }";
+
+    @Param({"false", "true"})
+    public boolean lockFreeDispatch;
+
+    @Param({"async", "threads"})
+    public String strategy;
+
+    GraphQL graphQL;
+    ExecutorService executorService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Map<String, Object>> items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", "item" + i);
+            item.put("name", "Item " + i);
+            item.put("ownerId", "owner" + (i % 100));
+            items.add(item);
+        }
+
+        DataFetcher<?> itemsDF = env -> items;
+        DataFetcher<?> ownerDF = env -> {
+            Map<String, Object> item = env.getSource();
+            DataLoader<String, Object> ownerLoader = env.getDataLoader("owner");
+            return ownerLoader.load((String) item.get("ownerId"));
+        };
+
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("items", itemsDF))
+                .type(newTypeWiring("Item").dataFetcher("owner", ownerDF))
+                .build();
+        TypeDefinitionRegistry typeDefinitionRegistry = new SchemaParser().parse(SDL);
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+
+        ExecutionStrategy executionStrategy;
+        if ("threads".equals(strategy)) {
+            executorService = Executors.newFixedThreadPool(8);
+            executionStrategy = new VirtualThreadExecutionStrategy(executorService);
+        } else {
+            executionStrategy = new AsyncExecutionStrategy();
+        }
+
+        DataLoaderDispatcherInstrumentationOptions options = DataLoaderDispatcherInstrumentationOptions.newOptions()
+                .lockFreeDispatch(lockFreeDispatch);
+        graphQL = GraphQL.newGraphQL(schema)
+                .queryExecutionStrategy(executionStrategy)
+                .instrumentation(new DataLoaderDispatcherInstrumentation(options))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExecutionResult benchMarkFanOutDispatch() {
+        BatchLoader<String, Object> ownerBatchLoader = keys -> {
+            List<Object> owners = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                Map<String, Object> owner = new LinkedHashMap<>();
+                owner.put("id", key);
+                owner.put("name", "Owner " + key);
+                owners.add(owner);
+            }
+            return CompletableFuture.completedFuture(owners);
+        };
+        DataLoaderRegistry dataLoaderRegistry = new DataLoaderRegistry();
+        dataLoaderRegistry.register("owner", DataLoaderFactory.newDataLoader(ownerBatchLoader));
+
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput(QUERY)
+                .dataLoaderRegistry(dataLoaderRegistry)
+                .build();
+        return graphQL.execute(executionInput);
+    }
+}
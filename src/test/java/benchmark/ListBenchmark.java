@@ -1,7 +1,13 @@
 package benchmark;
 
 import com.google.common.collect.ImmutableList;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
 import graphql.collect.ImmutableKit;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
@@ -17,6 +23,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 @Warmup(iterations = 2)
@@ -33,6 +41,28 @@ public class ListBenchmark {
         return list;
     }
 
+    static final GraphQL graphQL = buildGraphQL();
+
+    private static GraphQL buildGraphQL() {
+        String sdl = "" +
+                "type Query {\n" +
+                "    strings : [String!]\n" +
+                "    colours : [Colour]\n" +
+                "}\n" +
+                "enum Colour { RED GREEN BLUE }\n";
+        List<String> colours = new ArrayList<>();
+        for (int i = 0; i < startingList.size(); i++) {
+            colours.add(i % 3 == 0 ? "RED" : i % 3 == 1 ? "GREEN" : "BLUE");
+        }
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query")
+                        .dataFetcher("strings", env -> startingList)
+                        .dataFetcher("colours", env -> colours))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(sdl), runtimeWiring);
+        return GraphQL.newGraphQL(schema).build();
+    }
+
     private final Function<String, String> mapper = s -> new StringBuilder(s).reverse().toString();
 
     @Benchmark
@@ -62,4 +92,15 @@ public class ListBenchmark {
         blackhole.consume(output);
     }
 
+    @Benchmark
+    public void benchmarkExecuteScalarList(Blackhole blackhole) {
+        ExecutionResult executionResult = graphQL.execute("{ strings }");
+        blackhole.consume(executionResult);
+    }
+
+    @Benchmark
+    public void benchmarkExecuteEnumList(Blackhole blackhole) {
+        ExecutionResult executionResult = graphQL.execute("{ colours }");
+        blackhole.consume(executionResult);
+    }
 }
@@ -66,6 +66,44 @@ public class OverlappingFieldValidationBenchmark {
         }
     }
 
+    /**
+     * A query like those generated for clients, where 250 fragments spread each other over and over again
+     */
+    @State(Scope.Benchmark)
+    public static class FragmentHeavyState {
+
+        GraphQLSchema schema;
+        Document document;
+
+        @Setup
+        public void setup() {
+            String schemaString = "type Query { items : [Item] }\n" +
+                    "type Item { id : ID name : String value(arg : Int) : Int child : Item }";
+            schema = SchemaGenerator.createdMockedSchema(schemaString);
+            document = Parser.parse(mkFragmentHeavyQuery(250));
+        }
+
+        static String mkFragmentHeavyQuery(int fragmentCount) {
+            StringBuilder query = new StringBuilder("query Q { items { ");
+            for (int i = 0; i < fragmentCount; i++) {
+                query.append("...F").append(i).append(" ");
+            }
+            query.append("} }\n");
+            for (int i = 0; i < fragmentCount; i++) {
+                query.append("fragment F").append(i).append(" on Item { id name value(arg : 1) child { id name ");
+                if (i > 2) {
+                    query.append("...F").append(i / 3).append(" ");
+                }
+                query.append("} ");
+                if (i > 0) {
+                    query.append("...F").append(i - 1).append(" ...F").append((i * 7) % i).append(" ");
+                }
+                query.append("}\n");
+            }
+            return query.toString();
+        }
+    }
+
     @Benchmark
     public void overlappingFieldValidationAbgTime(MyState myState, Blackhole blackhole) {
         blackhole.consume(validateQuery(myState.schema, myState.document));
@@ -78,6 +116,11 @@ public class OverlappingFieldValidationBenchmark {
         blackhole.consume(validateQuery(myState.schema, myState.document));
     }
 
+    @Benchmark
+    public void overlappingFieldValidationFragmentHeavyAvgTime(FragmentHeavyState state, Blackhole blackhole) {
+        blackhole.consume(validateQuery(state.schema, state.document));
+    }
+
     private List<ValidationError> validateQuery(GraphQLSchema schema, Document document) {
         ValidationErrorCollector errorCollector = new ValidationErrorCollector();
         I18n i18n = I18n.i18n(I18n.BundleType.Validation, Locale.ENGLISH);
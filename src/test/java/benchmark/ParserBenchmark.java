@@ -0,0 +1,62 @@
+package benchmark;
+
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.parser.ParserEnvironment;
+import graphql.parser.ParserOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a {@link TwitterBenchmark} style query of 22,500 fields with each way of capturing source locations.
+ * <p>
+ * Run it with the GC profiler, {@code -prof gc}, to compare the bytes allocated per parse
+ */
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmark {
+
+    static String query = TwitterBenchmark.mkQuery();
+
+    static ParserOptions eagerOptions = ParserOptions.newParserOptions()
+            .captureLineComments(false)
+            .maxTokens(100_000)
+            .build();
+    static ParserOptions lazyOptions = eagerOptions.transform(builder -> builder.lazySourceLocation(true));
+    static ParserOptions noLocationOptions = eagerOptions.transform(builder -> builder.captureSourceLocation(false));
+    static ParserOptions recursiveDescentLazyOptions = lazyOptions.transform(builder -> builder.recursiveDescentParsing(true));
+
+    @Benchmark
+    public Document parseWithSourceLocations() {
+        return parse(eagerOptions);
+    }
+
+    @Benchmark
+    public Document parseWithLazySourceLocations() {
+        return parse(lazyOptions);
+    }
+
+    @Benchmark
+    public Document parseWithoutSourceLocations() {
+        return parse(noLocationOptions);
+    }
+
+    @Benchmark
+    public Document parseWithRecursiveDescentAndLazySourceLocations() {
+        return parse(recursiveDescentLazyOptions);
+    }
+
+    private static Document parse(ParserOptions parserOptions) {
+        return Parser.parse(ParserEnvironment.newParserEnvironment().document(query).parserOptions(parserOptions).build());
+    }
+}
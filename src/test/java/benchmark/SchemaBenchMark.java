@@ -1,10 +1,15 @@
 package benchmark;
 
 import com.google.common.io.Files;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLUnionType;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.SchemaSnapshot;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -14,9 +19,14 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -49,9 +59,64 @@ public class SchemaBenchMark {
         blackhole.consume(createSchema(largeSDL));
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchMarkLargeSchemaCreateParallelAvgTime(Blackhole blackhole) {
+        blackhole.consume(createSchema(largeSDL, parallelBuildOptions));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchMarkLargeSchemaCreateLazyAvgTime(Blackhole blackhole) {
+        blackhole.consume(createSchema(largeSDL, lazyFieldOptions));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchMarkLargeSchemaReadSnapshotAvgTime(Blackhole blackhole) throws IOException {
+        blackhole.consume(SchemaSnapshot.read(new ByteArrayInputStream(largeSnapshot), snapshotWiring));
+    }
+
+    static SchemaGenerator.Options parallelBuildOptions = SchemaGenerator.Options.defaultOptions().parallelBuildExecutor(ForkJoinPool.commonPool());
+    static SchemaGenerator.Options lazyFieldOptions = SchemaGenerator.Options.defaultOptions().lazyFieldDefinitions(true);
+
+    static GraphQLSchema largeSchema = createSchema(largeSDL);
+    static byte[] largeSnapshot = writeSnapshot(largeSchema);
+    // a snapshot is read without a wiring factory so the mocked scalars and type resolvers are put in the wiring
+    static RuntimeWiring snapshotWiring = snapshotWiring(largeSchema);
+
+    private static byte[] writeSnapshot(GraphQLSchema schema) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            SchemaSnapshot.write(schema, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RuntimeWiring snapshotWiring(GraphQLSchema schema) {
+        RuntimeWiring.Builder wiring = RuntimeWiring.newRuntimeWiring();
+        for (GraphQLNamedType type : schema.getAllTypesAsList()) {
+            if (type instanceof GraphQLScalarType) {
+                wiring.scalar((GraphQLScalarType) type);
+            } else if (type instanceof GraphQLInterfaceType || type instanceof GraphQLUnionType) {
+                wiring.type(type.getName(), typeWiring -> typeWiring.typeResolver(env -> null));
+            }
+        }
+        return wiring.build();
+    }
+
     private static GraphQLSchema createSchema(String sdl) {
+        return createSchema(sdl, SchemaGenerator.Options.defaultOptions());
+    }
+
+    private static GraphQLSchema createSchema(String sdl, SchemaGenerator.Options options) {
         TypeDefinitionRegistry registry = new SchemaParser().parse(sdl);
-        return new SchemaGenerator().makeExecutableSchema(registry, RuntimeWiring.MOCKED_WIRING);
+        return new SchemaGenerator().makeExecutableSchema(options, registry, RuntimeWiring.MOCKED_WIRING);
     }
 
     @SuppressWarnings("InfiniteLoopStatement")
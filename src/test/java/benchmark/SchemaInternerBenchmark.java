@@ -0,0 +1,85 @@
+package benchmark;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.SchemaElementInterner;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This compares making 100 variants of a large schema with and without a {@link SchemaElementInterner}.
+ * <p>
+ * The benchmarks measure the time it takes, while the main method prints the heap that the variants hold on to.
+ */
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SchemaInternerBenchmark {
+
+    static final int VARIANTS = 100;
+
+    static String largeSDL = BenchmarkUtils.loadResource("large-schema-3.graphqls");
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchMarkVariantsAvgTime(Blackhole blackhole) {
+        blackhole.consume(createVariants(null));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchMarkInternedVariantsAvgTime(Blackhole blackhole) {
+        blackhole.consume(createVariants(SchemaElementInterner.newInterner()));
+    }
+
+    private static GraphQLSchema[] createVariants(SchemaElementInterner interner) {
+        GraphQLSchema[] variants = new GraphQLSchema[VARIANTS];
+        for (int i = 0; i < VARIANTS; i++) {
+            // every variant is parsed again, as when each tenant or version of a service makes its own schema
+            TypeDefinitionRegistry registry = new SchemaParser().parse(largeSDL);
+            GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(registry, RuntimeWiring.MOCKED_WIRING);
+            variants[i] = interner != null ? interner.intern(schema) : schema;
+        }
+        return variants;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int i = 0; i < 2; i++) {
+            long plain = heapHeldBy(null);
+            long interned = heapHeldBy(SchemaElementInterner.newInterner());
+            System.out.printf("%d variants: %.1f MB, interned: %.1f MB\n", VARIANTS, plain / 1e6, interned / 1e6);
+        }
+    }
+
+    static GraphQLSchema[] heldVariants;
+
+    private static long heapHeldBy(SchemaElementInterner interner) throws InterruptedException {
+        long before = usedHeap();
+        heldVariants = createVariants(interner);
+        long after = usedHeap();
+        heldVariants = null;
+        return after - before;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -97,6 +97,21 @@ public class SchemaTransformerBenchmark {
             }
         };
 
+        GraphQLTypeVisitor singleFieldChanger = new GraphQLTypeVisitorStub() {
+            @Override
+            public TraversalControl visitGraphQLFieldDefinition(GraphQLFieldDefinition node, TraverserContext<GraphQLSchemaElement> context) {
+                GraphQLSchemaElement parent = context.getParentNode();
+                if (parent == schema.getQueryType() && node == schema.getQueryType().getFieldDefinitions().get(0)) {
+                    // describe a single field
+                    GraphQLFieldDefinition changedNode = node.transform(builder -> builder.description("changed"));
+                    return changeNode(context, changedNode);
+                }
+                return TraversalControl.CONTINUE;
+            }
+        };
+
+        SchemaTransformer incrementalTransformer = SchemaTransformer.incrementalTransformer();
+
         @Setup
         public void setup() {
             try {
@@ -122,4 +137,16 @@ public class SchemaTransformerBenchmark {
         GraphQLSchema schema = myState.txSchema;
         return SchemaTransformer.transformSchema(schema, myState.directiveRemover);
     }
+
+    @Benchmark
+    public GraphQLSchema benchMarkSchemaTransformerSingleField(MyState myState) {
+        GraphQLSchema schema = myState.schema;
+        return SchemaTransformer.transformSchema(schema, myState.singleFieldChanger);
+    }
+
+    @Benchmark
+    public GraphQLSchema benchMarkSchemaTransformerSingleFieldIncremental(MyState myState) {
+        GraphQLSchema schema = myState.schema;
+        return myState.incrementalTransformer.transform(schema, myState.singleFieldChanger);
+    }
 }
@@ -0,0 +1,159 @@
+package benchmark;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.execution.SubscriptionExecutionStrategy;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.reactivex.Flowable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+
+/**
+ * Measures how many subscription events a second a single subscriber receives, where the subscriber asks for
+ * one event at a time and the "price" of each event is fetched asynchronously after the given latency.
+ * A prefetch of 0 is the default {@link SubscriptionExecutionStrategy} behaviour
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SubscriptionBenchmark {
+
+    private static final int EVENT_COUNT = 2_000;
+
+    private static final String SDL = "" +
+            "type Query {\n" +
+            "    unused : String\n" +
+            "}\n" +
+            "type Subscription {\n" +
+            "    ticks : Tick\n" +
+            "}\n" +
+            "type Tick {\n" +
+            "    symbol : String\n" +
+            "    price : Float\n" +
+            "    volume : Int\n" +
+            "}\n";
+
+    private static final String QUERY = "subscription { ticks { symbol price volume } }";
+
+    @Param({"0", "32"})
+    public int prefetch;
+
+    @Param({"0", "100"})
+    public int priceLatencyMicros;
+
+    private GraphQL graphQL;
+    private ScheduledExecutorService scheduler;
+
+    @Setup
+    public void setup() {
+        scheduler = Executors.newScheduledThreadPool(4);
+        DataFetcher<Publisher<Map<String, Object>>> ticksDataFetcher = environment -> Flowable.range(0, EVENT_COUNT).map(i -> {
+            Map<String, Object> tick = new LinkedHashMap<>();
+            tick.put("symbol", "SYM" + (i % 100));
+            tick.put("price", 100.0 + i);
+            tick.put("volume", i);
+            return tick;
+        });
+
+        DataFetcher<CompletableFuture<Object>> priceDataFetcher = environment -> {
+            Map<String, Object> tick = environment.getSource();
+            CompletableFuture<Object> price = new CompletableFuture<>();
+            if (priceLatencyMicros == 0) {
+                price.complete(tick.get("price"));
+            } else {
+                scheduler.schedule(() -> price.complete(tick.get("price")), priceLatencyMicros, TimeUnit.MICROSECONDS);
+            }
+            return price;
+        };
+
+        TypeDefinitionRegistry typeDefinitionRegistry = new SchemaParser().parse(SDL);
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Subscription").dataFetcher("ticks", ticksDataFetcher))
+                .type(newTypeWiring("Tick").dataFetcher("price", priceDataFetcher))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+
+        graphQL = GraphQL.newGraphQL(schema)
+                .subscriptionExecutionStrategy(new SubscriptionExecutionStrategy(new SimpleDataFetcherExceptionHandler(), prefetch))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(EVENT_COUNT)
+    public int eventsPerSecond() throws InterruptedException {
+        Publisher<ExecutionResult> publisher = graphQL.execute(QUERY).getData();
+        OneAtATimeSubscriber subscriber = new OneAtATimeSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.done.await();
+        if (subscriber.count != EVENT_COUNT) {
+            throw new IllegalStateException("Expected " + EVENT_COUNT + " events but got " + subscriber.count);
+        }
+        return subscriber.count;
+    }
+
+    static class OneAtATimeSubscriber implements Subscriber<ExecutionResult> {
+        final CountDownLatch done = new CountDownLatch(1);
+        int count;
+        Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ExecutionResult executionResult) {
+            count++;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}